@@ -0,0 +1,79 @@
+package org.carlspring.strongbox.benchmarks;
+
+import static org.carlspring.strongbox.benchmarks.StrongboxContextState.ARTIFACT_PATH;
+
+import org.carlspring.strongbox.services.ArtifactResolutionService;
+import org.carlspring.strongbox.utils.ArtifactControllerHelper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * The partial downloads of {@link ArtifactControllerHelper}, with a single range and with multiple ranges.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ArtifactRangeBenchmark
+{
+
+    private ArtifactResolutionService artifactResolutionService;
+
+    private HttpHeaders singleRangeHeaders;
+
+    private HttpHeaders multipleRangesHeaders;
+
+    @Setup
+    public void setup(StrongboxContextState context)
+    {
+        artifactResolutionService = context.getBean(ArtifactResolutionService.class);
+
+        int half = context.getArtifactSize() / 2;
+
+        singleRangeHeaders = new HttpHeaders();
+        singleRangeHeaders.set(HttpHeaders.RANGE, String.format("bytes=%s-", half));
+
+        multipleRangesHeaders = new HttpHeaders();
+        multipleRangesHeaders.set(HttpHeaders.RANGE, String.format("bytes=0-1023,%s-%s,%s-",
+                                                                   half, half + 1023, half + half / 2));
+    }
+
+    @Benchmark
+    public int singleRange(StrongboxContextState context)
+        throws IOException
+    {
+        return handlePartialDownload(context, singleRangeHeaders);
+    }
+
+    @Benchmark
+    public int multipleRanges(StrongboxContextState context)
+        throws IOException
+    {
+        return handlePartialDownload(context, multipleRangesHeaders);
+    }
+
+    private int handlePartialDownload(StrongboxContextState context,
+                                      HttpHeaders headers)
+        throws IOException
+    {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try (InputStream is = artifactResolutionService.getInputStream(context.resolve(ARTIFACT_PATH)))
+        {
+            ArtifactControllerHelper.handlePartialDownload(is, headers, response);
+        }
+
+        return response.getContentAsByteArray().length;
+    }
+
+}
@@ -0,0 +1,104 @@
+package org.carlspring.strongbox.benchmarks;
+
+import static org.carlspring.strongbox.benchmarks.StrongboxContextState.ARTIFACT_BASE_PATH;
+
+import org.carlspring.strongbox.storage.metadata.MavenMetadataManager;
+import org.carlspring.strongbox.storage.metadata.MetadataMerger;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.artifact.repository.metadata.Metadata;
+import org.apache.maven.artifact.repository.metadata.Versioning;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The merging of the artifact level <code>maven-metadata.xml</code>, for a growing number of versions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MavenMetadataBenchmark
+{
+
+    private static final String GROUP_ID = "org.carlspring.strongbox.benchmarks";
+
+    private static final String ARTIFACT_ID = "strongbox-benchmarks-artifact";
+
+    @Param({ "10", "100", "1000" })
+    private int versions;
+
+    private final MetadataMerger metadataMerger = new MetadataMerger();
+
+    private MavenMetadataManager mavenMetadataManager;
+
+    private Metadata metadata;
+
+    private Metadata mergeMetadata;
+
+    private Artifact artifact;
+
+    @Setup
+    public void setup(StrongboxContextState context)
+    {
+        mavenMetadataManager = context.getBean(MavenMetadataManager.class);
+
+        metadata = createMetadata(0, versions);
+        // The members of a group repository mostly list the same versions.
+        mergeMetadata = createMetadata(versions / 2, versions + versions / 2);
+
+        artifact = new DefaultArtifact(GROUP_ID, ARTIFACT_ID, "1." + (versions - 1), null, "jar", null,
+                                       new DefaultArtifactHandler("jar"));
+    }
+
+    @Benchmark
+    public Metadata updateMetadataAtArtifactLevel()
+    {
+        return metadataMerger.updateMetadataAtArtifactLevel(artifact, metadata);
+    }
+
+    /**
+     * The merging of the metadata of a group repository member, which is stored afterwards.
+     */
+    @Benchmark
+    public Metadata mergeAndStore(StrongboxContextState context)
+        throws IOException
+    {
+        Metadata result = metadata.clone();
+
+        mavenMetadataManager.mergeAndStore(context.resolve(ARTIFACT_BASE_PATH), result, mergeMetadata);
+
+        return result;
+    }
+
+    private static Metadata createMetadata(int firstVersion,
+                                           int lastVersion)
+    {
+        Versioning versioning = new Versioning();
+        for (int i = firstVersion; i < lastVersion; i++)
+        {
+            versioning.addVersion("1." + i);
+        }
+        versioning.setLatest("1." + (lastVersion - 1));
+        versioning.setRelease("1." + (lastVersion - 1));
+        versioning.updateTimestamp();
+
+        Metadata metadata = new Metadata();
+        metadata.setGroupId(GROUP_ID);
+        metadata.setArtifactId(ARTIFACT_ID);
+        metadata.setVersioning(versioning);
+
+        return metadata;
+    }
+
+}
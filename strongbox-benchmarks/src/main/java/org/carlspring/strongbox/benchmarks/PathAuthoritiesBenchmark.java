@@ -0,0 +1,114 @@
+package org.carlspring.strongbox.benchmarks;
+
+import org.carlspring.strongbox.users.domain.AccessModelData;
+import org.carlspring.strongbox.users.domain.PathAuthoritiesIndex;
+import org.carlspring.strongbox.users.domain.Privileges;
+import org.carlspring.strongbox.users.dto.AccessModel;
+import org.carlspring.strongbox.users.dto.AccessModelDto;
+import org.carlspring.strongbox.users.dto.PathPrivilegesDto;
+import org.carlspring.strongbox.users.dto.RepositoryPrivilegesDto;
+import org.carlspring.strongbox.users.dto.StoragePrivilegesDto;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The path authorities which {@link org.carlspring.strongbox.security.vote.ExtendedAuthoritiesVoter} checks for
+ * every artifact request, for a growing number of roles and path privileges.
+ * <br>
+ * The cost of an {@link #index()} lookup is expected to stay flat as the number of rules grows, while the one of the
+ * {@link #accessModels()} grows with it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PathAuthoritiesBenchmark
+{
+
+    private static final String URL = "/storages/storage0/releases/org/carlspring/strongbox/strongbox-commons/1.0/" +
+                                      "strongbox-commons-1.0.jar";
+
+    @Param({ "1", "10", "100" })
+    private int roles;
+
+    @Param({ "10", "50", "100" })
+    private int pathPrivilegesPerRole;
+
+    private List<AccessModel> accessModels;
+
+    private PathAuthoritiesIndex index;
+
+    @Setup
+    public void setup()
+    {
+        accessModels = new ArrayList<>();
+        for (int i = 0; i < roles; i++)
+        {
+            accessModels.add(new AccessModelData(createAccessModel(i)));
+        }
+
+        index = new PathAuthoritiesIndex(accessModels);
+    }
+
+    @Benchmark
+    public Set<Privileges> index()
+    {
+        return index.getPathAuthorities(URL);
+    }
+
+    /**
+     * The access models of the roles matched one by one, as the voter did before the index.
+     */
+    @Benchmark
+    public Set<Privileges> accessModels()
+    {
+        Set<Privileges> result = new HashSet<>();
+        for (AccessModel accessModel : accessModels)
+        {
+            result.addAll(accessModel.getPathAuthorities(URL));
+        }
+
+        return result;
+    }
+
+    private AccessModelDto createAccessModel(int role)
+    {
+        RepositoryPrivilegesDto repository = new RepositoryPrivilegesDto("releases");
+        for (int i = 0; i < pathPrivilegesPerRole; i++)
+        {
+            PathPrivilegesDto pathPrivilege = new PathPrivilegesDto(String.format("org/carlspring/role-%s/path-%s",
+                                                                                  role, i));
+            pathPrivilege.setWildcard(i % 2 == 0);
+            pathPrivilege.setPrivileges(EnumSet.of(Privileges.ARTIFACTS_RESOLVE));
+            repository.getPathPrivileges().add(pathPrivilege);
+        }
+
+        // The privileges of the requested path.
+        PathPrivilegesDto pathPrivilege = new PathPrivilegesDto("org/carlspring/strongbox");
+        pathPrivilege.setWildcard(true);
+        pathPrivilege.setPrivileges(EnumSet.of(Privileges.ARTIFACTS_RESOLVE, Privileges.ARTIFACTS_VIEW));
+        repository.getPathPrivileges().add(pathPrivilege);
+
+        StoragePrivilegesDto storage = new StoragePrivilegesDto("storage0");
+        storage.getRepositoryPrivileges().add(repository);
+
+        AccessModelDto accessModel = new AccessModelDto();
+        accessModel.getStorageAuthorities().add(storage);
+
+        return accessModel;
+    }
+
+}
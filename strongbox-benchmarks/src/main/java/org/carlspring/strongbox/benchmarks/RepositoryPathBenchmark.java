@@ -0,0 +1,112 @@
+package org.carlspring.strongbox.benchmarks;
+
+import static org.carlspring.strongbox.benchmarks.StrongboxContextState.ARTIFACT_PATH;
+import static org.carlspring.strongbox.benchmarks.StrongboxContextState.REPOSITORY_ID;
+import static org.carlspring.strongbox.benchmarks.StrongboxContextState.STORAGE_ID;
+
+import org.carlspring.strongbox.domain.ArtifactEntry;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.io.RepositoryPathLock;
+import org.carlspring.strongbox.services.ArtifactEntryService;
+import org.carlspring.strongbox.services.ArtifactResolutionService;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The repository paths of a download: the lookup of the artifact entry, the path lock and the input stream.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RepositoryPathBenchmark
+{
+
+    private static final int BUFFER_SIZE = 4096;
+
+    private ArtifactEntryService artifactEntryService;
+
+    private ArtifactResolutionService artifactResolutionService;
+
+    private RepositoryPathLock repositoryPathLock;
+
+    @Setup
+    public void setup(StrongboxContextState context)
+    {
+        artifactEntryService = context.getBean(ArtifactEntryService.class);
+        artifactResolutionService = context.getBean(ArtifactResolutionService.class);
+        repositoryPathLock = context.getBean(RepositoryPathLock.class);
+    }
+
+    @Benchmark
+    public ArtifactEntry findOneArtifact()
+    {
+        return artifactEntryService.findOneArtifact(STORAGE_ID, REPOSITORY_ID, ARTIFACT_PATH);
+    }
+
+    @Benchmark
+    public void lock(StrongboxContextState context)
+        throws IOException
+    {
+        ReadWriteLock lock = repositoryPathLock.lock(context.resolve(ARTIFACT_PATH));
+
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        readLock.unlock();
+    }
+
+    /**
+     * {@link org.carlspring.strongbox.providers.io.LayoutFileSystemProvider#newInputStream}
+     */
+    @Benchmark
+    public long newInputStream(StrongboxContextState context)
+        throws IOException
+    {
+        try (InputStream is = Files.newInputStream(context.resolve(ARTIFACT_PATH)))
+        {
+            return consume(is);
+        }
+    }
+
+    /**
+     * The input stream of a download, with its validation and repository provider.
+     */
+    @Benchmark
+    public long download(StrongboxContextState context)
+        throws IOException
+    {
+        RepositoryPath repositoryPath = context.resolve(ARTIFACT_PATH);
+        try (InputStream is = artifactResolutionService.getInputStream(repositoryPath))
+        {
+            return consume(is);
+        }
+    }
+
+    static long consume(InputStream is)
+        throws IOException
+    {
+        byte[] buffer = new byte[BUFFER_SIZE];
+
+        long result = 0;
+        int length;
+        while ((length = is.read(buffer)) != -1)
+        {
+            result += length;
+        }
+
+        return result;
+    }
+
+}
@@ -0,0 +1,120 @@
+package org.carlspring.strongbox.benchmarks;
+
+import org.carlspring.strongbox.config.Maven2LayoutProviderTestConfig;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
+import org.carlspring.strongbox.services.ArtifactManagementService;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * A Strongbox context with an embedded OrientDB and a Maven repository with a single artifact, all of them in a
+ * temporary directory which is removed after the benchmark.
+ */
+@State(Scope.Benchmark)
+public class StrongboxContextState
+{
+
+    public static final String STORAGE_ID = "storage0";
+
+    public static final String REPOSITORY_ID = "releases";
+
+    public static final String ARTIFACT_BASE_PATH = "org/carlspring/strongbox/benchmarks/strongbox-benchmarks-artifact";
+
+    public static final String ARTIFACT_PATH = ARTIFACT_BASE_PATH + "/1.0/strongbox-benchmarks-artifact-1.0.jar";
+
+    /**
+     * The size of the artifact, in bytes.
+     */
+    @Param("1048576")
+    private int artifactSize;
+
+    private Path basedir;
+
+    private ConfigurableApplicationContext applicationContext;
+
+    private RepositoryPathResolver repositoryPathResolver;
+
+    @Setup(Level.Trial)
+    public void setup()
+        throws IOException
+    {
+        basedir = Files.createTempDirectory("strongbox-benchmarks");
+
+        applicationContext = new SpringApplicationBuilder(Maven2LayoutProviderTestConfig.class)
+                                     .profiles("test")
+                                     .web(WebApplicationType.NONE)
+                                     .bannerMode(Banner.Mode.OFF)
+                                     .run("--strongbox.basedir=" + basedir.toAbsolutePath());
+
+        repositoryPathResolver = getBean(RepositoryPathResolver.class);
+
+        ArtifactManagementService artifactManagementService = getBean(ArtifactManagementService.class);
+        artifactManagementService.store(resolve(ARTIFACT_PATH), new ByteArrayInputStream(createJar(artifactSize)));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown()
+        throws IOException
+    {
+        applicationContext.close();
+
+        FileSystemUtils.deleteRecursively(basedir);
+    }
+
+    public <T> T getBean(Class<T> type)
+    {
+        return applicationContext.getBean(type);
+    }
+
+    /**
+     * Resolves a new path, the way every request does.
+     */
+    public RepositoryPath resolve(String path)
+    {
+        return repositoryPathResolver.resolve(STORAGE_ID, REPOSITORY_ID, path);
+    }
+
+    public int getArtifactSize()
+    {
+        return artifactSize;
+    }
+
+    private static byte[] createJar(int size)
+        throws IOException
+    {
+        byte[] content = new byte[size];
+        new Random(0).nextBytes(content);
+
+        ByteArrayOutputStream result = new ByteArrayOutputStream(size + 1024);
+        try (ZipOutputStream zos = new ZipOutputStream(result))
+        {
+            // Random content doesn't compress, so the size of the archive stays close to the requested one.
+            zos.putNextEntry(new ZipEntry("content.bin"));
+            zos.write(content);
+            zos.closeEntry();
+        }
+
+        return result.toByteArray();
+    }
+
+}
@@ -10,6 +10,8 @@ import java.io.InputStream;
 import java.util.Map;
 
 import org.apache.http.HttpStatus;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.glassfish.jersey.apache.connector.ApacheClientProperties;
 import org.glassfish.jersey.apache.connector.ApacheConnectorProvider;
 import org.glassfish.jersey.client.ClientConfig;
 import org.glassfish.jersey.client.authentication.HttpAuthenticationFeature;
@@ -43,6 +45,11 @@ public class ArtifactClient
 
     private String contextBaseUrl;
 
+    /**
+     * The maximum number of pooled connections, which is also the maximum per host.
+     */
+    private int maxConnections = 20;
+
     private Client client;
 
 
@@ -97,8 +104,13 @@ public class ArtifactClient
 
     private ClientConfig getClientConfig()
     {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnections);
+
         ClientConfig config = new ClientConfig();
         config.connectorProvider(new ApacheConnectorProvider());
+        config.property(ApacheClientProperties.CONNECTION_MANAGER, connectionManager);
 
         return config;
     }
@@ -428,6 +440,27 @@ public class ArtifactClient
         this.contextBaseUrl = contextBaseUrl;
     }
 
+    public int getMaxConnections()
+    {
+        return maxConnections;
+    }
+
+    /**
+     * The client, which has been built with the previous limit, is closed, so the following requests use a new pool.
+     */
+    public void setMaxConnections(int maxConnections)
+    {
+        if (this.maxConnections == maxConnections)
+        {
+            return;
+        }
+
+        this.maxConnections = maxConnections;
+
+        close();
+        client = null;
+    }
+
     public String getUsername()
     {
         return username;
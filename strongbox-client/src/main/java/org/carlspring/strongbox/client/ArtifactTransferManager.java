@@ -0,0 +1,454 @@
+package org.carlspring.strongbox.client;
+
+import org.carlspring.strongbox.client.TransferResult.Direction;
+
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.client.Invocation;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.http.HttpStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Uploads and downloads many files concurrently, over the pooled keep-alive connections of an
+ * {@link ArtifactClient}.
+ * <p>
+ * The transfers, which have failed with a server error or an I/O error (such as a reset connection), are repeated
+ * with an exponential backoff. An interrupted download is resumed from where it has stopped, with a range request.
+ * The outcome of all the transfers is summarized by a {@link TransferReport}.
+ *
+ * <pre>
+ * try (ArtifactTransferManager manager = new ArtifactTransferManager(client, 8))
+ * {
+ *     manager.upload("storages/storage0/releases/org/foo/foo/1.0/foo-1.0.jar", jar);
+ *     ...
+ *     TransferReport report = manager.awaitCompletion();
+ * }
+ * </pre>
+ */
+public class ArtifactTransferManager
+        implements Closeable
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(ArtifactTransferManager.class);
+
+    private static final String PARTIAL_SUFFIX = ".part";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ArtifactClient client;
+
+    private final ThreadPoolExecutor executor;
+
+    private final List<CompletableFuture<TransferResult>> transfers = new ArrayList<>();
+
+    private int maxRetries = 3;
+
+    private long initialBackoffMillis = 500;
+
+    private long maxBackoffMillis = 10000;
+
+    private long startNanos;
+
+    /**
+     * @param client      the client, whose pooled connections are used; its {@link ArtifactClient#getMaxConnections()}
+     *                    should be at least the parallelism
+     * @param parallelism the maximum number of concurrent transfers
+     */
+    public ArtifactTransferManager(ArtifactClient client,
+                                   int parallelism)
+    {
+        if (parallelism > client.getMaxConnections())
+        {
+            logger.warn("The parallelism [{}] exceeds the [{}] connections of the client.",
+                        parallelism, client.getMaxConnections());
+        }
+
+        this.client = client;
+        this.executor = new ThreadPoolExecutor(parallelism,
+                                               parallelism,
+                                               60L,
+                                               TimeUnit.SECONDS,
+                                               new LinkedBlockingQueue<>(),
+                                               new CustomizableThreadFactory("artifact-transfer-"));
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    public ArtifactTransferManager(ArtifactClient client)
+    {
+        this(client, client.getMaxConnections());
+    }
+
+    public CompletableFuture<TransferResult> upload(String path,
+                                                    Path file)
+    {
+        return submit(new Transfer(path, Direction.UPLOAD)
+        {
+            @Override
+            long attempt()
+                    throws IOException
+            {
+                return put(path, file);
+            }
+        });
+    }
+
+    /**
+     * Downloads into a {@code .part} file next to the target, which is moved to the target when it's complete.
+     */
+    public CompletableFuture<TransferResult> download(String path,
+                                                      Path target)
+    {
+        return submit(new Transfer(path, Direction.DOWNLOAD)
+        {
+            @Override
+            long attempt()
+                    throws IOException
+            {
+                return get(path, target);
+            }
+        });
+    }
+
+    /**
+     * Waits for all the submitted transfers.
+     */
+    public TransferReport awaitCompletion()
+    {
+        List<CompletableFuture<TransferResult>> submitted;
+        synchronized (transfers)
+        {
+            submitted = new ArrayList<>(transfers);
+        }
+
+        CompletableFuture.allOf(submitted.toArray(new CompletableFuture[0])).join();
+
+        return getReport();
+    }
+
+    /**
+     * @return the report of the transfers, which have been completed so far
+     */
+    public TransferReport getReport()
+    {
+        List<TransferResult> results = new ArrayList<>();
+        synchronized (transfers)
+        {
+            for (CompletableFuture<TransferResult> transfer : transfers)
+            {
+                if (transfer.isDone())
+                {
+                    results.add(transfer.join());
+                }
+            }
+        }
+
+        return new TransferReport(results, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    }
+
+    private CompletableFuture<TransferResult> submit(Transfer transfer)
+    {
+        synchronized (transfers)
+        {
+            if (transfers.isEmpty())
+            {
+                startNanos = System.nanoTime();
+            }
+
+            CompletableFuture<TransferResult> future = CompletableFuture.supplyAsync(transfer::execute, executor);
+            transfers.add(future);
+
+            return future;
+        }
+    }
+
+    private long put(String path,
+                     Path file)
+            throws IOException
+    {
+        try (InputStream is = Files.newInputStream(file))
+        {
+            Response response = request(path).put(Entity.entity(is, MediaType.APPLICATION_OCTET_STREAM));
+            try
+            {
+                checkStatus(response);
+            }
+            finally
+            {
+                response.close();
+            }
+        }
+
+        return Files.size(file);
+    }
+
+    /**
+     * @return the size of the downloaded file
+     */
+    private long get(String path,
+                     Path target)
+            throws IOException
+    {
+        Path partial = target.resolveSibling(target.getFileName() + PARTIAL_SUFFIX);
+        long offset = Files.exists(partial) ? Files.size(partial) : 0;
+
+        Invocation.Builder request = request(path);
+        if (offset > 0)
+        {
+            request.header("Range", "bytes=" + offset + "-");
+        }
+
+        Response response = request.get();
+        try
+        {
+            if (response.getStatus() == HttpStatus.SC_REQUESTED_RANGE_NOT_SATISFIABLE)
+            {
+                // The file has changed since the previous attempt.
+                Files.deleteIfExists(partial);
+
+                throw new TransferException(response.getStatus(), true);
+            }
+
+            checkStatus(response);
+
+            boolean resumed = response.getStatus() == HttpStatus.SC_PARTIAL_CONTENT;
+            if (offset > 0)
+            {
+                logger.debug("Resuming [{}] from [{}] bytes: {}.", path, offset, resumed);
+            }
+
+            long received = 0;
+            try (InputStream is = response.readEntity(InputStream.class);
+                 OutputStream os = Files.newOutputStream(partial,
+                                                         StandardOpenOption.CREATE,
+                                                         StandardOpenOption.WRITE,
+                                                         resumed ? StandardOpenOption.APPEND :
+                                                         StandardOpenOption.TRUNCATE_EXISTING))
+            {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int read;
+                while ((read = is.read(buffer)) != -1)
+                {
+                    os.write(buffer, 0, read);
+                    received += read;
+                }
+            }
+
+            // The connection may have been closed before the whole body has been sent.
+            if (response.getLength() >= 0 && received < response.getLength())
+            {
+                throw new IOException(String.format("Received [%s] of [%s] bytes.", received, response.getLength()));
+            }
+
+            Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING);
+
+            return Files.size(target);
+        }
+        finally
+        {
+            response.close();
+        }
+    }
+
+    private Invocation.Builder request(String path)
+    {
+        String url = client.getContextBaseUrl() + (!path.startsWith("/") ? "/" : "") + path;
+
+        WebTarget resource = client.getClientInstance().target(url);
+        client.setupAuthentication(resource);
+
+        return resource.request();
+    }
+
+    private void checkStatus(Response response)
+    {
+        int status = response.getStatus();
+        if (status >= 200 && status < 300)
+        {
+            return;
+        }
+
+        throw new TransferException(status, status >= 500);
+    }
+
+    long getBackoffMillis(int attempt)
+    {
+        long backoff = Math.min(maxBackoffMillis, initialBackoffMillis << Math.min(attempt - 1, 30));
+
+        // The jitter keeps the retries of the concurrent transfers from hitting the server at the same time.
+        return backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+    }
+
+    public int getMaxRetries()
+    {
+        return maxRetries;
+    }
+
+    public void setMaxRetries(int maxRetries)
+    {
+        this.maxRetries = maxRetries;
+    }
+
+    public long getInitialBackoffMillis()
+    {
+        return initialBackoffMillis;
+    }
+
+    public void setInitialBackoffMillis(long initialBackoffMillis)
+    {
+        this.initialBackoffMillis = initialBackoffMillis;
+    }
+
+    public long getMaxBackoffMillis()
+    {
+        return maxBackoffMillis;
+    }
+
+    public void setMaxBackoffMillis(long maxBackoffMillis)
+    {
+        this.maxBackoffMillis = maxBackoffMillis;
+    }
+
+    /**
+     * Stops the transfers, which haven't been started yet. The client isn't closed.
+     */
+    @Override
+    public void close()
+    {
+        executor.shutdownNow();
+    }
+
+    private abstract class Transfer
+    {
+
+        private final String path;
+
+        private final Direction direction;
+
+        private final AtomicInteger attempts = new AtomicInteger();
+
+        Transfer(String path,
+                 Direction direction)
+        {
+            this.path = path;
+            this.direction = direction;
+        }
+
+        /**
+         * @return the size of the transferred file
+         */
+        abstract long attempt()
+                throws IOException;
+
+        TransferResult execute()
+        {
+            long start = System.nanoTime();
+
+            while (true)
+            {
+                int attempt = attempts.incrementAndGet();
+                String error;
+                boolean retryable;
+                try
+                {
+                    return result(true, attempt(), start, null);
+                }
+                catch (TransferException e)
+                {
+                    error = e.getMessage();
+                    retryable = e.isRetryable();
+                }
+                catch (IOException | ProcessingException e)
+                {
+                    error = e.getMessage();
+                    retryable = true;
+                }
+                catch (Exception e)
+                {
+                    logger.error("Failed to {} [{}].", direction.name().toLowerCase(), path, e);
+
+                    return result(false, 0, start, e.getMessage());
+                }
+
+                if (!retryable || attempt > maxRetries)
+                {
+                    logger.error("Failed to {} [{}] after [{}] attempts: {}",
+                                 direction.name().toLowerCase(), path, attempt, error);
+
+                    return result(false, 0, start, error);
+                }
+
+                long backoff = getBackoffMillis(attempt);
+                logger.debug("Retrying to {} [{}] in [{}] ms: {}", direction.name().toLowerCase(), path, backoff, error);
+
+                try
+                {
+                    Thread.sleep(backoff);
+                }
+                catch (InterruptedException e)
+                {
+                    Thread.currentThread().interrupt();
+
+                    return result(false, 0, start, "Interrupted.");
+                }
+            }
+        }
+
+        private TransferResult result(boolean successful,
+                                      long bytes,
+                                      long start,
+                                      String error)
+        {
+            return new TransferResult(path,
+                                      direction,
+                                      successful,
+                                      bytes,
+                                      attempts.get(),
+                                      TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                                      error);
+        }
+
+    }
+
+    private static class TransferException
+            extends RuntimeException
+    {
+
+        private final boolean retryable;
+
+        TransferException(int status,
+                          boolean retryable)
+        {
+            super("HTTP " + status);
+            this.retryable = retryable;
+        }
+
+        boolean isRetryable()
+        {
+            return retryable;
+        }
+
+    }
+
+}
@@ -1,11 +1,13 @@
 package org.carlspring.strongbox.client;
 
+import javax.ws.rs.ProcessingException;
 import javax.ws.rs.client.Client;
 import javax.ws.rs.client.Invocation;
 import javax.ws.rs.client.WebTarget;
 import javax.ws.rs.core.Feature;
 import javax.ws.rs.core.Response;
 import java.io.Closeable;
+import java.util.function.Supplier;
 
 import org.apache.http.client.config.RequestConfig;
 import org.glassfish.jersey.apache.connector.ApacheClientProperties;
@@ -25,6 +27,7 @@ public class RestArtifactResolver
     private final Client client;
     private Feature authentication;
     private RemoteRepositoryRetryArtifactDownloadConfiguration configuration;
+    private int maxRetries;
 
     public RestArtifactResolver(Client client,
                                 String repositoryBaseUrl,
@@ -43,6 +46,16 @@ public class RestArtifactResolver
         this(client, repositoryBaseUrl, configuration);
         this.authentication = authentication;
     }
+
+    public RestArtifactResolver(Client client,
+                                String repositoryBaseUrl,
+                                RemoteRepositoryRetryArtifactDownloadConfiguration configuration,
+                                Feature authentication,
+                                int maxRetries)
+    {
+        this(client, repositoryBaseUrl, configuration, authentication);
+        this.maxRetries = maxRetries;
+    }
     
     public RemoteRepositoryRetryArtifactDownloadConfiguration getConfiguration()
     {
@@ -54,13 +67,13 @@ public class RestArtifactResolver
         return true;
     }
 
+    /**
+     * The client is shared with the other resolvers of the remote repository, so it is left open.
+     */
     @Override
     public void close()
     {
-        if (client != null)
-        {
-            client.close();
-        }
+        // Nothing to close here.
     }
 
     public CloseableRestResponse get(String path)
@@ -80,18 +93,12 @@ public class RestArtifactResolver
                                                       .build();
 
         Invocation.Builder request = resource.request();
-        Response response;
-
         if (offset > 0)
         {
-            response = request.header("Range", "bytes=" + offset + "-").get();
-        }
-        else
-        {
-            response = request.get();
+            request.header("Range", "bytes=" + offset + "-");
         }
 
-        return new CloseableRestResponse(response);
+        return new CloseableRestResponse(execute(url, request::get));
     }
 
     public CloseableRestResponse head(String path)
@@ -105,7 +112,29 @@ public class RestArtifactResolver
                                      .customRequestConfig()
                                      .build();
 
-        return new CloseableRestResponse(resource.request().head());
+        return new CloseableRestResponse(execute(url, resource.request()::head));
+    }
+
+    private Response execute(String url,
+                             Supplier<Response> request)
+    {
+        for (int attempt = 0; ; attempt++)
+        {
+            try
+            {
+                return request.get();
+            }
+            catch (ProcessingException e)
+            {
+                // The request has failed before a response was received, so it is safe to send it again.
+                if (attempt >= maxRetries)
+                {
+                    throw e;
+                }
+
+                logger.debug("Retrying {} after a failure: {}", url, e.getMessage());
+            }
+        }
     }
 
     private String escapeUrl(String path)
@@ -0,0 +1,101 @@
+package org.carlspring.strongbox.client;
+
+import javax.annotation.concurrent.Immutable;
+import java.util.Objects;
+
+/**
+ * The connection settings of the REST client of a remote repository.
+ */
+@Immutable
+public class RestClientPolicy
+{
+
+    private final int connectTimeoutSeconds;
+
+    private final int readTimeoutSeconds;
+
+    private final boolean keepAlive;
+
+    private final int maxRetries;
+
+    public RestClientPolicy(int connectTimeoutSeconds,
+                            int readTimeoutSeconds,
+                            boolean keepAlive,
+                            int maxRetries)
+    {
+        this.connectTimeoutSeconds = connectTimeoutSeconds;
+        this.readTimeoutSeconds = readTimeoutSeconds;
+        this.keepAlive = keepAlive;
+        this.maxRetries = maxRetries;
+    }
+
+    /**
+     * @return the connect timeout, or zero for none
+     */
+    public int getConnectTimeoutSeconds()
+    {
+        return connectTimeoutSeconds;
+    }
+
+    /**
+     * @return the socket read timeout, or zero for none
+     */
+    public int getReadTimeoutSeconds()
+    {
+        return readTimeoutSeconds;
+    }
+
+    /**
+     * @return whether the connections are returned to the pool after a request, or closed
+     */
+    public boolean isKeepAlive()
+    {
+        return keepAlive;
+    }
+
+    /**
+     * @return how many times a request, which has failed before receiving a response, is sent again
+     */
+    public int getMaxRetries()
+    {
+        return maxRetries;
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+        if (this == o)
+        {
+            return true;
+        }
+        if (!(o instanceof RestClientPolicy))
+        {
+            return false;
+        }
+
+        RestClientPolicy that = (RestClientPolicy) o;
+
+        return connectTimeoutSeconds == that.connectTimeoutSeconds &&
+               readTimeoutSeconds == that.readTimeoutSeconds &&
+               keepAlive == that.keepAlive &&
+               maxRetries == that.maxRetries;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(connectTimeoutSeconds, readTimeoutSeconds, keepAlive, maxRetries);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "RestClientPolicy{" +
+               "connectTimeoutSeconds=" + connectTimeoutSeconds +
+               ", readTimeoutSeconds=" + readTimeoutSeconds +
+               ", keepAlive=" + keepAlive +
+               ", maxRetries=" + maxRetries +
+               '}';
+    }
+
+}
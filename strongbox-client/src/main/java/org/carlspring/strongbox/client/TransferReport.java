@@ -0,0 +1,84 @@
+package org.carlspring.strongbox.client;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * A summary of the transfers of an {@link ArtifactTransferManager}.
+ */
+public class TransferReport
+{
+
+    private final List<TransferResult> results;
+
+    private final long elapsedMillis;
+
+    TransferReport(List<TransferResult> results,
+                   long elapsedMillis)
+    {
+        this.results = Collections.unmodifiableList(new ArrayList<>(results));
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public List<TransferResult> getResults()
+    {
+        return results;
+    }
+
+    public List<TransferResult> getFailures()
+    {
+        return results.stream().filter(r -> !r.isSuccessful()).collect(Collectors.toList());
+    }
+
+    public int getSucceeded()
+    {
+        return (int) results.stream().filter(TransferResult::isSuccessful).count();
+    }
+
+    public int getFailed()
+    {
+        return results.size() - getSucceeded();
+    }
+
+    /**
+     * @return the number of attempts, which have been repeated
+     */
+    public int getRetries()
+    {
+        return results.stream().mapToInt(r -> r.getAttempts() - 1).sum();
+    }
+
+    public long getBytes()
+    {
+        return results.stream().mapToLong(TransferResult::getBytes).sum();
+    }
+
+    /**
+     * @return the time from the first submitted transfer until the last completed one
+     */
+    public long getElapsedMillis()
+    {
+        return elapsedMillis;
+    }
+
+    public long getBytesPerSecond()
+    {
+        return getBytes() * 1000 / Math.max(1, elapsedMillis);
+    }
+
+    @Override
+    public String toString()
+    {
+        return String.format("Transferred [%s] bytes in [%s] ms ([%s] KiB/s): [%s] succeeded, [%s] failed, " +
+                             "[%s] retries.",
+                             getBytes(),
+                             elapsedMillis,
+                             getBytesPerSecond() / 1024,
+                             getSucceeded(),
+                             getFailed(),
+                             getRetries());
+    }
+
+}
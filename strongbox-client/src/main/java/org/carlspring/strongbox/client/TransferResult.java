@@ -0,0 +1,100 @@
+package org.carlspring.strongbox.client;
+
+/**
+ * The outcome of an upload or a download of the {@link ArtifactTransferManager}.
+ */
+public class TransferResult
+{
+
+    private final String path;
+
+    private final Direction direction;
+
+    private final boolean successful;
+
+    private final long bytes;
+
+    private final int attempts;
+
+    private final long durationMillis;
+
+    private final String error;
+
+    TransferResult(String path,
+                   Direction direction,
+                   boolean successful,
+                   long bytes,
+                   int attempts,
+                   long durationMillis,
+                   String error)
+    {
+        this.path = path;
+        this.direction = direction;
+        this.successful = successful;
+        this.bytes = bytes;
+        this.attempts = attempts;
+        this.durationMillis = durationMillis;
+        this.error = error;
+    }
+
+    public String getPath()
+    {
+        return path;
+    }
+
+    public Direction getDirection()
+    {
+        return direction;
+    }
+
+    public boolean isSuccessful()
+    {
+        return successful;
+    }
+
+    /**
+     * @return the size of the transferred file, or {@code 0}, if the transfer has failed
+     */
+    public long getBytes()
+    {
+        return bytes;
+    }
+
+    public int getAttempts()
+    {
+        return attempts;
+    }
+
+    public long getDurationMillis()
+    {
+        return durationMillis;
+    }
+
+    /**
+     * @return the error of the last attempt, if the transfer has failed
+     */
+    public String getError()
+    {
+        return error;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "TransferResult{" +
+               "path='" + path + '\'' +
+               ", direction=" + direction +
+               ", successful=" + successful +
+               ", bytes=" + bytes +
+               ", attempts=" + attempts +
+               ", durationMillis=" + durationMillis +
+               (error != null ? ", error='" + error + '\'' : "") +
+               '}';
+    }
+
+    public enum Direction
+    {
+        UPLOAD, DOWNLOAD;
+    }
+
+}
@@ -5,14 +5,28 @@ import org.apache.http.pool.PoolStats;
 
 import javax.ws.rs.client.Client;
 
+import org.carlspring.strongbox.client.RestClientPolicy;
+
 /**
  * @author korest
  */
 public interface ProxyRepositoryConnectionPoolConfigurationService
 {
 
+    /**
+     * Returns the shared client with the default policy. The client must not be closed.
+     */
     Client getRestClient();
 
+    /**
+     * Returns the shared client of a remote repository, which is created once per repository and policy. The client
+     * must not be closed.
+     */
+    Client getRestClient(String remoteRepositoryUrl,
+                         RestClientPolicy policy);
+
+    RestClientPolicy getDefaultRestClientPolicy();
+
     CloseableHttpClient getHttpClient();
 
     void setMaxTotal(int max);
@@ -8,7 +8,13 @@ import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 import javax.ws.rs.client.Client;
 import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.ClientRequestContext;
+import javax.ws.rs.client.ClientRequestFilter;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import org.apache.http.HttpHeaders;
 import org.apache.http.HttpHost;
 import org.apache.http.conn.routing.HttpRoute;
 import org.apache.http.impl.client.CloseableHttpClient;
@@ -16,11 +22,13 @@ import org.apache.http.impl.client.HttpClients;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.pool.PoolStats;
 
+import org.carlspring.strongbox.client.RestClientPolicy;
 import org.carlspring.strongbox.service.ProxyRepositoryConnectionPoolConfigurationService;
 
 import org.glassfish.jersey.apache.connector.ApacheClientProperties;
 import org.glassfish.jersey.apache.connector.ApacheConnectorProvider;
 import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.client.ClientProperties;
 import org.glassfish.jersey.logging.LoggingFeature;
 import org.glassfish.jersey.logging.LoggingFeature.Verbosity;
 import org.slf4j.Logger;
@@ -49,6 +57,30 @@ public class ProxyRepositoryConnectionPoolConfigurationServiceImpl
     @Value("${pool.idleConnectionsTimeoutInSeconds:60}")
     private int idleConnectionsTimeoutInSeconds;
 
+    @Value("${strongbox.remoteRepositories.client.connectTimeoutSeconds:30}")
+    private int connectTimeoutSeconds;
+    @Value("${strongbox.remoteRepositories.client.readTimeoutSeconds:60}")
+    private int readTimeoutSeconds;
+    @Value("${strongbox.remoteRepositories.client.keepAlive:true}")
+    private boolean keepAlive;
+    @Value("${strongbox.remoteRepositories.client.maxRetries:0}")
+    private int maxRetries;
+    @Value("${strongbox.remoteRepositories.client.payloadLogging:false}")
+    private boolean payloadLogging;
+    @Value("${strongbox.remoteRepositories.client.maxClients:1000}")
+    private int maxRestClients;
+
+    private RestClientPolicy defaultRestClientPolicy;
+
+    private Client defaultRestClient;
+
+    /**
+     * The clients of the remote repositories, by their URL. A client is built once and replaced only when the
+     * policy of its repository has been changed. The replaced and the evicted clients are closed; the connections
+     * belong to the shared pool, so a response which is still being read isn't affected.
+     */
+    private Cache<String, PooledRestClient> restClients;
+
     @PostConstruct
     public void init()
     {
@@ -61,6 +93,14 @@ public class ProxyRepositoryConnectionPoolConfigurationServiceImpl
                 new IdleConnectionMonitorThread(poolingHttpClientConnectionManager, idleConnectionsTimeoutInSeconds);
         idleConnectionMonitorThread.setDaemon(true);
         idleConnectionMonitorThread.start();
+
+        defaultRestClientPolicy = new RestClientPolicy(connectTimeoutSeconds, readTimeoutSeconds, keepAlive, maxRetries);
+        defaultRestClient = createRestClient(defaultRestClientPolicy);
+
+        restClients = CacheBuilder.newBuilder()
+                                  .maximumSize(maxRestClients)
+                                  .removalListener(this::onRestClientRemoval)
+                                  .build();
     }
 
     @PreDestroy
@@ -72,23 +112,69 @@ public class ProxyRepositoryConnectionPoolConfigurationServiceImpl
     @Override
     public Client getRestClient()
     {
+        return defaultRestClient;
+    }
+
+    @Override
+    public Client getRestClient(String remoteRepositoryUrl,
+                                RestClientPolicy policy)
+    {
+        PooledRestClient restClient = restClients.getIfPresent(remoteRepositoryUrl);
+        if (restClient != null && restClient.policy.equals(policy))
+        {
+            return restClient.client;
+        }
+
+        return restClients.asMap()
+                          .compute(remoteRepositoryUrl,
+                                   (url, current) -> current != null && current.policy.equals(policy) ?
+                                                     current :
+                                                     new PooledRestClient(policy, createRestClient(policy)))
+                          .client;
+    }
+
+    private void onRestClientRemoval(RemovalNotification<String, PooledRestClient> notification)
+    {
+        logger.debug("Closing the REST client of [{}] ({}).", notification.getKey(), notification.getCause());
+
+        notification.getValue().client.close();
+    }
+
+    @Override
+    public RestClientPolicy getDefaultRestClientPolicy()
+    {
+        return defaultRestClientPolicy;
+    }
+
+    private Client createRestClient(RestClientPolicy policy)
+    {
+        logger.debug("Creating a REST client with {}.", policy);
+
         ClientConfig config = new ClientConfig();
         config.connectorProvider(new ApacheConnectorProvider());
         config.property(ApacheClientProperties.CONNECTION_MANAGER, poolingHttpClientConnectionManager);
         // property to prevent closing connection manager when client is closed
         config.property(ApacheClientProperties.CONNECTION_MANAGER_SHARED, true);
-
-        java.util.logging.Logger logger = java.util.logging.Logger.getLogger("org.carlspring.strongbox.RestClient");
+        config.property(ClientProperties.CONNECT_TIMEOUT,
+                        (int) TimeUnit.SECONDS.toMillis(policy.getConnectTimeoutSeconds()));
+        config.property(ClientProperties.READ_TIMEOUT, (int) TimeUnit.SECONDS.toMillis(policy.getReadTimeoutSeconds()));
 
         // TODO set basic authentication here instead of setting it always in client?
         /* CredentialsProvider credentialsProvider = new BasicCredentialsProvider();
         credentialsProvider.setCredentials(AuthScope.ANY, new UsernamePasswordCredentials(username, password));
         config.property(ApacheClientProperties.CREDENTIALS_PROVIDER, credentialsProvider); */
 
-        return ClientBuilder.newBuilder()
-                            .register(new LoggingFeature(logger, Verbosity.PAYLOAD_TEXT))
-                            .withConfig(config)
-                            .build();
+        if (!policy.isKeepAlive())
+        {
+            config.register(ConnectionCloseFilter.class);
+        }
+        if (payloadLogging)
+        {
+            java.util.logging.Logger logger = java.util.logging.Logger.getLogger("org.carlspring.strongbox.RestClient");
+            config.register(new LoggingFeature(logger, Verbosity.PAYLOAD_TEXT));
+        }
+
+        return ClientBuilder.newClient(config);
     }
 
     @Override
@@ -149,6 +235,9 @@ public class ProxyRepositoryConnectionPoolConfigurationServiceImpl
     @Override
     public void shutdown()
     {
+        restClients.invalidateAll();
+        defaultRestClient.close();
+
         idleConnectionMonitorThread.shutdown();
         poolingHttpClientConnectionManager.shutdown();
     }
@@ -191,6 +280,37 @@ public class ProxyRepositoryConnectionPoolConfigurationServiceImpl
         return new HttpRoute(HttpHost.create(repository));
     }
 
+    private static final class PooledRestClient
+    {
+
+        private final RestClientPolicy policy;
+
+        private final Client client;
+
+        PooledRestClient(RestClientPolicy policy,
+                         Client client)
+        {
+            this.policy = policy;
+            this.client = client;
+        }
+
+    }
+
+    /**
+     * Makes the connection to be closed after the response, instead of being returned to the pool.
+     */
+    public static final class ConnectionCloseFilter
+            implements ClientRequestFilter
+    {
+
+        @Override
+        public void filter(ClientRequestContext requestContext)
+        {
+            requestContext.getHeaders().putSingle(HttpHeaders.CONNECTION, "close");
+        }
+
+    }
+
     private static final class IdleConnectionMonitorThread
             extends Thread
     {
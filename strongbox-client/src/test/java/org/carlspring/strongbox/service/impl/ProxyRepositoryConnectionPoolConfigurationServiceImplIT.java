@@ -1,12 +1,27 @@
 package org.carlspring.strongbox.service.impl;
 
+import org.carlspring.strongbox.client.RestClientPolicy;
 import org.carlspring.strongbox.config.ClientConfig;
 import org.carlspring.strongbox.service.ProxyRepositoryConnectionPoolConfigurationService;
 
 import javax.inject.Inject;
 import javax.ws.rs.client.Client;
 import javax.ws.rs.core.Response;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Configuration;
@@ -30,9 +45,52 @@ public class ProxyRepositoryConnectionPoolConfigurationServiceImplIT
     {
     }
 
+    private static final int THREADS = 16;
+
+    private static final int REQUESTS_PER_THREAD = 200;
+
+    private static final int MAX_CONNECTIONS_PER_ROUTE = 4;
+
     @Inject
     private ProxyRepositoryConnectionPoolConfigurationService proxyRepositoryConnectionPoolConfigurationService;
 
+    private HttpServer server;
+
+    private String serverUrl;
+
+    /**
+     * The client side ports of the connections, which have been accepted by the server.
+     */
+    private final Set<Integer> connections = ConcurrentHashMap.newKeySet();
+
+    @BeforeEach
+    public void setUp()
+            throws Exception
+    {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            connections.add(exchange.getRemoteAddress().getPort());
+
+            byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream os = exchange.getResponseBody())
+            {
+                os.write(body);
+            }
+        });
+        server.setExecutor(Executors.newFixedThreadPool(THREADS));
+        server.start();
+
+        serverUrl = "http://localhost:" + server.getAddress().getPort() + "/";
+    }
+
+    @AfterEach
+    public void tearDown()
+    {
+        server.stop(0);
+        ((ExecutorService) server.getExecutor()).shutdownNow();
+    }
+
     @Test
     public void setMaxPoolSize()
     {
@@ -65,7 +123,6 @@ public class ProxyRepositoryConnectionPoolConfigurationServiceImplIT
             Client client = proxyRepositoryConnectionPoolConfigurationService.getRestClient();
             Response response = client.target(repositoryUrl).request().get();
             response.close();
-            client.close();
         }
 
         // all connections should be released
@@ -86,4 +143,86 @@ public class ProxyRepositoryConnectionPoolConfigurationServiceImplIT
         // all connections should be leaked
         assertThat(proxyRepositoryConnectionPoolConfigurationService.getTotalStats().getLeased()).isEqualTo(3);
     }
+
+    @Test
+    public void restClientIsSharedPerRepositoryAndPolicy()
+    {
+        RestClientPolicy policy = new RestClientPolicy(5, 10, true, 1);
+
+        Client client = proxyRepositoryConnectionPoolConfigurationService.getRestClient(serverUrl, policy);
+
+        assertThat(proxyRepositoryConnectionPoolConfigurationService.getRestClient(serverUrl,
+                                                                                  new RestClientPolicy(5, 10, true, 1)))
+                .isSameAs(client);
+        assertThat(proxyRepositoryConnectionPoolConfigurationService.getRestClient(serverUrl,
+                                                                                  new RestClientPolicy(5, 20, true, 1)))
+                .isNotSameAs(client);
+        assertThat(proxyRepositoryConnectionPoolConfigurationService.getRestClient())
+                .isSameAs(proxyRepositoryConnectionPoolConfigurationService.getRestClient());
+    }
+
+    @Test
+    public void concurrentRequestsReusePooledConnections()
+            throws Exception
+    {
+        proxyRepositoryConnectionPoolConfigurationService.setMaxPerRepository(serverUrl, MAX_CONNECTIONS_PER_ROUTE);
+        RestClientPolicy policy = new RestClientPolicy(5, 10, true, 0);
+
+        Set<Client> clients = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try
+        {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++)
+            {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < REQUESTS_PER_THREAD; j++)
+                    {
+                        Client client = proxyRepositoryConnectionPoolConfigurationService.getRestClient(serverUrl,
+                                                                                                        policy);
+                        clients.add(client);
+
+                        Response response = client.target(serverUrl).request().get();
+                        assertThat(response.readEntity(String.class)).isEqualTo("ok");
+                        response.close();
+                    }
+                }));
+            }
+            for (Future<?> future : futures)
+            {
+                future.get(2, TimeUnit.MINUTES);
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+
+        // A single client has served all the requests over a few pooled connections.
+        assertThat(clients).hasSize(1);
+        assertThat(connections.size()).isLessThanOrEqualTo(MAX_CONNECTIONS_PER_ROUTE);
+        assertThat(proxyRepositoryConnectionPoolConfigurationService.getPoolStats(serverUrl).getLeased()).isEqualTo(0);
+        assertThat(proxyRepositoryConnectionPoolConfigurationService.getPoolStats(serverUrl).getAvailable())
+                .isLessThanOrEqualTo(MAX_CONNECTIONS_PER_ROUTE);
+    }
+
+    @Test
+    public void connectionsAreClosedWithoutKeepAlive()
+    {
+        Client client = proxyRepositoryConnectionPoolConfigurationService.getRestClient(serverUrl,
+                                                                                        new RestClientPolicy(5,
+                                                                                                             10,
+                                                                                                             false,
+                                                                                                             0));
+        for (int i = 0; i < 3; i++)
+        {
+            Response response = client.target(serverUrl).request().get();
+            response.readEntity(String.class);
+            response.close();
+        }
+
+        assertThat(connections).hasSize(3);
+        assertThat(proxyRepositoryConnectionPoolConfigurationService.getPoolStats(serverUrl).getAvailable())
+                .isEqualTo(0);
+    }
 }
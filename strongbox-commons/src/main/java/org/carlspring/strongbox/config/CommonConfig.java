@@ -16,7 +16,8 @@ import org.springframework.context.annotation.Import;
                  "org.carlspring.strongbox.url",
                  "org.carlspring.strongbox.util",
                  "org.carlspring.strongbox.yaml" })
-@Import(PropertiesPathResolverConfig.class)
+@Import({ PropertiesPathResolverConfig.class,
+          MetricsConfig.class })
 public class CommonConfig
 {
 }
@@ -0,0 +1,10 @@
+package org.carlspring.strongbox.config;
+
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ComponentScan({ "org.carlspring.strongbox.metrics" })
+public class MetricsConfig
+{
+}
@@ -0,0 +1,253 @@
+package org.carlspring.strongbox.metrics;
+
+import javax.inject.Inject;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiFunction;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * The meters of the repository hot paths, mostly tagged with the storage and the repository they belong to.
+ * <p>
+ * The meters are registered once and then looked up without any allocation, so that the instrumented code only pays
+ * for the recording itself. Without a {@link MeterRegistry} in the context, the meters are registered in the
+ * {@link Metrics#globalRegistry}, which doesn't record anything until a registry has been added to it.
+ */
+@Component
+public class StrongboxMetrics
+{
+
+    public static final String LOCK_WAIT = "strongbox.repository.path.lock.wait";
+
+    public static final String REMOTE_FETCH = "strongbox.proxy.remote.fetch";
+
+    public static final String PROXY_REQUESTS = "strongbox.proxy.requests";
+
+    public static final String GROUP_REQUESTS = "strongbox.group.requests";
+
+    public static final String GROUP_MEMBER_LOOKUPS = "strongbox.group.member.lookups";
+
+    public static final String CHECKSUM_COMPUTATION = "strongbox.checksum.computation";
+
+    public static final String DATABASE_OPERATIONS = "strongbox.database.operations";
+
+    public static final String EVENTS_PENDING = "strongbox.events.pending";
+
+    public static final String EVENTS_QUEUED = "strongbox.events.queued";
+
+    public static final String EVENTS_LAG = "strongbox.events.lag";
+
+    public static final String EVENTS_HANDLING = "strongbox.events.handling";
+
+    public static final String EVENTS_DISCARDED = "strongbox.events.discarded";
+
+    public static final String TRASH_BYTES = "strongbox.repository.trash.bytes";
+
+    public static final String TRASH_PURGED = "strongbox.repository.trash.purged";
+
+    public static final String TAG_STORAGE = "storage";
+
+    public static final String TAG_REPOSITORY = "repository";
+
+    public static final String TAG_RESULT = "result";
+
+    public static final String TAG_SERVICE = "service";
+
+    public static final String TAG_OPERATION = "operation";
+
+    public static final String TAG_LISTENER = "listener";
+
+    public static final String TAG_REASON = "reason";
+
+    private final MeterRegistry meterRegistry;
+
+    private final MeterCache<Timer> lockWaitTimers;
+
+    private final MeterCache<Timer> remoteFetchTimers;
+
+    private final MeterCache<Counter> proxyHitCounters;
+
+    private final MeterCache<Counter> proxyMissCounters;
+
+    private final MeterCache<Counter> groupRequestCounters;
+
+    private final MeterCache<Counter> groupMemberLookupCounters;
+
+    private final MeterCache<Timer> checksumComputationTimers;
+
+    private final MeterCache<Timer> databaseOperationTimers;
+
+    private final MeterCache<Counter> trashPurgedCounters;
+
+    @Inject
+    public StrongboxMetrics(ObjectProvider<MeterRegistry> meterRegistry,
+                            @Value("${strongbox.metrics.enabled:true}") boolean enabled)
+    {
+        // The meters of an empty composite registry are no-ops.
+        this(enabled ? meterRegistry.getIfUnique(() -> Metrics.globalRegistry) : new CompositeMeterRegistry());
+    }
+
+    public StrongboxMetrics(MeterRegistry meterRegistry)
+    {
+        this.meterRegistry = meterRegistry;
+
+        lockWaitTimers = new MeterCache<>((storageId, repositoryId) -> {
+            return Timer.builder(LOCK_WAIT)
+                        .description("The time spent waiting for the lock of a repository path")
+                        .tags(TAG_STORAGE, storageId, TAG_REPOSITORY, repositoryId)
+                        .register(meterRegistry);
+        });
+        remoteFetchTimers = new MeterCache<>((storageId, repositoryId) -> {
+            return Timer.builder(REMOTE_FETCH)
+                        .description("The time spent fetching an artifact from a remote repository")
+                        .tags(TAG_STORAGE, storageId, TAG_REPOSITORY, repositoryId)
+                        .register(meterRegistry);
+        });
+        proxyHitCounters = new MeterCache<>((storageId, repositoryId) -> proxyRequestCounter(storageId,
+                                                                                            repositoryId,
+                                                                                            "hit"));
+        proxyMissCounters = new MeterCache<>((storageId, repositoryId) -> proxyRequestCounter(storageId,
+                                                                                             repositoryId,
+                                                                                             "miss"));
+        groupRequestCounters = new MeterCache<>((storageId, repositoryId) -> {
+            return Counter.builder(GROUP_REQUESTS)
+                          .description("The paths requested from a group repository")
+                          .tags(TAG_STORAGE, storageId, TAG_REPOSITORY, repositoryId)
+                          .register(meterRegistry);
+        });
+        groupMemberLookupCounters = new MeterCache<>((storageId, repositoryId) -> {
+            return Counter.builder(GROUP_MEMBER_LOOKUPS)
+                          .description("The paths looked up in the members of a group repository")
+                          .tags(TAG_STORAGE, storageId, TAG_REPOSITORY, repositoryId)
+                          .register(meterRegistry);
+        });
+        checksumComputationTimers = new MeterCache<>((storageId, repositoryId) -> {
+            return Timer.builder(CHECKSUM_COMPUTATION)
+                        .description("The time spent computing the checksums of a read artifact")
+                        .tags(TAG_STORAGE, storageId, TAG_REPOSITORY, repositoryId)
+                        .register(meterRegistry);
+        });
+        databaseOperationTimers = new MeterCache<>((service, operation) -> {
+            return Timer.builder(DATABASE_OPERATIONS)
+                        .description("The time spent in the database services")
+                        .tags(TAG_SERVICE, service, TAG_OPERATION, operation)
+                        .register(meterRegistry);
+        });
+        trashPurgedCounters = new MeterCache<>((storageId, repositoryId) -> {
+            return Counter.builder(TRASH_PURGED)
+                          .description("The bytes purged from the trash of a repository by its retention policy")
+                          .baseUnit("bytes")
+                          .tags(TAG_STORAGE, storageId, TAG_REPOSITORY, repositoryId)
+                          .register(meterRegistry);
+        });
+    }
+
+    public MeterRegistry getMeterRegistry()
+    {
+        return meterRegistry;
+    }
+
+    public Timer lockWaitTimer(String storageId,
+                               String repositoryId)
+    {
+        return lockWaitTimers.get(storageId, repositoryId);
+    }
+
+    public Timer remoteFetchTimer(String storageId,
+                                  String repositoryId)
+    {
+        return remoteFetchTimers.get(storageId, repositoryId);
+    }
+
+    public Counter proxyRequestCounter(String storageId,
+                                       String repositoryId,
+                                       boolean hit)
+    {
+        return hit ? proxyHitCounters.get(storageId, repositoryId) : proxyMissCounters.get(storageId, repositoryId);
+    }
+
+    public Counter groupRequestCounter(String storageId,
+                                       String repositoryId)
+    {
+        return groupRequestCounters.get(storageId, repositoryId);
+    }
+
+    public Counter groupMemberLookupCounter(String storageId,
+                                            String repositoryId)
+    {
+        return groupMemberLookupCounters.get(storageId, repositoryId);
+    }
+
+    public Timer checksumComputationTimer(String storageId,
+                                          String repositoryId)
+    {
+        return checksumComputationTimers.get(storageId, repositoryId);
+    }
+
+    public Timer databaseOperationTimer(String service,
+                                        String operation)
+    {
+        return databaseOperationTimers.get(service, operation);
+    }
+
+    public Counter trashPurgedCounter(String storageId,
+                                      String repositoryId)
+    {
+        return trashPurgedCounters.get(storageId, repositoryId);
+    }
+
+    private Counter proxyRequestCounter(String storageId,
+                                        String repositoryId,
+                                        String result)
+    {
+        return Counter.builder(PROXY_REQUESTS)
+                      .description("The paths requested from a proxy repository, by whether they were cached")
+                      .tags(TAG_STORAGE, storageId, TAG_REPOSITORY, repositoryId, TAG_RESULT, result)
+                      .register(meterRegistry);
+    }
+
+    /**
+     * The meters of a name, by the values of their two tags.
+     */
+    private static class MeterCache<T extends Meter>
+    {
+
+        private final ConcurrentMap<String, ConcurrentMap<String, T>> meters = new ConcurrentHashMap<>();
+
+        private final BiFunction<String, String, T> meterFactory;
+
+        MeterCache(BiFunction<String, String, T> meterFactory)
+        {
+            this.meterFactory = meterFactory;
+        }
+
+        T get(String firstTag,
+              String secondTag)
+        {
+            ConcurrentMap<String, T> secondTagMeters = meters.get(firstTag);
+            if (secondTagMeters == null)
+            {
+                secondTagMeters = meters.computeIfAbsent(firstTag, k -> new ConcurrentHashMap<>());
+            }
+
+            T meter = secondTagMeters.get(secondTag);
+            if (meter == null)
+            {
+                meter = secondTagMeters.computeIfAbsent(secondTag, k -> meterFactory.apply(firstTag, k));
+            }
+
+            return meter;
+        }
+
+    }
+
+}
@@ -0,0 +1,68 @@
+package org.carlspring.strongbox.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StrongboxMetricsTest
+{
+
+    private MeterRegistry meterRegistry;
+
+    private StrongboxMetrics strongboxMetrics;
+
+    @BeforeEach
+    public void setUp()
+    {
+        meterRegistry = new SimpleMeterRegistry();
+        strongboxMetrics = new StrongboxMetrics(meterRegistry);
+    }
+
+    @Test
+    public void testMetersAreTaggedWithTheRepository()
+    {
+        strongboxMetrics.lockWaitTimer("storage0", "releases").record(5, TimeUnit.MILLISECONDS);
+        strongboxMetrics.lockWaitTimer("storage0", "snapshots").record(7, TimeUnit.MILLISECONDS);
+
+        Timer releases = meterRegistry.get(StrongboxMetrics.LOCK_WAIT)
+                                      .tag(StrongboxMetrics.TAG_STORAGE, "storage0")
+                                      .tag(StrongboxMetrics.TAG_REPOSITORY, "releases")
+                                      .timer();
+
+        assertThat(releases.count()).isEqualTo(1);
+        assertThat(releases.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(5);
+        assertThat(meterRegistry.get(StrongboxMetrics.LOCK_WAIT).timers()).hasSize(2);
+    }
+
+    @Test
+    public void testMetersAreRegisteredOnce()
+    {
+        assertThat(strongboxMetrics.remoteFetchTimer("storage0", "central")).isSameAs(
+                strongboxMetrics.remoteFetchTimer("storage0", "central"));
+        assertThat(strongboxMetrics.databaseOperationTimer("ArtifactEntryServiceImpl", "save")).isSameAs(
+                strongboxMetrics.databaseOperationTimer("ArtifactEntryServiceImpl", "save"));
+    }
+
+    @Test
+    public void testProxyRequestsAreCountedByResult()
+    {
+        strongboxMetrics.proxyRequestCounter("storage0", "central", true).increment();
+        strongboxMetrics.proxyRequestCounter("storage0", "central", true).increment();
+        strongboxMetrics.proxyRequestCounter("storage0", "central", false).increment();
+
+        assertThat(meterRegistry.get(StrongboxMetrics.PROXY_REQUESTS)
+                                .tag(StrongboxMetrics.TAG_RESULT, "hit")
+                                .counter()
+                                .count()).isEqualTo(2);
+        assertThat(meterRegistry.get(StrongboxMetrics.PROXY_REQUESTS)
+                                .tag(StrongboxMetrics.TAG_RESULT, "miss")
+                                .counter()
+                                .count()).isEqualTo(1);
+    }
+
+}
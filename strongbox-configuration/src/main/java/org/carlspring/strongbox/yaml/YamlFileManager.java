@@ -6,7 +6,11 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFileAttributeView;
 import java.util.Objects;
 
 import org.carlspring.strongbox.util.ServiceLoaderUtils;
@@ -59,10 +63,48 @@ public abstract class YamlFileManager<T>
         }
 
         // Write the content - we know its a file at this point - use resource.getFile to work w/ Windows
-        try (OutputStream os = new BufferedOutputStream(Files.newOutputStream(resource.getFile().toPath())))
+        Path path = resource.getFile().toPath();
+
+        // The content is written next to the file first, so that the readers never see a partially written file.
+        Path tempPath = Files.createTempFile(path.toAbsolutePath().getParent(), path.getFileName().toString(), ".tmp");
+        try
         {
-            yamlMapper.writeValue(os, configuration);
+            try (OutputStream os = new BufferedOutputStream(Files.newOutputStream(tempPath)))
+            {
+                yamlMapper.writeValue(os, configuration);
+            }
+
+            // The temporary file is only readable by its owner, so it gets the permissions of the file it replaces.
+            copyPermissions(path, tempPath);
+
+            try
+            {
+                Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+            catch (AtomicMoveNotSupportedException e)
+            {
+                logger.debug("Atomic move is not supported for [{}], replacing it.", path);
+
+                Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING);
+            }
         }
+        finally
+        {
+            Files.deleteIfExists(tempPath);
+        }
+    }
+
+    private void copyPermissions(Path source,
+                                 Path target)
+            throws IOException
+    {
+        if (!Files.exists(source) ||
+            Files.getFileAttributeView(source, PosixFileAttributeView.class) == null)
+        {
+            return;
+        }
+
+        Files.setPosixFilePermissions(target, Files.getPosixFilePermissions(source));
     }
 
     public synchronized T read() throws IOException
@@ -0,0 +1,119 @@
+package org.carlspring.strongbox.cron.domain;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * The progress of a partitioned cron job execution. It is shared across the cluster while the job is running
+ * and stored on disk by the coordinating node, so that an interrupted execution can be resumed.
+ */
+public class CronJobCheckpoint
+        implements Serializable
+{
+
+    private String jobUuid;
+
+    private List<String> partitions = new ArrayList<>();
+
+    private Set<String> completed = new LinkedHashSet<>();
+
+    private Set<String> failed = new LinkedHashSet<>();
+
+    /**
+     * Partition -> UUID of the cluster member which is processing it.
+     */
+    private Map<String, String> inProgress = new HashMap<>();
+
+    private boolean cancelled;
+
+    public CronJobCheckpoint()
+    {
+    }
+
+    public CronJobCheckpoint(String jobUuid,
+                             List<String> partitions)
+    {
+        this.jobUuid = jobUuid;
+        this.partitions = new ArrayList<>(partitions);
+    }
+
+    public String getJobUuid()
+    {
+        return jobUuid;
+    }
+
+    public void setJobUuid(String jobUuid)
+    {
+        this.jobUuid = jobUuid;
+    }
+
+    public List<String> getPartitions()
+    {
+        return partitions;
+    }
+
+    public void setPartitions(List<String> partitions)
+    {
+        this.partitions = partitions;
+    }
+
+    public Set<String> getCompleted()
+    {
+        return completed;
+    }
+
+    public void setCompleted(Set<String> completed)
+    {
+        this.completed = completed;
+    }
+
+    public Set<String> getFailed()
+    {
+        return failed;
+    }
+
+    public void setFailed(Set<String> failed)
+    {
+        this.failed = failed;
+    }
+
+    public Map<String, String> getInProgress()
+    {
+        return inProgress;
+    }
+
+    public void setInProgress(Map<String, String> inProgress)
+    {
+        this.inProgress = inProgress;
+    }
+
+    public boolean isCancelled()
+    {
+        return cancelled;
+    }
+
+    public void setCancelled(boolean cancelled)
+    {
+        this.cancelled = cancelled;
+    }
+
+    /**
+     * @return the partitions which have not been completed successfully yet (failed partitions are retried).
+     */
+    @JsonIgnore
+    public List<String> getPending()
+    {
+        return partitions.stream()
+                         .filter(p -> !completed.contains(p))
+                         .collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,12 @@
+package org.carlspring.strongbox.cron.jobs;
+
+/**
+ * Allows long running partitions to check whether the cron job has been interrupted and stop early.
+ */
+@FunctionalInterface
+public interface CronJobCancellation
+{
+
+    boolean isCancelled();
+
+}
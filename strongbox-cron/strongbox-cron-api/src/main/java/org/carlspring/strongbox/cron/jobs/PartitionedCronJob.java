@@ -0,0 +1,63 @@
+package org.carlspring.strongbox.cron.jobs;
+
+import org.carlspring.strongbox.cron.domain.CronTaskConfigurationDto;
+import org.carlspring.strongbox.cron.services.CronJobPartitionService;
+
+import javax.inject.Inject;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A cron job which splits its work into independent partitions (for example, one per repository). The partitions
+ * are processed by workers on all of the cluster nodes, the progress is checkpointed, so that an interrupted
+ * execution continues with the remaining partitions, and {@link #interrupt()} cancels the execution cooperatively.
+ */
+public abstract class PartitionedCronJob
+        extends JavaCronJob
+{
+
+    @Inject
+    private CronJobPartitionService cronJobPartitionService;
+
+    private volatile UUID executingJobUuid;
+
+    /**
+     * @return the keys of the partitions of work for this execution; each key must be processable on its own.
+     */
+    public abstract List<String> partition(CronTaskConfigurationDto config)
+            throws Exception;
+
+    /**
+     * Processes a single partition. Implementations should check the cancellation between units of work.
+     */
+    public abstract void executePartition(CronTaskConfigurationDto config,
+                                          String partition,
+                                          CronJobCancellation cancellation)
+            throws Throwable;
+
+    @Override
+    public void executeTask(CronTaskConfigurationDto config)
+            throws Throwable
+    {
+        executingJobUuid = config.getUuid();
+        try
+        {
+            cronJobPartitionService.execute(this, config);
+        }
+        finally
+        {
+            executingJobUuid = null;
+        }
+    }
+
+    @Override
+    public void interrupt()
+    {
+        UUID jobUuid = executingJobUuid;
+        if (jobUuid != null)
+        {
+            cronJobPartitionService.cancel(jobUuid);
+        }
+    }
+
+}
@@ -0,0 +1,30 @@
+package org.carlspring.strongbox.cron.services;
+
+import org.carlspring.strongbox.cron.domain.CronJobCheckpoint;
+import org.carlspring.strongbox.cron.domain.CronTaskConfigurationDto;
+import org.carlspring.strongbox.cron.jobs.PartitionedCronJob;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Distributes the partitions of a {@link PartitionedCronJob} across the cluster and keeps track of their progress.
+ */
+public interface CronJobPartitionService
+{
+
+    /**
+     * Executes the job's partitions and blocks until they have all been processed, or the job has been cancelled.
+     * A checkpoint left over by a previous, unfinished execution is resumed.
+     */
+    void execute(PartitionedCronJob job,
+                 CronTaskConfigurationDto configuration)
+            throws Exception;
+
+    void cancel(UUID jobUuid);
+
+    boolean isCancelled(UUID jobUuid);
+
+    Optional<CronJobCheckpoint> getCheckpoint(UUID jobUuid);
+
+}
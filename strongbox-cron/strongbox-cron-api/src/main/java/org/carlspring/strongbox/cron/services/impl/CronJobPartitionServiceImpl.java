@@ -0,0 +1,481 @@
+package org.carlspring.strongbox.cron.services.impl;
+
+import org.carlspring.strongbox.cron.domain.CronJobCheckpoint;
+import org.carlspring.strongbox.cron.domain.CronTaskConfigurationDto;
+import org.carlspring.strongbox.cron.jobs.PartitionedCronJob;
+import org.carlspring.strongbox.cron.services.CronJobPartitionService;
+
+import javax.inject.Inject;
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.ICountDownLatch;
+import com.hazelcast.core.IMap;
+import com.hazelcast.core.IQueue;
+import com.hazelcast.core.ITopic;
+import com.hazelcast.core.Member;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Hazelcast based implementation of the {@link CronJobPartitionService}.
+ * <p>
+ * The node on which Quartz fires the job acts as the coordinator: it publishes the pending partitions to a
+ * distributed queue and announces the execution on a topic. Every node (including the coordinator) then starts
+ * a bounded number of workers which take partitions off the queue until it is drained. The shared checkpoint
+ * records which partitions are complete and which member is processing which partition, so that partitions of
+ * members which have left the cluster can be requeued.
+ */
+@Component
+public class CronJobPartitionServiceImpl
+        implements CronJobPartitionService, InitializingBean, DisposableBean
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(CronJobPartitionServiceImpl.class);
+
+    private static final String CHECKPOINTS_MAP = "cronJobCheckpoints";
+
+    private static final String ANNOUNCEMENTS_TOPIC = "cronJobPartitionAnnouncements";
+
+    private static final String QUEUE_PREFIX = "cronJobPartitions-";
+
+    private static final String LATCH_PREFIX = "cronJobPartitionsLatch-";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Inject
+    private HazelcastInstance hazelcastInstance;
+
+    @Inject
+    private ApplicationContext applicationContext;
+
+    @Value("${strongbox.cron.partitions.workers:2}")
+    private int workers;
+
+    @Value("${strongbox.cron.partitions.checkpointIntervalSeconds:10}")
+    private int checkpointIntervalSeconds;
+
+    @Value("${strongbox.cron.partitions.checkpointDir:${strongbox.vault}/cron/checkpoints}")
+    private String checkpointDir;
+
+    private ExecutorService workerExecutor;
+
+    private String announcementListenerId;
+
+    @Override
+    public void afterPropertiesSet()
+    {
+        workerExecutor = Executors.newFixedThreadPool(Math.max(1, workers));
+        announcementListenerId = getAnnouncements().addMessageListener(m -> startWorkers(m.getMessageObject()));
+    }
+
+    @Override
+    public void destroy()
+    {
+        if (announcementListenerId != null)
+        {
+            try
+            {
+                getAnnouncements().removeMessageListener(announcementListenerId);
+            }
+            catch (Exception e)
+            {
+                logger.debug("Failed to remove the cron job partitions listener.", e);
+            }
+        }
+
+        workerExecutor.shutdownNow();
+    }
+
+    @Override
+    public void execute(PartitionedCronJob job,
+                        CronTaskConfigurationDto configuration)
+            throws Exception
+    {
+        String jobUuid = configuration.getUuid().toString();
+        IMap<String, CronJobCheckpoint> checkpoints = getCheckpoints();
+
+        CronJobCheckpoint checkpoint = Optional.ofNullable(checkpoints.get(jobUuid))
+                                               .orElseGet(() -> loadCheckpoint(jobUuid));
+        if (checkpoint == null || checkpoint.isCancelled())
+        {
+            checkpoint = new CronJobCheckpoint(jobUuid, job.partition(configuration));
+        }
+        else
+        {
+            logger.info("Resuming cron job [{}]: {} of {} partition(s) already completed.",
+                        configuration.getName(),
+                        checkpoint.getCompleted().size(),
+                        checkpoint.getPartitions().size());
+        }
+
+        checkpoint.getInProgress().clear();
+        checkpoint.getFailed().clear();
+
+        List<String> pending = checkpoint.getPending();
+        if (pending.isEmpty())
+        {
+            finish(configuration);
+
+            return;
+        }
+
+        checkpoints.put(jobUuid, checkpoint);
+        storeCheckpoint(checkpoint);
+
+        ICountDownLatch latch = hazelcastInstance.getCountDownLatch(LATCH_PREFIX + jobUuid);
+        if (!latch.trySetCount(pending.size()))
+        {
+            // A latch left over by a coordinator which died during a previous execution.
+            latch.destroy();
+            latch = hazelcastInstance.getCountDownLatch(LATCH_PREFIX + jobUuid);
+            latch.trySetCount(pending.size());
+        }
+
+        IQueue<String> queue = getQueue(jobUuid);
+        queue.clear();
+        queue.addAll(pending);
+
+        PartitionAnnouncement announcement = new PartitionAnnouncement(configuration, job.getClass().getName());
+        getAnnouncements().publish(announcement);
+
+        logger.info("Cron job [{}] distributed {} partition(s) across {} member(s).",
+                    configuration.getName(),
+                    pending.size(),
+                    hazelcastInstance.getCluster().getMembers().size());
+
+        try
+        {
+            while (!latch.await(checkpointIntervalSeconds, TimeUnit.SECONDS))
+            {
+                CronJobCheckpoint current = checkpoints.get(jobUuid);
+                if (current == null || current.isCancelled())
+                {
+                    break;
+                }
+
+                if (requeueOrphanedPartitions(jobUuid, queue))
+                {
+                    getAnnouncements().publish(announcement);
+                }
+
+                storeCheckpoint(checkpoints.get(jobUuid));
+            }
+        }
+        finally
+        {
+            queue.destroy();
+            latch.destroy();
+        }
+
+        CronJobCheckpoint result = checkpoints.get(jobUuid);
+        if (result != null && result.isCancelled())
+        {
+            logger.info("Cron job [{}] was cancelled after {} of {} partition(s).",
+                        configuration.getName(),
+                        result.getCompleted().size(),
+                        result.getPartitions().size());
+        }
+        else if (result != null && !result.getFailed().isEmpty())
+        {
+            // Keep the checkpoint, so that the next execution only retries the failed partitions.
+            storeCheckpoint(result);
+            checkpoints.remove(jobUuid);
+
+            logger.warn("Cron job [{}] failed to process partition(s) {}.", configuration.getName(), result.getFailed());
+
+            return;
+        }
+
+        finish(configuration);
+    }
+
+    @Override
+    public void cancel(UUID jobUuid)
+    {
+        updateCheckpoint(jobUuid.toString(), c -> c.setCancelled(true));
+    }
+
+    @Override
+    public boolean isCancelled(UUID jobUuid)
+    {
+        return isCancelled(jobUuid.toString());
+    }
+
+    @Override
+    public Optional<CronJobCheckpoint> getCheckpoint(UUID jobUuid)
+    {
+        return Optional.ofNullable(getCheckpoints().get(jobUuid.toString()));
+    }
+
+    private boolean isCancelled(String jobUuid)
+    {
+        CronJobCheckpoint checkpoint = getCheckpoints().get(jobUuid);
+
+        return checkpoint == null || checkpoint.isCancelled();
+    }
+
+    private void finish(CronTaskConfigurationDto configuration)
+            throws IOException
+    {
+        String jobUuid = configuration.getUuid().toString();
+
+        getCheckpoints().remove(jobUuid);
+        Files.deleteIfExists(getCheckpointPath(jobUuid));
+    }
+
+    private void startWorkers(PartitionAnnouncement announcement)
+    {
+        PartitionedCronJob job;
+        try
+        {
+            Class<?> jobClass = ClassUtils.forName(announcement.getJobClass(), applicationContext.getClassLoader());
+            job = (PartitionedCronJob) applicationContext.getAutowireCapableBeanFactory().createBean(jobClass);
+        }
+        catch (Exception e)
+        {
+            logger.error("Failed to create cron job [{}] for processing partitions.", announcement.getJobClass(), e);
+
+            return;
+        }
+
+        for (int i = 0; i < workers; i++)
+        {
+            workerExecutor.execute(() -> processPartitions(job, announcement.getConfiguration()));
+        }
+    }
+
+    private void processPartitions(PartitionedCronJob job,
+                                   CronTaskConfigurationDto configuration)
+    {
+        String jobUuid = configuration.getUuid().toString();
+        String memberUuid = hazelcastInstance.getCluster().getLocalMember().getUuid();
+
+        while (!Thread.currentThread().isInterrupted() && !isCancelled(jobUuid))
+        {
+            String partition;
+            try
+            {
+                partition = getQueue(jobUuid).poll(1, TimeUnit.SECONDS);
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+
+                return;
+            }
+            catch (Exception e)
+            {
+                // The queue has been destroyed by the coordinator.
+                logger.debug("Stopped polling partitions of cron job [{}].", configuration.getName(), e);
+
+                return;
+            }
+
+            if (partition == null)
+            {
+                return;
+            }
+
+            updateCheckpoint(jobUuid, c -> c.getInProgress().put(partition, memberUuid));
+
+            boolean succeeded = false;
+            try
+            {
+                job.executePartition(configuration, partition, () -> isCancelled(jobUuid));
+                succeeded = true;
+            }
+            catch (Throwable e)
+            {
+                logger.error("Failed to process partition [{}] of cron job [{}].", partition, configuration.getName(), e);
+            }
+
+            boolean completed = succeeded && !isCancelled(jobUuid);
+            if (updateCheckpoint(jobUuid, c -> {
+                c.getInProgress().remove(partition);
+                if (completed)
+                {
+                    c.getCompleted().add(partition);
+                }
+                else if (!c.isCancelled())
+                {
+                    c.getFailed().add(partition);
+                }
+            }))
+            {
+                hazelcastInstance.getCountDownLatch(LATCH_PREFIX + jobUuid).countDown();
+            }
+        }
+    }
+
+    private boolean requeueOrphanedPartitions(String jobUuid,
+                                              IQueue<String> queue)
+    {
+        Set<String> members = hazelcastInstance.getCluster()
+                                               .getMembers()
+                                               .stream()
+                                               .map(Member::getUuid)
+                                               .collect(Collectors.toSet());
+
+        boolean[] requeued = { false };
+        updateCheckpoint(jobUuid, c -> {
+            for (Iterator<Map.Entry<String, String>> it = c.getInProgress().entrySet().iterator(); it.hasNext(); )
+            {
+                Map.Entry<String, String> entry = it.next();
+                if (!members.contains(entry.getValue()))
+                {
+                    logger.info("Requeueing partition [{}] of a member which has left the cluster.", entry.getKey());
+
+                    queue.offer(entry.getKey());
+                    it.remove();
+                    requeued[0] = true;
+                }
+            }
+        });
+
+        return requeued[0];
+    }
+
+    /**
+     * Applies the update under the cluster-wide lock of the checkpoint.
+     *
+     * @return false, if there is no such checkpoint
+     */
+    private boolean updateCheckpoint(String jobUuid,
+                                     Consumer<CronJobCheckpoint> update)
+    {
+        IMap<String, CronJobCheckpoint> checkpoints = getCheckpoints();
+
+        checkpoints.lock(jobUuid);
+        try
+        {
+            CronJobCheckpoint checkpoint = checkpoints.get(jobUuid);
+            if (checkpoint == null)
+            {
+                return false;
+            }
+
+            update.accept(checkpoint);
+            checkpoints.put(jobUuid, checkpoint);
+
+            return true;
+        }
+        finally
+        {
+            checkpoints.unlock(jobUuid);
+        }
+    }
+
+    private CronJobCheckpoint loadCheckpoint(String jobUuid)
+    {
+        Path path = getCheckpointPath(jobUuid);
+        if (!Files.exists(path))
+        {
+            return null;
+        }
+
+        try
+        {
+            return objectMapper.readValue(path.toFile(), CronJobCheckpoint.class);
+        }
+        catch (IOException e)
+        {
+            logger.warn("Failed to read the checkpoint [{}], starting over.", path, e);
+
+            return null;
+        }
+    }
+
+    private void storeCheckpoint(CronJobCheckpoint checkpoint)
+    {
+        if (checkpoint == null)
+        {
+            return;
+        }
+
+        Path path = getCheckpointPath(checkpoint.getJobUuid());
+        try
+        {
+            Files.createDirectories(path.getParent());
+
+            Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+            objectMapper.writeValue(tmp.toFile(), checkpoint);
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (IOException e)
+        {
+            logger.warn("Failed to store the checkpoint [{}].", path, e);
+        }
+    }
+
+    private Path getCheckpointPath(String jobUuid)
+    {
+        return Paths.get(checkpointDir, jobUuid + ".json");
+    }
+
+    private IMap<String, CronJobCheckpoint> getCheckpoints()
+    {
+        return hazelcastInstance.getMap(CHECKPOINTS_MAP);
+    }
+
+    private IQueue<String> getQueue(String jobUuid)
+    {
+        return hazelcastInstance.getQueue(QUEUE_PREFIX + jobUuid);
+    }
+
+    private ITopic<PartitionAnnouncement> getAnnouncements()
+    {
+        return hazelcastInstance.getTopic(ANNOUNCEMENTS_TOPIC);
+    }
+
+    static class PartitionAnnouncement
+            implements Serializable
+    {
+
+        private final CronTaskConfigurationDto configuration;
+
+        private final String jobClass;
+
+        PartitionAnnouncement(CronTaskConfigurationDto configuration,
+                              String jobClass)
+        {
+            this.configuration = configuration;
+            this.jobClass = jobClass;
+        }
+
+        CronTaskConfigurationDto getConfiguration()
+        {
+            return configuration;
+        }
+
+        String getJobClass()
+        {
+            return jobClass;
+        }
+
+    }
+
+}
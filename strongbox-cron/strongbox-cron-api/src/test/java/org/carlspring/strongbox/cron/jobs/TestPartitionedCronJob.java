@@ -0,0 +1,36 @@
+package org.carlspring.strongbox.cron.jobs;
+
+import org.carlspring.strongbox.cron.domain.CronTaskConfigurationDto;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+public class TestPartitionedCronJob
+        extends PartitionedCronJob
+{
+
+    public static final Queue<String> PROCESSED_PARTITIONS = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public List<String> partition(CronTaskConfigurationDto config)
+    {
+        return Arrays.asList("storage0:releases", "storage0:snapshots", "storage1:releases");
+    }
+
+    @Override
+    public void executePartition(CronTaskConfigurationDto config,
+                                 String partition,
+                                 CronJobCancellation cancellation)
+    {
+        PROCESSED_PARTITIONS.add(partition);
+    }
+
+    @Override
+    public CronJobDefinition getCronJobDefinition()
+    {
+        return CronJobDefinition.newBuilder().jobClass(TestPartitionedCronJob.class.getName()).build();
+    }
+
+}
@@ -0,0 +1,79 @@
+package org.carlspring.strongbox.cron.services.impl;
+
+import org.carlspring.strongbox.cron.CronApiTestConfig;
+import org.carlspring.strongbox.cron.domain.CronJobCheckpoint;
+import org.carlspring.strongbox.cron.domain.CronTaskConfigurationDto;
+import org.carlspring.strongbox.cron.jobs.TestPartitionedCronJob;
+import org.carlspring.strongbox.cron.services.CronJobPartitionService;
+
+import javax.inject.Inject;
+import java.util.UUID;
+
+import com.hazelcast.core.HazelcastInstance;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles(profiles = "test")
+@CronApiTestConfig
+class CronJobPartitionServiceImplTest
+{
+
+    @Inject
+    private CronJobPartitionService cronJobPartitionService;
+
+    @Inject
+    private HazelcastInstance hazelcastInstance;
+
+    @BeforeEach
+    void setUp()
+    {
+        TestPartitionedCronJob.PROCESSED_PARTITIONS.clear();
+    }
+
+    @Test
+    void shouldProcessAllPartitions()
+            throws Exception
+    {
+        CronTaskConfigurationDto configuration = newConfiguration();
+
+        cronJobPartitionService.execute(new TestPartitionedCronJob(), configuration);
+
+        assertThat(TestPartitionedCronJob.PROCESSED_PARTITIONS).containsExactlyInAnyOrder("storage0:releases",
+                                                                                          "storage0:snapshots",
+                                                                                          "storage1:releases");
+        assertThat(cronJobPartitionService.getCheckpoint(configuration.getUuid())).isEmpty();
+    }
+
+    @Test
+    void shouldResumeFromCheckpoint()
+            throws Exception
+    {
+        CronTaskConfigurationDto configuration = newConfiguration();
+        TestPartitionedCronJob job = new TestPartitionedCronJob();
+
+        CronJobCheckpoint checkpoint = new CronJobCheckpoint(configuration.getUuid().toString(),
+                                                             job.partition(configuration));
+        checkpoint.getCompleted().add("storage0:releases");
+        hazelcastInstance.getMap("cronJobCheckpoints").put(checkpoint.getJobUuid(), checkpoint);
+
+        cronJobPartitionService.execute(job, configuration);
+
+        assertThat(TestPartitionedCronJob.PROCESSED_PARTITIONS).containsExactlyInAnyOrder("storage0:snapshots",
+                                                                                          "storage1:releases");
+    }
+
+    private CronTaskConfigurationDto newConfiguration()
+    {
+        CronTaskConfigurationDto configuration = new CronTaskConfigurationDto();
+        configuration.setUuid(UUID.randomUUID());
+        configuration.setName("partitioned-" + configuration.getUuid());
+        configuration.setJobClass(TestPartitionedCronJob.class.getName());
+
+        return configuration;
+    }
+
+}
@@ -0,0 +1,46 @@
+package org.carlspring.strongbox.cron.jobs;
+
+import org.carlspring.strongbox.cron.domain.CronTaskConfigurationDto;
+import org.carlspring.strongbox.services.BlobStoreService;
+
+import javax.inject.Inject;
+
+import com.google.common.collect.ImmutableSet;
+import org.springframework.core.env.Environment;
+
+/**
+ * Deletes the blobs, which aren't referenced by any repository anymore.
+ */
+public class CollectBlobGarbageCronJob
+        extends JavaCronJob
+{
+
+    @Inject
+    private BlobStoreService blobStoreService;
+
+    @Override
+    public void executeTask(CronTaskConfigurationDto config)
+            throws Throwable
+    {
+        blobStoreService.collectGarbage();
+    }
+
+    @Override
+    public boolean enabled(CronTaskConfigurationDto configuration,
+                           Environment env)
+    {
+        return super.enabled(configuration, env) && blobStoreService.isEnabled();
+    }
+
+    @Override
+    public CronJobDefinition getCronJobDefinition()
+    {
+        return CronJobDefinition.newBuilder()
+                                .jobClass(CollectBlobGarbageCronJob.class.getName())
+                                .name("Collect Blob Garbage Cron Job")
+                                .description("Collect Blob Garbage Cron Job")
+                                .fields(ImmutableSet.of())
+                                .build();
+    }
+
+}
@@ -8,9 +8,11 @@ import org.carlspring.strongbox.storage.Storage;
 import org.carlspring.strongbox.storage.repository.Repository;
 
 import javax.inject.Inject;
-import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import com.google.common.collect.ImmutableSet;
 
@@ -18,7 +20,7 @@ import com.google.common.collect.ImmutableSet;
  * @author Kate Novik.
  */
 public class RegenerateChecksumCronJob
-        extends JavaCronJob
+        extends PartitionedCronJob
 {
 
     private static final String PROPERTY_STORAGE_ID = "storageId";
@@ -29,6 +31,8 @@ public class RegenerateChecksumCronJob
 
     private static final String PROPERTY_FORCE_REGENERATION = "forceRegeneration";
 
+    private static final String PARTITION_SEPARATOR = ":";
+
     private static final Set<CronJobField> FIELDS = ImmutableSet.of(
             new CronJobStorageIdAutocompleteField(new CronJobStringTypeField(
                     new CronJobOptionalField(new CronJobNamedField(PROPERTY_STORAGE_ID)))),
@@ -46,12 +50,39 @@ public class RegenerateChecksumCronJob
     private ConfigurationManager configurationManager;
 
     @Override
-    public void executeTask(CronTaskConfigurationDto config)
-            throws Throwable
+    public List<String> partition(CronTaskConfigurationDto config)
     {
         String storageId = config.getProperty(PROPERTY_STORAGE_ID);
         String repositoryId = config.getProperty(PROPERTY_REPOSITORY_ID);
-        String basePath = config.getProperty(PROPERTY_BASE_PATH);
+
+        if (storageId == null)
+        {
+            return getStorages().keySet()
+                                .stream()
+                                .flatMap(storage -> getRepositoryPartitions(storage).stream())
+                                .collect(Collectors.toList());
+        }
+        else if (repositoryId == null)
+        {
+            return getRepositoryPartitions(storageId);
+        }
+
+        return Collections.singletonList(storageId + PARTITION_SEPARATOR + repositoryId);
+    }
+
+    @Override
+    public void executePartition(CronTaskConfigurationDto config,
+                                 String partition,
+                                 CronJobCancellation cancellation)
+            throws Throwable
+    {
+        String[] ids = partition.split(PARTITION_SEPARATOR, 2);
+
+        /**
+         * The base path only makes sense when a single repository has been selected.
+         */
+        String basePath = config.getProperty(PROPERTY_REPOSITORY_ID) != null ?
+                          config.getProperty(PROPERTY_BASE_PATH) : null;
 
         /**
          * The values of forceRegeneration are:
@@ -60,22 +91,7 @@ public class RegenerateChecksumCronJob
          */
         boolean forceRegeneration = Boolean.valueOf(config.getProperty(PROPERTY_FORCE_REGENERATION));
 
-        if (storageId == null)
-        {
-            Map<String, Storage> storages = getStorages();
-            for (String storage : storages.keySet())
-            {
-                regenerateRepositoriesChecksum(storage, forceRegeneration);
-            }
-        }
-        else if (repositoryId == null)
-        {
-            regenerateRepositoriesChecksum(storageId, forceRegeneration);
-        }
-        else
-        {
-            checksumService.regenerateChecksum(storageId, repositoryId, basePath, forceRegeneration);
-        }
+        checksumService.regenerateChecksum(ids[0], ids[1], basePath, forceRegeneration, cancellation::isCancelled);
     }
 
     @Override
@@ -89,24 +105,12 @@ public class RegenerateChecksumCronJob
                                 .build();
     }
 
-    /**
-     * To regenerate artifact's checksum in repositories
-     *
-     * @param storageId         path of storage
-     * @param forceRegeneration true - to re-write existing checksum and to regenerate missing checksum,
-     *                          false - to regenerate missing checksum only
-     * @throws IOException
-     */
-    private void regenerateRepositoriesChecksum(String storageId,
-                                                boolean forceRegeneration)
-            throws IOException
+    private List<String> getRepositoryPartitions(String storageId)
     {
-        Map<String, ? extends Repository> repositories = getRepositories(storageId);
-
-        for (String repositoryId : repositories.keySet())
-        {
-            checksumService.regenerateChecksum(storageId, repositoryId, null, forceRegeneration);
-        }
+        return getRepositories(storageId).keySet()
+                                         .stream()
+                                         .map(repositoryId -> storageId + PARTITION_SEPARATOR + repositoryId)
+                                         .collect(Collectors.toList());
     }
 
     private Map<String, Storage> getStorages()
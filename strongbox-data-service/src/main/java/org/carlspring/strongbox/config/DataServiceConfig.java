@@ -45,6 +45,7 @@ import liquibase.integration.spring.SpringLiquibase;
 @EnableAspectJAutoProxy(proxyTargetClass = true)
 @ComponentScan({ "org.carlspring.strongbox.data" })
 @Import({ OrientDbConfig.class,
+          MetricsConfig.class,
           HazelcastConfiguration.class })
 @EnableCaching(order = 105)
 public class DataServiceConfig
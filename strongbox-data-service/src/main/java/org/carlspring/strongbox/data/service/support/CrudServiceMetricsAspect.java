@@ -0,0 +1,67 @@
+package org.carlspring.strongbox.data.service.support;
+
+import org.carlspring.strongbox.config.DataServiceConfig;
+import org.carlspring.strongbox.metrics.StrongboxMetrics;
+
+import javax.inject.Inject;
+import java.util.concurrent.TimeUnit;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times the invocations of the {@link org.carlspring.strongbox.data.service.CommonCrudService} implementations.
+ * <p>
+ * Only the outermost invocation of a thread is recorded, so that the services calling each other aren't counted
+ * twice. The order puts this aspect before the transaction interceptor, so the time of the commit is included.
+ */
+@Aspect
+@Component
+@Order(CrudServiceMetricsAspect.ORDER)
+public class CrudServiceMetricsAspect
+{
+
+    public static final int ORDER = DataServiceConfig.TRANSACTIONAL_INTERCEPTOR_ORDER - 10;
+
+    private static final ThreadLocal<int[]> DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Inject
+    private StrongboxMetrics strongboxMetrics;
+
+    @Around("execution(public * org.carlspring.strongbox.data.service.CommonCrudService+.*(..))")
+    public Object time(ProceedingJoinPoint jp)
+        throws Throwable
+    {
+        int[] depth = DEPTH.get();
+        if (depth[0]++ > 0)
+        {
+            try
+            {
+                return jp.proceed();
+            }
+            finally
+            {
+                depth[0]--;
+            }
+        }
+
+        long start = System.nanoTime();
+        try
+        {
+            return jp.proceed();
+        }
+        finally
+        {
+            depth[0]--;
+
+            String service = AopUtils.getTargetClass(jp.getTarget()).getSimpleName();
+            strongboxMetrics.databaseOperationTimer(service, jp.getSignature().getName())
+                            .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+}
@@ -2,23 +2,53 @@ package org.carlspring.strongbox.config;
 
 import javax.servlet.ServletContext;
 
+import org.carlspring.strongbox.event.EventBus;
 import org.carlspring.strongbox.event.EventExecutorFactoryBean;
+import org.carlspring.strongbox.event.EventListenerPolicy;
+import org.carlspring.strongbox.event.OverflowPolicy;
+import org.carlspring.strongbox.metrics.StrongboxMetrics;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
 import org.springframework.scheduling.annotation.EnableAsync;
 
 @Configuration
 @ComponentScan({ "org.carlspring.strongbox.event" })
 @EnableAsync
+@Import(MetricsConfig.class)
 public class EventsConfig
 {
 
     @Bean
-    public EventExecutorFactoryBean eventTaskExecutor(@Autowired(required = false) ServletContext servletContext)
+    public EventExecutorFactoryBean eventTaskExecutor(@Autowired(required = false) ServletContext servletContext,
+                                                      StrongboxMetrics strongboxMetrics)
     {
-        return new EventExecutorFactoryBean(servletContext);
+        return new EventExecutorFactoryBean(servletContext, strongboxMetrics);
+    }
+
+    /**
+     * Unless the mode is set to {@code sync} or {@code async}, the events are handled asynchronously only within
+     * Jetty, the same as by the {@link #eventTaskExecutor}.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public EventBus eventBus(@Autowired(required = false) ServletContext servletContext,
+                             StrongboxMetrics strongboxMetrics,
+                             @Value("${strongbox.events.mode:auto}") String mode,
+                             @Value("${strongbox.events.queue.capacity:10000}") int capacity,
+                             @Value("${strongbox.events.queue.workers:2}") int workers,
+                             @Value("${strongbox.events.queue.blockTimeoutMillis:30000}") long blockTimeoutMillis)
+    {
+        boolean synchronous = "auto".equals(mode) ?
+                              !EventExecutorFactoryBean.isJetty(servletContext) :
+                              "sync".equals(mode);
+
+        return new EventBus(strongboxMetrics,
+                            synchronous,
+                            new EventListenerPolicy(capacity, workers, OverflowPolicy.BLOCK),
+                            blockTimeoutMillis);
     }
 
 }
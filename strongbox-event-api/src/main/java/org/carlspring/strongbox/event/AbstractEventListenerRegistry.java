@@ -5,6 +5,9 @@ import javax.inject.Inject;
 import org.springframework.context.ApplicationEventPublisher;
 
 /**
+ * Dispatches the events to the synchronous listeners of the application context, and to the
+ * {@link AsyncEventListener}s of the {@link EventBus}.
+ *
  * @author carlspring
  */
 public abstract class AbstractEventListenerRegistry
@@ -13,9 +16,13 @@ public abstract class AbstractEventListenerRegistry
     @Inject
     private ApplicationEventPublisher eventPublisher;
 
+    @Inject
+    private EventBus eventBus;
+
     public <T extends Event> void dispatchEvent(T event)
     {
         eventPublisher.publishEvent(event);
+        eventBus.publish(event);
     }
 
 }
@@ -6,17 +6,28 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
-import org.springframework.scheduling.annotation.Async;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
-
+/**
+ * Subscribes a method to the {@link EventBus}. The method has a single parameter, whose type is the type of the
+ * handled events. The events are handled after the transaction, in which they have been published, has been committed.
+ *
+ * @see AsyncEventListenerMethodProcessor
+ */
 @Target({ ElementType.METHOD, ElementType.ANNOTATION_TYPE })
 @Retention(RetentionPolicy.RUNTIME)
 @Documented
-// TransactionalEventListener.fallbackExecution() needed only for test environment
-@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
-@Async("eventTaskExecutor")
 public @interface AsyncEventListener
 {
 
+    /**
+     * @return the capacity of the queue of the listener, or zero for {@code strongbox.events.queue.capacity}
+     */
+    int capacity() default 0;
+
+    /**
+     * @return the number of threads handling the events, or zero for {@code strongbox.events.queue.workers}
+     */
+    int workers() default 0;
+
+    OverflowPolicy overflow() default OverflowPolicy.BLOCK;
+
 }
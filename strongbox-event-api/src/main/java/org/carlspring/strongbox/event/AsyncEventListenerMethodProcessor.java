@@ -0,0 +1,105 @@
+package org.carlspring.strongbox.event;
+
+import javax.inject.Inject;
+import java.lang.reflect.Method;
+import java.util.Map;
+
+import org.springframework.aop.scope.ScopedProxyUtils;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Subscribes the {@link AsyncEventListener} methods of the singleton beans to the {@link EventBus}, once all of them
+ * have been created.
+ */
+@Component
+public class AsyncEventListenerMethodProcessor
+        implements SmartInitializingSingleton, ApplicationContextAware
+{
+
+    @Inject
+    private EventBus eventBus;
+
+    private ApplicationContext applicationContext;
+
+    @Override
+    public void setApplicationContext(ApplicationContext applicationContext)
+            throws BeansException
+    {
+        this.applicationContext = applicationContext;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated()
+    {
+        for (String beanName : applicationContext.getBeanNamesForType(Object.class, false, false))
+        {
+            if (ScopedProxyUtils.isScopedTarget(beanName))
+            {
+                continue;
+            }
+
+            Class<?> beanType = applicationContext.getType(beanName);
+            if (beanType == null)
+            {
+                continue;
+            }
+
+            Map<Method, AsyncEventListener> methods = MethodIntrospector.selectMethods(
+                    ClassUtils.getUserClass(beanType),
+                    (MethodIntrospector.MetadataLookup<AsyncEventListener>) m -> AnnotatedElementUtils.findMergedAnnotation(
+                            m,
+                            AsyncEventListener.class));
+            if (methods.isEmpty())
+            {
+                continue;
+            }
+
+            Object bean = applicationContext.getBean(beanName);
+            methods.forEach((method, annotation) -> subscribe(beanName, bean, method, annotation));
+        }
+    }
+
+    private void subscribe(String beanName,
+                           Object bean,
+                           Method method,
+                           AsyncEventListener annotation)
+    {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        if (parameterTypes.length != 1 || !Event.class.isAssignableFrom(parameterTypes[0]))
+        {
+            throw new IllegalStateException(String.format("Method [%s] must have a single %s parameter.",
+                                                           method,
+                                                           Event.class.getSimpleName()));
+        }
+
+        EventListenerPolicy policy = eventBus.getDefaultPolicy().withOverflow(annotation.overflow());
+        if (annotation.capacity() > 0)
+        {
+            policy = policy.withCapacity(annotation.capacity());
+        }
+        if (annotation.workers() > 0)
+        {
+            policy = policy.withWorkers(annotation.workers());
+        }
+
+        Method invocableMethod = AopUtils.selectInvocableMethod(method, bean.getClass());
+        ReflectionUtils.makeAccessible(invocableMethod);
+
+        @SuppressWarnings("unchecked")
+        Class<Event> eventType = (Class<Event>) parameterTypes[0];
+        eventBus.subscribe(beanName + "." + method.getName(),
+                           eventType,
+                           event -> ReflectionUtils.invokeMethod(invocableMethod, bean, event),
+                           policy);
+    }
+
+}
@@ -19,4 +19,13 @@ public class Event extends ApplicationEvent
         return (int) getSource();
     }
 
+    /**
+     * @return the key of the events, which may be coalesced by the {@link EventBus}, because handling the last of
+     *         them has the same effect as handling all of them
+     */
+    public Object getCoalescingKey()
+    {
+        return getType();
+    }
+
 }
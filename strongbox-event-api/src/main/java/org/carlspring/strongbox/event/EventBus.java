@@ -0,0 +1,134 @@
+package org.carlspring.strongbox.event;
+
+import org.carlspring.strongbox.metrics.StrongboxMetrics;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Delivers the events to the listeners, which have subscribed to their type. Each listener has its own bounded queue
+ * and workers, so that a slow listener can't delay the others.
+ * <p>
+ * The events, which are published within a transaction, are delivered after it has been committed, and discarded if
+ * it has been rolled back. In the synchronous mode, the listeners are invoked by the publishing thread, which keeps
+ * the tests deterministic.
+ */
+public class EventBus
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(EventBus.class);
+
+    private final List<EventSubscription<?>> subscriptions = new CopyOnWriteArrayList<>();
+
+    private final StrongboxMetrics strongboxMetrics;
+
+    private final boolean synchronous;
+
+    private final EventListenerPolicy defaultPolicy;
+
+    private final long blockTimeoutMillis;
+
+    public EventBus(StrongboxMetrics strongboxMetrics,
+                    boolean synchronous,
+                    EventListenerPolicy defaultPolicy,
+                    long blockTimeoutMillis)
+    {
+        this.strongboxMetrics = strongboxMetrics;
+        this.synchronous = synchronous;
+        this.defaultPolicy = defaultPolicy;
+        this.blockTimeoutMillis = blockTimeoutMillis;
+
+        logger.info("Using {} event bus with {}.", synchronous ? "synchronous" : "asynchronous", defaultPolicy);
+    }
+
+    public boolean isSynchronous()
+    {
+        return synchronous;
+    }
+
+    public EventListenerPolicy getDefaultPolicy()
+    {
+        return defaultPolicy;
+    }
+
+    public List<EventSubscription<?>> getSubscriptions()
+    {
+        return subscriptions;
+    }
+
+    public <E extends Event> EventSubscription<E> subscribe(String name,
+                                                            Class<E> eventType,
+                                                            Consumer<? super E> handler)
+    {
+        return subscribe(name, eventType, handler, defaultPolicy);
+    }
+
+    public <E extends Event> EventSubscription<E> subscribe(String name,
+                                                            Class<E> eventType,
+                                                            Consumer<? super E> handler,
+                                                            EventListenerPolicy policy)
+    {
+        EventSubscription<E> subscription = new EventSubscription<>(name,
+                                                                    eventType,
+                                                                    handler,
+                                                                    policy,
+                                                                    synchronous,
+                                                                    blockTimeoutMillis,
+                                                                    strongboxMetrics);
+        subscription.start();
+        subscriptions.add(subscription);
+
+        logger.debug("Subscribed [{}].", subscription);
+
+        return subscription;
+    }
+
+    public void unsubscribe(EventSubscription<?> subscription)
+    {
+        subscriptions.remove(subscription);
+        subscription.cancel();
+    }
+
+    public void publish(Event event)
+    {
+        if (TransactionSynchronizationManager.isSynchronizationActive())
+        {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter()
+            {
+                @Override
+                public void afterCommit()
+                {
+                    deliver(event);
+                }
+            });
+
+            return;
+        }
+
+        deliver(event);
+    }
+
+    private void deliver(Event event)
+    {
+        for (EventSubscription<?> subscription : subscriptions)
+        {
+            if (subscription.accepts(event))
+            {
+                subscription.offer(event);
+            }
+        }
+    }
+
+    public void shutdown()
+    {
+        subscriptions.forEach(EventSubscription::cancel);
+        subscriptions.clear();
+    }
+
+}
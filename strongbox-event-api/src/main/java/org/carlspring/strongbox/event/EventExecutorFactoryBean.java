@@ -1,5 +1,8 @@
 package org.carlspring.strongbox.event;
 
+import org.carlspring.strongbox.metrics.StrongboxMetrics;
+
+import io.micrometer.core.instrument.Gauge;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.FactoryBean;
@@ -14,12 +17,18 @@ public class EventExecutorFactoryBean implements FactoryBean<Executor>
 
     private static final Logger logger = LoggerFactory.getLogger(EventExecutorFactoryBean.class);
 
+    private static final String JETTY_EXECUTOR = "org.eclipse.jetty.server.Executor";
+
     private final ServletContext servletContext;
 
-    public EventExecutorFactoryBean(ServletContext servletContext)
+    private final StrongboxMetrics strongboxMetrics;
+
+    public EventExecutorFactoryBean(ServletContext servletContext,
+                                    StrongboxMetrics strongboxMetrics)
     {
         super();
         this.servletContext = servletContext;
+        this.strongboxMetrics = strongboxMetrics;
     }
 
     @Override
@@ -31,8 +40,13 @@ public class EventExecutorFactoryBean implements FactoryBean<Executor>
                                     .orElse(new SyncTaskExecutor());
         
         logger.info("Using [{}] executor for Async events.", executor.getClass());
-        
-        return executor;
+
+        MeteredExecutor result = new MeteredExecutor(executor);
+        Gauge.builder(StrongboxMetrics.EVENTS_PENDING, result, MeteredExecutor::getPending)
+             .description("The events which are waiting to be handled asynchronously")
+             .register(strongboxMetrics.getMeterRegistry());
+
+        return result;
     }
 
     private Executor lookupExecutor()
@@ -45,9 +59,14 @@ public class EventExecutorFactoryBean implements FactoryBean<Executor>
         return null;
     }
 
+    public static boolean isJetty(ServletContext servletContext)
+    {
+        return servletContext != null && servletContext.getAttribute(JETTY_EXECUTOR) != null;
+    }
+
     private Executor lookupJettyExecutor()
     {
-        Executor executor = (Executor) servletContext.getAttribute("org.eclipse.jetty.server.Executor");
+        Executor executor = (Executor) servletContext.getAttribute(JETTY_EXECUTOR);
         if (executor == null)
         {
             return null;
@@ -0,0 +1,80 @@
+package org.carlspring.strongbox.event;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * How the events of a listener of the {@link EventBus} are queued and handled.
+ */
+@Immutable
+public class EventListenerPolicy
+{
+
+    private final int capacity;
+
+    private final int workers;
+
+    private final OverflowPolicy overflow;
+
+    public EventListenerPolicy(int capacity,
+                               int workers,
+                               OverflowPolicy overflow)
+    {
+        if (capacity < 1 || workers < 1)
+        {
+            throw new IllegalArgumentException(String.format("Invalid capacity [%s] or workers [%s].",
+                                                             capacity,
+                                                             workers));
+        }
+
+        this.capacity = capacity;
+        this.workers = workers;
+        this.overflow = overflow;
+    }
+
+    /**
+     * @return the maximum number of events, which are waiting to be handled
+     */
+    public int getCapacity()
+    {
+        return capacity;
+    }
+
+    /**
+     * @return the number of threads, which handle the events concurrently
+     */
+    public int getWorkers()
+    {
+        return workers;
+    }
+
+    public OverflowPolicy getOverflow()
+    {
+        return overflow;
+    }
+
+    public EventListenerPolicy withCapacity(int capacity)
+    {
+        return new EventListenerPolicy(capacity, workers, overflow);
+    }
+
+    public EventListenerPolicy withWorkers(int workers)
+    {
+        return new EventListenerPolicy(capacity, workers, overflow);
+    }
+
+    public EventListenerPolicy withOverflow(OverflowPolicy overflow)
+    {
+        return new EventListenerPolicy(capacity, workers, overflow);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "EventListenerPolicy{" +
+               "capacity=" + capacity +
+               ", workers=" + workers +
+               ", overflow=" + overflow +
+               '}';
+    }
+
+}
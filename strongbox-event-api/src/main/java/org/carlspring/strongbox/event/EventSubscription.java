@@ -0,0 +1,387 @@
+package org.carlspring.strongbox.event;
+
+import org.carlspring.strongbox.metrics.StrongboxMetrics;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A listener of the {@link EventBus}, with its own bounded queue and worker threads, so that a slow listener only
+ * delays its own events.
+ * <p>
+ * A synchronous subscription has neither a queue nor workers: the events are handled by the publishing thread.
+ */
+public class EventSubscription<E extends Event>
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(EventSubscription.class);
+
+    private final String name;
+
+    private final Class<E> eventType;
+
+    private final Consumer<? super E> handler;
+
+    private final EventListenerPolicy policy;
+
+    private final boolean synchronous;
+
+    private final long blockTimeoutNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition notEmpty = lock.newCondition();
+
+    private final Condition notFull = lock.newCondition();
+
+    private final Deque<QueuedEvent> queue = new ArrayDeque<>();
+
+    /**
+     * The queued events by their coalescing key, when the events are coalesced.
+     */
+    private final Map<Object, QueuedEvent> queuedByKey = new HashMap<>();
+
+    private final List<Thread> workers = new ArrayList<>();
+
+    private volatile boolean active = true;
+
+    private final Timer lagTimer;
+
+    private final Timer handlingTimer;
+
+    private final Counter droppedCounter;
+
+    private final Counter coalescedCounter;
+
+    private final Counter timedOutCounter;
+
+    EventSubscription(String name,
+                      Class<E> eventType,
+                      Consumer<? super E> handler,
+                      EventListenerPolicy policy,
+                      boolean synchronous,
+                      long blockTimeoutMillis,
+                      StrongboxMetrics strongboxMetrics)
+    {
+        this.name = name;
+        this.eventType = eventType;
+        this.handler = handler;
+        this.policy = policy;
+        this.synchronous = synchronous;
+        this.blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(blockTimeoutMillis);
+
+        MeterRegistry meterRegistry = strongboxMetrics.getMeterRegistry();
+        Gauge.builder(StrongboxMetrics.EVENTS_QUEUED, this, EventSubscription::getQueued)
+             .description("The events which are waiting to be handled by a listener")
+             .tag(StrongboxMetrics.TAG_LISTENER, name)
+             .register(meterRegistry);
+        lagTimer = Timer.builder(StrongboxMetrics.EVENTS_LAG)
+                        .description("The time an event has waited in the queue of a listener")
+                        .tag(StrongboxMetrics.TAG_LISTENER, name)
+                        .register(meterRegistry);
+        handlingTimer = Timer.builder(StrongboxMetrics.EVENTS_HANDLING)
+                             .description("The time a listener has spent handling an event")
+                             .tag(StrongboxMetrics.TAG_LISTENER, name)
+                             .register(meterRegistry);
+        droppedCounter = discardedCounter(meterRegistry, "dropped");
+        coalescedCounter = discardedCounter(meterRegistry, "coalesced");
+        timedOutCounter = discardedCounter(meterRegistry, "timeout");
+    }
+
+    private Counter discardedCounter(MeterRegistry meterRegistry,
+                                     String reason)
+    {
+        return Counter.builder(StrongboxMetrics.EVENTS_DISCARDED)
+                      .description("The events which have been discarded from the queue of a listener")
+                      .tags(StrongboxMetrics.TAG_LISTENER, name, StrongboxMetrics.TAG_REASON, reason)
+                      .register(meterRegistry);
+    }
+
+    void start()
+    {
+        if (synchronous)
+        {
+            return;
+        }
+
+        for (int i = 0; i < policy.getWorkers(); i++)
+        {
+            Thread worker = new Thread(this::work, String.format("event-%s-%s", name, i));
+            worker.setDaemon(true);
+            worker.start();
+
+            workers.add(worker);
+        }
+    }
+
+    public String getName()
+    {
+        return name;
+    }
+
+    public Class<E> getEventType()
+    {
+        return eventType;
+    }
+
+    public EventListenerPolicy getPolicy()
+    {
+        return policy;
+    }
+
+    public boolean isSynchronous()
+    {
+        return synchronous;
+    }
+
+    public boolean isActive()
+    {
+        return active;
+    }
+
+    /**
+     * @return the number of events, which are waiting to be handled
+     */
+    public int getQueued()
+    {
+        lock.lock();
+        try
+        {
+            return queue.size();
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops the workers. The events, which are still queued, aren't handled.
+     */
+    public void cancel()
+    {
+        lock.lock();
+        try
+        {
+            if (!active)
+            {
+                return;
+            }
+
+            active = false;
+
+            if (!queue.isEmpty())
+            {
+                logger.warn("Discarding [{}] events of listener [{}].", queue.size(), name);
+            }
+
+            queue.clear();
+            queuedByKey.clear();
+
+            notEmpty.signalAll();
+            notFull.signalAll();
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    boolean accepts(Event event)
+    {
+        return eventType.isInstance(event);
+    }
+
+    /**
+     * @return whether the event has been handled or queued
+     */
+    boolean offer(Event event)
+    {
+        if (!active)
+        {
+            return false;
+        }
+
+        if (synchronous)
+        {
+            handle(event);
+
+            return true;
+        }
+
+        Object key = policy.getOverflow() == OverflowPolicy.COALESCE ? event.getCoalescingKey() : null;
+        long remainingNanos = blockTimeoutNanos;
+
+        lock.lock();
+        try
+        {
+            while (active)
+            {
+                QueuedEvent queued = key != null ? queuedByKey.get(key) : null;
+                if (queued != null)
+                {
+                    queued.event = event;
+                    coalescedCounter.increment();
+
+                    return true;
+                }
+
+                if (queue.size() < policy.getCapacity())
+                {
+                    queued = new QueuedEvent(event, key);
+                    queue.addLast(queued);
+                    if (key != null)
+                    {
+                        queuedByKey.put(key, queued);
+                    }
+
+                    notEmpty.signal();
+
+                    return true;
+                }
+
+                if (policy.getOverflow() == OverflowPolicy.DROP_OLDEST)
+                {
+                    QueuedEvent oldest = queue.pollFirst();
+                    logger.debug("Dropping event [{}] of listener [{}].", oldest.event, name);
+
+                    droppedCounter.increment();
+
+                    continue;
+                }
+
+                if (remainingNanos <= 0)
+                {
+                    // The handler may be publishing into its own queue.
+                    logger.error("Discarding event [{}] of listener [{}], which hasn't made room for it.", event, name);
+
+                    timedOutCounter.increment();
+
+                    return false;
+                }
+
+                try
+                {
+                    remainingNanos = notFull.awaitNanos(remainingNanos);
+                }
+                catch (InterruptedException e)
+                {
+                    Thread.currentThread().interrupt();
+
+                    timedOutCounter.increment();
+
+                    return false;
+                }
+            }
+
+            return false;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    private void work()
+    {
+        while (true)
+        {
+            QueuedEvent queued;
+
+            lock.lock();
+            try
+            {
+                while (active && queue.isEmpty())
+                {
+                    notEmpty.awaitUninterruptibly();
+                }
+
+                if (!active)
+                {
+                    return;
+                }
+
+                queued = queue.pollFirst();
+                if (queued.key != null)
+                {
+                    queuedByKey.remove(queued.key);
+                }
+
+                notFull.signal();
+            }
+            finally
+            {
+                lock.unlock();
+            }
+
+            lagTimer.record(System.nanoTime() - queued.queuedNanos, TimeUnit.NANOSECONDS);
+
+            handle(queued.event);
+        }
+    }
+
+    private void handle(Event event)
+    {
+        long start = System.nanoTime();
+        try
+        {
+            handler.accept(eventType.cast(event));
+        }
+        catch (Exception e)
+        {
+            logger.error("Listener [{}] failed to handle event [{}].", name, event, e);
+        }
+        finally
+        {
+            handlingTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public String toString()
+    {
+        return "EventSubscription{" +
+               "name='" + name + '\'' +
+               ", eventType=" + eventType.getName() +
+               ", policy=" + policy +
+               ", synchronous=" + synchronous +
+               '}';
+    }
+
+    private static class QueuedEvent
+    {
+
+        private Event event;
+
+        private final Object key;
+
+        /**
+         * When the first event of the key has been queued, so that the lag isn't hidden by the coalescing.
+         */
+        private final long queuedNanos = System.nanoTime();
+
+        QueuedEvent(Event event,
+                    Object key)
+        {
+            this.event = event;
+            this.key = key;
+        }
+
+    }
+
+}
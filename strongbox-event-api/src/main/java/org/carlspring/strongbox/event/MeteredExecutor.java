@@ -0,0 +1,52 @@
+package org.carlspring.strongbox.event;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts the events which have been submitted to the executor but haven't been handled yet.
+ */
+public class MeteredExecutor
+        implements Executor
+{
+
+    private final Executor delegate;
+
+    private final AtomicInteger pending = new AtomicInteger();
+
+    public MeteredExecutor(Executor delegate)
+    {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void execute(Runnable command)
+    {
+        pending.incrementAndGet();
+        try
+        {
+            delegate.execute(() -> {
+                try
+                {
+                    command.run();
+                }
+                finally
+                {
+                    pending.decrementAndGet();
+                }
+            });
+        }
+        catch (RuntimeException e)
+        {
+            pending.decrementAndGet();
+
+            throw e;
+        }
+    }
+
+    public int getPending()
+    {
+        return pending.get();
+    }
+
+}
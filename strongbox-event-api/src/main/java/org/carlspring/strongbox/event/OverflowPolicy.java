@@ -0,0 +1,26 @@
+package org.carlspring.strongbox.event;
+
+/**
+ * What the {@link EventBus} does with an event, which is published while the queue of a listener is full.
+ */
+public enum OverflowPolicy
+{
+
+    /**
+     * The publisher waits until the listener has made some room, or the block timeout has elapsed, in which case the
+     * event is discarded.
+     */
+    BLOCK,
+
+    /**
+     * The oldest queued event is discarded.
+     */
+    DROP_OLDEST,
+
+    /**
+     * A queued event with the same {@link Event#getCoalescingKey() key} is replaced by the published one, even when
+     * the queue isn't full. Otherwise, the publisher waits as with {@link #BLOCK}.
+     */
+    COALESCE;
+
+}
@@ -1,6 +1,7 @@
 package org.carlspring.strongbox.event.artifact;
 
 import java.nio.file.Path;
+import java.util.Arrays;
 
 import org.carlspring.strongbox.event.RepositoryBasedEvent;
 
@@ -36,4 +37,10 @@ public class ArtifactEvent<T extends Path> extends RepositoryBasedEvent<T>
         this.targetPath = targetPath;
     }
 
+    @Override
+    public Object getCoalescingKey()
+    {
+        return Arrays.asList(getType(), getPath(), targetPath);
+    }
+
 }
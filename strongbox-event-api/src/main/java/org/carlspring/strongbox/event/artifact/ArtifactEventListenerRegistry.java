@@ -115,6 +115,16 @@ public class ArtifactEventListenerRegistry extends AbstractEventListenerRegistry
         dispatchEvent(event);
     }
 
+    public void dispatchArtifactPathDeletingEvent(Path path)
+    {
+        ArtifactEvent event = new ArtifactEvent(path,
+                                                ArtifactEventTypeEnum.EVENT_ARTIFACT_PATH_DELETING.getType());
+
+        logger.debug("Dispatching ArtifactEventTypeEnum.EVENT_ARTIFACT_PATH_DELETING event for {}...", path);
+
+        dispatchEvent(event);
+    }
+
     public void dispatchArtifactPathDeletedEvent(Path path)
     {
         ArtifactEvent event = new ArtifactEvent(path,
@@ -101,7 +101,12 @@ public enum ArtifactEventTypeEnum
     /**
      * Occurs when an artifact file has been physically stored.
      */
-    EVENT_ARTIFACT_FILE_STORED(22);
+    EVENT_ARTIFACT_FILE_STORED(22),
+
+    /**
+     * Occurs when an artifact file is about to be deleted (or moved to the trash).
+     */
+    EVENT_ARTIFACT_PATH_DELETING(23);
 
 
     private int type;
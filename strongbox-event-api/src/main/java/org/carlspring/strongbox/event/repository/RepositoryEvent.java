@@ -2,6 +2,8 @@ package org.carlspring.strongbox.event.repository;
 
 import org.carlspring.strongbox.event.Event;
 
+import java.util.Arrays;
+
 /**
  * @author mtodorov
  */
@@ -40,4 +42,10 @@ public class RepositoryEvent extends Event
         this.repositoryId = repositoryId;
     }
 
+    @Override
+    public Object getCoalescingKey()
+    {
+        return Arrays.asList(getType(), storageId, repositoryId);
+    }
+
 }
@@ -0,0 +1,109 @@
+package org.carlspring.strongbox.event;
+
+import org.carlspring.strongbox.event.server.ServerEvent;
+import org.carlspring.strongbox.metrics.StrongboxMetrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.stereotype.Component;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AsyncEventListenerMethodProcessorTest
+{
+
+    private AnnotationConfigApplicationContext applicationContext;
+
+    @BeforeEach
+    public void setUp()
+    {
+        applicationContext = new AnnotationConfigApplicationContext(EventBusConfig.class,
+                                                                    AsyncEventListenerMethodProcessor.class,
+                                                                    ServerEventListener.class);
+    }
+
+    @AfterEach
+    public void tearDown()
+    {
+        // The inferred destroy method of the bean shuts the event bus down.
+        applicationContext.close();
+    }
+
+    @Test
+    public void annotatedMethodIsSubscribedWithItsPolicy()
+    {
+        EventSubscription<?> subscription = getSubscription();
+
+        assertThat(subscription.getEventType()).isEqualTo(ServerEvent.class);
+        assertThat(subscription.isSynchronous()).isFalse();
+        assertThat(subscription.getPolicy().getCapacity()).isEqualTo(2);
+        assertThat(subscription.getPolicy().getWorkers()).isEqualTo(1);
+        assertThat(subscription.getPolicy().getOverflow()).isEqualTo(OverflowPolicy.DROP_OLDEST);
+    }
+
+    @Test
+    public void annotatedMethodReceivesTheEventsThroughItsBoundedQueue()
+            throws InterruptedException
+    {
+        EventBus eventBus = applicationContext.getBean(EventBus.class);
+        EventBusTest.BlockingListener listener = applicationContext.getBean(ServerEventListener.class).listener;
+
+        eventBus.publish(new ServerEvent(1));
+        listener.awaitStarted();
+
+        for (int i = 2; i <= 5; i++)
+        {
+            eventBus.publish(new ServerEvent(i));
+        }
+
+        assertThat(getSubscription().getQueued()).isEqualTo(2);
+
+        listener.release();
+
+        assertThat(listener.awaitHandled(3)).containsExactly(1, 4, 5);
+    }
+
+    private EventSubscription<?> getSubscription()
+    {
+        return applicationContext.getBean(EventBus.class)
+                                 .getSubscriptions()
+                                 .stream()
+                                 .filter(s -> "serverEventListener.onServerEvent".equals(s.getName()))
+                                 .findFirst()
+                                 .orElseThrow(() -> new AssertionError("The listener has not been subscribed."));
+    }
+
+    @Configuration
+    static class EventBusConfig
+    {
+
+        @Bean
+        EventBus eventBus()
+        {
+            return new EventBus(new StrongboxMetrics(new SimpleMeterRegistry()),
+                                false,
+                                new EventListenerPolicy(100, 1, OverflowPolicy.BLOCK),
+                                100);
+        }
+
+    }
+
+    @Component("serverEventListener")
+    static class ServerEventListener
+    {
+
+        private final EventBusTest.BlockingListener listener = new EventBusTest.BlockingListener(3);
+
+        @AsyncEventListener(capacity = 2, overflow = OverflowPolicy.DROP_OLDEST)
+        public void onServerEvent(ServerEvent event)
+        {
+            listener.accept(event);
+        }
+
+    }
+
+}
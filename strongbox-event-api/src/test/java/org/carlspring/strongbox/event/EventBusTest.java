@@ -0,0 +1,250 @@
+package org.carlspring.strongbox.event;
+
+import org.carlspring.strongbox.event.repository.RepositoryEvent;
+import org.carlspring.strongbox.event.server.ServerEvent;
+import org.carlspring.strongbox.metrics.StrongboxMetrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EventBusTest
+{
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private EventBus eventBus;
+
+    @AfterEach
+    public void shutdown()
+    {
+        eventBus.shutdown();
+    }
+
+    @Test
+    public void synchronousBusHandlesTheEventsOfTheSubscribedType()
+    {
+        eventBus = newEventBus(true);
+
+        List<Integer> handled = new ArrayList<>();
+        eventBus.subscribe("repository", RepositoryEvent.class, e -> handled.add(e.getType()));
+
+        eventBus.publish(new RepositoryEvent("storage0", "releases", 1));
+        eventBus.publish(new ServerEvent(2));
+        eventBus.publish(new RepositoryEvent("storage0", "releases", 3));
+
+        assertThat(handled).containsExactly(1, 3);
+        assertThat(meterRegistry.get(StrongboxMetrics.EVENTS_HANDLING)
+                                .tag(StrongboxMetrics.TAG_LISTENER, "repository")
+                                .timer()
+                                .count()).isEqualTo(2);
+    }
+
+    @Test
+    public void failingListenerDoesNotAffectTheOthers()
+    {
+        eventBus = newEventBus(true);
+
+        List<Integer> handled = new ArrayList<>();
+        eventBus.subscribe("failing", ServerEvent.class, e -> {
+            throw new IllegalStateException("Expected.");
+        });
+        eventBus.subscribe("working", ServerEvent.class, e -> handled.add(e.getType()));
+
+        eventBus.publish(new ServerEvent(1));
+
+        assertThat(handled).containsExactly(1);
+    }
+
+    @Test
+    public void dropOldestDiscardsTheOldestQueuedEvent()
+            throws InterruptedException
+    {
+        eventBus = newEventBus(false);
+
+        BlockingListener listener = new BlockingListener(4);
+        EventSubscription<ServerEvent> subscription = eventBus.subscribe("dropping",
+                                                                         ServerEvent.class,
+                                                                         listener,
+                                                                         policy(2, OverflowPolicy.DROP_OLDEST));
+
+        eventBus.publish(new ServerEvent(1));
+        listener.awaitStarted();
+
+        eventBus.publish(new ServerEvent(2));
+        eventBus.publish(new ServerEvent(3));
+        eventBus.publish(new ServerEvent(4));
+        eventBus.publish(new ServerEvent(5));
+        assertThat(subscription.getQueued()).isEqualTo(2);
+
+        listener.release();
+
+        assertThat(listener.awaitHandled(3)).containsExactly(1, 4, 5);
+        assertThat(discarded("dropping", "dropped")).isEqualTo(2.0);
+    }
+
+    @Test
+    public void coalesceReplacesTheQueuedEventOfTheSameKey()
+            throws InterruptedException
+    {
+        eventBus = newEventBus(false);
+
+        BlockingListener listener = new BlockingListener(3);
+        eventBus.subscribe("coalescing",
+                           RepositoryEvent.class,
+                           e -> listener.accept(new ServerEvent(e.getType())),
+                           policy(10, OverflowPolicy.COALESCE));
+
+        eventBus.publish(new RepositoryEvent("storage0", "releases", 1));
+        listener.awaitStarted();
+
+        eventBus.publish(new RepositoryEvent("storage0", "releases", 2));
+        eventBus.publish(new RepositoryEvent("storage0", "snapshots", 2));
+        eventBus.publish(new RepositoryEvent("storage0", "releases", 2));
+        eventBus.publish(new RepositoryEvent("storage0", "snapshots", 2));
+
+        listener.release();
+
+        assertThat(listener.awaitHandled(3)).containsExactly(1, 2, 2);
+        assertThat(discarded("coalescing", "coalesced")).isEqualTo(2.0);
+    }
+
+    @Test
+    public void blockDiscardsTheEventAfterTheTimeout()
+            throws InterruptedException
+    {
+        eventBus = newEventBus(false);
+
+        BlockingListener listener = new BlockingListener(2);
+        EventSubscription<ServerEvent> subscription = eventBus.subscribe("blocking",
+                                                                         ServerEvent.class,
+                                                                         listener,
+                                                                         policy(1, OverflowPolicy.BLOCK));
+
+        eventBus.publish(new ServerEvent(1));
+        listener.awaitStarted();
+
+        eventBus.publish(new ServerEvent(2));
+
+        assertThat(subscription.offer(new ServerEvent(3))).isFalse();
+        assertThat(discarded("blocking", "timeout")).isEqualTo(1.0);
+
+        listener.release();
+
+        assertThat(listener.awaitHandled(2)).containsExactly(1, 2);
+    }
+
+    @Test
+    public void slowListenerDoesNotDelayTheOthers()
+            throws InterruptedException
+    {
+        eventBus = newEventBus(false);
+
+        BlockingListener slow = new BlockingListener(3);
+        eventBus.subscribe("slow", ServerEvent.class, slow, policy(10, OverflowPolicy.BLOCK));
+
+        CountDownLatch fast = new CountDownLatch(3);
+        eventBus.subscribe("fast", ServerEvent.class, e -> fast.countDown(), policy(10, OverflowPolicy.BLOCK));
+
+        eventBus.publish(new ServerEvent(1));
+        eventBus.publish(new ServerEvent(2));
+        eventBus.publish(new ServerEvent(3));
+
+        assertThat(fast.await(10, TimeUnit.SECONDS)).isTrue();
+
+        slow.release();
+
+        assertThat(slow.awaitHandled(3)).containsExactly(1, 2, 3);
+    }
+
+    private EventBus newEventBus(boolean synchronous)
+    {
+        return new EventBus(new StrongboxMetrics(meterRegistry),
+                            synchronous,
+                            new EventListenerPolicy(100, 1, OverflowPolicy.BLOCK),
+                            100);
+    }
+
+    private EventListenerPolicy policy(int capacity,
+                                       OverflowPolicy overflow)
+    {
+        return new EventListenerPolicy(capacity, 1, overflow);
+    }
+
+    private double discarded(String listener,
+                             String reason)
+    {
+        return meterRegistry.get(StrongboxMetrics.EVENTS_DISCARDED)
+                            .tags(StrongboxMetrics.TAG_LISTENER, listener, StrongboxMetrics.TAG_REASON, reason)
+                            .counter()
+                            .count();
+    }
+
+    /**
+     * Holds its worker with the first event, until it has been released.
+     */
+    static class BlockingListener
+            implements Consumer<ServerEvent>
+    {
+
+        private final CountDownLatch started = new CountDownLatch(1);
+
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        private final CountDownLatch handledLatch;
+
+        private final List<Integer> handled = Collections.synchronizedList(new ArrayList<>());
+
+        BlockingListener(int expected)
+        {
+            handledLatch = new CountDownLatch(expected);
+        }
+
+        @Override
+        public void accept(ServerEvent event)
+        {
+            started.countDown();
+            try
+            {
+                released.await();
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+            }
+
+            handled.add(event.getType());
+            handledLatch.countDown();
+        }
+
+        void awaitStarted()
+                throws InterruptedException
+        {
+            assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        void release()
+        {
+            released.countDown();
+        }
+
+        List<Integer> awaitHandled(int count)
+                throws InterruptedException
+        {
+            assertThat(handledLatch.await(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(handled).hasSize(count);
+
+            return new ArrayList<>(handled);
+        }
+
+    }
+
+}
@@ -0,0 +1,232 @@
+package org.carlspring.strongbox.authentication;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import javax.inject.Inject;
+
+import org.carlspring.strongbox.authentication.api.jwt.JwtAuthentication;
+import org.carlspring.strongbox.authentication.api.password.PasswordAuthentication;
+import org.carlspring.strongbox.users.event.UserChangedEvent;
+import org.carlspring.strongbox.users.security.SecurityTokenProvider;
+import org.jose4j.jwt.MalformedClaimException;
+import org.jose4j.jwt.NumericDate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Remembers the successful authentications of the stateless credentials (the passwords and the JWT tokens supplied
+ * with every request), so that the same credentials are not hashed or verified again until their entry expires.
+ * <br>
+ * The entries are keyed by an HMAC of the credentials, with a key which is generated per process, and are discarded as
+ * soon as the user is changed (see {@link UserChangedEvent}). The entries of the JWT tokens don't outlive the tokens.
+ */
+@Component
+public class AuthenticationDecisionCache
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(AuthenticationDecisionCache.class);
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final SecurityTokenProvider securityTokenProvider;
+
+    private final Cache<String, AuthenticationDecision> decisions;
+
+    private final long ttlMillis;
+
+    private final SecretKeySpec secretKey;
+
+    private final ThreadLocal<Mac> mac = ThreadLocal.withInitial(this::createMac);
+
+    /**
+     * Incremented on every invalidation, so that an authentication which has started before an invalidation is not
+     * cached after it.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    @Inject
+    public AuthenticationDecisionCache(SecurityTokenProvider securityTokenProvider,
+                                       @Value("${strongbox.authentication.decisionCache.maxSize:10000}") long maxSize,
+                                       @Value("${strongbox.authentication.decisionCache.ttlSeconds:60}") long ttlSeconds)
+    {
+        this.securityTokenProvider = securityTokenProvider;
+        this.ttlMillis = TimeUnit.SECONDS.toMillis(ttlSeconds);
+        this.decisions = CacheBuilder.newBuilder()
+                                     .maximumSize(maxSize)
+                                     .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                                     .build();
+
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        this.secretKey = new SecretKeySpec(key, HMAC_ALGORITHM);
+    }
+
+    /**
+     * @return the key of the cached decision, or <code>null</code> if the authentication can't be cached
+     */
+    public String getKey(Authentication authentication)
+    {
+        if (!(authentication instanceof PasswordAuthentication || authentication instanceof JwtAuthentication))
+        {
+            return null;
+        }
+
+        Object principal = authentication.getPrincipal();
+        Object credentials = authentication.getCredentials();
+        if (principal == null || credentials == null)
+        {
+            return null;
+        }
+
+        Mac hmac = mac.get();
+        hmac.update(authentication.getClass().getName().getBytes(StandardCharsets.UTF_8));
+        hmac.update((byte) 0);
+        hmac.update(principal.toString().getBytes(StandardCharsets.UTF_8));
+        hmac.update((byte) 0);
+        hmac.update(credentials.toString().getBytes(StandardCharsets.UTF_8));
+
+        return Base64.getEncoder().encodeToString(hmac.doFinal());
+    }
+
+    public long getGeneration()
+    {
+        return generation.get();
+    }
+
+    public Authentication get(String key)
+    {
+        AuthenticationDecision decision = decisions.getIfPresent(key);
+        if (decision == null)
+        {
+            return null;
+        }
+
+        if (decision.expiresAt <= System.currentTimeMillis())
+        {
+            decisions.invalidate(key);
+
+            return null;
+        }
+
+        return decision.authentication;
+    }
+
+    /**
+     * Caches the result of the authentication, unless the cache has been invalidated since the given generation.
+     */
+    public void put(String key,
+                    Authentication request,
+                    Authentication result,
+                    long generation)
+    {
+        long expiresAt = System.currentTimeMillis() + ttlMillis;
+        if (request instanceof JwtAuthentication)
+        {
+            expiresAt = Math.min(expiresAt, getTokenExpiration(((JwtAuthentication) request).getCredentials()));
+        }
+
+        AuthenticationDecision decision = new AuthenticationDecision(result.getName(), result, expiresAt);
+
+        decisions.put(key, decision);
+
+        // The entry may have been put after an invalidation which it has missed.
+        if (this.generation.get() != generation)
+        {
+            decisions.asMap().remove(key, decision);
+        }
+    }
+
+    public void invalidate(String username)
+    {
+        generation.incrementAndGet();
+        decisions.asMap().values().removeIf(d -> Objects.equals(d.username, username));
+    }
+
+    public void invalidateAll()
+    {
+        generation.incrementAndGet();
+        decisions.invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event)
+    {
+        logger.debug("Invalidating the cached authentications of [{}].",
+                     event.isAllUsers() ? "all users" : event.getUsername());
+
+        if (event.isAllUsers())
+        {
+            invalidateAll();
+        }
+        else
+        {
+            invalidate(event.getUsername());
+        }
+    }
+
+    private long getTokenExpiration(String token)
+    {
+        try
+        {
+            NumericDate expirationTime = securityTokenProvider.getClaims(token).getExpirationTime();
+
+            return expirationTime != null ? expirationTime.getValueInMillis() : Long.MAX_VALUE;
+        }
+        catch (MalformedClaimException e)
+        {
+            // Verified tokens are well formed; don't cache an unexpected one.
+            return 0;
+        }
+    }
+
+    private Mac createMac()
+    {
+        try
+        {
+            Mac result = Mac.getInstance(HMAC_ALGORITHM);
+            result.init(secretKey);
+
+            return result;
+        }
+        catch (GeneralSecurityException e)
+        {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class AuthenticationDecision
+    {
+
+        private final String username;
+
+        private final Authentication authentication;
+
+        private final long expiresAt;
+
+        private AuthenticationDecision(String username,
+                                       Authentication authentication,
+                                       long expiresAt)
+        {
+            this.username = username;
+            this.authentication = authentication;
+            this.expiresAt = expiresAt;
+        }
+
+    }
+
+}
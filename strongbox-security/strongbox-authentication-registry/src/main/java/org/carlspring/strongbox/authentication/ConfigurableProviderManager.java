@@ -68,6 +68,9 @@ public class ConfigurableProviderManager extends ProviderManager implements User
     @Inject
     private StrongboxExternalUsersCacheManager strongboxUserManager;
 
+    @Inject
+    private AuthenticationDecisionCache authenticationDecisionCache;
+
     private final Map<String, AuthenticationProvider> authenticationProviderMap = new HashMap<>();
 
     private final Map<String, UserDetailsService> userProviderMap = new HashMap<>();
@@ -89,6 +92,8 @@ public class ConfigurableProviderManager extends ProviderManager implements User
 
     private void reloadAuthenticationItems()
     {
+        authenticationDecisionCache.invalidateAll();
+
         authenticationProviderMap.clear();
         authenticationProviderMap.putAll(authenticationProvidersRegistry.getAuthenticationProviderMap());
 
@@ -167,6 +172,30 @@ public class ConfigurableProviderManager extends ProviderManager implements User
     @Override
     public Authentication authenticate(Authentication authentication)
         throws AuthenticationException
+    {
+        String decisionKey = authenticationDecisionCache.getKey(authentication);
+        if (decisionKey == null)
+        {
+            return doAuthenticate(authentication);
+        }
+
+        Authentication cachedResult = authenticationDecisionCache.get(decisionKey);
+        if (cachedResult != null)
+        {
+            return cachedResult;
+        }
+
+        long generation = authenticationDecisionCache.getGeneration();
+        Authentication result = doAuthenticate(authentication);
+        if (result != null && result.isAuthenticated())
+        {
+            authenticationDecisionCache.put(decisionKey, authentication, result, generation);
+        }
+
+        return result;
+    }
+
+    private Authentication doAuthenticate(Authentication authentication)
     {
         try
         {
@@ -0,0 +1,116 @@
+package org.carlspring.strongbox.authentication;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+
+import org.carlspring.strongbox.authentication.api.jwt.JwtAuthentication;
+import org.carlspring.strongbox.authentication.api.password.PasswordAuthentication;
+import org.carlspring.strongbox.users.event.UserChangedEvent;
+import org.carlspring.strongbox.users.security.SecurityTokenProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+public class AuthenticationDecisionCacheTest
+{
+
+    private static final String USERNAME = "adct-user";
+
+    private SecurityTokenProvider securityTokenProvider;
+
+    private AuthenticationDecisionCache cache;
+
+    @BeforeEach
+    public void setup()
+        throws Exception
+    {
+        securityTokenProvider = new SecurityTokenProvider();
+        securityTokenProvider.init("secret");
+
+        cache = new AuthenticationDecisionCache(securityTokenProvider, 100, 60);
+    }
+
+    @Test
+    public void sameCredentialsShouldHitTheCache()
+    {
+        String key = cache.getKey(new PasswordAuthentication(USERNAME, "password"));
+        Authentication result = authenticated(USERNAME);
+
+        cache.put(key, new PasswordAuthentication(USERNAME, "password"), result, cache.getGeneration());
+
+        assertThat(cache.get(cache.getKey(new PasswordAuthentication(USERNAME, "password")))).isSameAs(result);
+        assertThat(cache.get(cache.getKey(new PasswordAuthentication(USERNAME, "wrong-password")))).isNull();
+        assertThat(cache.getKey(new PasswordAuthentication(USERNAME, "password")))
+                .isNotEqualTo(cache.getKey(new JwtAuthentication(USERNAME, "password")));
+    }
+
+    @Test
+    public void credentialsWithoutSecretShouldNotBeCached()
+    {
+        assertThat(cache.getKey(new PasswordAuthentication(USERNAME, null))).isNull();
+        assertThat(cache.getKey(new UsernamePasswordAuthenticationToken(USERNAME, "password"))).isNull();
+    }
+
+    @Test
+    public void tokenShouldNotBeCachedAfterItExpires()
+        throws Exception
+    {
+        String token = securityTokenProvider.getToken(USERNAME, Collections.emptyMap(), -1, null);
+        JwtAuthentication authentication = new JwtAuthentication(USERNAME, token);
+        String key = cache.getKey(authentication);
+
+        cache.put(key, authentication, authenticated(USERNAME), cache.getGeneration());
+
+        assertThat(cache.get(key)).isNull();
+
+        token = securityTokenProvider.getToken(USERNAME, Collections.emptyMap(), 3600, null);
+        authentication = new JwtAuthentication(USERNAME, token);
+        key = cache.getKey(authentication);
+
+        cache.put(key, authentication, authenticated(USERNAME), cache.getGeneration());
+
+        assertThat(cache.get(key)).isNotNull();
+    }
+
+    @Test
+    public void userChangeShouldInvalidateTheUserEntries()
+    {
+        String key = cache.getKey(new PasswordAuthentication(USERNAME, "password"));
+        String otherKey = cache.getKey(new PasswordAuthentication("adct-other-user", "password"));
+
+        cache.put(key, new PasswordAuthentication(USERNAME, "password"), authenticated(USERNAME), cache.getGeneration());
+        cache.put(otherKey, new PasswordAuthentication("adct-other-user", "password"),
+                  authenticated("adct-other-user"), cache.getGeneration());
+
+        cache.onUserChanged(new UserChangedEvent(this, USERNAME));
+
+        assertThat(cache.get(key)).isNull();
+        assertThat(cache.get(otherKey)).isNotNull();
+
+        cache.onUserChanged(UserChangedEvent.allUsers(this));
+
+        assertThat(cache.get(otherKey)).isNull();
+    }
+
+    @Test
+    public void authenticationStartedBeforeInvalidationShouldNotBeCached()
+    {
+        String key = cache.getKey(new PasswordAuthentication(USERNAME, "password"));
+        long generation = cache.getGeneration();
+
+        // The user changes while the credentials are being checked.
+        cache.onUserChanged(new UserChangedEvent(this, USERNAME));
+
+        cache.put(key, new PasswordAuthentication(USERNAME, "password"), authenticated(USERNAME), generation);
+
+        assertThat(cache.get(key)).isNull();
+    }
+
+    private Authentication authenticated(String username)
+    {
+        return new PasswordAuthentication(username, null, Collections.emptyList());
+    }
+
+}
@@ -20,6 +20,8 @@ import org.carlspring.strongbox.authorization.dto.RoleDto;
 import org.carlspring.strongbox.authorization.service.AuthorizationConfigService;
 import org.carlspring.strongbox.users.domain.Privileges;
 import org.carlspring.strongbox.users.domain.SystemRole;
+import org.carlspring.strongbox.users.event.UserChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 
@@ -37,6 +39,9 @@ public class AuthorizationConfigServiceImpl
     @Inject
     private AuthorizationConfigFileManager authorizationConfigFileManager;
 
+    @Inject
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * Yes, this is a state object.
      * It is protected by the {@link #authorizationConfigLock} here
@@ -150,6 +155,9 @@ public class AuthorizationConfigServiceImpl
         {
             writeLock.unlock();
         }
+
+        // The privileges of every user with a changed role have changed.
+        eventPublisher.publishEvent(UserChangedEvent.allUsers(this));
     }
 
 }
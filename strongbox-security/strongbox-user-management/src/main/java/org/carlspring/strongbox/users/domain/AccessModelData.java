@@ -52,6 +52,7 @@ public class AccessModelData
         return apiAuthorities;
     }
 
+    @Override
     public Set<StoragePrivilegesData> getStorageAuthorities()
     {
         return storageAuthorities;
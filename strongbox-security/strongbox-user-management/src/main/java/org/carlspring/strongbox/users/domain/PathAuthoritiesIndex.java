@@ -0,0 +1,157 @@
+package org.carlspring.strongbox.users.domain;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.apache.commons.lang.StringUtils;
+import org.carlspring.strongbox.users.dto.AccessModel;
+import org.carlspring.strongbox.users.dto.PathPrivileges;
+import org.carlspring.strongbox.users.dto.RepositoryPrivileges;
+import org.carlspring.strongbox.users.dto.StoragePrivileges;
+
+/**
+ * The path authorities of a set of {@link AccessModel}s, indexed by the URL prefixes which they are granted for.
+ * <br>
+ * The storage, repository and path keys of {@link AccessModelData#getPathAuthorities(String, Set)} are stored in a
+ * prefix tree, so that the authorities of a URL are collected with a single walk along the URL, whatever the number
+ * of roles and path privileges. The access models which are not defined by storage privileges are evaluated as is.
+ */
+@Immutable
+public class PathAuthoritiesIndex
+{
+
+    private final Node root = new Node();
+
+    private final List<AccessModel> unindexedAccessModels = new ArrayList<>();
+
+    public PathAuthoritiesIndex(Collection<? extends AccessModel> accessModels)
+    {
+        for (AccessModel accessModel : accessModels)
+        {
+            Set<? extends StoragePrivileges> storages = accessModel.getStorageAuthorities();
+            if (storages == null)
+            {
+                unindexedAccessModels.add(accessModel);
+
+                continue;
+            }
+
+            for (StoragePrivileges storage : storages)
+            {
+                String storageKey = "/storages/" + storage.getStorageId();
+                for (RepositoryPrivileges repository : storage.getRepositoryPrivileges())
+                {
+                    String repositoryKey = storageKey + "/" + repository.getRepositoryId();
+                    root.getOrAdd(repositoryKey).addPrefixPrivileges(repository.getRepositoryPrivileges());
+
+                    for (PathPrivileges pathPrivilege : repository.getPathPrivileges())
+                    {
+                        String pathKey = repositoryKey + "/" + StringUtils.chomp(pathPrivilege.getPath(), "/");
+                        Node node = root.getOrAdd(pathKey);
+                        if (pathPrivilege.isWildcard())
+                        {
+                            node.addPrefixPrivileges(pathPrivilege.getPrivileges());
+                        }
+                        else
+                        {
+                            node.addExactPrivileges(pathPrivilege.getPrivileges());
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    public Set<Privileges> getPathAuthorities(String url)
+    {
+        String normalizedUrl = StringUtils.chomp(url, "/");
+
+        Set<Privileges> privileges = EnumSet.noneOf(Privileges.class);
+
+        Node node = root;
+        int i = 0;
+        for (; i < normalizedUrl.length(); i++)
+        {
+            node = node.children.get(normalizedUrl.charAt(i));
+            if (node == null)
+            {
+                break;
+            }
+
+            privileges.addAll(node.prefixPrivileges);
+        }
+
+        if (node != null)
+        {
+            privileges.addAll(node.exactPrivileges);
+        }
+
+        for (AccessModel accessModel : unindexedAccessModels)
+        {
+            privileges.addAll(accessModel.getPathAuthorities(url));
+        }
+
+        return privileges;
+    }
+
+    private static class Node
+    {
+
+        private final Map<Character, Node> children = new HashMap<>(4);
+
+        /**
+         * The privileges for the key of this node and all the URLs which start with it.
+         */
+        private Set<Privileges> prefixPrivileges = Collections.emptySet();
+
+        /**
+         * The privileges for the key of this node only.
+         */
+        private Set<Privileges> exactPrivileges = Collections.emptySet();
+
+        private Node getOrAdd(String key)
+        {
+            Node node = this;
+            for (int i = 0; i < key.length(); i++)
+            {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+            }
+
+            return node;
+        }
+
+        private void addPrefixPrivileges(Set<Privileges> privileges)
+        {
+            prefixPrivileges = union(prefixPrivileges, privileges);
+        }
+
+        private void addExactPrivileges(Set<Privileges> privileges)
+        {
+            exactPrivileges = union(exactPrivileges, privileges);
+        }
+
+        private static Set<Privileges> union(Set<Privileges> current,
+                                             Set<Privileges> privileges)
+        {
+            if (privileges == null || privileges.isEmpty())
+            {
+                return current;
+            }
+
+            Set<Privileges> result = current.isEmpty() ? EnumSet.noneOf(Privileges.class) : current;
+            result.addAll(privileges);
+
+            return result;
+        }
+
+    }
+
+}
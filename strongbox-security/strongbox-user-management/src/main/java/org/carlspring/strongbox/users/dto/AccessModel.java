@@ -11,4 +11,13 @@ public interface AccessModel extends Serializable
 
     Set<Privileges> getPathAuthorities(String path);
 
+    /**
+     * @return the storage privileges which the path authorities are derived from, or <code>null</code> if the path
+     *         authorities of this model are not defined by storage privileges
+     */
+    default Set<? extends StoragePrivileges> getStorageAuthorities()
+    {
+        return null;
+    }
+
 }
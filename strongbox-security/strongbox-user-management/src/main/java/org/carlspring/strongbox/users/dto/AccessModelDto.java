@@ -27,6 +27,7 @@ public class AccessModelDto
         return apiAuthorities;
     }
 
+    @Override
     public Set<StoragePrivilegesDto> getStorageAuthorities()
     {
         return storageAuthorities;
@@ -0,0 +1,40 @@
+package org.carlspring.strongbox.users.event;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Published when a user (or every user, for the changes which are not specific to a user) is modified, so that the
+ * authentication state derived from the user can be discarded.
+ */
+public class UserChangedEvent
+        extends ApplicationEvent
+{
+
+    private final String username;
+
+    public UserChangedEvent(Object source,
+                            String username)
+    {
+        super(source);
+        this.username = username;
+    }
+
+    public static UserChangedEvent allUsers(Object source)
+    {
+        return new UserChangedEvent(source, null);
+    }
+
+    /**
+     * @return the username of the changed user, or <code>null</code> if every user has changed
+     */
+    public String getUsername()
+    {
+        return username;
+    }
+
+    public boolean isAllUsers()
+    {
+        return username == null;
+    }
+
+}
@@ -6,6 +6,7 @@ import java.util.Set;
 
 import org.carlspring.strongbox.users.domain.Privileges;
 import org.carlspring.strongbox.users.dto.AccessModel;
+import org.carlspring.strongbox.users.dto.StoragePrivileges;
 
 
 /**
@@ -36,4 +37,10 @@ public class AnonymousAccessModel implements AccessModel
         return target.getPathAuthorities(url);
     }
 
+    @Override
+    public Set<? extends StoragePrivileges> getStorageAuthorities()
+    {
+        return target.getStorageAuthorities();
+    }
+
 }
\ No newline at end of file
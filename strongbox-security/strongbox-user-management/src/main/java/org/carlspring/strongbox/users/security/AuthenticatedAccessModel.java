@@ -6,6 +6,7 @@ import java.util.Set;
 
 import org.carlspring.strongbox.users.domain.Privileges;
 import org.carlspring.strongbox.users.dto.AccessModel;
+import org.carlspring.strongbox.users.dto.StoragePrivileges;
 
 /**
  * @author sbespalov
@@ -35,4 +36,10 @@ public class AuthenticatedAccessModel implements AccessModel
         return target.getPathAuthorities(url);
     }
 
+    @Override
+    public Set<? extends StoragePrivileges> getStorageAuthorities()
+    {
+        return target.getStorageAuthorities();
+    }
+
 }
@@ -22,10 +22,12 @@ import org.carlspring.strongbox.users.domain.Users;
 import org.carlspring.strongbox.users.dto.User;
 import org.carlspring.strongbox.users.dto.UserDto;
 import org.carlspring.strongbox.users.dto.UsersDto;
+import org.carlspring.strongbox.users.event.UserChangedEvent;
 import org.carlspring.strongbox.users.security.SecurityTokenProvider;
 import org.carlspring.strongbox.users.service.UserService;
 import org.jose4j.lang.JoseException;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 
 
 public class InMemoryUserService implements UserService
@@ -38,6 +40,9 @@ public class InMemoryUserService implements UserService
     @Inject
     private SecurityTokenProvider tokenProvider;
 
+    @Inject
+    protected ApplicationEventPublisher eventPublisher;
+
     @Override
     public Users getUsers()
     {
@@ -100,13 +105,15 @@ public class InMemoryUserService implements UserService
         modifyInLock(users -> {
             users.values().forEach(user -> user.removeRole(roleToRevoke));
         });
+
+        eventPublisher.publishEvent(UserChangedEvent.allUsers(this));
     }
 
     @Override
     @CacheEvict(cacheNames = CacheName.User.AUTHENTICATIONS, key = "#p0.username")
     public User save(final User user)
     {
-        return modifyInLock(users -> {
+        User result = modifyInLock(users -> {
             UserDto userDto = Optional.ofNullable(users.get(user.getUsername())).orElseGet(() -> new UserDto());
 
             if (!StringUtils.isBlank(user.getPassword()))
@@ -123,6 +130,10 @@ public class InMemoryUserService implements UserService
             
             return userDto;
         });
+
+        eventPublisher.publishEvent(new UserChangedEvent(this, user.getUsername()));
+
+        return result;
     }
 
     @Override
@@ -131,6 +142,8 @@ public class InMemoryUserService implements UserService
         modifyInLock(users -> {
             users.remove(username);
         });
+
+        eventPublisher.publishEvent(new UserChangedEvent(this, username));
     }
 
     @Override
@@ -147,6 +160,8 @@ public class InMemoryUserService implements UserService
                         updateSecurityToken(user, userToUpdate.getSecurityTokenKey());
                     });
         });
+
+        eventPublisher.publishEvent(new UserChangedEvent(this, userToUpdate.getUsername()));
     }
 
     private void updateSecurityToken(final UserDto user,
@@ -21,6 +21,7 @@ import org.carlspring.strongbox.domain.UserEntry;
 import org.carlspring.strongbox.users.domain.UserData;
 import org.carlspring.strongbox.users.domain.Users;
 import org.carlspring.strongbox.users.dto.User;
+import org.carlspring.strongbox.users.event.UserChangedEvent;
 import org.carlspring.strongbox.users.security.SecurityTokenProvider;
 import org.carlspring.strongbox.users.service.UserEntryService;
 import org.carlspring.strongbox.users.service.impl.OrientDbUserService.OrientDb;
@@ -28,6 +29,7 @@ import org.jose4j.lang.JoseException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
 
@@ -48,6 +50,9 @@ public class OrientDbUserService extends CommonCrudService<UserEntry> implements
     @Inject
     private SecurityTokenProvider tokenProvider;
 
+    @Inject
+    private ApplicationEventPublisher eventPublisher;
+
     @Override
     @CacheEvict(cacheNames = CacheName.User.AUTHENTICATIONS, key = "#p0")
     public void deleteByUsername(String username)
@@ -59,6 +64,8 @@ public class OrientDbUserService extends CommonCrudService<UserEntry> implements
 
         OCommandSQL oQuery = new OCommandSQL(sQuery);
         getDelegate().command(oQuery).execute(params);
+
+        eventPublisher.publishEvent(new UserChangedEvent(this, username));
     }
 
     @Override
@@ -175,7 +182,11 @@ public class OrientDbUserService extends CommonCrudService<UserEntry> implements
             throw new IllegalStateException("Can't modify external users.");
         }
 
-        return super.save(entity);
+        S result = super.save(entity);
+
+        eventPublisher.publishEvent(new UserChangedEvent(this, entity.getUsername()));
+
+        return result;
     }
 
     public void expireUser(String username, boolean clearSourceId)
@@ -187,6 +198,8 @@ public class OrientDbUserService extends CommonCrudService<UserEntry> implements
             externalUserEntry.setSourceId("empty");
         }
         entityManager.persist(externalUserEntry);
+
+        eventPublisher.publishEvent(new UserChangedEvent(this, username));
     }
     
     @Override
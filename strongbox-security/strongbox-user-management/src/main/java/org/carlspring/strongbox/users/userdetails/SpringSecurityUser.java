@@ -7,6 +7,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.carlspring.strongbox.authorization.dto.Role;
+import org.carlspring.strongbox.users.domain.PathAuthoritiesIndex;
 import org.carlspring.strongbox.users.domain.Privileges;
 import org.springframework.security.core.userdetails.UserDetails;
 
@@ -30,6 +31,11 @@ public class SpringSecurityUser
     
     private String sourceId;
 
+    /**
+     * Built from the {@link #roles}, and rebuilt whenever they are set.
+     */
+    private transient volatile PathAuthoritiesIndex pathAuthoritiesIndex;
+
     @Override
     public String getUsername()
     {
@@ -89,6 +95,7 @@ public class SpringSecurityUser
     public void setRoles(Set<Role> roles)
     {
         this.roles = roles;
+        this.pathAuthoritiesIndex = roles != null ? buildPathAuthoritiesIndex(roles) : null;
     }
 
     @Override
@@ -99,11 +106,19 @@ public class SpringSecurityUser
 
     public Collection<Privileges> getStorageAuthorities(String path)
     {
-        return getRoles().stream()
-                         .flatMap(r -> r.getAccessModel()
-                                        .getPathAuthorities(path)
-                                        .stream())
-                         .collect(Collectors.toSet());
+        PathAuthoritiesIndex index = pathAuthoritiesIndex;
+        if (index == null)
+        {
+            // The index is not serialized with the user.
+            index = pathAuthoritiesIndex = buildPathAuthoritiesIndex(roles);
+        }
+
+        return index.getPathAuthorities(path);
+    }
+
+    private static PathAuthoritiesIndex buildPathAuthoritiesIndex(Set<Role> roles)
+    {
+        return new PathAuthoritiesIndex(roles.stream().map(Role::getAccessModel).collect(Collectors.toList()));
     }
 
     public String getUrl()
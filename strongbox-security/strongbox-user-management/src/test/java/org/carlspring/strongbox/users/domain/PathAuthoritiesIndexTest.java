@@ -0,0 +1,142 @@
+package org.carlspring.strongbox.users.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.carlspring.strongbox.users.dto.AccessModel;
+import org.carlspring.strongbox.users.dto.AccessModelDto;
+import org.carlspring.strongbox.users.dto.PathPrivilegesDto;
+import org.carlspring.strongbox.users.dto.RepositoryPrivilegesDto;
+import org.carlspring.strongbox.users.dto.StoragePrivilegesDto;
+import org.carlspring.strongbox.users.security.AdminAccessModel;
+import org.carlspring.strongbox.users.security.AuthenticatedAccessModel;
+import org.junit.jupiter.api.Test;
+
+public class PathAuthoritiesIndexTest
+{
+
+    private static final String[] STORAGE_IDS = { "storage0", "storage01", "storage1" };
+
+    private static final String[] REPOSITORY_IDS = { "releases", "releases-old", "snapshots" };
+
+    private static final String[] PATHS = { "org",
+                                            "org/",
+                                            "org/carlspring",
+                                            "org/carlspring/strongbox",
+                                            "org/carlspring/strongbox/",
+                                            "org/carlspring/strongbox-utils",
+                                            "com/example/foo/1.0",
+                                            "" };
+
+    private static final String[] URL_PATHS = { "",
+                                                "/",
+                                                "/org",
+                                                "/org/",
+                                                "/org/carlspring",
+                                                "/org/carlspring/strongbox",
+                                                "/org/carlspring/strongbox/1.0/strongbox-1.0.jar",
+                                                "/org/carlspring/strongbox-utils/1.0/strongbox-utils-1.0.jar",
+                                                "/com/example/foo/1.0",
+                                                "/com/example/foo/1.0/foo-1.0.pom" };
+
+    private static final Privileges[] PRIVILEGES = { Privileges.ARTIFACTS_RESOLVE,
+                                                     Privileges.ARTIFACTS_VIEW,
+                                                     Privileges.ARTIFACTS_DEPLOY,
+                                                     Privileges.ARTIFACTS_DELETE,
+                                                     Privileges.ARTIFACTS_COPY };
+
+    @Test
+    public void indexShouldGrantTheSameAuthoritiesAsTheAccessModels()
+    {
+        Random random = new Random(0);
+
+        for (int i = 0; i < 200; i++)
+        {
+            List<AccessModel> accessModels = new ArrayList<>();
+            for (int j = random.nextInt(4); j >= 0; j--)
+            {
+                accessModels.add(new AuthenticatedAccessModel(new AccessModelData(randomAccessModel(random, 6))));
+            }
+
+            PathAuthoritiesIndex index = new PathAuthoritiesIndex(accessModels);
+
+            for (int j = 0; j < 50; j++)
+            {
+                String url = randomUrl(random);
+
+                Set<Privileges> expected = new HashSet<>();
+                accessModels.forEach(m -> expected.addAll(m.getPathAuthorities(url)));
+
+                assertThat(index.getPathAuthorities(url)).as("url [%s]", url)
+                                                         .isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    public void accessModelsWithoutStoragePrivilegesShouldBeEvaluated()
+    {
+        PathAuthoritiesIndex index = new PathAuthoritiesIndex(Collections.singletonList(
+                new AuthenticatedAccessModel(new AdminAccessModel())));
+
+        assertThat(index.getPathAuthorities("/storages/storage0/releases/org")).isEqualTo(Privileges.all());
+    }
+
+    private AccessModelDto randomAccessModel(Random random,
+                                             int pathPrivileges)
+    {
+        AccessModelDto accessModel = new AccessModelDto();
+        for (int i = 0; i < pathPrivileges; i++)
+        {
+            String storageId = pick(random, STORAGE_IDS);
+            StoragePrivilegesDto storage = accessModel.getStorageAuthorities(storageId).orElseGet(() -> {
+                StoragePrivilegesDto result = new StoragePrivilegesDto(storageId);
+                accessModel.getStorageAuthorities().add(result);
+
+                return result;
+            });
+
+            String repositoryId = pick(random, REPOSITORY_IDS);
+            RepositoryPrivilegesDto repository = storage.getRepositoryPrivileges(repositoryId).orElseGet(() -> {
+                RepositoryPrivilegesDto result = new RepositoryPrivilegesDto(repositoryId);
+                storage.getRepositoryPrivileges().add(result);
+
+                return result;
+            });
+
+            if (random.nextInt(4) == 0)
+            {
+                repository.getRepositoryPrivileges().add(pick(random, PRIVILEGES));
+            }
+
+            PathPrivilegesDto pathPrivilege = new PathPrivilegesDto(pick(random, PATHS));
+            pathPrivilege.setWildcard(random.nextBoolean());
+            pathPrivilege.setPrivileges(EnumSet.of(pick(random, PRIVILEGES)));
+            repository.getPathPrivileges().add(pathPrivilege);
+        }
+
+        return accessModel;
+    }
+
+    private String randomUrl(Random random)
+    {
+        String url = "/storages/" + pick(random, STORAGE_IDS) + "/" + pick(random, REPOSITORY_IDS) +
+                     pick(random, URL_PATHS);
+
+        return random.nextBoolean() ? url : url + "/";
+    }
+
+    private <T> T pick(Random random,
+                       T[] values)
+    {
+        return values[random.nextInt(values.length)];
+    }
+
+}
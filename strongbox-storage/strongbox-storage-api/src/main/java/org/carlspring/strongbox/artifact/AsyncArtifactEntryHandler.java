@@ -127,6 +127,8 @@ public abstract class AsyncArtifactEntryHandler
             catch (ONeedRetryException e)
             {
                 logger.debug("Retry event [{}] for path [{}]", this.getClass().getSimpleName(), repositoryPath);
+                // The entry fetched by the request (or the previous attempt) is outdated.
+                repositoryPath.invalidateArtifactEntry();
                 propogateIfNeeded(i, repositoryPath, e);
             }
 
@@ -164,7 +166,10 @@ public abstract class AsyncArtifactEntryHandler
                     return null;
                 }
 
-                return artifactEntryService.save(result);
+                ArtifactEntry savedArtifactEntry = artifactEntryService.save(result);
+                repositoryPath.invalidateArtifactEntry();
+
+                return savedArtifactEntry;
             }
             catch (IOException e)
             {
@@ -6,6 +6,8 @@ import org.carlspring.strongbox.providers.io.RepositoryPath;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.function.BooleanSupplier;
 import java.util.stream.Stream;
 
 import org.slf4j.Logger;
@@ -27,6 +29,11 @@ public class ArtifactDirectoryLocator
      */
     private RepositoryPath basedir;
 
+    /**
+     * Checked before each directory, so that a long walk can be stopped.
+     */
+    private BooleanSupplier cancellation = () -> false;
+
     public void locateArtifactDirectories()
         throws IOException
     {
@@ -36,12 +43,23 @@ public class ArtifactDirectoryLocator
 
         try (Stream<Path> pathStream = Files.walk(startingPath))
         {
-            pathStream.filter(Files::isDirectory)
-                      // Skip directories which start with a dot (like, for example: .index)
-                      .filter(path -> !path.getFileName().toString().startsWith("."))
-                      // Note: Sorting can be expensive:
-                      .sorted()
-                      .forEach(this::execute);
+            Iterator<Path> directories = pathStream.filter(Files::isDirectory)
+                                                   // Skip directories which start with a dot (like, for example: .index)
+                                                   .filter(path -> !path.getFileName().toString().startsWith("."))
+                                                   // Note: Sorting can be expensive:
+                                                   .sorted()
+                                                   .iterator();
+            while (directories.hasNext())
+            {
+                if (cancellation.getAsBoolean())
+                {
+                    logger.info("Cancelled the visits in [{}].", startingPath);
+
+                    break;
+                }
+
+                execute(directories.next());
+            }
         }
 
         long endTime = System.currentTimeMillis();
@@ -88,6 +106,16 @@ public class ArtifactDirectoryLocator
         this.basedir = basedir;
     }
 
+    public BooleanSupplier getCancellation()
+    {
+        return cancellation;
+    }
+
+    public void setCancellation(BooleanSupplier cancellation)
+    {
+        this.cancellation = cancellation;
+    }
+
     void execute(Path path)
     {
         try
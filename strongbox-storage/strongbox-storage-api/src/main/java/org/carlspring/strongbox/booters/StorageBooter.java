@@ -15,13 +15,21 @@ import org.carlspring.strongbox.storage.repository.RepositoryStatusEnum;
 import javax.annotation.PostConstruct;
 import javax.inject.Inject;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.carlspring.strongbox.util.ThrowingConsumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 
 /**
  * @author mtodorov
@@ -49,6 +57,12 @@ public class StorageBooter
     @Inject
     private HazelcastInstance hazelcastInstance;
 
+    /**
+     * The number of repositories, which are initialized concurrently.
+     */
+    @Value("${strongbox.storage.booter.threads:4}")
+    private int threads;
+
     public StorageBooter()
     {
     }
@@ -74,7 +88,7 @@ public class StorageBooter
                     logger.info(" -> Initializing repositories...");
                 }
 
-                repositories.forEach(ThrowingConsumer.unchecked(this::initializeRepository));
+                initializeRepositories(repositories);
             }
             finally
             {
@@ -107,6 +121,82 @@ public class StorageBooter
         logger.info("  * Initializing {}...", storage.getId());
     }
 
+    /**
+     * The hosted and proxy repositories don't depend on each other, so they're initialized concurrently. The groups
+     * are initialized after all of them, in the order of the hierarchy.
+     */
+    private void initializeRepositories(Collection<Repository> repositories)
+            throws IOException, RepositoryManagementStrategyException
+    {
+        List<Repository> groupRepositories = new ArrayList<>();
+        List<Future<?>> futures = new ArrayList<>();
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, threads),
+                                                                new CustomizableThreadFactory("storage-booter-"));
+        try
+        {
+            for (Repository repository : repositories)
+            {
+                if (repository.isGroupRepository())
+                {
+                    groupRepositories.add(repository);
+
+                    continue;
+                }
+
+                futures.add(executor.submit(() -> {
+                    initializeRepository(repository);
+
+                    return null;
+                }));
+            }
+
+            for (Future<?> future : futures)
+            {
+                await(future);
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+
+        groupRepositories.forEach(ThrowingConsumer.unchecked(this::initializeRepository));
+    }
+
+    private void await(Future<?> future)
+            throws IOException, RepositoryManagementStrategyException
+    {
+        try
+        {
+            future.get();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+
+            throw new IOException("Interrupted while initializing the repositories.", e);
+        }
+        catch (ExecutionException e)
+        {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException)
+            {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RepositoryManagementStrategyException)
+            {
+                throw (RepositoryManagementStrategyException) cause;
+            }
+            if (cause instanceof RuntimeException)
+            {
+                throw (RuntimeException) cause;
+            }
+
+            throw new IOException(cause);
+        }
+    }
+
     private void initializeRepository(Repository repository)
             throws IOException, RepositoryManagementStrategyException
     {
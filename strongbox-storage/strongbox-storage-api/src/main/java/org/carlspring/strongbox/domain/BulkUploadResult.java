@@ -0,0 +1,144 @@
+package org.carlspring.strongbox.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The outcome of a bulk upload, with the outcome of each of its entries.
+ */
+public class BulkUploadResult
+{
+
+    private String message;
+
+    private List<Entry> entries = new ArrayList<>();
+
+    public String getMessage()
+    {
+        return message;
+    }
+
+    public void setMessage(String message)
+    {
+        this.message = message;
+    }
+
+    public List<Entry> getEntries()
+    {
+        return entries;
+    }
+
+    public void setEntries(List<Entry> entries)
+    {
+        this.entries = entries;
+    }
+
+    public long count(Status status)
+    {
+        return entries.stream().filter(e -> e.getStatus() == status).count();
+    }
+
+    /**
+     * @return whether all the entries have been stored
+     */
+    public boolean isComplete()
+    {
+        return message == null && count(Status.STORED) == entries.size();
+    }
+
+    public enum Status
+    {
+
+        /**
+         * The entry has been stored.
+         */
+        STORED,
+
+        /**
+         * The entry hasn't passed the validation, or its path is invalid.
+         */
+        REJECTED,
+
+        /**
+         * Storing the entry has failed.
+         */
+        FAILED,
+
+        /**
+         * The entry hasn't been stored, because the upload is atomic and another entry has been rejected, or has
+         * failed.
+         */
+        SKIPPED,
+
+        /**
+         * The entry has been stored and deleted again, because the upload is atomic and another entry has failed.
+         */
+        ROLLED_BACK;
+
+    }
+
+    public static class Entry
+    {
+
+        private String path;
+
+        private Status status;
+
+        private long size;
+
+        private String message;
+
+        public Entry()
+        {
+        }
+
+        public Entry(String path,
+                     long size)
+        {
+            this.path = path;
+            this.size = size;
+        }
+
+        public String getPath()
+        {
+            return path;
+        }
+
+        public void setPath(String path)
+        {
+            this.path = path;
+        }
+
+        public Status getStatus()
+        {
+            return status;
+        }
+
+        public void setStatus(Status status)
+        {
+            this.status = status;
+        }
+
+        public long getSize()
+        {
+            return size;
+        }
+
+        public void setSize(long size)
+        {
+            this.size = size;
+        }
+
+        public String getMessage()
+        {
+            return message;
+        }
+
+        public void setMessage(String message)
+        {
+            this.message = message;
+        }
+
+    }
+
+}
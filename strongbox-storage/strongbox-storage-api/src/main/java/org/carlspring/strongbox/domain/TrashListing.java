@@ -0,0 +1,94 @@
+package org.carlspring.strongbox.domain;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * A page of the files in the trash of a repository, ordered by their paths.
+ */
+public class TrashListing
+{
+
+    private List<Entry> entries = new ArrayList<>();
+
+    /**
+     * The cursor of the next page, or {@code null}, if this is the last page.
+     */
+    private String nextCursor;
+
+    public List<Entry> getEntries()
+    {
+        return entries;
+    }
+
+    public void setEntries(List<Entry> entries)
+    {
+        this.entries = entries;
+    }
+
+    public String getNextCursor()
+    {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor)
+    {
+        this.nextCursor = nextCursor;
+    }
+
+    public static class Entry
+    {
+
+        private String path;
+
+        private long size;
+
+        private Date trashed;
+
+        public Entry()
+        {
+        }
+
+        public Entry(String path,
+                     long size,
+                     Date trashed)
+        {
+            this.path = path;
+            this.size = size;
+            this.trashed = trashed;
+        }
+
+        public String getPath()
+        {
+            return path;
+        }
+
+        public void setPath(String path)
+        {
+            this.path = path;
+        }
+
+        public long getSize()
+        {
+            return size;
+        }
+
+        public void setSize(long size)
+        {
+            this.size = size;
+        }
+
+        public Date getTrashed()
+        {
+            return trashed;
+        }
+
+        public void setTrashed(Date trashed)
+        {
+            this.trashed = trashed;
+        }
+
+    }
+
+}
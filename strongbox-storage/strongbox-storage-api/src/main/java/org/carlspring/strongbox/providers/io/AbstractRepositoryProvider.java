@@ -231,6 +231,8 @@ public abstract class AbstractRepositoryProvider implements RepositoryProvider,
 
         RepositoryArtifactIdGroupEntry artifactGroup = repositoryArtifactIdGroupService.findOneOrCreate(storage.getId(), repository.getId(), coordinates.getId());
         repositoryArtifactIdGroupService.addArtifactToGroup(artifactGroup, artifactEntry);
+
+        repositoryPath.invalidateArtifactEntry();
     }
 
     protected ArtifactEntry provideArtifactEntry(RepositoryPath repositoryPath) throws IOException
@@ -31,6 +31,12 @@ public abstract class LayoutFileSystem
     public static final String TRASH = ".trash";
     public static final String TEMP = ".temp";
 
+    /**
+     * The suffix of the empty files next to the trashed files, whose modification time is the time the files have
+     * been trashed.
+     */
+    public static final String TRASHED_TIME_SUFFIX = ".trashed";
+
     private final Repository repository;
     private final StorageFileSystemProvider provider;
     
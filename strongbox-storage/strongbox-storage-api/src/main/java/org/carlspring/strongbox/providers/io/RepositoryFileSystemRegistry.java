@@ -1,17 +1,56 @@
 package org.carlspring.strongbox.providers.io;
 
+import org.carlspring.strongbox.configuration.Configuration;
+import org.carlspring.strongbox.providers.layout.LayoutFileSystemProvider;
+import org.carlspring.strongbox.storage.Storage;
 import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.storage.repository.RepositoryData;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+/**
+ * Holds the layout specific file system factories, and the {@link LayoutFileSystem}-s built by them.
+ * <br>
+ * A file system (and its provider) is built once per repository and reused until the configuration changes, see
+ * {@link #invalidateAll(Configuration)}. Building them creates prototype beans, which is too expensive to be done on
+ * every path resolution.
+ * <br>
+ * Only the file systems of the repositories of the published configuration are cached. A reader, which still holds
+ * a repository of the previous configuration, gets a file system which isn't cached, so it can't bring the previous
+ * configuration back into the cache.
+ */
 @Component
 public class RepositoryFileSystemRegistry
 {
 
+    /**
+     * storageId:repositoryId -> file system
+     */
+    private final Map<String, LayoutFileSystem> fileSystems = new ConcurrentHashMap<>();
+
+    /**
+     * The keys of the file systems which have been built at least once, to tell the rebuilds from the misses.
+     */
+    private final Set<String> builtFileSystems = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder rebuilds = new LongAdder();
+
+    /**
+     * The published configuration, or {@code null} if it hasn't been published yet.
+     */
+    private volatile Configuration configuration;
+
     private Map<String, LayoutFileSystemProviderFactory> fileSystemProviderFactoryMap = new HashMap<>();
 
     private Map<String, LayoutFileSystemFactory> fileSystemFactoryMap = new HashMap<>();
@@ -51,4 +90,122 @@ public class RepositoryFileSystemRegistry
     {
         return fileSystemProviderFactoryMap.get(r.getLayout());
     }
+
+    /**
+     * @return the file system of the repository, which is only built if it hasn't been built since the last
+     *         configuration change
+     */
+    public LayoutFileSystem getFileSystem(Repository repository)
+    {
+        if (!(repository instanceof RepositoryData))
+        {
+            // The mutable repository DTOs may change at any time, so the file system can't be reused.
+            return lookupRepositoryFileSystemFactory(repository).create(repository);
+        }
+
+        String key = getKey(repository.getStorage().getId(), repository.getId());
+
+        LayoutFileSystem fileSystem = fileSystems.get(key);
+        if (fileSystem != null)
+        {
+            hits.increment();
+
+            return fileSystem;
+        }
+
+        Configuration published = configuration;
+        if (published != null && !isPublished(published, repository))
+        {
+            return lookupRepositoryFileSystemFactory(repository).create(repository);
+        }
+
+        fileSystem = fileSystems.computeIfAbsent(key, k -> {
+            if (builtFileSystems.add(k))
+            {
+                misses.increment();
+            }
+            else
+            {
+                rebuilds.increment();
+            }
+
+            return lookupRepositoryFileSystemFactory(repository).create(repository);
+        });
+
+        // The configuration has been published while the file system was being built.
+        if (configuration != published)
+        {
+            fileSystems.remove(key, fileSystem);
+        }
+
+        return fileSystem;
+    }
+
+    private boolean isPublished(Configuration published,
+                                Repository repository)
+    {
+        Storage storage = published.getStorage(repository.getStorage().getId());
+
+        return storage != null && storage.getRepository(repository.getId()) == repository;
+    }
+
+    public LayoutFileSystemProvider getFileSystemProvider(Repository repository)
+    {
+        return (LayoutFileSystemProvider) getFileSystem(repository).provider();
+    }
+
+    public void invalidate(String storageId,
+                           String repositoryId)
+    {
+        fileSystems.remove(getKey(storageId, repositoryId));
+    }
+
+    /**
+     * Should be called on every configuration change, once the new configuration has been published, as the file
+     * systems hold on to the {@link Repository} they have been built for.
+     */
+    public void invalidateAll(Configuration configuration)
+    {
+        this.configuration = configuration;
+
+        fileSystems.clear();
+    }
+
+    public void invalidateAll()
+    {
+        fileSystems.clear();
+    }
+
+    public long getHitCount()
+    {
+        return hits.sum();
+    }
+
+    public long getMissCount()
+    {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of file systems rebuilt because the configuration had changed
+     */
+    public long getRebuildCount()
+    {
+        return rebuilds.sum();
+    }
+
+    public double getHitRate()
+    {
+        long hitCount = getHitCount();
+        long requestCount = hitCount + getMissCount() + getRebuildCount();
+
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    private String getKey(String storageId,
+                          String repositoryId)
+    {
+        return storageId + ":" + repositoryId;
+    }
+
 }
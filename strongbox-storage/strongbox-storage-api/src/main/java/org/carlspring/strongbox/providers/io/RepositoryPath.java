@@ -65,6 +65,14 @@ public class RepositoryPath
         return artifactEntry;
     }
 
+    /**
+     * Discards the {@link ArtifactEntry} which may have been fetched for this path, so that the next
+     * {@link #getArtifactEntry()} reads the stored one.
+     */
+    public void invalidateArtifactEntry()
+    {
+    }
+
     public LayoutFileSystem getFileSystem()
     {
         return fileSystem;
@@ -10,6 +10,8 @@ import javax.annotation.Nonnull;
 import javax.inject.Inject;
 
 import org.carlspring.strongbox.artifact.coordinates.ArtifactCoordinates;
+import org.carlspring.strongbox.metrics.StrongboxMetrics;
+import org.carlspring.strongbox.storage.repository.Repository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -30,6 +32,9 @@ public class RepositoryPathLock
 
     private DistributedLockService lockService;
 
+    @Inject
+    private StrongboxMetrics strongboxMetrics;
+
     @Inject
     public void setHazelcastInstance(HazelcastInstance hazelcastInstance)
     {
@@ -49,8 +54,12 @@ public class RepositoryPathLock
                                   .map(p -> String.format("%s?%s", lock, p))
                                   .orElseGet(() -> lock.toString());
         logger.debug("Get lock for [{}]", lock);
-        
-        return lockService.getReentrantReadWriteLock(lockName);
+
+        Repository repository = repositoryPath.getRepository();
+
+        return new TimedReadWriteLock(lockService.getReentrantReadWriteLock(lockName),
+                                      strongboxMetrics.lockWaitTimer(repository.getStorage().getId(),
+                                                                     repository.getId()));
     }
 
     private URI getLock(final @Nonnull RepositoryPath repositoryPath) throws IOException
@@ -10,6 +10,7 @@ import org.carlspring.strongbox.storage.repository.Repository;
 import javax.inject.Inject;
 import java.io.IOException;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.springframework.stereotype.Component;
 
@@ -33,9 +34,7 @@ public class RepositoryPathResolver
     {
         Objects.requireNonNull(repository, "Repository should be provided");
 
-        LayoutFileSystemFactory fileSystemFactory = fileSystemRegistry.lookupRepositoryFileSystemFactory(repository);
-
-        return fileSystemFactory.create(repository).getRootDirectory();
+        return fileSystemRegistry.getFileSystem(repository).getRootDirectory();
     }
 
     public RepositoryPath resolve(String storageId,
@@ -80,9 +79,20 @@ public class RepositoryPathResolver
         return new CachedRepositoryPath(repositoryPath.resolve(path));
     }
     
+    /**
+     * Fetches the {@link ArtifactEntry} once per path instance: a request passes the same path through the
+     * controller, the validators, the provider and the event handlers, which would otherwise query the database
+     * separately.
+     */
     private class CachedRepositoryPath extends RepositoryPath
     {
 
+        /**
+         * Replaced (rather than cleared) on invalidation, so that a fetch which overlaps with the invalidation
+         * doesn't memoize the outdated entry.
+         */
+        private final AtomicReference<ArtifactEntryHolder> artifactEntryHolder = new AtomicReference<>(new ArtifactEntryHolder());
+
         private CachedRepositoryPath(RepositoryPath target)
         {
             super(target.getTarget(), target.getFileSystem());
@@ -91,6 +101,21 @@ public class RepositoryPathResolver
         @Override
         public ArtifactEntry getArtifactEntry()
             throws IOException
+        {
+            ArtifactEntryHolder holder = artifactEntryHolder.get();
+            if (holder.fetched)
+            {
+                return holder.artifactEntry;
+            }
+
+            ArtifactEntry artifactEntry = fetchArtifactEntry();
+            artifactEntryHolder.compareAndSet(holder, new ArtifactEntryHolder(artifactEntry));
+
+            return artifactEntry;
+        }
+
+        private ArtifactEntry fetchArtifactEntry()
+            throws IOException
         {
             if (this.getRepository().isGroupRepository() || !RepositoryFiles.isArtifact(this))
             {
@@ -109,13 +134,46 @@ public class RepositoryPathResolver
 
         }
 
+        @Override
+        public void invalidateArtifactEntry()
+        {
+            artifactEntryHolder.set(new ArtifactEntryHolder());
+        }
+
         @Override
         public RepositoryPath normalize()
         {
             RepositoryPath target = super.normalize();
-            return new CachedRepositoryPath(target);
+            CachedRepositoryPath result = new CachedRepositoryPath(target);
+            if (target.getTarget().equals(getTarget()))
+            {
+                result.artifactEntryHolder.set(artifactEntryHolder.get());
+            }
+
+            return result;
         }
         
     }
 
+    private static class ArtifactEntryHolder
+    {
+
+        private final boolean fetched;
+
+        private final ArtifactEntry artifactEntry;
+
+        private ArtifactEntryHolder()
+        {
+            this.fetched = false;
+            this.artifactEntry = null;
+        }
+
+        private ArtifactEntryHolder(ArtifactEntry artifactEntry)
+        {
+            this.fetched = true;
+            this.artifactEntry = artifactEntry;
+        }
+
+    }
+
 }
@@ -5,9 +5,14 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.function.Function;
 
+import com.google.common.util.concurrent.Uninterruptibles;
 import org.apache.commons.io.input.CountingInputStream;
 import org.apache.commons.io.input.ProxyInputStream;
 import org.apache.commons.io.output.CountingOutputStream;
@@ -37,6 +42,12 @@ public class RepositoryStreamSupport
     protected final ReadWriteLock lockSource;
     
     protected final RepositoryStreamCallback callback;
+
+    /**
+     * The thread which holds the lock instead of the one which has opened the stream, see
+     * {@link RepositoryInputStream#handOverLock(Function)}.
+     */
+    private volatile ExecutorService lockOwner;
     
     
     public RepositoryStreamSupport(ReadWriteLock lockSource,
@@ -92,13 +103,64 @@ public class RepositoryStreamSupport
             return;
         }
 
-        ctx.getLock().unlock();
+        Lock lock = ctx.getLock();
+        if (lockOwner != null)
+        {
+            try
+            {
+                lockOwner.execute(lock::unlock);
+            }
+            catch (RejectedExecutionException e)
+            {
+                // Only the owner can release the lock, which has been shut down along with the application.
+                logger.warn("The lock of [{}] can't be released, as its owner has been shut down.", ctx.getPath());
+            }
+        }
+        else
+        {
+            lock.unlock();
+        }
         
         logger.debug("Unlocked [{}].", ctx.getPath());
         
         clearContext();
     }
 
+    protected boolean handOverLock(Function<Path, ExecutorService> lockOwners)
+        throws IOException
+    {
+        RepositoryStreamContext ctx = getContext();
+        if (ctx == null || !ctx.isOpened())
+        {
+            return false;
+        }
+
+        ExecutorService lockOwner = lockOwners.apply(ctx.getPath());
+        Lock lock = ctx.getLock();
+        boolean locked;
+        try
+        {
+            // Waiting for the lock could deadlock with a queued writer, as this thread holds the lock already.
+            locked = Uninterruptibles.getUninterruptibly(lockOwner.submit(lock::tryLock));
+        }
+        catch (ExecutionException e)
+        {
+            throw new IOException(e.getCause());
+        }
+
+        if (!locked)
+        {
+            return false;
+        }
+
+        lock.unlock();
+        this.lockOwner = lockOwner;
+
+        logger.debug("Handed over the lock of [{}].", ctx.getPath());
+
+        return true;
+    }
+
     protected void commit() throws IOException
     {
         callback.commit((RepositoryStreamWriteContext) getContext());
@@ -227,6 +289,20 @@ public class RepositoryStreamSupport
             }
         }
 
+        /**
+         * Hands the lock of the path over to the single thread executor, which is chosen for the path, so that the
+         * rest of the stream can be read and closed by other threads, while the path stays locked. The lock is owned
+         * by the thread which has opened the stream, so this must be called by it.
+         *
+         * @return {@code false}, if the lock couldn't be taken by the executor right away, in which case the stream
+         *         has to be read and closed by this thread
+         */
+        public boolean handOverLock(Function<Path, ExecutorService> lockOwners)
+            throws IOException
+        {
+            return RepositoryStreamSupport.this.handOverLock(lockOwners);
+        }
+
         @Override
         public void close()
             throws IOException
@@ -23,6 +23,7 @@ import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.nio.file.attribute.FileAttribute;
 import java.nio.file.attribute.FileAttributeView;
+import java.nio.file.attribute.FileTime;
 import java.nio.file.spi.FileSystemProvider;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -307,18 +308,30 @@ public abstract class StorageFileSystemProvider
         throws IOException
     {
         Repository repository = repositoryPath.getFileSystem().getRepository();
-        if (!repository.isTrashEnabled() || RepositoryFiles.isTrash(repositoryPath))
+        if (!repository.isTrashEnabled())
         {
             Files.deleteIfExists(repositoryPath.getTarget());
 
             return;
         }
 
+        if (RepositoryFiles.isTrash(repositoryPath))
+        {
+            Files.deleteIfExists(repositoryPath.getTarget());
+            if (!isTrashedTimeFile(repositoryPath.getTarget()))
+            {
+                Files.deleteIfExists(getTrashedTimeFile(repositoryPath.getTarget()));
+            }
+
+            return;
+        }
+
         RepositoryPath trashPath = getTrashPath(repositoryPath);
 
         Files.move(repositoryPath.getTarget(),
                    trashPath.getTarget(),
                    StandardCopyOption.REPLACE_EXISTING);
+        recordTrashedTime(trashPath.getTarget());
 
         if (force && repository.allowsForceDeletion())
         {
@@ -344,14 +357,60 @@ public abstract class StorageFileSystemProvider
         if (!Files.isDirectory(trashPath.getTarget()))
         {
             Files.move(trashPath.getTarget(), path.getTarget(), StandardCopyOption.REPLACE_EXISTING);
+            Files.deleteIfExists(getTrashedTimeFile(trashPath.getTarget()));
         }
         else
         {
             Files.walkFileTree(trashPath.getTarget(),
                                new MoveDirectoryVisitor(trashPath.getTarget(),
                                        path.getTarget(),
-                                       StandardCopyOption.REPLACE_EXISTING));
+                                       StandardCopyOption.REPLACE_EXISTING)
+                               {
+                                   @Override
+                                   public FileVisitResult visitFile(Path file,
+                                                                    BasicFileAttributes attrs)
+                                       throws IOException
+                                   {
+                                       if (isTrashedTimeFile(file))
+                                       {
+                                           Files.delete(file);
+
+                                           return FileVisitResult.CONTINUE;
+                                       }
+
+                                       return super.visitFile(file, attrs);
+                                   }
+                               });
+        }
+    }
+
+    /**
+     * The time is recorded aside, because the attributes of the trashed file can be shared with the other references
+     * to its blob.
+     */
+    protected void recordTrashedTime(Path trashedFile)
+        throws IOException
+    {
+        Path trashedTimeFile = getTrashedTimeFile(trashedFile);
+        if (!Files.exists(trashedTimeFile))
+        {
+            Files.createFile(trashedTimeFile);
         }
+
+        Files.setLastModifiedTime(trashedTimeFile, FileTime.fromMillis(System.currentTimeMillis()));
+    }
+
+    /**
+     * @return the file, whose modification time is the time the given file has been trashed
+     */
+    public static Path getTrashedTimeFile(Path trashedFile)
+    {
+        return trashedFile.resolveSibling(trashedFile.getFileName() + LayoutFileSystem.TRASHED_TIME_SUFFIX);
+    }
+
+    public static boolean isTrashedTimeFile(Path file)
+    {
+        return file.getFileName().toString().endsWith(LayoutFileSystem.TRASHED_TIME_SUFFIX);
     }
 
     public RepositoryPath moveFromTemporaryDirectory(TempRepositoryPath tempPath)
@@ -598,6 +657,14 @@ public abstract class StorageFileSystemProvider
         getTarget().setAttribute(unwrap(path), attribute, value, options);
     }
 
+    /**
+     * @return the directory of the temporary files of the repository of the path, in the underlying file system
+     */
+    public Path getTempDirectory(RepositoryPath path)
+    {
+        return unwrap(path.getFileSystem().getRootDirectory()).resolve(LayoutFileSystem.TEMP);
+    }
+
     protected Path unwrap(Path path)
     {
         return path instanceof RepositoryPath ? ((RepositoryPath) path).getTarget() : path;
@@ -56,4 +56,10 @@ public class TempRepositoryPath extends RepositoryPath
         return tempTarget.getArtifactEntry();
     }
 
+    @Override
+    public void invalidateArtifactEntry()
+    {
+        tempTarget.invalidateArtifactEntry();
+    }
+
 }
@@ -0,0 +1,109 @@
+package org.carlspring.strongbox.providers.io;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Records the time spent waiting for the read and the write locks of a {@link RepositoryPath}.
+ */
+class TimedReadWriteLock
+        implements ReadWriteLock
+{
+
+    private final ReadWriteLock delegate;
+
+    private final Timer timer;
+
+    TimedReadWriteLock(ReadWriteLock delegate,
+                       Timer timer)
+    {
+        this.delegate = delegate;
+        this.timer = timer;
+    }
+
+    @Override
+    public Lock readLock()
+    {
+        return new TimedLock(delegate.readLock());
+    }
+
+    @Override
+    public Lock writeLock()
+    {
+        return new TimedLock(delegate.writeLock());
+    }
+
+    private class TimedLock
+            implements Lock
+    {
+
+        private final Lock lock;
+
+        TimedLock(Lock lock)
+        {
+            this.lock = lock;
+        }
+
+        @Override
+        public void lock()
+        {
+            long start = System.nanoTime();
+            lock.lock();
+            record(start);
+        }
+
+        @Override
+        public void lockInterruptibly()
+            throws InterruptedException
+        {
+            long start = System.nanoTime();
+            lock.lockInterruptibly();
+            record(start);
+        }
+
+        @Override
+        public boolean tryLock()
+        {
+            return lock.tryLock();
+        }
+
+        @Override
+        public boolean tryLock(long time,
+                               TimeUnit unit)
+            throws InterruptedException
+        {
+            long start = System.nanoTime();
+            try
+            {
+                return lock.tryLock(time, unit);
+            }
+            finally
+            {
+                record(start);
+            }
+        }
+
+        @Override
+        public void unlock()
+        {
+            lock.unlock();
+        }
+
+        @Override
+        public Condition newCondition()
+        {
+            return lock.newCondition();
+        }
+
+        private void record(long start)
+        {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+    }
+
+}
@@ -12,22 +12,30 @@ import org.carlspring.strongbox.io.LazyInputStream;
 import org.carlspring.strongbox.io.LazyOutputStream;
 import org.carlspring.strongbox.io.LazyOutputStream.OutputStreamSupplier;
 import org.carlspring.strongbox.io.StreamUtils;
+import org.carlspring.strongbox.metrics.StrongboxMetrics;
 import org.carlspring.strongbox.providers.io.RepositoryFileAttributeType;
 import org.carlspring.strongbox.providers.io.RepositoryFiles;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.providers.io.StorageFileSystemProvider;
+import org.carlspring.strongbox.providers.io.TempRepositoryPath;
 import org.carlspring.strongbox.services.ArtifactEntryService;
+import org.carlspring.strongbox.services.BlobStoreService;
 import org.carlspring.strongbox.storage.ArtifactResolutionException;
 import org.carlspring.strongbox.storage.Storage;
 import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.storage.validation.resource.ArtifactOperationsValidator;
 
 import javax.inject.Inject;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.OpenOption;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileAttribute;
 import java.nio.file.spi.FileSystemProvider;
 import java.security.NoSuchAlgorithmException;
 import java.util.Collections;
@@ -60,6 +68,15 @@ public abstract class LayoutFileSystemProvider extends StorageFileSystemProvider
     @Inject
     private ArtifactEntryService artifactEntryService;
 
+    @Inject
+    private StrongboxMetrics strongboxMetrics;
+
+    @Inject
+    private BlobStoreService blobStoreService;
+
+    @Inject
+    private ArtifactOperationsValidator artifactOperationsValidator;
+
 
     public LayoutFileSystemProvider(FileSystemProvider storageFileSystemProvider)
     {
@@ -111,7 +128,13 @@ public abstract class LayoutFileSystemProvider extends StorageFileSystemProvider
             return new LayoutInputStream(is, Collections.emptySet());
         }
 
-        return new LayoutInputStream(is, path.getFileSystem().getDigestAlgorithmSet());
+        Repository repository = path.getRepository();
+
+        LayoutInputStream result = new LayoutInputStream(is, path.getFileSystem().getDigestAlgorithmSet());
+        result.setDigestTimer(strongboxMetrics.checksumComputationTimer(repository.getStorage().getId(),
+                                                                         repository.getId()));
+
+        return result;
     }
 
     public RepositoryPath getChecksumPath(RepositoryPath path,
@@ -147,6 +170,76 @@ public abstract class LayoutFileSystemProvider extends StorageFileSystemProvider
         });
     }
 
+    /**
+     * Stores the artifact as a reference to a blob, when the blob store is enabled. The checksum and metadata files
+     * are kept as they are, as they are small and rewritten often.
+     * <br>
+     * A new artifact of a hosted repository is checked against the quota with its staged size, before it's moved, so
+     * that an upload of an unknown size can't exceed the quota either. The staged file is deleted, if it doesn't fit.
+     */
+    @Override
+    public RepositoryPath moveFromTemporaryDirectory(TempRepositoryPath tempPath)
+            throws IOException
+    {
+        RepositoryPath target = tempPath.getTempTarget();
+        Repository repository = target.getRepository();
+        if (repository.isHostedRepository() &&
+            !Files.exists(unwrap(target)) &&
+            Boolean.TRUE.equals(RepositoryFiles.isArtifact(target)))
+        {
+            artifactOperationsValidator.checkRepositoryQuota(repository, Files.size(unwrap(tempPath)));
+        }
+
+        RepositoryPath path = super.moveFromTemporaryDirectory(tempPath);
+
+        if (blobStoreService.isEnabled() &&
+            Boolean.TRUE.equals(RepositoryFiles.isArtifact(path)) &&
+            !Boolean.TRUE.equals(RepositoryFiles.isMetadata(path)))
+        {
+            blobStoreService.deduplicate(unwrap(path), getTempDirectory(path));
+        }
+
+        return path;
+    }
+
+    @Override
+    public SeekableByteChannel newByteChannel(Path path,
+                                              Set<? extends OpenOption> options,
+                                              FileAttribute<?>... attrs)
+            throws IOException
+    {
+        detachIfWritten(path, options);
+
+        return super.newByteChannel(path, options, attrs);
+    }
+
+    @Override
+    public FileChannel newFileChannel(Path path,
+                                      Set<? extends OpenOption> options,
+                                      FileAttribute<?>... attrs)
+            throws IOException
+    {
+        detachIfWritten(path, options);
+
+        return super.newFileChannel(path, options, attrs);
+    }
+
+    /**
+     * A file, which is modified in place, mustn't change the other references to its blob.
+     */
+    private void detachIfWritten(Path path,
+                                 Set<? extends OpenOption> options)
+            throws IOException
+    {
+        if (!blobStoreService.isEnabled() || !(path instanceof RepositoryPath) ||
+            !(options.contains(StandardOpenOption.WRITE) || options.contains(StandardOpenOption.APPEND)))
+        {
+            return;
+        }
+
+        blobStoreService.detach(unwrap(path), getTempDirectory((RepositoryPath) path));
+    }
+
     protected LayoutOutputStream decorateStream(RepositoryPath path,
                                                 OutputStream os)
             throws NoSuchAlgorithmException, IOException
@@ -283,6 +376,9 @@ public abstract class LayoutFileSystemProvider extends StorageFileSystemProvider
         {
             artifactEntryService.delete(artifactEntry);
         }
+        repositoryPath.invalidateArtifactEntry();
+
+        artifactEventListenerRegistry.dispatchArtifactPathDeletingEvent(repositoryPath);
         
         super.doDeletePath(repositoryPath, force);
     }
@@ -26,6 +26,7 @@ import org.carlspring.strongbox.data.criteria.Predicate;
 import org.carlspring.strongbox.data.criteria.QueryTemplate;
 import org.carlspring.strongbox.data.criteria.Selector;
 import org.carlspring.strongbox.domain.ArtifactEntry;
+import org.carlspring.strongbox.metrics.StrongboxMetrics;
 import org.carlspring.strongbox.providers.io.AbstractRepositoryProvider;
 import org.carlspring.strongbox.providers.io.RepositoryFiles;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
@@ -68,6 +69,9 @@ public class GroupRepositoryProvider
     @Inject
     private RepositoryPathResolver repositoryPathResolver;
 
+    @Inject
+    private StrongboxMetrics strongboxMetrics;
+
     @Override
     public String getAlias()
     {
@@ -87,6 +91,10 @@ public class GroupRepositoryProvider
     {
         eventPublisher.publishEvent(new GroupRepositoryPathFetchEvent(repositoryPath));
 
+        Repository groupRepository = repositoryPath.getRepository();
+        strongboxMetrics.groupRequestCounter(groupRepository.getStorage().getId(), groupRepository.getId())
+                        .increment();
+
         RepositoryPath result = resolvePathDirectlyFromGroupPathIfPossible(repositoryPath);
         if (result != null)
         {
@@ -116,6 +124,8 @@ public class GroupRepositoryProvider
                 continue;
             }
 
+            strongboxMetrics.groupMemberLookupCounter(storage.getId(), groupRepository.getId()).increment();
+
             subRepositoryPath = resolvePathFromGroupMemberOrTraverse(subRepositoryPath);
             if (subRepositoryPath == null)
             {
@@ -5,6 +5,7 @@ import org.carlspring.strongbox.data.criteria.Paginator;
 import org.carlspring.strongbox.data.criteria.Predicate;
 import org.carlspring.strongbox.domain.ArtifactEntry;
 import org.carlspring.strongbox.domain.RemoteArtifactEntry;
+import org.carlspring.strongbox.metrics.StrongboxMetrics;
 import org.carlspring.strongbox.providers.io.AbstractRepositoryProvider;
 import org.carlspring.strongbox.providers.io.RepositoryFiles;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
@@ -12,6 +13,7 @@ import org.carlspring.strongbox.providers.io.RepositoryPathLock;
 import org.carlspring.strongbox.providers.repository.event.ProxyRepositoryPathExpiredEvent;
 import org.carlspring.strongbox.providers.repository.event.RemoteRepositorySearchEvent;
 import org.carlspring.strongbox.providers.repository.proxied.ProxyRepositoryArtifactResolver;
+import org.carlspring.strongbox.storage.repository.Repository;
 
 import javax.inject.Inject;
 import java.io.IOException;
@@ -49,6 +51,9 @@ public class ProxyRepositoryProvider
     @Inject
     private RepositoryPathLock repositoryPathLock;
 
+    @Inject
+    private StrongboxMetrics strongboxMetrics;
+
     @Override
     public String getAlias()
     {
@@ -68,6 +73,10 @@ public class ProxyRepositoryProvider
     {
         RepositoryPath targetPath = hostedRepositoryProvider.fetchPath(repositoryPath);
 
+        Repository repository = repositoryPath.getRepository();
+        strongboxMetrics.proxyRequestCounter(repository.getStorage().getId(), repository.getId(), targetPath != null)
+                        .increment();
+
         if (targetPath == null)
         {
             targetPath = resolvePathExclusive(repositoryPath);
@@ -92,6 +101,7 @@ public class ProxyRepositoryProvider
         {
             // This is the second attempt, but this time inside exclusive write lock
             // Things might have changed.
+            repositoryPath.invalidateArtifactEntry();
             RepositoryPath targetPath = hostedRepositoryProvider.fetchPath(repositoryPath);
             if (targetPath != null)
             {
@@ -4,6 +4,7 @@ import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 
@@ -11,6 +12,7 @@ import javax.inject.Inject;
 
 import org.carlspring.strongbox.client.RestArtifactResolver;
 import org.carlspring.strongbox.event.artifact.ArtifactEventListenerRegistry;
+import org.carlspring.strongbox.metrics.StrongboxMetrics;
 import org.carlspring.strongbox.providers.io.RepositoryFileAttributes;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.providers.io.RepositoryPathLock;
@@ -45,6 +47,9 @@ public class ProxyRepositoryArtifactResolver
     @Inject
     private ArtifactManagementService artifactManagementService;
 
+    @Inject
+    private StrongboxMetrics strongboxMetrics;
+
     /**
      * This method has been developed to force fetch resource from remote.
      *
@@ -70,6 +75,7 @@ public class ProxyRepositoryArtifactResolver
         Lock lock = lockSource.writeLock();
         lock.lock();
 
+        long start = System.nanoTime();
         try (InputStream is = new BufferedInputStream(new ProxyRepositoryInputStream(client, repositoryPath)))
         {
             return doFetch(repositoryPath, is);
@@ -77,6 +83,9 @@ public class ProxyRepositoryArtifactResolver
         finally
         {
             lock.unlock();
+
+            strongboxMetrics.remoteFetchTimer(repository.getStorage().getId(), repository.getId())
+                            .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         }
     }
 
@@ -0,0 +1,31 @@
+package org.carlspring.strongbox.providers.repository.proxied;
+
+import org.carlspring.strongbox.data.criteria.Paginator;
+import org.carlspring.strongbox.domain.RemoteArtifactEntry;
+import org.carlspring.strongbox.storage.repository.Repository;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * A layout specific search against the remote repository of a proxy repository.
+ */
+public interface RemoteRepositorySearch
+{
+
+    /**
+     * @return the normalized upstream query, which identifies the cached search pages
+     */
+    String getQuery();
+
+    /**
+     * Fetches a page of the upstream search results. The returned entries are not stored.
+     *
+     * @param repository the proxy repository
+     * @param paginator  the requested page
+     */
+    List<RemoteArtifactEntry> fetch(Repository repository,
+                                    Paginator paginator)
+            throws IOException;
+
+}
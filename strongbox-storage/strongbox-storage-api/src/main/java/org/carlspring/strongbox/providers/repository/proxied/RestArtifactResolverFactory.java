@@ -3,15 +3,18 @@ package org.carlspring.strongbox.providers.repository.proxied;
 import java.util.Objects;
 
 import javax.inject.Inject;
+import javax.ws.rs.client.Client;
 
 import org.carlspring.strongbox.client.RemoteRepositoryRetryArtifactDownloadConfiguration;
 import org.carlspring.strongbox.client.RestArtifactResolver;
+import org.carlspring.strongbox.client.RestClientPolicy;
 import org.carlspring.strongbox.configuration.ConfigurationManager;
 import org.carlspring.strongbox.service.ProxyRepositoryConnectionPoolConfigurationService;
 import org.carlspring.strongbox.storage.repository.remote.RemoteRepository;
 import org.carlspring.strongbox.storage.repository.remote.heartbeat.RemoteRepositoryAlivenessService;
 import org.glassfish.jersey.client.authentication.HttpAuthenticationFeature;
 import org.springframework.stereotype.Component;
+import static com.google.common.base.MoreObjects.firstNonNull;
 
 /**
  * @author Przemyslaw Fusik
@@ -43,9 +46,13 @@ public class RestArtifactResolverFactory
         
         final HttpAuthenticationFeature authenticationFeature = (username != null && password != null) ? HttpAuthenticationFeature.basic(username, password) : null;
                 
-        return new RestArtifactResolver(proxyRepositoryConnectionPoolConfigurationService.getRestClient(), url,
+        RestClientPolicy policy = getRestClientPolicy(repository);
+
+        return new RestArtifactResolver(proxyRepositoryConnectionPoolConfigurationService.getRestClient(url, policy),
+                                        url,
                                         configuration,
-                                        authenticationFeature)
+                                        authenticationFeature,
+                                        policy.getMaxRetries())
                                 {
                         
                                     @Override
@@ -57,4 +64,26 @@ public class RestArtifactResolverFactory
                                 };
     }
 
+    /**
+     * Returns the shared REST client of a remote repository, which must not be closed.
+     */
+    public Client getRestClient(RemoteRepository repository)
+    {
+        Objects.requireNonNull(repository);
+
+        return proxyRepositoryConnectionPoolConfigurationService.getRestClient(repository.getUrl(),
+                                                                               getRestClientPolicy(repository));
+    }
+
+    public RestClientPolicy getRestClientPolicy(RemoteRepository repository)
+    {
+        RestClientPolicy defaults = proxyRepositoryConnectionPoolConfigurationService.getDefaultRestClientPolicy();
+
+        return new RestClientPolicy(firstNonNull(repository.getConnectTimeoutSeconds(),
+                                                 defaults.getConnectTimeoutSeconds()),
+                                    firstNonNull(repository.getReadTimeoutSeconds(), defaults.getReadTimeoutSeconds()),
+                                    firstNonNull(repository.getKeepAlive(), defaults.isKeepAlive()),
+                                    firstNonNull(repository.getMaxRetries(), defaults.getMaxRetries()));
+    }
+
 }
@@ -91,6 +91,18 @@ public class ArtifactManagementService
         return doStore(repositoryPath, is);
     }
 
+    /**
+     * Checks, whether the path may be stored, the same as {@link #validateAndStore(RepositoryPath, InputStream)}.
+     */
+    @Transactional
+    public void validate(RepositoryPath repositoryPath)
+        throws IOException,
+        ProviderImplementationException,
+        ArtifactCoordinatesValidationException
+    {
+        performRepositoryAcceptanceValidation(repositoryPath);
+    }
+
     @Transactional
     public long store(RepositoryPath repositoryPath,
                       InputStream is)
@@ -309,6 +321,11 @@ public class ArtifactManagementService
 
         artifactOperationsValidator.checkAllowsRedeployment(repository, coordinates);
         artifactOperationsValidator.checkAllowsDeployment(repository);
+        if (!RepositoryFiles.artifactExists(path))
+        {
+            // The size isn't known yet, it's checked once the upload has been staged.
+            artifactOperationsValidator.checkRepositoryQuota(repository, 0);
+        }
 
         return true;
     }
@@ -0,0 +1,60 @@
+package org.carlspring.strongbox.services;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Keeps the content of the artifacts once, in blobs which are named by the SHA-256 digest of their content.
+ * <br>
+ * The artifact files of the repositories are hard links to the blobs, so that the same content, which is stored in
+ * many repositories (a proxy, a hosted and a staging repository, for example), takes its space only once. The link
+ * count of the file system is the reference count of a blob, and the blobs without references are deleted by
+ * {@link #collectGarbage()}.
+ * <br>
+ * As the references are regular files, range reads, the checksum files, and moving to and restoring from the trash
+ * work as before. The artifacts, which are stored on a file system without hard links, aren't deduplicated.
+ * <br>
+ * The references to a blob share its inode, and so its attributes:
+ * <ul>
+ *     <li>the modification time is the time, when the content has been stored first, so the {@code Last-Modified}
+ *     of a deduplicated artifact can be older than its upload. The content is the same, so the conditional requests
+ *     are still answered correctly;</li>
+ *     <li>the change time changes, whenever a reference is created or deleted, so it doesn't tell when a path has
+ *     changed;</li>
+ *     <li>the permissions and the owner are those of the blob.</li>
+ * </ul>
+ * Setting any of these attributes on a path changes them for all the references, so they mustn't be used to keep a
+ * state of the path.
+ */
+public interface BlobStoreService
+{
+
+    boolean isEnabled();
+
+    /**
+     * Replaces the file with a reference to the blob of its content. The blob is created from the file, if there is
+     * none yet.
+     *
+     * @param file          the file of the repository
+     * @param tempDirectory the temporary directory of the repository, which is used to replace the file atomically
+     */
+    void deduplicate(Path file,
+                     Path tempDirectory)
+            throws IOException;
+
+    /**
+     * Gives the file a copy of its own, before it's modified in place, so that the other references aren't affected.
+     */
+    void detach(Path file,
+                Path tempDirectory)
+            throws IOException;
+
+    /**
+     * Deletes the blobs, which aren't referenced by any repository. A file in the trash is still a reference.
+     *
+     * @return the number of deleted blobs
+     */
+    long collectGarbage()
+            throws IOException;
+
+}
@@ -0,0 +1,65 @@
+package org.carlspring.strongbox.services;
+
+import org.carlspring.strongbox.domain.BulkUploadResult;
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.storage.usage.RepositoryQuotaExceededException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.apache.commons.compress.archivers.ArchiveInputStream;
+
+/**
+ * Stores many files of a repository at once, such as the artifacts of a multi-module build.
+ * <br>
+ * The files are staged first, so that all of them can be validated before any of them is stored. Then they are
+ * stored concurrently: the artifacts first, followed by the metadata and the checksums.
+ */
+public interface BulkUploadService
+{
+
+    BulkUpload newUpload(Repository repository)
+            throws IOException;
+
+    /**
+     * The staged files of a bulk upload, which are deleted once it has been closed.
+     */
+    interface BulkUpload
+            extends Closeable
+    {
+
+        /**
+         * Stages a file. A file, which has already been staged under the same path, is replaced.
+         * <br>
+         * The staging is aborted, as soon as the staged files would exceed the size quota of the repository, or the
+         * size limit of the bulk uploads.
+         *
+         * @param path the path of the file, relative to the repository root
+         * @param is   the content of the file, which isn't closed
+         * @throws RepositoryQuotaExceededException if the size quota of the repository would be exceeded
+         */
+        void add(String path,
+                 InputStream is)
+                throws IOException;
+
+        /**
+         * Stages the files of an archive. The directories are ignored.
+         */
+        void addAll(ArchiveInputStream archive)
+                throws IOException;
+
+        /**
+         * Validates and stores the staged files.
+         *
+         * @param atomic whether nothing is stored, unless all the files have passed the validation; the newly
+         *               created files are deleted again, if storing another file has failed
+         * @throws RepositoryQuotaExceededException if the staged files would exceed the size quota of the
+         *                                          repository, in which case nothing is stored
+         */
+        BulkUploadResult commit(boolean atomic)
+                throws RepositoryQuotaExceededException;
+
+    }
+
+}
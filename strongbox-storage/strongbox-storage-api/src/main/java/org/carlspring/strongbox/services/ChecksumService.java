@@ -1,6 +1,7 @@
 package org.carlspring.strongbox.services;
 
 import java.io.IOException;
+import java.util.function.BooleanSupplier;
 
 /**
  * @author Kate Novik.
@@ -22,4 +23,15 @@ public interface ChecksumService
                             boolean forceRegeneration)
             throws IOException;
 
+    /**
+     * The same as {@link #regenerateChecksum(String, String, String, boolean)}, which stops before the next directory,
+     * once the cancellation returns {@code true}.
+     */
+    void regenerateChecksum(String storageId,
+                            String repositoryId,
+                            String basePath,
+                            boolean forceRegeneration,
+                            BooleanSupplier cancellation)
+            throws IOException;
+
 }
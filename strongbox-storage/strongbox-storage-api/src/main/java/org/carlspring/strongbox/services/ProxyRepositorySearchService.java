@@ -0,0 +1,68 @@
+package org.carlspring.strongbox.services;
+
+import org.carlspring.strongbox.data.criteria.Paginator;
+import org.carlspring.strongbox.data.criteria.Predicate;
+import org.carlspring.strongbox.providers.repository.proxied.RemoteRepositorySearch;
+import org.carlspring.strongbox.storage.repository.Repository;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Searches the local artifact entries and the remote repositories of the proxy repositories concurrently.
+ * <br>
+ * The remote search pages are cached for a short while and the newly discovered artifact entries are stored in the
+ * background, so that the search responds with the upstream latency at most (and, for the cached pages, without it).
+ */
+public interface ProxyRepositorySearchService
+{
+
+    /**
+     * @param repository   a repository of any type; the remote search is applied to the repository itself,
+     *                     if it's a proxy, or to the proxy repositories of a group
+     * @param predicate    the local search predicate
+     * @param paginator    the requested page
+     * @param remoteSearch the remote search matching the predicate
+     * @return the local results, followed by the remote results which are not available locally
+     */
+    List<Path> search(Repository repository,
+                      Predicate predicate,
+                      Paginator paginator,
+                      RemoteRepositorySearch remoteSearch);
+
+    /**
+     * The same as {@link #search(Repository, Predicate, Paginator, RemoteRepositorySearch)}, which also counts all
+     * the results: the local entries matching the predicate, and the remote results which are not available locally.
+     */
+    SearchPage searchPage(Repository repository,
+                          Predicate predicate,
+                          Paginator paginator,
+                          RemoteRepositorySearch remoteSearch);
+
+    class SearchPage
+    {
+
+        private final List<Path> paths;
+
+        private final long total;
+
+        public SearchPage(List<Path> paths,
+                          long total)
+        {
+            this.paths = paths;
+            this.total = total;
+        }
+
+        public List<Path> getPaths()
+        {
+            return paths;
+        }
+
+        public long getTotal()
+        {
+            return total;
+        }
+
+    }
+
+}
@@ -0,0 +1,56 @@
+package org.carlspring.strongbox.services;
+
+import org.carlspring.strongbox.storage.usage.RepositoryUsage;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Keeps track of the number of artifacts and bytes held by every repository.
+ * <br>
+ * The counters are maintained incrementally from the artifact and repository events,
+ * periodically persisted, and corrected by {@link #reconcile(String, String)} when they drift.
+ */
+public interface RepositoryUsageService
+{
+
+    RepositoryUsage getUsage(String storageId,
+                             String repositoryId);
+
+    List<RepositoryUsage> getUsages(String storageId);
+
+    List<RepositoryUsage> getUsages();
+
+    /**
+     * @return the aggregated usage of all the repositories within the storage
+     */
+    RepositoryUsage getStorageUsage(String storageId);
+
+    void update(String storageId,
+                String repositoryId,
+                long bytesDelta,
+                long artifactsDelta,
+                long trashBytesDelta);
+
+    void clearTrash(String storageId,
+                    String repositoryId);
+
+    void clearTrash();
+
+    void remove(String storageId,
+                String repositoryId);
+
+    /**
+     * Re-calculates the counters of the repository by walking its file system.
+     */
+    RepositoryUsage reconcile(String storageId,
+                              String repositoryId)
+            throws IOException;
+
+    void reconcile()
+            throws IOException;
+
+    void persist()
+            throws IOException;
+
+}
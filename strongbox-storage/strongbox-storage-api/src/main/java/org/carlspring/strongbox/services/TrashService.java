@@ -0,0 +1,61 @@
+package org.carlspring.strongbox.services;
+
+import org.carlspring.strongbox.domain.TrashListing;
+import org.carlspring.strongbox.storage.repository.Repository;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Manages the files, which have been moved to the trash of the repositories.
+ * <br>
+ * The files are purged from the trash, when they are older than {@link Repository#getTrashRetentionDays()}, or when
+ * the trash exceeds {@link Repository#getTrashMaxSize()}, oldest first.
+ */
+public interface TrashService
+{
+
+    /**
+     * @param prefix the prefix of the paths of the listed files, or {@code null}
+     * @param cursor the path, after which the listing starts, as returned by {@link TrashListing#getNextCursor()}
+     * @param limit  the maximum number of the listed files
+     */
+    TrashListing list(Repository repository,
+                      String prefix,
+                      String cursor,
+                      int limit)
+            throws IOException;
+
+    /**
+     * Moves the files, whose paths start with the prefix, from the trash back to the repository.
+     *
+     * @return the number of the restored files
+     */
+    int restore(Repository repository,
+                String prefix)
+            throws IOException;
+
+    /**
+     * Deletes the files, which are beyond the retention of the repository.
+     * <br>
+     * The purge stops after {@code strongbox.trash.purge.maxDurationSeconds}, and the remaining files are purged by
+     * the next call.
+     *
+     * @return the number of the purged bytes
+     */
+    long purge(Repository repository)
+            throws IOException;
+
+    /**
+     * Purges the trash of all the repositories, within a single {@code strongbox.trash.purge.maxDurationSeconds}.
+     */
+    void purge()
+            throws IOException;
+
+    /**
+     * Empties the trash of the repository in the background.
+     */
+    CompletableFuture<Void> deleteTrashAsync(Repository repository)
+            throws IOException;
+
+}
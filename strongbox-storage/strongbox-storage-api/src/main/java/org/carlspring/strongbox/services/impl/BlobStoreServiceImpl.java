@@ -0,0 +1,262 @@
+package org.carlspring.strongbox.services.impl;
+
+import org.carlspring.strongbox.services.BlobStoreService;
+
+import java.io.IOException;
+import java.nio.file.FileSystemException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.Lock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.Striped;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * The blobs are kept in {@code <basedir>/sha256/<2 chars>/<2 chars>/<digest>}. The basedir has to be on the same
+ * file system as the repositories, because the references are hard links.
+ * <br>
+ * Deduplicating a blob and collecting it as garbage hold the same lock, so that a blob can't be deleted while a new
+ * reference to it is being created. A file is only linked to a blob, if it's still the file, which has been hashed,
+ * once the lock has been taken.
+ */
+@Component
+public class BlobStoreServiceImpl
+        implements BlobStoreService
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(BlobStoreServiceImpl.class);
+
+    private static final String ALGORITHM_DIRECTORY = "sha256";
+
+    private static final String LINK_COUNT_ATTRIBUTE = "unix:nlink";
+
+    private final Striped<Lock> locks = Striped.lock(64);
+
+    @Value("${strongbox.storage.blobs.enabled:false}")
+    private boolean enabled;
+
+    @Value("${strongbox.storage.blobs.basedir:${strongbox.vault}/blobs}")
+    private String basedir;
+
+    public BlobStoreServiceImpl()
+    {
+    }
+
+    BlobStoreServiceImpl(String basedir)
+    {
+        this.enabled = true;
+        this.basedir = basedir;
+    }
+
+    @Override
+    public boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    @Override
+    public void deduplicate(Path file,
+                            Path tempDirectory)
+            throws IOException
+    {
+        if (!enabled || !isLocal(file))
+        {
+            return;
+        }
+
+        // The file is hashed without the lock, so it's checked under the lock, that it hasn't been replaced since.
+        Object fileKey = getFileKey(file);
+        String digest = com.google.common.io.Files.asByteSource(file.toFile()).hash(Hashing.sha256()).toString();
+        Path blob = resolveBlob(digest);
+
+        Lock lock = locks.get(digest);
+        lock.lock();
+        try
+        {
+            if (!fileKey.equals(getFileKey(file)))
+            {
+                logger.debug("[{}] has been replaced while it was hashed, it's left to the replacing write.", file);
+
+                return;
+            }
+
+            if (!Files.exists(blob))
+            {
+                Files.createDirectories(blob.getParent());
+                Files.createLink(blob, file);
+
+                logger.debug("Stored blob [{}] of [{}].", digest, file);
+
+                return;
+            }
+
+            if (Files.isSameFile(blob, file))
+            {
+                return;
+            }
+
+            // The link is created aside and renamed over the file, so that the file is never missing.
+            Files.createDirectories(tempDirectory);
+            Path link = tempDirectory.resolve(UUID.randomUUID() + ".blob");
+            Files.createLink(link, blob);
+            try
+            {
+                Files.move(link, file, StandardCopyOption.ATOMIC_MOVE);
+            }
+            finally
+            {
+                Files.deleteIfExists(link);
+            }
+
+            logger.debug("Replaced [{}] with a reference to blob [{}].", file, digest);
+        }
+        catch (FileSystemException | UnsupportedOperationException e)
+        {
+            // Hard links aren't supported, or the repository is on another file system.
+            logger.warn("Failed to deduplicate [{}], it's kept as it is: {}", file, e.getMessage());
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void detach(Path file,
+                       Path tempDirectory)
+            throws IOException
+    {
+        if (!enabled || !isLocal(file) || !Files.isRegularFile(file) || getLinkCount(file) <= 1)
+        {
+            return;
+        }
+
+        Files.createDirectories(tempDirectory);
+        Path copy = tempDirectory.resolve(UUID.randomUUID() + ".copy");
+        Files.copy(file, copy, StandardCopyOption.COPY_ATTRIBUTES);
+        try
+        {
+            Files.move(copy, file, StandardCopyOption.ATOMIC_MOVE);
+        }
+        finally
+        {
+            Files.deleteIfExists(copy);
+        }
+
+        logger.debug("Detached [{}] from its blob.", file);
+    }
+
+    @Override
+    public long collectGarbage()
+            throws IOException
+    {
+        Path root = Paths.get(basedir).resolve(ALGORITHM_DIRECTORY);
+        if (!Files.isDirectory(root))
+        {
+            return 0;
+        }
+
+        List<Path> blobs;
+        try (Stream<Path> stream = Files.walk(root))
+        {
+            blobs = stream.filter(Files::isRegularFile).collect(Collectors.toList());
+        }
+
+        long freedBytes = 0;
+        long deleted = 0;
+        for (Path blob : blobs)
+        {
+            Lock lock = locks.get(blob.getFileName().toString());
+            lock.lock();
+            try
+            {
+                if (getLinkCount(blob) > 1)
+                {
+                    continue;
+                }
+
+                long size = Files.size(blob);
+                Files.delete(blob);
+
+                freedBytes += size;
+                deleted++;
+            }
+            catch (NoSuchFileException e)
+            {
+                // Deleted concurrently.
+            }
+            finally
+            {
+                lock.unlock();
+            }
+        }
+
+        logger.info("Deleted [{}] of [{}] blobs, which weren't referenced anymore ([{}] bytes).",
+                    deleted, blobs.size(), freedBytes);
+
+        return deleted;
+    }
+
+    Path resolveBlob(String digest)
+    {
+        return Paths.get(basedir)
+                    .resolve(ALGORITHM_DIRECTORY)
+                    .resolve(digest.substring(0, 2))
+                    .resolve(digest.substring(2, 4))
+                    .resolve(digest);
+    }
+
+    /**
+     * @return the number of references to the blob, including the blob itself
+     */
+    static int getLinkCount(Path file)
+            throws IOException
+    {
+        try
+        {
+            return (Integer) Files.getAttribute(file, LINK_COUNT_ATTRIBUTE);
+        }
+        catch (UnsupportedOperationException | IllegalArgumentException e)
+        {
+            throw new IOException("The file system doesn't count the links of " + file, e);
+        }
+    }
+
+    /**
+     * A file, which is replaced, gets a new key, because the files are written aside and moved in place, and the
+     * files, which are modified in place, are {@link #detach(Path, Path) detached} first.
+     */
+    private static Object getFileKey(Path file)
+            throws IOException
+    {
+        Object fileKey = Files.readAttributes(file, BasicFileAttributes.class).fileKey();
+        if (fileKey == null)
+        {
+            throw new IOException("The file system doesn't identify the files of " + file);
+        }
+
+        return fileKey;
+    }
+
+    /**
+     * The blobs can only be linked from the repositories on the local file system.
+     */
+    private boolean isLocal(Path file)
+    {
+        return file.getFileSystem() == FileSystems.getDefault();
+    }
+
+}
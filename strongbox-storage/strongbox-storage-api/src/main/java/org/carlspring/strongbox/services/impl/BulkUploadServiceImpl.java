@@ -0,0 +1,493 @@
+package org.carlspring.strongbox.services.impl;
+
+import org.carlspring.strongbox.domain.BulkUploadResult;
+import org.carlspring.strongbox.domain.BulkUploadResult.Status;
+import org.carlspring.strongbox.providers.io.RepositoryFiles;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
+import org.carlspring.strongbox.providers.io.RootRepositoryPath;
+import org.carlspring.strongbox.services.ArtifactManagementService;
+import org.carlspring.strongbox.services.BulkUploadService;
+import org.carlspring.strongbox.storage.ArtifactStorageException;
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.storage.usage.RepositoryQuotaExceededException;
+import org.carlspring.strongbox.storage.validation.resource.ArtifactOperationsValidator;
+
+import javax.inject.Inject;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.compress.archivers.ArchiveEntry;
+import org.apache.commons.compress.archivers.ArchiveInputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+
+@Component
+public class BulkUploadServiceImpl
+        implements BulkUploadService, InitializingBean, DisposableBean
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkUploadServiceImpl.class);
+
+    /**
+     * The artifacts are stored first, so that the metadata refers to stored artifacts, and the uploaded checksums
+     * are compared with the digests of the stored artifacts.
+     */
+    private static final int PHASE_ARTIFACTS = 0;
+
+    private static final int PHASE_METADATA = 1;
+
+    private static final int PHASE_CHECKSUMS = 2;
+
+    private static final int BUFFER_SIZE = 32 * 1024;
+
+    @Inject
+    private ArtifactManagementService artifactManagementService;
+
+    @Inject
+    private ArtifactOperationsValidator artifactOperationsValidator;
+
+    @Inject
+    private RepositoryPathResolver repositoryPathResolver;
+
+    /**
+     * The number of files, which are stored concurrently by all the uploads.
+     */
+    @Value("${strongbox.upload.bulk.threads:4}")
+    private int threads;
+
+    @Value("${strongbox.upload.bulk.maxEntries:10000}")
+    private int maxEntries;
+
+    /**
+     * The maximal size of the staged files of an upload.
+     */
+    @Value("${strongbox.upload.bulk.maxBytes:10737418240}")
+    private long maxBytes;
+
+    private ThreadPoolExecutor executor;
+
+    @Override
+    public void afterPropertiesSet()
+    {
+        executor = new ThreadPoolExecutor(threads,
+                                          threads,
+                                          60L,
+                                          TimeUnit.SECONDS,
+                                          new LinkedBlockingQueue<>(),
+                                          new CustomizableThreadFactory("bulk-upload-"));
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    public void destroy()
+    {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public BulkUpload newUpload(Repository repository)
+            throws IOException
+    {
+        // The files are staged next to the repository, so that they are limited by the same storage.
+        RootRepositoryPath root = repositoryPathResolver.resolve(repository);
+        Path tempDirectory = Files.createDirectories(root.getFileSystem().provider().getTempDirectory(root));
+
+        return new StagedUpload(repository, Files.createTempDirectory(tempDirectory, "bulk-upload-"));
+    }
+
+    /**
+     * @return the path with forward slashes and without the leading slash, or {@code null}, if it's empty or leaves
+     *         the repository root
+     */
+    static String normalize(String path)
+    {
+        List<String> segments = new ArrayList<>();
+        for (String segment : path.replace('\\', '/').split("/"))
+        {
+            if (segment.isEmpty() || segment.equals("."))
+            {
+                continue;
+            }
+            if (segment.equals(".."))
+            {
+                return null;
+            }
+
+            segments.add(segment);
+        }
+
+        return segments.isEmpty() ? null : String.join("/", segments);
+    }
+
+    private class StagedUpload
+            implements BulkUpload
+    {
+
+        private final Repository repository;
+
+        private final Path stagingDirectory;
+
+        private final Map<String, StagedEntry> entries = new LinkedHashMap<>();
+
+        private final List<BulkUploadResult.Entry> invalidEntries = new ArrayList<>();
+
+        private long totalSize;
+
+        StagedUpload(Repository repository,
+                     Path stagingDirectory)
+        {
+            this.repository = repository;
+            this.stagingDirectory = stagingDirectory;
+        }
+
+        @Override
+        public void add(String path,
+                        InputStream is)
+                throws IOException
+        {
+            if (entries.size() + invalidEntries.size() >= maxEntries)
+            {
+                throw new ArtifactStorageException(String.format("A bulk upload can't have more than [%s] entries.",
+                                                                 maxEntries));
+            }
+
+            String normalizedPath = normalize(path);
+            if (normalizedPath == null)
+            {
+                BulkUploadResult.Entry entry = new BulkUploadResult.Entry(path, 0);
+                entry.setStatus(Status.REJECTED);
+                entry.setMessage("Invalid path.");
+
+                invalidEntries.add(entry);
+
+                return;
+            }
+
+            Path file = Files.createTempFile(stagingDirectory, "entry-", null);
+            long size;
+            try
+            {
+                size = copy(is, file);
+            }
+            catch (IOException e)
+            {
+                Files.delete(file);
+
+                throw e;
+            }
+            totalSize += size;
+
+            StagedEntry previous = entries.put(normalizedPath, new StagedEntry(normalizedPath, file, size));
+            if (previous != null)
+            {
+                totalSize -= previous.result.getSize();
+                Files.delete(previous.file);
+            }
+        }
+
+        /**
+         * Copies an entry, as long as the staged files don't exceed the remaining quota of the repository, or the
+         * size limit of the uploads. The size of the entry isn't trusted, because it's declared by the client.
+         */
+        private long copy(InputStream is,
+                          Path file)
+                throws IOException
+        {
+            long remainingQuotaBytes = artifactOperationsValidator.getRemainingQuotaBytes(repository) - totalSize;
+            long remainingBytes = maxBytes - totalSize;
+
+            byte[] buffer = new byte[BUFFER_SIZE];
+            long size = 0;
+            try (OutputStream os = Files.newOutputStream(file))
+            {
+                int length;
+                while ((length = is.read(buffer)) >= 0)
+                {
+                    size += length;
+                    if (size > remainingQuotaBytes)
+                    {
+                        throw new RepositoryQuotaExceededException(String.format(
+                                "The bulk upload exceeds the size quota of %s:%s repository.",
+                                repository.getStorage().getId(), repository.getId()));
+                    }
+                    if (size > remainingBytes)
+                    {
+                        throw new ArtifactStorageException(String.format(
+                                "A bulk upload can't have more than [%s] bytes.", maxBytes));
+                    }
+
+                    os.write(buffer, 0, length);
+                }
+            }
+
+            return size;
+        }
+
+        @Override
+        public void addAll(ArchiveInputStream archive)
+                throws IOException
+        {
+            ArchiveEntry archiveEntry;
+            while ((archiveEntry = archive.getNextEntry()) != null)
+            {
+                if (archiveEntry.isDirectory())
+                {
+                    continue;
+                }
+
+                if (!archive.canReadEntryData(archiveEntry))
+                {
+                    BulkUploadResult.Entry entry = new BulkUploadResult.Entry(archiveEntry.getName(), 0);
+                    entry.setStatus(Status.REJECTED);
+                    entry.setMessage("Unsupported archive entry.");
+
+                    invalidEntries.add(entry);
+
+                    continue;
+                }
+
+                add(archiveEntry.getName(), archive);
+            }
+        }
+
+        @Override
+        public BulkUploadResult commit(boolean atomic)
+                throws RepositoryQuotaExceededException
+        {
+            // The usage may have grown, since the files have been staged.
+            artifactOperationsValidator.checkRepositoryQuota(repository, totalSize);
+
+            BulkUploadResult result = new BulkUploadResult();
+            result.getEntries().addAll(invalidEntries);
+            entries.values().forEach(e -> result.getEntries().add(e.result));
+
+            List<List<StagedEntry>> phases = new ArrayList<>();
+            for (int i = PHASE_ARTIFACTS; i <= PHASE_CHECKSUMS; i++)
+            {
+                phases.add(new ArrayList<>());
+            }
+
+            boolean rejected = !invalidEntries.isEmpty();
+            for (StagedEntry entry : entries.values())
+            {
+                try
+                {
+                    entry.path = repositoryPathResolver.resolve(repository, entry.result.getPath());
+                    artifactManagementService.validate(entry.path);
+
+                    phases.get(getPhase(entry.path)).add(entry);
+                }
+                catch (Exception e)
+                {
+                    logger.debug("Rejected [{}] of bulk upload to [{}].", entry.result.getPath(), repository, e);
+
+                    entry.result.setStatus(Status.REJECTED);
+                    entry.result.setMessage(e.getMessage());
+
+                    rejected = true;
+                }
+            }
+
+            if (atomic && rejected)
+            {
+                result.setMessage("Nothing has been stored, because some of the entries have been rejected.");
+                phases.forEach(this::skip);
+
+                return result;
+            }
+
+            List<StagedEntry> stored = new ArrayList<>();
+            boolean failed = false;
+            for (List<StagedEntry> phase : phases)
+            {
+                if (failed && atomic)
+                {
+                    skip(phase);
+
+                    continue;
+                }
+
+                failed |= !store(phase, stored);
+            }
+
+            if (failed && atomic)
+            {
+                result.setMessage("The stored entries have been rolled back, because some of the entries have failed.");
+                rollback(stored);
+            }
+
+            return result;
+        }
+
+        /**
+         * @return whether all the entries have been stored
+         */
+        private boolean store(List<StagedEntry> phase,
+                              List<StagedEntry> stored)
+        {
+            List<Future<?>> futures = new ArrayList<>();
+            for (StagedEntry entry : phase)
+            {
+                futures.add(executor.submit(() -> store(entry)));
+            }
+
+            boolean result = true;
+            for (int i = 0; i < phase.size(); i++)
+            {
+                StagedEntry entry = phase.get(i);
+                try
+                {
+                    futures.get(i).get();
+                }
+                catch (InterruptedException e)
+                {
+                    Thread.currentThread().interrupt();
+
+                    entry.fail(e);
+                }
+                catch (ExecutionException e)
+                {
+                    entry.fail(e.getCause());
+                }
+
+                if (entry.result.getStatus() == Status.STORED)
+                {
+                    stored.add(entry);
+                }
+                else
+                {
+                    result = false;
+                }
+            }
+
+            return result;
+        }
+
+        private void store(StagedEntry entry)
+        {
+            try (InputStream is = Files.newInputStream(entry.file))
+            {
+                entry.created = !Files.exists(entry.path);
+
+                artifactManagementService.store(entry.path, is);
+
+                entry.result.setStatus(Status.STORED);
+            }
+            catch (Exception e)
+            {
+                entry.fail(e);
+            }
+        }
+
+        private void rollback(List<StagedEntry> stored)
+        {
+            for (StagedEntry entry : stored)
+            {
+                if (!entry.created)
+                {
+                    entry.result.setMessage("The entry has replaced an existing file, which can't be restored.");
+
+                    continue;
+                }
+
+                try
+                {
+                    RepositoryFiles.delete(entry.path, true);
+
+                    entry.result.setStatus(Status.ROLLED_BACK);
+                }
+                catch (IOException e)
+                {
+                    logger.error("Failed to roll back [{}] of bulk upload to [{}].", entry.path, repository, e);
+
+                    entry.result.setMessage("The entry couldn't be rolled back: " + e.getMessage());
+                }
+            }
+        }
+
+        private void skip(Iterable<StagedEntry> skipped)
+        {
+            for (StagedEntry entry : skipped)
+            {
+                if (entry.result.getStatus() == null)
+                {
+                    entry.result.setStatus(Status.SKIPPED);
+                }
+            }
+        }
+
+        private int getPhase(RepositoryPath path)
+                throws IOException
+        {
+            if (Boolean.TRUE.equals(RepositoryFiles.isChecksum(path)))
+            {
+                return PHASE_CHECKSUMS;
+            }
+            if (Boolean.TRUE.equals(RepositoryFiles.isMetadata(path)))
+            {
+                return PHASE_METADATA;
+            }
+
+            return PHASE_ARTIFACTS;
+        }
+
+        @Override
+        public void close()
+        {
+            FileSystemUtils.deleteRecursively(stagingDirectory.toFile());
+        }
+
+    }
+
+    private static class StagedEntry
+    {
+
+        private final Path file;
+
+        private final BulkUploadResult.Entry result;
+
+        private RepositoryPath path;
+
+        /**
+         * Whether the entry has created a new file, rather than replaced an existing one.
+         */
+        private volatile boolean created;
+
+        StagedEntry(String path,
+                    Path file,
+                    long size)
+        {
+            this.file = file;
+            this.result = new BulkUploadResult.Entry(path, size);
+        }
+
+        void fail(Throwable e)
+        {
+            logger.error("Failed to store [{}] of bulk upload.", path, e);
+
+            result.setStatus(Status.FAILED);
+            result.setMessage(e.getMessage());
+        }
+
+    }
+
+}
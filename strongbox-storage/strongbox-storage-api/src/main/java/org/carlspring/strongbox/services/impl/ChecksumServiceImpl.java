@@ -15,6 +15,7 @@ import org.carlspring.strongbox.storage.repository.Repository;
 import javax.inject.Inject;
 import java.io.IOException;
 import java.util.Optional;
+import java.util.function.BooleanSupplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,6 +45,17 @@ public class ChecksumServiceImpl
                                    String basePath,
                                    boolean forceRegeneration)
         throws IOException
+    {
+        regenerateChecksum(storageId, repositoryId, basePath, forceRegeneration, () -> false);
+    }
+
+    @Override
+    public void regenerateChecksum(String storageId,
+                                   String repositoryId,
+                                   String basePath,
+                                   boolean forceRegeneration,
+                                   BooleanSupplier cancellation)
+        throws IOException
     {
         Storage storage = getConfiguration().getStorage(storageId);
         Repository repository = storage.getRepository(repositoryId);
@@ -67,6 +79,7 @@ public class ChecksumServiceImpl
 
         ArtifactDirectoryLocator locator = new ArtifactDirectoryLocator();
         locator.setOperation(operation);
+        locator.setCancellation(cancellation);
         locator.locateArtifactDirectories();
     }
 
@@ -5,13 +5,16 @@ import org.carlspring.strongbox.configuration.*;
 import org.carlspring.strongbox.event.repository.RepositoryEvent;
 import org.carlspring.strongbox.event.repository.RepositoryEventListenerRegistry;
 import org.carlspring.strongbox.event.repository.RepositoryEventTypeEnum;
+import org.carlspring.strongbox.providers.io.RepositoryFileSystemRegistry;
 import org.carlspring.strongbox.providers.layout.LayoutProvider;
 import org.carlspring.strongbox.providers.layout.LayoutProviderRegistry;
 import org.carlspring.strongbox.service.ProxyRepositoryConnectionPoolConfigurationService;
 import org.carlspring.strongbox.services.ConfigurationManagementService;
+import org.carlspring.strongbox.services.support.ArtifactRoutingRulesChecker;
 import org.carlspring.strongbox.storage.StorageDto;
 import org.carlspring.strongbox.storage.repository.*;
 import org.carlspring.strongbox.storage.routing.MutableRoutingRule;
+import org.carlspring.strongbox.storage.routing.RoutingRules;
 
 import javax.annotation.PostConstruct;
 import javax.inject.Inject;
@@ -19,8 +22,10 @@ import javax.inject.Inject;
 import java.io.IOException;
 import java.lang.reflect.UndeclaredThrowableException;
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Consumer;
 
@@ -29,6 +34,8 @@ import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.SerializationUtils;
 import org.apache.commons.lang3.mutable.MutableBoolean;
 import org.carlspring.strongbox.storage.routing.MutableRoutingRules;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.support.TransactionTemplate;
@@ -41,7 +48,22 @@ public class ConfigurationManagementServiceImpl
         implements ConfigurationManagementService
 {
 
-    private final ReadWriteLock configurationLock = new ReentrantReadWriteLock();
+    private static final Logger logger = LoggerFactory.getLogger(ConfigurationManagementServiceImpl.class);
+
+    /**
+     * Serializes the writers. The readers use the {@link #snapshot} without locking.
+     */
+    private final ReentrantReadWriteLock configurationLock = new ReentrantReadWriteLock();
+
+    private final List<ConfigurationChangeListener> configurationChangeListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Serializes the writes of the configuration file, which happen after the write lock has been released, so that
+     * the readers and the next writer don't wait for the file.
+     */
+    private final Lock configurationStoreLock = new ReentrantLock();
+
+    private final AtomicReference<MutableConfiguration> pendingConfigurationStore = new AtomicReference<>();
 
     @Inject
     private ConfigurationFileManager configurationFileManager;
@@ -52,6 +74,12 @@ public class ConfigurationManagementServiceImpl
     @Inject
     private LayoutProviderRegistry layoutProviderRegistry;
 
+    @Inject
+    private RepositoryFileSystemRegistry repositoryFileSystemRegistry;
+
+    @Inject
+    private ArtifactRoutingRulesChecker artifactRoutingRulesChecker;
+
     @Inject
     private ProxyRepositoryConnectionPoolConfigurationService proxyRepositoryConnectionPoolConfigurationService;
 
@@ -67,6 +95,13 @@ public class ConfigurationManagementServiceImpl
      */
     private MutableConfiguration configuration;
 
+    /**
+     * The immutable view of the {@link #configuration}, which is rebuilt once per change.
+     */
+    private volatile Configuration snapshot;
+
+    private volatile long snapshotVersion;
+
     @PostConstruct
     public void init()
     {
@@ -109,17 +144,31 @@ public class ConfigurationManagementServiceImpl
     @Override
     public Configuration getConfiguration()
     {
-        final Lock readLock = configurationLock.readLock();
-        readLock.lock();
-
-        try
+        // A writer sees its own changes, which haven't been published yet.
+        if (configurationLock.isWriteLockedByCurrentThread())
         {
             return new Configuration(configuration);
         }
-        finally
-        {
-            readLock.unlock();
-        }
+
+        return snapshot;
+    }
+
+    @Override
+    public long getConfigurationVersion()
+    {
+        return snapshotVersion;
+    }
+
+    @Override
+    public void addConfigurationChangeListener(ConfigurationChangeListener listener)
+    {
+        configurationChangeListeners.add(listener);
+    }
+
+    @Override
+    public void removeConfigurationChangeListener(ConfigurationChangeListener listener)
+    {
+        configurationChangeListeners.remove(listener);
     }
 
     @Override
@@ -505,6 +554,21 @@ public class ConfigurationManagementServiceImpl
                      });
     }
 
+    @Override
+    public void setRepositoryQuota(final String storageId,
+                                   final String repositoryId,
+                                   final long maxSize,
+                                   final long maxArtifacts) throws IOException
+    {
+        modifyInLock(configuration ->
+                     {
+                         RepositoryDto repository = configuration.getStorage(storageId)
+                                                                 .getRepository(repositoryId);
+                         repository.setQuotaMaxSize(maxSize);
+                         repository.setQuotaMaxArtifacts(maxArtifacts);
+                     });
+    }
+
     @Override
     public void set(final MutableRemoteRepositoryRetryArtifactDownloadConfiguration remoteRepositoryRetryArtifactDownloadConfiguration) throws IOException
     {
@@ -607,15 +671,72 @@ public class ConfigurationManagementServiceImpl
         {
             operation.accept(configuration);
 
+            publish();
+
             if (storeInFile)
             {
-                configurationFileManager.store(configuration);
+                // A copy is stored, because the next writer may change the configuration in the meantime.
+                pendingConfigurationStore.set(SerializationUtils.clone(configuration));
             }
         }
         finally
         {
             writeLock.unlock();
         }
+
+        if (storeInFile)
+        {
+            storePending();
+        }
+    }
+
+    private void publish()
+    {
+        Configuration newSnapshot = new Configuration(configuration);
+        long newVersion = snapshotVersion + 1;
+
+        snapshot = newSnapshot;
+        snapshotVersion = newVersion;
+
+        // The file systems hold on to the repositories of the previous configuration, so they are invalidated once
+        // the new one has been published.
+        repositoryFileSystemRegistry.invalidateAll(newSnapshot);
+
+        RoutingRules routingRules = newSnapshot.getRoutingRules();
+        artifactRoutingRulesChecker.setRoutingRules(routingRules);
+
+        for (ConfigurationChangeListener listener : configurationChangeListeners)
+        {
+            try
+            {
+                listener.onConfigurationChanged(newSnapshot, newVersion);
+            }
+            catch (RuntimeException e)
+            {
+                logger.error("Failed to notify [{}] of the configuration change.", listener, e);
+            }
+        }
+    }
+
+    /**
+     * Stores the latest of the pending changes. A writer, which finds nothing pending, has had its change stored
+     * along with the one of a later writer.
+     */
+    private void storePending() throws IOException
+    {
+        configurationStoreLock.lock();
+        try
+        {
+            MutableConfiguration pending = pendingConfigurationStore.getAndSet(null);
+            if (pending != null)
+            {
+                configurationFileManager.store(pending);
+            }
+        }
+        finally
+        {
+            configurationStoreLock.unlock();
+        }
     }
 
 }
@@ -0,0 +1,413 @@
+package org.carlspring.strongbox.services.impl;
+
+import org.carlspring.strongbox.artifact.coordinates.ArtifactCoordinates;
+import org.carlspring.strongbox.data.criteria.Paginator;
+import org.carlspring.strongbox.data.criteria.Predicate;
+import org.carlspring.strongbox.domain.RemoteArtifactEntry;
+import org.carlspring.strongbox.domain.RepositoryArtifactIdGroupEntry;
+import org.carlspring.strongbox.providers.io.RepositoryFiles;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.io.RepositoryPathLock;
+import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
+import org.carlspring.strongbox.providers.io.RootRepositoryPath;
+import org.carlspring.strongbox.providers.repository.RepositoryProvider;
+import org.carlspring.strongbox.providers.repository.RepositoryProviderRegistry;
+import org.carlspring.strongbox.providers.repository.group.GroupRepositorySetCollector;
+import org.carlspring.strongbox.providers.repository.proxied.RemoteRepositorySearch;
+import org.carlspring.strongbox.services.ArtifactEntryService;
+import org.carlspring.strongbox.services.ProxyRepositorySearchService;
+import org.carlspring.strongbox.services.RepositoryArtifactIdGroupService;
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.storage.repository.RepositoryTypeEnum;
+
+import javax.inject.Inject;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Lock;
+import java.util.stream.Collectors;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ProxyRepositorySearchServiceImpl
+        implements ProxyRepositorySearchService, InitializingBean, DisposableBean
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(ProxyRepositorySearchServiceImpl.class);
+
+    @Inject
+    private RepositoryProviderRegistry repositoryProviderRegistry;
+
+    @Inject
+    private GroupRepositorySetCollector groupRepositorySetCollector;
+
+    @Inject
+    private RepositoryPathResolver repositoryPathResolver;
+
+    @Inject
+    private RepositoryPathLock repositoryPathLock;
+
+    @Inject
+    private ArtifactEntryService artifactEntryService;
+
+    @Inject
+    private RepositoryArtifactIdGroupService repositoryArtifactIdGroupService;
+
+    /**
+     * The number of remote searches (and background writes) which are executed concurrently.
+     */
+    @Value("${strongbox.proxy.search.threads:4}")
+    private int threads;
+
+    /**
+     * For how long the remote search pages are reused.
+     */
+    @Value("${strongbox.proxy.search.cacheTtlSeconds:60}")
+    private int cacheTtlSeconds;
+
+    @Value("${strongbox.proxy.search.cacheSize:1000}")
+    private int cacheSize;
+
+    /**
+     * For how long a search waits for the remote results, once the local results are available. The remote
+     * results which arrive later are still stored, and served from the cache to the following searches.
+     */
+    @Value("${strongbox.proxy.search.upstreamTimeoutMillis:5000}")
+    private long upstreamTimeoutMillis;
+
+    private ThreadPoolExecutor executor;
+
+    /**
+     * The pending and recently completed remote search pages; identical concurrent searches share the same page.
+     */
+    private Cache<String, CompletableFuture<List<RemoteArtifactEntry>>> upstreamPages;
+
+    @Override
+    public void afterPropertiesSet()
+    {
+        // Once the queue is full the remote search is skipped, rather than making the request wait for a worker.
+        executor = new ThreadPoolExecutor(threads,
+                                          threads,
+                                          60L,
+                                          TimeUnit.SECONDS,
+                                          new ArrayBlockingQueue<>(threads * 16),
+                                          new CustomizableThreadFactory("proxy-repository-search-"),
+                                          new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+
+        upstreamPages = CacheBuilder.newBuilder()
+                                    .maximumSize(cacheSize)
+                                    .expireAfterWrite(cacheTtlSeconds, TimeUnit.SECONDS)
+                                    .build();
+    }
+
+    @Override
+    public void destroy()
+    {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public List<Path> search(Repository repository,
+                             Predicate predicate,
+                             Paginator paginator,
+                             RemoteRepositorySearch remoteSearch)
+    {
+        return search(repository, predicate, paginator, remoteSearch, false).getPaths();
+    }
+
+    @Override
+    public SearchPage searchPage(Repository repository,
+                                 Predicate predicate,
+                                 Paginator paginator,
+                                 RemoteRepositorySearch remoteSearch)
+    {
+        return search(repository, predicate, paginator, remoteSearch, true);
+    }
+
+    /**
+     * The page is taken from the merged results of all the sources, rather than from each of them: every source is
+     * searched from the start up to the end of the page, and the page is skipped and limited once they have been
+     * merged. Otherwise the entries of one source would push the ones of the others out of the page, and those
+     * wouldn't show up on the next one either.
+     * <p>
+     * The total counts the local entries and the remote ones, which have been fetched up to the end of the page and
+     * haven't been stored yet.
+     */
+    private SearchPage search(Repository repository,
+                              Predicate predicate,
+                              Paginator paginator,
+                              RemoteRepositorySearch remoteSearch,
+                              boolean counted)
+    {
+        RepositoryProvider provider = repositoryProviderRegistry.getProvider(repository.getType());
+
+        int skip = paginator.getSkip();
+        int limit = paginator.getLimit() > 0 ? paginator.getLimit() : Paginator.MAX_LIMIT;
+        if ((long) skip + limit > Paginator.MAX_LIMIT)
+        {
+            // The sources can't be searched that deep at once, so only the local entries are paged there.
+            List<Path> localResult = provider.search(repository.getStorage().getId(),
+                                                     repository.getId(),
+                                                     predicate,
+                                                     paginator);
+            long total = counted ? provider.count(repository.getStorage().getId(), repository.getId(), predicate) : 0;
+
+            return new SearchPage(localResult, total);
+        }
+
+        Paginator window = new Paginator();
+        window.setSkip(0);
+        window.setLimit(skip + limit);
+        window.setProperty(paginator.getProperty());
+        window.setOrder(paginator.getOrder());
+
+        Map<Repository, CompletableFuture<List<RemoteArtifactEntry>>> upstreamResults = new LinkedHashMap<>();
+        for (Repository proxyRepository : getProxyRepositories(repository))
+        {
+            upstreamResults.put(proxyRepository, fetchUpstream(proxyRepository, window, remoteSearch));
+        }
+
+        List<Path> localResult = provider.search(repository.getStorage().getId(),
+                                                 repository.getId(),
+                                                 predicate,
+                                                 window);
+
+        // artifact path -> repository path; the local entries take precedence over the remote ones
+        Map<String, Path> result = new LinkedHashMap<>();
+        for (Path path : localResult)
+        {
+            result.putIfAbsent(relativize((RepositoryPath) path), path);
+        }
+
+        // The count uses the same predicate as the local search, so the total matches the pages.
+        long total = counted ? provider.count(repository.getStorage().getId(), repository.getId(), predicate) : 0;
+
+        long deadline = System.currentTimeMillis() + upstreamTimeoutMillis;
+        for (Map.Entry<Repository, CompletableFuture<List<RemoteArtifactEntry>>> e : upstreamResults.entrySet())
+        {
+            RootRepositoryPath rootPath = repositoryPathResolver.resolve(e.getKey());
+            for (RemoteArtifactEntry remoteArtifactEntry : await(e.getKey(), e.getValue(), deadline))
+            {
+                String artifactPath = remoteArtifactEntry.getArtifactPath();
+                if (result.containsKey(artifactPath))
+                {
+                    continue;
+                }
+
+                result.put(artifactPath, rootPath.resolve(remoteArtifactEntry));
+
+                // The remote results which have been stored already are counted with the local entries.
+                if (counted && !artifactEntryService.artifactExists(remoteArtifactEntry.getStorageId(),
+                                                         remoteArtifactEntry.getRepositoryId(),
+                                                         artifactPath))
+                {
+                    total++;
+                }
+            }
+        }
+
+        List<Path> paths = result.values()
+                                 .stream()
+                                 .skip(skip)
+                                 .limit(limit)
+                                 .collect(Collectors.toList());
+
+        return new SearchPage(paths, total);
+    }
+
+    private Set<Repository> getProxyRepositories(Repository repository)
+    {
+        if (RepositoryTypeEnum.PROXY.getType().equals(repository.getType()))
+        {
+            return Collections.singleton(repository);
+        }
+        else if (RepositoryTypeEnum.GROUP.getType().equals(repository.getType()))
+        {
+            return groupRepositorySetCollector.collect(repository, true)
+                                              .stream()
+                                              .filter(r -> RepositoryTypeEnum.PROXY.getType().equals(r.getType()))
+                                              .collect(Collectors.toCollection(LinkedHashSet::new));
+        }
+
+        return Collections.emptySet();
+    }
+
+    private CompletableFuture<List<RemoteArtifactEntry>> fetchUpstream(Repository repository,
+                                                                       Paginator paginator,
+                                                                       RemoteRepositorySearch remoteSearch)
+    {
+        if (repository.getRemoteRepository() == null)
+        {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+
+        String key = String.format("%s:%s:%s:%s:%s",
+                                   repository.getStorage().getId(),
+                                   repository.getId(),
+                                   remoteSearch.getQuery(),
+                                   paginator.getSkip(),
+                                   paginator.getLimit());
+        try
+        {
+            CompletableFuture<List<RemoteArtifactEntry>> page = upstreamPages.get(key, () -> fetchPage(key,
+                                                                                                      repository,
+                                                                                                      paginator,
+                                                                                                      remoteSearch));
+            if (page.isCompletedExceptionally())
+            {
+                // The page may have failed before it was put into the cache, so the failure didn't invalidate it.
+                upstreamPages.invalidate(key);
+            }
+
+            return page;
+        }
+        catch (ExecutionException | RuntimeException e)
+        {
+            logger.warn("Skipped the remote search of [{}:{}]: {}",
+                        repository.getStorage().getId(), repository.getId(), e.getMessage());
+
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+    }
+
+    private CompletableFuture<List<RemoteArtifactEntry>> fetchPage(String key,
+                                                                   Repository repository,
+                                                                   Paginator paginator,
+                                                                   RemoteRepositorySearch remoteSearch)
+    {
+        CompletableFuture<List<RemoteArtifactEntry>> page = new CompletableFuture<>();
+        executor.execute(() -> {
+            List<RemoteArtifactEntry> entries;
+            try
+            {
+                entries = remoteSearch.fetch(repository, paginator);
+            }
+            catch (Exception e)
+            {
+                logger.error("Failed to search the remote repository of [{}:{}].",
+                             repository.getStorage().getId(), repository.getId(), e);
+
+                upstreamPages.invalidate(key);
+                page.completeExceptionally(e);
+
+                return;
+            }
+
+            page.complete(entries);
+
+            // The entries are stored once per fetched page (not on every cache hit), after the waiting searches
+            // have been released.
+            store(repository, entries);
+        });
+
+        return page;
+    }
+
+    private List<RemoteArtifactEntry> await(Repository repository,
+                                            CompletableFuture<List<RemoteArtifactEntry>> upstreamResult,
+                                            long deadline)
+    {
+        try
+        {
+            return upstreamResult.get(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+        }
+        catch (TimeoutException e)
+        {
+            logger.debug("The remote search of [{}:{}] didn't complete within [{}] ms.",
+                         repository.getStorage().getId(), repository.getId(), upstreamTimeoutMillis);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+        catch (ExecutionException e)
+        {
+            // Already logged by the fetch.
+        }
+
+        return Collections.emptyList();
+    }
+
+    private void store(Repository repository,
+                       List<RemoteArtifactEntry> entries)
+    {
+        RootRepositoryPath rootPath = repositoryPathResolver.resolve(repository);
+        for (RemoteArtifactEntry remoteArtifactEntry : entries)
+        {
+            RepositoryPath repositoryPath = rootPath.resolve(remoteArtifactEntry);
+            try
+            {
+                store(repositoryPath, remoteArtifactEntry);
+            }
+            catch (Exception e)
+            {
+                logger.error("Failed to store the remote artifact entry [{}].", repositoryPath, e);
+            }
+        }
+    }
+
+    private void store(RepositoryPath repositoryPath,
+                       RemoteArtifactEntry remoteArtifactEntry)
+            throws IOException
+    {
+        Repository repository = repositoryPath.getRepository();
+        ArtifactCoordinates coordinates = RepositoryFiles.readCoordinates(repositoryPath);
+
+        Lock lock = repositoryPathLock.lock(repositoryPath).writeLock();
+        lock.lock();
+
+        try
+        {
+            if (artifactEntryService.artifactExists(remoteArtifactEntry.getStorageId(),
+                                                    remoteArtifactEntry.getRepositoryId(),
+                                                    remoteArtifactEntry.getArtifactPath()))
+            {
+                return;
+            }
+
+            RepositoryArtifactIdGroupEntry artifactGroup = repositoryArtifactIdGroupService.findOneOrCreate(repository.getStorage().getId(),
+                                                                                                            repository.getId(),
+                                                                                                            coordinates.getId());
+            repositoryArtifactIdGroupService.addArtifactToGroup(artifactGroup, remoteArtifactEntry);
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    private String relativize(RepositoryPath path)
+    {
+        try
+        {
+            return RepositoryFiles.relativizePath(path);
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
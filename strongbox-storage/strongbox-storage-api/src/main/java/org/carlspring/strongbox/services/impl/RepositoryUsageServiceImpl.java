@@ -0,0 +1,346 @@
+package org.carlspring.strongbox.services.impl;
+
+import org.carlspring.strongbox.configuration.ConfigurationManager;
+import org.carlspring.strongbox.metrics.StrongboxMetrics;
+import org.carlspring.strongbox.providers.io.RepositoryFiles;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
+import org.carlspring.strongbox.providers.io.RootRepositoryPath;
+import org.carlspring.strongbox.services.RepositoryUsageService;
+import org.carlspring.strongbox.storage.Storage;
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.storage.usage.RepositoryUsage;
+
+import javax.inject.Inject;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RepositoryUsageServiceImpl
+        implements RepositoryUsageService, InitializingBean, DisposableBean
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(RepositoryUsageServiceImpl.class);
+
+    private final Map<String, RepositoryUsage> usages = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ScheduledExecutorService executor;
+
+    @Inject
+    private ConfigurationManager configurationManager;
+
+    @Inject
+    private RepositoryPathResolver repositoryPathResolver;
+
+    @Inject
+    private StrongboxMetrics strongboxMetrics;
+
+    @Value("${strongbox.usage.file:${strongbox.vault}/usage/repository-usage.json}")
+    private String usageFile;
+
+    @Value("${strongbox.usage.persistIntervalSeconds:60}")
+    private int persistIntervalSeconds;
+
+    @Value("${strongbox.usage.reconcileOnStartup:true}")
+    private boolean reconcileOnStartup;
+
+    @Override
+    public void afterPropertiesSet()
+    {
+        load();
+
+        executor = Executors.newSingleThreadScheduledExecutor();
+        executor.scheduleWithFixedDelay(this::persistIfDirty,
+                                        persistIntervalSeconds,
+                                        persistIntervalSeconds,
+                                        TimeUnit.SECONDS);
+
+        if (reconcileOnStartup)
+        {
+            executor.execute(this::reconcileMissing);
+        }
+    }
+
+    @Override
+    public void destroy()
+    {
+        executor.shutdownNow();
+        persistIfDirty();
+    }
+
+    @Override
+    public RepositoryUsage getUsage(String storageId,
+                                    String repositoryId)
+    {
+        return usages.computeIfAbsent(key(storageId, repositoryId), k -> {
+            registerGauges(storageId, repositoryId);
+
+            return new RepositoryUsage(storageId, repositoryId);
+        });
+    }
+
+    @Override
+    public List<RepositoryUsage> getUsages(String storageId)
+    {
+        return usages.values()
+                     .stream()
+                     .filter(u -> u.getStorageId().equals(storageId))
+                     .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<RepositoryUsage> getUsages()
+    {
+        return new ArrayList<>(usages.values());
+    }
+
+    @Override
+    public RepositoryUsage getStorageUsage(String storageId)
+    {
+        RepositoryUsage result = new RepositoryUsage(storageId, null);
+        getUsages(storageId).forEach(u -> result.add(u.getBytes(), u.getArtifacts(), u.getTrashBytes()));
+
+        return result;
+    }
+
+    @Override
+    public void update(String storageId,
+                       String repositoryId,
+                       long bytesDelta,
+                       long artifactsDelta,
+                       long trashBytesDelta)
+    {
+        getUsage(storageId, repositoryId).add(bytesDelta, artifactsDelta, trashBytesDelta);
+        dirty.set(true);
+    }
+
+    @Override
+    public void clearTrash(String storageId,
+                           String repositoryId)
+    {
+        getUsage(storageId, repositoryId).setTrashBytes(0);
+        dirty.set(true);
+    }
+
+    @Override
+    public void clearTrash()
+    {
+        usages.values().forEach(u -> u.setTrashBytes(0));
+        dirty.set(true);
+    }
+
+    @Override
+    public void remove(String storageId,
+                       String repositoryId)
+    {
+        usages.remove(key(storageId, repositoryId));
+        dirty.set(true);
+    }
+
+    @Override
+    public RepositoryUsage reconcile(String storageId,
+                                     String repositoryId)
+            throws IOException
+    {
+        Storage storage = configurationManager.getConfiguration().getStorage(storageId);
+        Repository repository = storage != null ? storage.getRepository(repositoryId) : null;
+        if (repository == null || repository.isGroupRepository())
+        {
+            return getUsage(storageId, repositoryId);
+        }
+
+        RootRepositoryPath rootPath = repositoryPathResolver.resolve(repository);
+
+        long bytes = 0;
+        long artifacts = 0;
+        if (Files.exists(rootPath))
+        {
+            // The layout directory stream skips the `.trash` and `.temp` directories.
+            try (Stream<Path> stream = Files.walk(rootPath))
+            {
+                for (Path path : (Iterable<Path>) stream::iterator)
+                {
+                    RepositoryPath repositoryPath = (RepositoryPath) path;
+                    if (Files.isDirectory(repositoryPath) || !RepositoryFiles.isArtifact(repositoryPath))
+                    {
+                        continue;
+                    }
+
+                    bytes += Files.size(repositoryPath);
+                    artifacts++;
+                }
+            }
+        }
+
+        long trashBytes = 0;
+        Path trashPath = rootPath.getFileSystem().getTrashPath().toFile().toPath();
+        if (Files.exists(trashPath))
+        {
+            try (Stream<Path> stream = Files.walk(trashPath))
+            {
+                trashBytes = stream.filter(Files::isRegularFile).mapToLong(this::sizeOf).sum();
+            }
+        }
+
+        RepositoryUsage usage = getUsage(storageId, repositoryId);
+        usage.reset(bytes, artifacts, trashBytes);
+        dirty.set(true);
+
+        logger.debug("Reconciled usage of {}.", usage);
+
+        return usage;
+    }
+
+    @Override
+    public void reconcile()
+            throws IOException
+    {
+        for (Storage storage : configurationManager.getConfiguration().getStorages().values())
+        {
+            for (Repository repository : storage.getRepositories().values())
+            {
+                reconcile(storage.getId(), repository.getId());
+            }
+        }
+    }
+
+    @Override
+    public synchronized void persist()
+            throws IOException
+    {
+        Path path = Paths.get(usageFile);
+        Files.createDirectories(path.getParent());
+
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+        objectMapper.writeValue(tmp.toFile(), getUsages());
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void persistIfDirty()
+    {
+        if (!dirty.getAndSet(false))
+        {
+            return;
+        }
+
+        try
+        {
+            persist();
+        }
+        catch (IOException e)
+        {
+            dirty.set(true);
+            logger.error("Failed to persist the repository usage to [{}].", usageFile, e);
+        }
+    }
+
+    private void load()
+    {
+        Path path = Paths.get(usageFile);
+        if (!Files.exists(path))
+        {
+            return;
+        }
+
+        try
+        {
+            RepositoryUsage[] loaded = objectMapper.readValue(path.toFile(), RepositoryUsage[].class);
+            Arrays.stream(loaded).forEach(u -> {
+                registerGauges(u.getStorageId(), u.getRepositoryId());
+                usages.put(key(u.getStorageId(), u.getRepositoryId()), u);
+            });
+        }
+        catch (IOException e)
+        {
+            logger.warn("Failed to load the repository usage from [{}], the counters will be reconciled.",
+                        usageFile, e);
+        }
+    }
+
+    private void reconcileMissing()
+    {
+        for (Storage storage : configurationManager.getConfiguration().getStorages().values())
+        {
+            for (Repository repository : storage.getRepositories().values())
+            {
+                if (usages.containsKey(key(storage.getId(), repository.getId())))
+                {
+                    continue;
+                }
+
+                try
+                {
+                    reconcile(storage.getId(), repository.getId());
+                }
+                catch (IOException | UncheckedIOException e)
+                {
+                    logger.error("Failed to reconcile the usage of [{}:{}].", storage.getId(), repository.getId(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * The gauge looks the usage up by its key, as the usage of a removed repository is replaced when it's re-created.
+     */
+    private void registerGauges(String storageId,
+                                String repositoryId)
+    {
+        String key = key(storageId, repositoryId);
+        Gauge.builder(StrongboxMetrics.TRASH_BYTES, usages, u -> {
+                 RepositoryUsage usage = u.get(key);
+                 return usage != null ? usage.getTrashBytes() : 0;
+             })
+             .description("The bytes in the trash of a repository")
+             .baseUnit("bytes")
+             .tags(StrongboxMetrics.TAG_STORAGE, storageId, StrongboxMetrics.TAG_REPOSITORY, repositoryId)
+             .register(strongboxMetrics.getMeterRegistry());
+    }
+
+    private long sizeOf(Path path)
+    {
+        try
+        {
+            return Files.size(path);
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String key(String storageId,
+                              String repositoryId)
+    {
+        return storageId + ":" + repositoryId;
+    }
+
+}
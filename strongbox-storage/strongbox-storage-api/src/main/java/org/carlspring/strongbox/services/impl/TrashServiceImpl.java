@@ -0,0 +1,416 @@
+package org.carlspring.strongbox.services.impl;
+
+import org.carlspring.strongbox.configuration.ConfigurationManager;
+import org.carlspring.strongbox.domain.TrashListing;
+import org.carlspring.strongbox.event.repository.RepositoryEventListenerRegistry;
+import org.carlspring.strongbox.metrics.StrongboxMetrics;
+import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
+import org.carlspring.strongbox.providers.io.RootRepositoryPath;
+import org.carlspring.strongbox.providers.io.StorageFileSystemProvider;
+import org.carlspring.strongbox.services.RepositoryManagementService;
+import org.carlspring.strongbox.services.RepositoryUsageService;
+import org.carlspring.strongbox.services.TrashService;
+import org.carlspring.strongbox.storage.Storage;
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.storage.validation.resource.ArtifactOperationsValidator;
+
+import javax.inject.Inject;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * The trash of a repository is walked as a plain directory, because the layout file system hides it.
+ * <br>
+ * The time a file has been trashed is recorded by {@link StorageFileSystemProvider#getTrashedTimeFile(Path)}. The
+ * files, which have been trashed before it was recorded, fall back to their modification time.
+ */
+@Component
+public class TrashServiceImpl
+        implements TrashService, InitializingBean, DisposableBean
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(TrashServiceImpl.class);
+
+    @Inject
+    private ConfigurationManager configurationManager;
+
+    @Inject
+    private RepositoryPathResolver repositoryPathResolver;
+
+    @Inject
+    private RepositoryManagementService repositoryManagementService;
+
+    @Inject
+    private RepositoryUsageService repositoryUsageService;
+
+    @Inject
+    private RepositoryEventListenerRegistry repositoryEventListenerRegistry;
+
+    @Inject
+    private ArtifactOperationsValidator artifactOperationsValidator;
+
+    @Inject
+    private StrongboxMetrics strongboxMetrics;
+
+    /**
+     * The number of files, which are deleted between the checks of the deadline.
+     */
+    @Value("${strongbox.trash.purge.chunkSize:500}")
+    private int chunkSize;
+
+    @Value("${strongbox.trash.purge.maxDurationSeconds:600}")
+    private long maxDurationSeconds;
+
+    private ThreadPoolExecutor executor;
+
+    @Override
+    public void afterPropertiesSet()
+    {
+        executor = new ThreadPoolExecutor(1,
+                                          1,
+                                          60L,
+                                          TimeUnit.SECONDS,
+                                          new LinkedBlockingQueue<>(),
+                                          new CustomizableThreadFactory("trash-"));
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    public void destroy()
+    {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public TrashListing list(Repository repository,
+                             String prefix,
+                             String cursor,
+                             int limit)
+            throws IOException
+    {
+        if (limit < 1)
+        {
+            throw new IllegalArgumentException("The limit must be positive.");
+        }
+
+        List<TrashListing.Entry> entries = getEntries(repository, prefix);
+        entries.sort(Comparator.comparing(TrashListing.Entry::getPath));
+
+        TrashListing listing = new TrashListing();
+        for (TrashListing.Entry entry : entries)
+        {
+            if (cursor != null && entry.getPath().compareTo(cursor) <= 0)
+            {
+                continue;
+            }
+            if (listing.getEntries().size() == limit)
+            {
+                listing.setNextCursor(listing.getEntries().get(limit - 1).getPath());
+
+                break;
+            }
+
+            listing.getEntries().add(entry);
+        }
+
+        return listing;
+    }
+
+    @Override
+    public int restore(Repository repository,
+                       String prefix)
+            throws IOException
+    {
+        artifactOperationsValidator.checkAllowsDeletion(repository);
+
+        Path rootPath = getRootPath(repository);
+        Path trashPath = getTrashPath(repository);
+
+        int restored = 0;
+        for (TrashListing.Entry entry : getEntries(repository, prefix))
+        {
+            Path target = rootPath.resolve(entry.getPath());
+            Path trashedFile = trashPath.resolve(entry.getPath());
+            Files.createDirectories(target.getParent());
+            try
+            {
+                Files.move(trashedFile, target, StandardCopyOption.REPLACE_EXISTING);
+                Files.deleteIfExists(StorageFileSystemProvider.getTrashedTimeFile(trashedFile));
+
+                restored++;
+            }
+            catch (NoSuchFileException e)
+            {
+                // Restored or purged concurrently.
+            }
+        }
+
+        deleteEmptyDirectories(trashPath);
+
+        // The usage of the repository is reconciled once, rather than for each of the restored files.
+        repositoryEventListenerRegistry.dispatchUndeleteTrashEvent(repository.getStorage().getId(),
+                                                                   repository.getId());
+
+        logger.debug("Restored [{}] files with prefix [{}] from the trash of [{}:{}].",
+                     restored, prefix, repository.getStorage().getId(), repository.getId());
+
+        return restored;
+    }
+
+    @Override
+    public long purge(Repository repository)
+            throws IOException
+    {
+        return purge(repository, getDeadline());
+    }
+
+    @Override
+    public void purge()
+            throws IOException
+    {
+        long deadline = getDeadline();
+        for (Storage storage : configurationManager.getConfiguration().getStorages().values())
+        {
+            for (Repository repository : storage.getRepositories().values())
+            {
+                if (System.nanoTime() - deadline >= 0)
+                {
+                    logger.info("The trash purge has run out of time, it will be resumed by the next run.");
+
+                    return;
+                }
+
+                purge(repository, deadline);
+            }
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteTrashAsync(Repository repository)
+            throws IOException
+    {
+        artifactOperationsValidator.checkAllowsDeletion(repository);
+
+        String storageId = repository.getStorage().getId();
+        String repositoryId = repository.getId();
+
+        return CompletableFuture.runAsync(() -> {
+            try
+            {
+                repositoryManagementService.deleteTrash(storageId, repositoryId);
+            }
+            catch (IOException e)
+            {
+                logger.error("Failed to delete the trash of [{}:{}].", storageId, repositoryId, e);
+
+                throw new UncheckedIOException(e);
+            }
+        }, executor);
+    }
+
+    private long purge(Repository repository,
+                       long deadline)
+            throws IOException
+    {
+        if (!repository.isTrashEnabled() ||
+            (repository.getTrashRetentionDays() <= 0 && repository.getTrashMaxSize() <= 0))
+        {
+            return 0;
+        }
+
+        String storageId = repository.getStorage().getId();
+        String repositoryId = repository.getId();
+
+        List<TrashListing.Entry> candidates = getPurgeCandidates(repository);
+        Path trashPath = getTrashPath(repository);
+
+        long purgedBytes = 0;
+        int purgedFiles = 0;
+        for (int i = 0; i < candidates.size(); i += chunkSize)
+        {
+            long chunkBytes = 0;
+            for (TrashListing.Entry entry : candidates.subList(i, Math.min(i + chunkSize, candidates.size())))
+            {
+                Path trashedFile = trashPath.resolve(entry.getPath());
+                if (Files.deleteIfExists(trashedFile))
+                {
+                    chunkBytes += entry.getSize();
+                    purgedFiles++;
+                }
+                Files.deleteIfExists(StorageFileSystemProvider.getTrashedTimeFile(trashedFile));
+            }
+
+            purgedBytes += chunkBytes;
+            repositoryUsageService.update(storageId, repositoryId, 0, 0, -chunkBytes);
+            strongboxMetrics.trashPurgedCounter(storageId, repositoryId).increment(chunkBytes);
+
+            if (System.nanoTime() - deadline >= 0 || Thread.currentThread().isInterrupted())
+            {
+                logger.info("Purged [{}] of [{}] files from the trash of [{}:{}], the rest will be purged by the " +
+                            "next run.", purgedFiles, candidates.size(), storageId, repositoryId);
+
+                return purgedBytes;
+            }
+        }
+
+        deleteEmptyDirectories(trashPath);
+
+        if (purgedFiles > 0)
+        {
+            logger.info("Purged [{}] files ([{}] bytes) from the trash of [{}:{}].",
+                        purgedFiles, purgedBytes, storageId, repositoryId);
+        }
+
+        return purgedBytes;
+    }
+
+    /**
+     * @return the files, which are older than the retention, and the oldest files, which exceed the maximum size
+     */
+    private List<TrashListing.Entry> getPurgeCandidates(Repository repository)
+            throws IOException
+    {
+        List<TrashListing.Entry> entries = getEntries(repository, null);
+        entries.sort(Comparator.comparing(TrashListing.Entry::getTrashed));
+
+        long size = entries.stream().mapToLong(TrashListing.Entry::getSize).sum();
+        long expiry = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(repository.getTrashRetentionDays());
+
+        List<TrashListing.Entry> candidates = new ArrayList<>();
+        for (TrashListing.Entry entry : entries)
+        {
+            boolean expired = repository.getTrashRetentionDays() > 0 && entry.getTrashed().getTime() < expiry;
+            boolean exceeding = repository.getTrashMaxSize() > 0 && size > repository.getTrashMaxSize();
+            if (!expired && !exceeding)
+            {
+                break;
+            }
+
+            candidates.add(entry);
+            size -= entry.getSize();
+        }
+
+        return candidates;
+    }
+
+    private List<TrashListing.Entry> getEntries(Repository repository,
+                                                String prefix)
+            throws IOException
+    {
+        Path trashPath = getTrashPath(repository);
+        if (!Files.isDirectory(trashPath))
+        {
+            return new ArrayList<>();
+        }
+
+        List<TrashListing.Entry> entries = new ArrayList<>();
+        try (Stream<Path> stream = Files.walk(trashPath))
+        {
+            for (Path file : stream.filter(Files::isRegularFile)
+                                   .filter(p -> !StorageFileSystemProvider.isTrashedTimeFile(p))
+                                   .collect(Collectors.toList()))
+            {
+                String path = trashPath.relativize(file).toString().replace('\\', '/');
+                if (prefix != null && !path.startsWith(prefix))
+                {
+                    continue;
+                }
+
+                try
+                {
+                    entries.add(new TrashListing.Entry(path, Files.size(file), new Date(getTrashedTime(file))));
+                }
+                catch (NoSuchFileException e)
+                {
+                    // Restored or purged concurrently.
+                }
+            }
+        }
+
+        return entries;
+    }
+
+    private long getTrashedTime(Path file)
+            throws IOException
+    {
+        try
+        {
+            return Files.getLastModifiedTime(StorageFileSystemProvider.getTrashedTimeFile(file)).toMillis();
+        }
+        catch (NoSuchFileException e)
+        {
+            return Files.getLastModifiedTime(file).toMillis();
+        }
+    }
+
+    private void deleteEmptyDirectories(Path trashPath)
+            throws IOException
+    {
+        if (!Files.isDirectory(trashPath))
+        {
+            return;
+        }
+
+        List<Path> directories;
+        try (Stream<Path> stream = Files.walk(trashPath))
+        {
+            directories = stream.filter(Files::isDirectory)
+                                .filter(p -> !p.equals(trashPath))
+                                .sorted(Comparator.reverseOrder())
+                                .collect(Collectors.toList());
+        }
+
+        for (Path directory : directories)
+        {
+            try
+            {
+                Files.deleteIfExists(directory);
+            }
+            catch (DirectoryNotEmptyException e)
+            {
+                // Still has files in it.
+            }
+        }
+    }
+
+    private long getDeadline()
+    {
+        return System.nanoTime() + TimeUnit.SECONDS.toNanos(maxDurationSeconds);
+    }
+
+    private Path getRootPath(Repository repository)
+    {
+        RootRepositoryPath rootPath = repositoryPathResolver.resolve(repository);
+
+        return rootPath.toFile().toPath();
+    }
+
+    private Path getTrashPath(Repository repository)
+    {
+        return repositoryPathResolver.resolve(repository).getFileSystem().getTrashPath().toFile().toPath();
+    }
+
+}
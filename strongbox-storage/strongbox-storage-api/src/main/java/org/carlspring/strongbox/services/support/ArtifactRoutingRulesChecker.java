@@ -4,15 +4,12 @@ import org.carlspring.strongbox.configuration.ConfigurationManager;
 import org.carlspring.strongbox.providers.io.RepositoryFiles;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.storage.repository.Repository;
-import org.carlspring.strongbox.storage.routing.RepositoryIdentifiable;
-import org.carlspring.strongbox.storage.routing.RoutingRule;
 import org.carlspring.strongbox.storage.routing.RoutingRules;
 
 import javax.inject.Inject;
 import java.io.IOException;
-import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
-import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Component;
 
 /**
@@ -26,85 +23,56 @@ public class ArtifactRoutingRulesChecker
     @Inject
     private ConfigurationManager configurationManager;
 
+    /**
+     * The compiled routing rules of the current configuration; replaced as a whole on every configuration change.
+     */
+    private final AtomicReference<RoutingRulesMatcher> routingRulesMatcher = new AtomicReference<>();
+
     public boolean isDenied(Repository groupRepository,
                             RepositoryPath repositoryPath)
             throws IOException
     {
-        final RoutingRules routingRules = configurationManager.getConfiguration().getRoutingRules();
-        final boolean hasDenyRules = hasCandidates(groupRepository, repositoryPath, routingRules.getDenied());
-        final boolean hasAcceptRules = hasCandidates(groupRepository, repositoryPath, routingRules.getAccepted());
-
-        return hasDenyRules && !hasAcceptRules;
-    }
-
-    private boolean hasCandidates(Repository groupRepository,
-                                  RepositoryPath repositoryPath,
-                                  List<RoutingRule> routingRules)
-            throws IOException
-    {
-
         String artifactPath = RepositoryFiles.relativizePath(repositoryPath);
         Repository subRepository = repositoryPath.getRepository();
 
-        return routingRules.stream()
-                           .anyMatch(rule -> {
-                               boolean result = false;
-
-                               if ((isMatch(rule, groupRepository))
-                                   && rule.getRegex().matcher(artifactPath).matches())
-                               {
-                                   // an empty collection means the rule is applied to **all** repositories in the group.
-                                   if (rule.getRepositories().size() == 0)
-                                   {
-                                       result = true;
-                                   }
-                                   else
-                                   {
-                                       result = rule.getRepositories()
-                                                    .stream()
-                                                    .anyMatch(r -> isMatch(r, subRepository));
-                                   }
-                               }
-
-                               return result;
-                           });
+        return getRoutingRulesMatcher().isDenied(groupRepository, subRepository, artifactPath);
+    }
 
+    /**
+     * Compiles the routing rules of the group member, so that its first request doesn't have to.
+     */
+    public void compile(Repository groupRepository,
+                        Repository subRepository)
+    {
+        getRoutingRulesMatcher().compile(groupRepository, subRepository);
     }
 
-    private boolean isMatch(RepositoryIdentifiable rule,
-                            Repository repository)
+    /**
+     * Compiles the routing rules of the changed configuration.
+     *
+     * @param routingRules the routing rules of the configuration being stored
+     */
+    public void setRoutingRules(RoutingRules routingRules)
     {
-        boolean result = false;
+        routingRulesMatcher.set(new RoutingRulesMatcher(routingRules));
+    }
 
-        // exact match == storageId:repositoryId
-        if (equalsIgnoreCase(rule.getStorageIdAndRepositoryId(), repository.getStorageIdAndRepositoryId()))
-        {
-            result = true;
-        }
-        // wildcard == *:*
-        else if (equalsIgnoreCase(rule.getStorageIdAndRepositoryId(), StringUtils.EMPTY))
-        {
-            result = true;
-        }
-        // wildcard == storageId:*
-        else if (equalsIgnoreCase(rule.getRepositoryId(), StringUtils.EMPTY) &&
-                 equalsIgnoreCase(rule.getStorageId(), repository.getStorage().getId()))
+    private RoutingRulesMatcher getRoutingRulesMatcher()
+    {
+        RoutingRulesMatcher result = routingRulesMatcher.get();
+        if (result != null)
         {
-            result = true;
+            return result;
         }
-        // wildcard == *:repositoryId
-        else if (equalsIgnoreCase(rule.getStorageId(), StringUtils.EMPTY) &&
-                 equalsIgnoreCase(rule.getRepositoryId(), repository.getId()))
+
+        result = new RoutingRulesMatcher(configurationManager.getConfiguration().getRoutingRules());
+        // A concurrent configuration change takes precedence over the configuration read here.
+        if (routingRulesMatcher.compareAndSet(null, result))
         {
-            result = true;
+            return result;
         }
 
-        return result;
+        return routingRulesMatcher.get();
     }
 
-    private boolean equalsIgnoreCase(final String a,
-                                     final String b)
-    {
-        return StringUtils.trimToEmpty(a).equalsIgnoreCase(StringUtils.trimToEmpty(b));
-    }
 }
@@ -0,0 +1,179 @@
+package org.carlspring.strongbox.services.support;
+
+import org.carlspring.strongbox.domain.ArtifactEntry;
+import org.carlspring.strongbox.event.artifact.ArtifactEvent;
+import org.carlspring.strongbox.event.artifact.ArtifactEventTypeEnum;
+import org.carlspring.strongbox.event.repository.RepositoryEvent;
+import org.carlspring.strongbox.event.repository.RepositoryEventTypeEnum;
+import org.carlspring.strongbox.providers.io.RepositoryFiles;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.services.ArtifactEntryService;
+import org.carlspring.strongbox.services.RepositoryUsageService;
+import org.carlspring.strongbox.storage.repository.Repository;
+
+import javax.inject.Inject;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maintains the {@link RepositoryUsageService} counters.
+ * <br>
+ * The handlers are synchronous on purpose: the size of an updated artifact is calculated
+ * against its {@link ArtifactEntry}, which must not be refreshed yet.
+ */
+@Component
+public class RepositoryUsageEventListener
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(RepositoryUsageEventListener.class);
+
+    @Inject
+    private RepositoryUsageService repositoryUsageService;
+
+    @Inject
+    private ArtifactEntryService artifactEntryService;
+
+    @EventListener
+    public void handle(ArtifactEvent<RepositoryPath> event)
+    {
+        RepositoryPath repositoryPath = event.getPath();
+        try
+        {
+            if (event.getType() == ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_STORED.getType())
+            {
+                onStored(repositoryPath);
+            }
+            else if (event.getType() == ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_UPDATED.getType())
+            {
+                onUpdated(repositoryPath);
+            }
+            else if (event.getType() == ArtifactEventTypeEnum.EVENT_ARTIFACT_PATH_DELETING.getType())
+            {
+                onDeleting(repositoryPath);
+            }
+        }
+        catch (IOException e)
+        {
+            // The counters will be fixed by the next reconciliation.
+            logger.warn("Failed to update the usage for [{}].", repositoryPath, e);
+        }
+    }
+
+    private void onStored(RepositoryPath repositoryPath)
+            throws IOException
+    {
+        if (!RepositoryFiles.isArtifact(repositoryPath))
+        {
+            return;
+        }
+
+        Repository repository = repositoryPath.getRepository();
+        repositoryUsageService.update(repository.getStorage().getId(),
+                                      repository.getId(),
+                                      Files.size(repositoryPath),
+                                      1,
+                                      0);
+    }
+
+    private void onUpdated(RepositoryPath repositoryPath)
+            throws IOException
+    {
+        if (!RepositoryFiles.isArtifact(repositoryPath))
+        {
+            return;
+        }
+
+        Repository repository = repositoryPath.getRepository();
+        String storageId = repository.getStorage().getId();
+        ArtifactEntry artifactEntry = artifactEntryService.findOneArtifact(storageId,
+                                                                           repository.getId(),
+                                                                           RepositoryFiles.relativizePath(repositoryPath));
+        long previousSize = artifactEntry != null && artifactEntry.getSizeInBytes() != null
+                ? artifactEntry.getSizeInBytes()
+                : 0;
+
+        repositoryUsageService.update(storageId,
+                                      repository.getId(),
+                                      Files.size(repositoryPath) - previousSize,
+                                      0,
+                                      0);
+    }
+
+    private void onDeleting(RepositoryPath repositoryPath)
+            throws IOException
+    {
+        if (!Files.exists(repositoryPath))
+        {
+            return;
+        }
+
+        Repository repository = repositoryPath.getRepository();
+        String storageId = repository.getStorage().getId();
+        long size = Files.size(repositoryPath);
+
+        if (RepositoryFiles.isTrash(repositoryPath))
+        {
+            repositoryUsageService.update(storageId, repository.getId(), 0, 0, -size);
+        }
+        else
+        {
+            repositoryUsageService.update(storageId,
+                                          repository.getId(),
+                                          -size,
+                                          -1,
+                                          repository.isTrashEnabled() ? size : 0);
+        }
+    }
+
+    @EventListener
+    public void handle(RepositoryEvent event)
+    {
+        int type = event.getType();
+        if (type == RepositoryEventTypeEnum.EVENT_REPOSITORY_EMTPY_TRASH.getType())
+        {
+            repositoryUsageService.clearTrash(event.getStorageId(), event.getRepositoryId());
+        }
+        else if (type == RepositoryEventTypeEnum.EVENT_REPOSITORY_EMTPY_TRASH_FOR_ALL_REPOSITORIES.getType())
+        {
+            repositoryUsageService.clearTrash();
+        }
+        else if (type == RepositoryEventTypeEnum.EVENT_REPOSITORY_DELETED.getType())
+        {
+            repositoryUsageService.remove(event.getStorageId(), event.getRepositoryId());
+        }
+        else if (type == RepositoryEventTypeEnum.EVENT_REPOSITORY_UNDELETE_TRASH.getType())
+        {
+            reconcile(event.getStorageId(), event.getRepositoryId());
+        }
+        else if (type == RepositoryEventTypeEnum.EVENT_REPOSITORY_UNDELETE_TRASH_FOR_ALL_REPOSITORIES.getType())
+        {
+            try
+            {
+                repositoryUsageService.reconcile();
+            }
+            catch (IOException e)
+            {
+                logger.warn("Failed to reconcile the repository usage.", e);
+            }
+        }
+    }
+
+    private void reconcile(String storageId,
+                           String repositoryId)
+    {
+        try
+        {
+            repositoryUsageService.reconcile(storageId, repositoryId);
+        }
+        catch (IOException e)
+        {
+            logger.warn("Failed to reconcile the usage of [{}:{}].", storageId, repositoryId, e);
+        }
+    }
+
+}
@@ -0,0 +1,201 @@
+package org.carlspring.strongbox.services.support;
+
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.storage.routing.RepositoryIdentifiable;
+import org.carlspring.strongbox.storage.routing.RoutingRule;
+import org.carlspring.strongbox.storage.routing.RoutingRules;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * The {@link RoutingRules} of a configuration, compiled per group repository and group member.
+ * <br>
+ * The rules which apply to a group and member pair are selected once, and their patterns are combined into a single
+ * {@link Pattern} per rule type, so that a path is matched once per type instead of once per configured rule.
+ * @see ArtifactRoutingRulesChecker
+ */
+class RoutingRulesMatcher
+{
+
+    /**
+     * The patterns which can't be combined with the others without changing their meaning: back references and named
+     * groups (their group numbers and names are global to a pattern), the comments mode (which would comment out the
+     * closing parenthesis) and the quotations.
+     */
+    private static final Pattern NON_COMBINABLE_PATTERN = Pattern.compile("\\\\[1-9]|\\\\k<|\\(\\?<[a-zA-Z]|\\(\\?[a-zA-Z-]*x|\\\\Q");
+
+    private final List<RoutingRule> denied;
+
+    private final List<RoutingRule> accepted;
+
+    /**
+     * (group storageId, group repositoryId, member storageId, member repositoryId) -> rules
+     */
+    private final ConcurrentMap<List<String>, MemberRoutingRules> memberRoutingRules = new ConcurrentHashMap<>();
+
+    RoutingRulesMatcher(RoutingRules routingRules)
+    {
+        this.denied = routingRules != null ? routingRules.getDenied() : Collections.emptyList();
+        this.accepted = routingRules != null ? routingRules.getAccepted() : Collections.emptyList();
+    }
+
+    boolean isDenied(Repository groupRepository,
+                     Repository subRepository,
+                     String artifactPath)
+    {
+        return getMemberRoutingRules(groupRepository, subRepository).isDenied(artifactPath);
+    }
+
+    /**
+     * Compiles the rules of the group member ahead of its first path.
+     */
+    void compile(Repository groupRepository,
+                 Repository subRepository)
+    {
+        getMemberRoutingRules(groupRepository, subRepository);
+    }
+
+    private MemberRoutingRules getMemberRoutingRules(Repository groupRepository,
+                                                     Repository subRepository)
+    {
+        List<String> key = Arrays.asList(groupRepository.getStorage().getId(),
+                                         groupRepository.getId(),
+                                         subRepository.getStorage().getId(),
+                                         subRepository.getId());
+
+        return memberRoutingRules.computeIfAbsent(key, k -> new MemberRoutingRules(groupRepository, subRepository));
+    }
+
+    private class MemberRoutingRules
+    {
+
+        private final List<Pattern> denied;
+
+        private final List<Pattern> accepted;
+
+        private MemberRoutingRules(Repository groupRepository,
+                                   Repository subRepository)
+        {
+            this.denied = compile(RoutingRulesMatcher.this.denied, groupRepository, subRepository);
+            this.accepted = compile(RoutingRulesMatcher.this.accepted, groupRepository, subRepository);
+        }
+
+        private boolean isDenied(String artifactPath)
+        {
+            // The accept rules are only relevant to the denied paths.
+            return matches(denied, artifactPath) && !matches(accepted, artifactPath);
+        }
+
+        private boolean matches(List<Pattern> patterns,
+                                String artifactPath)
+        {
+            for (Pattern pattern : patterns)
+            {
+                if (pattern.matcher(artifactPath).matches())
+                {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+    }
+
+    private static List<Pattern> compile(List<RoutingRule> routingRules,
+                                         Repository groupRepository,
+                                         Repository subRepository)
+    {
+        List<RoutingRule> applicableRules = routingRules.stream()
+                                                        .filter(rule -> isApplicable(rule, groupRepository, subRepository))
+                                                        .collect(Collectors.toList());
+
+        List<Pattern> result = new ArrayList<>();
+        List<RoutingRule> combinableRules = new ArrayList<>();
+        for (RoutingRule rule : applicableRules)
+        {
+            if (NON_COMBINABLE_PATTERN.matcher(rule.getPattern()).find())
+            {
+                result.add(rule.getRegex());
+            }
+            else
+            {
+                combinableRules.add(rule);
+            }
+        }
+
+        if (combinableRules.size() == 1)
+        {
+            result.add(combinableRules.get(0).getRegex());
+        }
+        else if (!combinableRules.isEmpty())
+        {
+            result.add(Pattern.compile(combinableRules.stream()
+                                                      .map(rule -> "(?:" + rule.getPattern() + ")")
+                                                      .collect(Collectors.joining("|"))));
+        }
+
+        return result;
+    }
+
+    private static boolean isApplicable(RoutingRule rule,
+                                        Repository groupRepository,
+                                        Repository subRepository)
+    {
+        if (!isMatch(rule, groupRepository))
+        {
+            return false;
+        }
+
+        // an empty collection means the rule is applied to **all** repositories in the group.
+        return rule.getRepositories().isEmpty() ||
+               rule.getRepositories().stream().anyMatch(r -> isMatch(r, subRepository));
+    }
+
+    private static boolean isMatch(RepositoryIdentifiable rule,
+                                   Repository repository)
+    {
+        boolean result = false;
+
+        // exact match == storageId:repositoryId
+        if (equalsIgnoreCase(rule.getStorageIdAndRepositoryId(), repository.getStorageIdAndRepositoryId()))
+        {
+            result = true;
+        }
+        // wildcard == *:*
+        else if (equalsIgnoreCase(rule.getStorageIdAndRepositoryId(), StringUtils.EMPTY))
+        {
+            result = true;
+        }
+        // wildcard == storageId:*
+        else if (equalsIgnoreCase(rule.getRepositoryId(), StringUtils.EMPTY) &&
+                 equalsIgnoreCase(rule.getStorageId(), repository.getStorage().getId()))
+        {
+            result = true;
+        }
+        // wildcard == *:repositoryId
+        else if (equalsIgnoreCase(rule.getStorageId(), StringUtils.EMPTY) &&
+                 equalsIgnoreCase(rule.getRepositoryId(), repository.getId()))
+        {
+            result = true;
+        }
+
+        return result;
+    }
+
+    private static boolean equalsIgnoreCase(final String a,
+                                            final String b)
+    {
+        return StringUtils.trimToEmpty(a).equalsIgnoreCase(StringUtils.trimToEmpty(b));
+    }
+
+}
@@ -1,9 +1,12 @@
 package org.carlspring.strongbox.storage.repository.remote.heartbeat;
 
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
@@ -21,6 +24,8 @@ import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.util.Assert;
 
@@ -45,49 +50,99 @@ public class RemoteRepositoriesHeartbeatMonitorInitiator
     @Inject
     private RemoteRepositoryHeartbeatMonitorStrategyRegistry remoteRepositoryHeartbeatMonitorStrategyRegistry;
 
+    @Value("${strongbox.remoteRepositories.heartbeat.maxIntervalMultiplier:8}")
+    private int maxIntervalMultiplier;
+
+    @Value("${strongbox.remoteRepositories.heartbeat.failureIntervalSeconds:5}")
+    private int failureIntervalSeconds;
+
     @Override
     public void destroy()
     {
-        executor.shutdown();
+        // The monitors are waiting for their next delay, which can be long while the hosts are healthy.
+        executor.shutdownNow();
     }
 
     @Override
     public void afterPropertiesSet()
     {
-        int heartbeatThreadsNumber = getRemoteRepositoriesHeartbeatThreadsNumber();
-        executor = Executors.newScheduledThreadPool(heartbeatThreadsNumber);
-
         int defaultIntervalSeconds = getDefaultRemoteRepositoriesHeartbeatIntervalSeconds();
 
-        getRemoteRepositories().stream().forEach(rr -> scheduleRemoteRepositoryMonitoring(defaultIntervalSeconds, rr));
+        // The repositories are monitored per upstream host, so that a host is probed once for all its repositories.
+        Map<String, List<RemoteRepository>> remoteRepositoriesByHost = getRemoteRepositories().stream()
+                                                                                               .collect(Collectors.groupingBy(
+                                                                                                       this::getHost,
+                                                                                                       LinkedHashMap::new,
+                                                                                                       Collectors.toList()));
+
+        int heartbeatThreadsNumber = Math.max(1, Math.min(getRemoteRepositoriesHeartbeatThreadsNumber(),
+                                                          remoteRepositoriesByHost.size()));
+        executor = Executors.newScheduledThreadPool(heartbeatThreadsNumber,
+                                                    new CustomizableThreadFactory("remote-repositories-heartbeat-"));
+
+        remoteRepositoriesByHost.forEach((host, remoteRepositories) -> scheduleRemoteHostMonitoring(defaultIntervalSeconds,
+                                                                                                    host,
+                                                                                                    remoteRepositories));
     }
 
-    private void scheduleRemoteRepositoryMonitoring(int defaultIntervalSeconds,
-                                                    RemoteRepository remoteRepository)
+    private void scheduleRemoteHostMonitoring(int defaultIntervalSeconds,
+                                              String host,
+                                              List<RemoteRepository> remoteRepositories)
     {
-        int intervalSeconds = ObjectUtils.defaultIfNull(remoteRepository.getCheckIntervalSeconds(),
-                                                        defaultIntervalSeconds);
-
-        Assert.isTrue(intervalSeconds > 0,
-                      "intervalSeconds cannot be negative or zero but was " + intervalSeconds + " for " +
-                      remoteRepository.getUrl());
-
-        RemoteRepositoryHeartbeatMonitor remoteRepositoryHeartBeatMonitor = new RemoteRepositoryHeartbeatMonitor(remoteRepositoryCacheManager,
-                                                                                                                 determineMonitorStrategy(remoteRepository),
-                                                                                                                 remoteRepository);
-        executor.scheduleWithFixedDelay(new MdcContextProvider(remoteRepositoryHeartBeatMonitor),
-                                        0,
-                                        intervalSeconds, TimeUnit.SECONDS);
-
-        logger.info("Remote repository {} scheduled for monitoring with interval seconds {}",
-                    remoteRepository.getUrl(), intervalSeconds);
+        int intervalSeconds = Integer.MAX_VALUE;
+        for (RemoteRepository remoteRepository : remoteRepositories)
+        {
+            int repositoryIntervalSeconds = ObjectUtils.defaultIfNull(remoteRepository.getCheckIntervalSeconds(),
+                                                                      defaultIntervalSeconds);
+
+            Assert.isTrue(repositoryIntervalSeconds > 0,
+                          "intervalSeconds cannot be negative or zero but was " + repositoryIntervalSeconds + " for " +
+                          remoteRepository.getUrl());
+
+            intervalSeconds = Math.min(intervalSeconds, repositoryIntervalSeconds);
+        }
+
+        RemoteRepositoryHeartbeatMonitor remoteHostMonitor = new RemoteRepositoryHeartbeatMonitor(remoteRepositoryCacheManager,
+                                                                                                  determineMonitorStrategy(remoteRepositories),
+                                                                                                  executor,
+                                                                                                  host,
+                                                                                                  remoteRepositories,
+                                                                                                  intervalSeconds,
+                                                                                                  intervalSeconds * maxIntervalMultiplier,
+                                                                                                  failureIntervalSeconds);
+        remoteHostMonitor.schedule(0);
+
+        logger.info("Remote host {} with {} repositories scheduled for monitoring with interval seconds {}",
+                    host, remoteRepositories.size(), intervalSeconds);
     }
 
-    private RemoteRepositoryHeartbeatMonitorStrategy determineMonitorStrategy(final RemoteRepository remoteRepository)
+    /**
+     * The HTTP GET check is only used when every repository of the host allows directory browsing, otherwise the
+     * host is pinged.
+     */
+    private RemoteRepositoryHeartbeatMonitorStrategy determineMonitorStrategy(final List<RemoteRepository> remoteRepositories)
     {
-        return remoteRepositoryHeartbeatMonitorStrategyRegistry.of(remoteRepository.allowsDirectoryBrowsing());
+        return remoteRepositoryHeartbeatMonitorStrategyRegistry.of(remoteRepositories.stream()
+                                                                                     .allMatch(RemoteRepository::allowsDirectoryBrowsing));
     }
 
+    private String getHost(RemoteRepository remoteRepository)
+    {
+        try
+        {
+            URI uri = new URI(remoteRepository.getUrl());
+            if (uri.getHost() == null)
+            {
+                return remoteRepository.getUrl();
+            }
+
+            return uri.getScheme() + "://" + uri.getHost() + (uri.getPort() != -1 ? ":" + uri.getPort() : "");
+        }
+        catch (URISyntaxException e)
+        {
+            return remoteRepository.getUrl();
+        }
+    }
 
     private List<RemoteRepository> getRemoteRepositories()
     {
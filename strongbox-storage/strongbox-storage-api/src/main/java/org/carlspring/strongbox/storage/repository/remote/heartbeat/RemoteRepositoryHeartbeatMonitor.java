@@ -1,6 +1,12 @@
 package org.carlspring.strongbox.storage.repository.remote.heartbeat;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nonnull;
 
@@ -10,6 +16,17 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
+ * Monitors all the remote repositories of an upstream host, and caches the result for each of them.
+ * <p>
+ * When the strategy only probes the host (see {@link RemoteRepositoryHeartbeatMonitorStrategy#isHostLevel()}), the
+ * host is probed once and the result is applied to all of its repositories. Otherwise every repository is probed by
+ * itself, as the repositories of a host can fail independently, and only a failure to reach the host at all is
+ * applied to all of its repositories, without probing the rest of them.
+ * <p>
+ * The monitor schedules itself again after every round of probes. The delay is doubled while all the repositories
+ * are alive, up to {@code maxIntervalSeconds}, and drops to {@code failureIntervalSeconds} as soon as one of them is
+ * down, so that its recovery is noticed quickly.
+ *
  * @author Przemyslaw Fusik
  */
 class RemoteRepositoryHeartbeatMonitor
@@ -18,41 +35,154 @@ class RemoteRepositoryHeartbeatMonitor
 
     private static final Logger logger = LoggerFactory.getLogger(RemoteRepositoryHeartbeatMonitor.class);
 
-    private final RemoteRepository remoteRepository;
+    private final String host;
+
+    private final List<RemoteRepository> remoteRepositories;
 
     private final RemoteRepositoryAlivenessService remoteRepositoryCacheManager;
 
     private final RemoteRepositoryHeartbeatMonitorStrategy monitorStrategy;
 
+    private final ScheduledExecutorService executor;
+
+    private final int intervalSeconds;
+
+    private final int maxIntervalSeconds;
+
+    private final int failureIntervalSeconds;
+
+    private int delaySeconds;
+
     RemoteRepositoryHeartbeatMonitor(@Nonnull RemoteRepositoryAlivenessService remoteRepositoryCacheManager,
                                      @Nonnull RemoteRepositoryHeartbeatMonitorStrategy monitorStrategy,
-                                     @Nonnull RemoteRepository remoteRepository)
+                                     @Nonnull ScheduledExecutorService executor,
+                                     @Nonnull String host,
+                                     @Nonnull List<RemoteRepository> remoteRepositories,
+                                     int intervalSeconds,
+                                     int maxIntervalSeconds,
+                                     int failureIntervalSeconds)
     {
         Objects.requireNonNull(remoteRepositoryCacheManager);
         Objects.requireNonNull(monitorStrategy);
-        Objects.requireNonNull(remoteRepository);
+        Objects.requireNonNull(executor);
+        Objects.requireNonNull(host);
+        Objects.requireNonNull(remoteRepositories);
 
         this.remoteRepositoryCacheManager = remoteRepositoryCacheManager;
         this.monitorStrategy = monitorStrategy;
-        this.remoteRepository = remoteRepository;
+        this.executor = executor;
+        this.host = host;
+        this.remoteRepositories = new ArrayList<>(remoteRepositories);
+        this.intervalSeconds = intervalSeconds;
+        this.maxIntervalSeconds = Math.max(intervalSeconds, maxIntervalSeconds);
+        this.failureIntervalSeconds = Math.min(intervalSeconds, failureIntervalSeconds);
+        this.delaySeconds = intervalSeconds;
+    }
+
+    String getHost()
+    {
+        return host;
+    }
+
+    int getDelaySeconds()
+    {
+        return delaySeconds;
+    }
+
+    void schedule(int delay)
+    {
+        try
+        {
+            executor.schedule(new RemoteRepositoriesHeartbeatMonitorInitiator.MdcContextProvider(this),
+                              delay,
+                              TimeUnit.SECONDS);
+        }
+        catch (RejectedExecutionException e)
+        {
+            logger.debug("Remote host [{}] monitoring has been stopped.", host);
+        }
     }
 
     @Override
     public void run()
     {
-        boolean isAlive = false;
-        try
+        if (remoteRepositories.isEmpty())
+        {
+            return;
+        }
+
+        // A host level probe tells the same for every repository of the host.
+        List<RemoteRepository> probedRepositories = monitorStrategy.isHostLevel() ?
+                                                    remoteRepositories.subList(0, 1) :
+                                                    remoteRepositories;
+
+        boolean allAlive = true;
+        for (RemoteRepository remoteRepository : probedRepositories)
+        {
+            String url = remoteRepository.getUrl();
+
+            boolean isAlive = false;
+            try
+            {
+                isAlive = monitorStrategy.checkAlive(url);
+            }
+            catch (IOException ex)
+            {
+                logger.warn("Remote host [{}] can't be reached through [{}].", host, url, ex);
+
+                for (RemoteRepository unreachableRepository : remoteRepositories)
+                {
+                    remoteRepositoryCacheManager.put(unreachableRepository, false);
+                }
+
+                schedule(nextDelaySeconds(false));
+
+                return;
+            }
+            catch (Exception ex)
+            {
+                logger.error("Problem determining remote repository [{}] aliveness", url, ex);
+            }
+
+            logger.debug("Thread name is [{}]. Remote repository [{}] is alive ? [{}]",
+                         Thread.currentThread().getName(),
+                         url,
+                         isAlive);
+
+            if (monitorStrategy.isHostLevel())
+            {
+                for (RemoteRepository hostRepository : remoteRepositories)
+                {
+                    remoteRepositoryCacheManager.put(hostRepository, isAlive);
+                }
+            }
+            else
+            {
+                remoteRepositoryCacheManager.put(remoteRepository, isAlive);
+            }
+            allAlive &= isAlive;
+        }
+
+        schedule(nextDelaySeconds(allAlive));
+    }
+
+    int nextDelaySeconds(boolean isAlive)
+    {
+        if (!isAlive)
         {
-            isAlive = monitorStrategy.isAlive(remoteRepository.getUrl());
+            delaySeconds = failureIntervalSeconds;
         }
-        catch (Exception ex)
+        else if (delaySeconds < intervalSeconds)
         {
-            logger.error("Problem determining remote repository [{}] aliveness", remoteRepository.getUrl(), ex);
+            // The host has just recovered.
+            delaySeconds = intervalSeconds;
+        }
+        else
+        {
+            delaySeconds = Math.min(delaySeconds * 2, maxIntervalSeconds);
         }
 
-        logger.debug("Thread name is [{}]. Remote repository [{}] is alive ? [{}]", Thread.currentThread().getName(),
-                     remoteRepository.getUrl(),
-                     isAlive);
-        remoteRepositoryCacheManager.put(remoteRepository, isAlive);
+        return delaySeconds;
     }
+
 }
@@ -0,0 +1,18 @@
+package org.carlspring.strongbox.storage.usage;
+
+import org.carlspring.strongbox.storage.ArtifactStorageException;
+
+/**
+ * Thrown when a repository cannot accept more artifacts because its configured quota
+ * has been reached.
+ */
+public class RepositoryQuotaExceededException
+        extends ArtifactStorageException
+{
+
+    public RepositoryQuotaExceededException(String message)
+    {
+        super(message);
+    }
+
+}
@@ -0,0 +1,140 @@
+package org.carlspring.strongbox.storage.usage;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * In-memory usage counters of a single repository.
+ * <br>
+ * Only artifact files are taken into account (metadata and checksum files are
+ * not), which makes the counters comparable with the {@code ArtifactEntry}
+ * records of the repository.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class RepositoryUsage
+{
+
+    private String storageId;
+
+    private String repositoryId;
+
+    private final AtomicLong bytes = new AtomicLong();
+
+    private final AtomicLong artifacts = new AtomicLong();
+
+    private final AtomicLong trashBytes = new AtomicLong();
+
+    private volatile long lastReconciled;
+
+    public RepositoryUsage()
+    {
+    }
+
+    public RepositoryUsage(String storageId,
+                           String repositoryId)
+    {
+        this.storageId = storageId;
+        this.repositoryId = repositoryId;
+    }
+
+    public String getStorageId()
+    {
+        return storageId;
+    }
+
+    public void setStorageId(String storageId)
+    {
+        this.storageId = storageId;
+    }
+
+    public String getRepositoryId()
+    {
+        return repositoryId;
+    }
+
+    public void setRepositoryId(String repositoryId)
+    {
+        this.repositoryId = repositoryId;
+    }
+
+    public long getBytes()
+    {
+        return bytes.get();
+    }
+
+    public void setBytes(long bytes)
+    {
+        this.bytes.set(bytes);
+    }
+
+    public long getArtifacts()
+    {
+        return artifacts.get();
+    }
+
+    public void setArtifacts(long artifacts)
+    {
+        this.artifacts.set(artifacts);
+    }
+
+    public long getTrashBytes()
+    {
+        return trashBytes.get();
+    }
+
+    public void setTrashBytes(long trashBytes)
+    {
+        this.trashBytes.set(trashBytes);
+    }
+
+    public long getLastReconciled()
+    {
+        return lastReconciled;
+    }
+
+    public void setLastReconciled(long lastReconciled)
+    {
+        this.lastReconciled = lastReconciled;
+    }
+
+    public void add(long bytesDelta,
+                    long artifactsDelta,
+                    long trashBytesDelta)
+    {
+        addNonNegative(bytes, bytesDelta);
+        addNonNegative(artifacts, artifactsDelta);
+        addNonNegative(trashBytes, trashBytesDelta);
+    }
+
+    private static void addNonNegative(AtomicLong counter,
+                                       long delta)
+    {
+        if (delta == 0)
+        {
+            return;
+        }
+
+        // Counters can only drift below zero if some operation bypassed the events,
+        // in which case the reconciliation will fix the value anyway.
+        counter.accumulateAndGet(delta, (current, d) -> Math.max(0, current + d));
+    }
+
+    public void reset(long bytes,
+                      long artifacts,
+                      long trashBytes)
+    {
+        this.bytes.set(bytes);
+        this.artifacts.set(artifacts);
+        this.trashBytes.set(trashBytes);
+        this.lastReconciled = System.currentTimeMillis();
+    }
+
+    @Override
+    public String toString()
+    {
+        return String.format("%s:%s [bytes=%d, artifacts=%d, trashBytes=%d]",
+                             storageId, repositoryId, getBytes(), getArtifacts(), getTrashBytes());
+    }
+
+}
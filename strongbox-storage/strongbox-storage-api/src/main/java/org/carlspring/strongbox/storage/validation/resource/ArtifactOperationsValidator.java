@@ -8,11 +8,14 @@ import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
 import org.carlspring.strongbox.providers.layout.LayoutProvider;
 import org.carlspring.strongbox.providers.layout.LayoutProviderRegistry;
+import org.carlspring.strongbox.services.RepositoryUsageService;
 import org.carlspring.strongbox.storage.ArtifactResolutionException;
 import org.carlspring.strongbox.storage.ArtifactStorageException;
 import org.carlspring.strongbox.storage.Storage;
 import org.carlspring.strongbox.storage.repository.Repository;
 import org.carlspring.strongbox.storage.repository.RepositoryTypeEnum;
+import org.carlspring.strongbox.storage.usage.RepositoryQuotaExceededException;
+import org.carlspring.strongbox.storage.usage.RepositoryUsage;
 
 import javax.inject.Inject;
 import java.io.IOException;
@@ -38,6 +41,9 @@ public class ArtifactOperationsValidator
     @Inject
     private RepositoryPathResolver repositoryPathResolver;
 
+    @Inject
+    private RepositoryUsageService repositoryUsageService;
+
     public ArtifactOperationsValidator()
     {
     }
@@ -162,6 +168,56 @@ public class ArtifactOperationsValidator
         }
     }
 
+    /**
+     * Checks that the repository can accept a new artifact of {@code incomingBytes} size (pass {@code 0} when the
+     * size is not known in advance) without exceeding its quota.
+     */
+    public void checkRepositoryQuota(Repository repository,
+                                     long incomingBytes)
+            throws RepositoryQuotaExceededException
+    {
+        long quotaMaxSize = repository.getQuotaMaxSize();
+        long quotaMaxArtifacts = repository.getQuotaMaxArtifacts();
+        if (quotaMaxSize <= 0 && quotaMaxArtifacts <= 0)
+        {
+            return;
+        }
+
+        RepositoryUsage usage = repositoryUsageService.getUsage(repository.getStorage().getId(), repository.getId());
+        if (quotaMaxSize > 0 && usage.getBytes() + Math.max(0, incomingBytes) > quotaMaxSize)
+        {
+            throw new RepositoryQuotaExceededException("The size quota of " +
+                                                       repository.getStorage().getId() + ":" + repository.getId() +
+                                                       " repository has been exceeded (" + usage.getBytes() + "/" +
+                                                       quotaMaxSize + ").");
+        }
+
+        if (quotaMaxArtifacts > 0 && usage.getArtifacts() >= quotaMaxArtifacts)
+        {
+            throw new RepositoryQuotaExceededException("The artifact count quota of " +
+                                                       repository.getStorage().getId() + ":" + repository.getId() +
+                                                       " repository has been exceeded (" + usage.getArtifacts() + "/" +
+                                                       quotaMaxArtifacts + ").");
+        }
+    }
+
+    /**
+     * @return the number of bytes, which can still be stored in the repository without exceeding its size quota, or
+     *         {@link Long#MAX_VALUE}, if its size isn't limited
+     */
+    public long getRemainingQuotaBytes(Repository repository)
+    {
+        long quotaMaxSize = repository.getQuotaMaxSize();
+        if (quotaMaxSize <= 0)
+        {
+            return Long.MAX_VALUE;
+        }
+
+        RepositoryUsage usage = repositoryUsageService.getUsage(repository.getStorage().getId(), repository.getId());
+
+        return Math.max(0, quotaMaxSize - usage.getBytes());
+    }
+
     public Configuration getConfiguration()
     {
         return configurationManager.getConfiguration();
@@ -0,0 +1,121 @@
+package org.carlspring.strongbox.booters;
+
+import org.carlspring.strongbox.configuration.Configuration;
+import org.carlspring.strongbox.configuration.ConfigurationManager;
+import org.carlspring.strongbox.providers.layout.LayoutProvider;
+import org.carlspring.strongbox.providers.layout.LayoutProviderRegistry;
+import org.carlspring.strongbox.providers.repository.group.GroupRepositorySetCollector;
+import org.carlspring.strongbox.services.RepositoryManagementService;
+import org.carlspring.strongbox.storage.Storage;
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.storage.repository.RepositoryStatusEnum;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.ILock;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+
+public class StorageBooterTest
+{
+
+    private static final String STORAGE_ID = "storage0";
+
+    @Test
+    public void testGroupsAreInitializedAfterTheirMembers()
+            throws Exception
+    {
+        Storage storage = Mockito.mock(Storage.class);
+        Mockito.when(storage.getId()).thenReturn(STORAGE_ID);
+
+        Repository group = mockRepository(storage, "group", true);
+        Repository nestedGroup = mockRepository(storage, "nested-group", true);
+        Repository slowMember = mockRepository(storage, "slow-member", false);
+        Repository member = mockRepository(storage, "member", false);
+
+        // The groups come first in the configuration.
+        Map<String, Repository> repositories = new LinkedHashMap<>();
+        repositories.put(group.getId(), group);
+        repositories.put(nestedGroup.getId(), nestedGroup);
+        repositories.put(slowMember.getId(), slowMember);
+        repositories.put(member.getId(), member);
+        Mockito.doReturn(repositories).when(storage).getRepositories();
+
+        GroupRepositorySetCollector groupRepositorySetCollector = Mockito.mock(GroupRepositorySetCollector.class);
+        Mockito.when(groupRepositorySetCollector.collect(group, true))
+               .thenReturn(new LinkedHashSet<>(Arrays.asList(nestedGroup, slowMember)));
+        Mockito.when(groupRepositorySetCollector.collect(nestedGroup, true))
+               .thenReturn(new LinkedHashSet<>(Collections.singletonList(member)));
+
+        Configuration configuration = Mockito.mock(Configuration.class);
+        Mockito.when(configuration.getStorages()).thenReturn(Collections.singletonMap(STORAGE_ID, storage));
+
+        ConfigurationManager configurationManager = Mockito.mock(ConfigurationManager.class);
+        Mockito.when(configurationManager.getConfiguration()).thenReturn(configuration);
+
+        LayoutProviderRegistry layoutProviderRegistry = Mockito.mock(LayoutProviderRegistry.class);
+        Mockito.doReturn(Mockito.mock(LayoutProvider.class)).when(layoutProviderRegistry).getProvider(anyString());
+
+        ILock lock = Mockito.mock(ILock.class);
+        Mockito.when(lock.tryLock()).thenReturn(true);
+        HazelcastInstance hazelcastInstance = Mockito.mock(HazelcastInstance.class);
+        Mockito.when(hazelcastInstance.getLock(anyString())).thenReturn(lock);
+
+        List<String> createdRepositories = new CopyOnWriteArrayList<>();
+        RepositoryManagementService repositoryManagementService = Mockito.mock(RepositoryManagementService.class);
+        Mockito.doAnswer(invocation -> {
+            String repositoryId = invocation.getArgument(1);
+            if (repositoryId.equals(slowMember.getId()))
+            {
+                // The members are initialized concurrently, so the groups have to wait for the slowest one.
+                Thread.sleep(200);
+            }
+
+            createdRepositories.add(repositoryId);
+
+            return null;
+        }).when(repositoryManagementService).createRepository(eq(STORAGE_ID), anyString());
+
+        StorageBooter storageBooter = new StorageBooter();
+        ReflectionTestUtils.setField(storageBooter, "configurationManager", configurationManager);
+        ReflectionTestUtils.setField(storageBooter, "layoutProviderRegistry", layoutProviderRegistry);
+        ReflectionTestUtils.setField(storageBooter, "repositoryManagementService", repositoryManagementService);
+        ReflectionTestUtils.setField(storageBooter, "groupRepositorySetCollector", groupRepositorySetCollector);
+        ReflectionTestUtils.setField(storageBooter, "hazelcastInstance", hazelcastInstance);
+        ReflectionTestUtils.setField(storageBooter, "threads", 4);
+
+        storageBooter.initialize();
+
+        assertThat(createdRepositories).hasSize(4);
+        assertThat(createdRepositories.subList(0, 2)).containsExactlyInAnyOrder(slowMember.getId(), member.getId());
+        assertThat(createdRepositories.subList(2, 4)).containsExactly(nestedGroup.getId(), group.getId());
+
+        Mockito.verify(lock).unlock();
+    }
+
+    private Repository mockRepository(Storage storage,
+                                      String repositoryId,
+                                      boolean groupRepository)
+    {
+        Repository repository = Mockito.mock(Repository.class);
+        Mockito.when(repository.getId()).thenReturn(repositoryId);
+        Mockito.when(repository.getStorage()).thenReturn(storage);
+        Mockito.when(repository.getLayout()).thenReturn("Maven 2");
+        Mockito.when(repository.getStatus()).thenReturn(RepositoryStatusEnum.OUT_OF_SERVICE.getStatus());
+        Mockito.when(repository.isGroupRepository()).thenReturn(groupRepository);
+
+        return repository;
+    }
+
+}
@@ -0,0 +1,131 @@
+package org.carlspring.strongbox.providers.io;
+
+import org.carlspring.strongbox.booters.PropertiesBooter;
+import org.carlspring.strongbox.configuration.Configuration;
+import org.carlspring.strongbox.configuration.MutableConfiguration;
+import org.carlspring.strongbox.storage.StorageDto;
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.storage.repository.RepositoryData;
+import org.carlspring.strongbox.storage.repository.RepositoryDto;
+
+import java.nio.file.FileSystems;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RepositoryFileSystemRegistryTest
+{
+
+    private static final String LAYOUT = "test-layout";
+
+    private final AtomicInteger createdFileSystems = new AtomicInteger();
+
+    private RepositoryFileSystemRegistry registry;
+
+    private RepositoryDto repositoryDto;
+
+    @BeforeEach
+    public void setup()
+    {
+        PropertiesBooter propertiesBooter = new PropertiesBooter();
+        LayoutFileSystemFactory fileSystemFactory = repository -> {
+            createdFileSystems.incrementAndGet();
+
+            return new LayoutFileSystem(propertiesBooter, repository, FileSystems.getDefault(), null)
+            {
+                @Override
+                public Set<String> getDigestAlgorithmSet()
+                {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        };
+
+        registry = new RepositoryFileSystemRegistry();
+        registry.setFileSystemFactories(Collections.singletonMap("LayoutFileSystemFactory." + LAYOUT,
+                                                                 fileSystemFactory));
+
+        repositoryDto = new RepositoryDto("releases");
+        repositoryDto.setLayout(LAYOUT);
+        repositoryDto.setStorage(new StorageDto("storage0"));
+        repositoryDto.setBasedir(Paths.get("target/strongbox-vault/storages/storage0/releases")
+                                      .toAbsolutePath()
+                                      .toString());
+    }
+
+    @Test
+    public void fileSystemShouldBeBuiltOncePerRepository()
+    {
+        LayoutFileSystem fileSystem = registry.getFileSystem(new RepositoryData(repositoryDto));
+
+        // Every configuration lookup provides a new instance of the same repository.
+        assertThat(registry.getFileSystem(new RepositoryData(repositoryDto))).isSameAs(fileSystem);
+        assertThat(registry.getFileSystemProvider(new RepositoryData(repositoryDto))).isSameAs(fileSystem.provider());
+
+        assertThat(createdFileSystems.get()).isEqualTo(1);
+        assertThat(registry.getMissCount()).isEqualTo(1);
+        assertThat(registry.getHitCount()).isEqualTo(2);
+        assertThat(registry.getRebuildCount()).isZero();
+    }
+
+    @Test
+    public void fileSystemShouldBeRebuiltAfterInvalidation()
+    {
+        LayoutFileSystem fileSystem = registry.getFileSystem(new RepositoryData(repositoryDto));
+
+        repositoryDto.setBasedir(Paths.get("target/strongbox-vault/storages/storage0/releases-moved")
+                                      .toAbsolutePath()
+                                      .toString());
+        registry.invalidateAll();
+
+        Repository repository = new RepositoryData(repositoryDto);
+        LayoutFileSystem rebuiltFileSystem = registry.getFileSystem(repository);
+
+        assertThat(rebuiltFileSystem).isNotSameAs(fileSystem);
+        assertThat(rebuiltFileSystem.getRepository()).isSameAs(repository);
+        assertThat(rebuiltFileSystem.getRootDirectory().toString()).endsWith("releases-moved");
+        assertThat(registry.getRebuildCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void fileSystemOfPreviousConfigurationShouldNotBeCached()
+    {
+        StorageDto storage = new StorageDto("storage0");
+        storage.addRepository(repositoryDto);
+        repositoryDto.setStorage(storage);
+
+        MutableConfiguration mutableConfiguration = new MutableConfiguration();
+        mutableConfiguration.addStorage(storage);
+
+        Configuration previousConfiguration = new Configuration(mutableConfiguration);
+        Configuration configuration = new Configuration(mutableConfiguration);
+        registry.invalidateAll(configuration);
+
+        // A reader, which has looked up the repository before the configuration was published.
+        Repository previousRepository = previousConfiguration.getRepository("storage0", "releases");
+        LayoutFileSystem previousFileSystem = registry.getFileSystem(previousRepository);
+
+        Repository repository = configuration.getRepository("storage0", "releases");
+        LayoutFileSystem fileSystem = registry.getFileSystem(repository);
+
+        assertThat(fileSystem).isNotSameAs(previousFileSystem);
+        assertThat(fileSystem.getRepository()).isSameAs(repository);
+        assertThat(registry.getFileSystem(repository)).isSameAs(fileSystem);
+    }
+
+    @Test
+    public void fileSystemOfMutableRepositoryShouldNotBeCached()
+    {
+        registry.getFileSystem(repositoryDto);
+        registry.getFileSystem(repositoryDto);
+
+        assertThat(createdFileSystems.get()).isEqualTo(2);
+        assertThat(registry.getHitCount()).isZero();
+    }
+
+}
@@ -0,0 +1,131 @@
+package org.carlspring.strongbox.services.impl;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.FileSystemUtils;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BlobStoreServiceImplTest
+{
+
+    private static final byte[] CONTENT = "The same bytes in many repositories.".getBytes(StandardCharsets.UTF_8);
+
+    private Path directory;
+
+    private Path tempDirectory;
+
+    private BlobStoreServiceImpl blobStoreService;
+
+    @BeforeEach
+    public void setUp()
+            throws IOException
+    {
+        directory = Files.createTempDirectory("strongbox-blobs-");
+        tempDirectory = directory.resolve(".temp");
+
+        blobStoreService = new BlobStoreServiceImpl(directory.resolve("blobs").toString());
+    }
+
+    @AfterEach
+    public void tearDown()
+    {
+        FileSystemUtils.deleteRecursively(directory.toFile());
+    }
+
+    @Test
+    public void testTheSameContentIsStoredOnce()
+            throws IOException
+    {
+        Path hosted = write("releases/foo-1.0.jar", CONTENT);
+        Path proxy = write("proxy/foo-1.0.jar", CONTENT);
+        Path other = write("releases/bar-1.0.jar", "Other bytes.".getBytes(StandardCharsets.UTF_8));
+
+        blobStoreService.deduplicate(hosted, tempDirectory);
+        blobStoreService.deduplicate(proxy, tempDirectory);
+        blobStoreService.deduplicate(other, tempDirectory);
+
+        assertThat(Files.isSameFile(hosted, proxy)).isTrue();
+        assertThat(Files.isSameFile(hosted, other)).isFalse();
+        assertThat(BlobStoreServiceImpl.getLinkCount(hosted)).isEqualTo(3);
+        assertThat(proxy).hasBinaryContent(CONTENT);
+
+        // Deduplicating a reference again doesn't add a reference.
+        blobStoreService.deduplicate(proxy, tempDirectory);
+
+        assertThat(BlobStoreServiceImpl.getLinkCount(hosted)).isEqualTo(3);
+        assertThat(countFiles(tempDirectory)).isEqualTo(0);
+    }
+
+    @Test
+    public void testOnlyUnreferencedBlobsAreCollected()
+            throws IOException
+    {
+        Path hosted = write("releases/foo-1.0.jar", CONTENT);
+        Path proxy = write("proxy/foo-1.0.jar", CONTENT);
+        blobStoreService.deduplicate(hosted, tempDirectory);
+        blobStoreService.deduplicate(proxy, tempDirectory);
+
+        // Moving a reference to the trash keeps the blob.
+        Path trash = directory.resolve("releases/.trash/foo-1.0.jar");
+        Files.createDirectories(trash.getParent());
+        Files.move(hosted, trash);
+
+        assertThat(blobStoreService.collectGarbage()).isEqualTo(0);
+
+        Files.delete(proxy);
+
+        assertThat(blobStoreService.collectGarbage()).isEqualTo(0);
+        assertThat(trash).hasBinaryContent(CONTENT);
+
+        Files.delete(trash);
+
+        assertThat(blobStoreService.collectGarbage()).isEqualTo(1);
+        assertThat(countFiles(directory.resolve("blobs"))).isEqualTo(0);
+    }
+
+    @Test
+    public void testDetachedFileCanBeModifiedInPlace()
+            throws IOException
+    {
+        Path hosted = write("releases/foo-1.0.jar", CONTENT);
+        Path proxy = write("proxy/foo-1.0.jar", CONTENT);
+        blobStoreService.deduplicate(hosted, tempDirectory);
+        blobStoreService.deduplicate(proxy, tempDirectory);
+
+        blobStoreService.detach(proxy, tempDirectory);
+        Files.write(proxy, "Modified.".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        assertThat(Files.isSameFile(hosted, proxy)).isFalse();
+        assertThat(BlobStoreServiceImpl.getLinkCount(hosted)).isEqualTo(2);
+        assertThat(BlobStoreServiceImpl.getLinkCount(proxy)).isEqualTo(1);
+        assertThat(hosted).hasBinaryContent(CONTENT);
+    }
+
+    private long countFiles(Path path)
+            throws IOException
+    {
+        try (Stream<Path> stream = Files.walk(path))
+        {
+            return stream.filter(Files::isRegularFile).count();
+        }
+    }
+
+    private Path write(String path,
+                       byte[] content)
+            throws IOException
+    {
+        Path file = directory.resolve(path);
+        Files.createDirectories(file.getParent());
+
+        return Files.write(file, content);
+    }
+
+}
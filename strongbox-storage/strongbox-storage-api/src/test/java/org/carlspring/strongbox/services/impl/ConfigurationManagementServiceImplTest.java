@@ -3,6 +3,7 @@ package org.carlspring.strongbox.services.impl;
 import org.carlspring.strongbox.StorageApiTestConfig;
 import org.carlspring.strongbox.artifact.coordinates.RawArtifactCoordinates;
 import org.carlspring.strongbox.configuration.Configuration;
+import org.carlspring.strongbox.configuration.ConfigurationChangeListener;
 import org.carlspring.strongbox.services.ConfigurationManagementService;
 import org.carlspring.strongbox.storage.repository.HttpConnectionPool;
 import org.carlspring.strongbox.storage.repository.Repository;
@@ -18,6 +19,7 @@ import javax.inject.Inject;
 import java.io.IOException;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -75,6 +77,33 @@ public class ConfigurationManagementServiceImplTest
         assertThat(iterator.next()).isEqualTo("jboss-public-releases");
     }
 
+    @Test
+    public void configurationSnapshotShouldBeReplacedOnChange()
+            throws IOException
+    {
+        Configuration snapshot = configurationManagementService.getConfiguration();
+        long version = configurationManagementService.getConfigurationVersion();
+
+        assertThat(configurationManagementService.getConfiguration()).isSameAs(snapshot);
+
+        List<Long> notifiedVersions = new CopyOnWriteArrayList<>();
+        ConfigurationChangeListener listener = (configuration, v) -> notifiedVersions.add(v);
+        configurationManagementService.addConfigurationChangeListener(listener);
+        try
+        {
+            configurationManagementService.setInstanceName(snapshot.getInstanceName());
+        }
+        finally
+        {
+            configurationManagementService.removeConfigurationChangeListener(listener);
+        }
+
+        Configuration newSnapshot = configurationManagementService.getConfiguration();
+        assertThat(newSnapshot).isNotSameAs(snapshot);
+        assertThat(configurationManagementService.getConfigurationVersion()).isGreaterThan(version);
+        assertThat(notifiedVersions).isNotEmpty().allMatch(v -> v > version);
+    }
+
     @Test
     public void additionOfTheSameGroupRepositoryShouldNotAffectGroupRepositoriesList()
             throws IOException
@@ -0,0 +1,248 @@
+package org.carlspring.strongbox.services.support;
+
+import org.carlspring.strongbox.storage.StorageDto;
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.storage.repository.RepositoryData;
+import org.carlspring.strongbox.storage.repository.RepositoryDto;
+import org.carlspring.strongbox.storage.routing.MutableRoutingRule;
+import org.carlspring.strongbox.storage.routing.MutableRoutingRuleRepository;
+import org.carlspring.strongbox.storage.routing.MutableRoutingRules;
+import org.carlspring.strongbox.storage.routing.RepositoryIdentifiable;
+import org.carlspring.strongbox.storage.routing.RoutingRule;
+import org.carlspring.strongbox.storage.routing.RoutingRuleTypeEnum;
+import org.carlspring.strongbox.storage.routing.RoutingRules;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the compiled routing rules accept and deny the same paths as the routing rules matched one by one, for
+ * randomly generated configurations.
+ */
+public class RoutingRulesMatcherTest
+{
+
+    private static final long SEED = 20190517L;
+
+    private static final int CONFIGURATIONS = 500;
+
+    private static final int CHECKS_PER_CONFIGURATION = 50;
+
+    private static final String[] STORAGE_IDS = { null, "", " ", "storage0", "STORAGE0", " storage0 ", "storage1" };
+
+    private static final String[] REPOSITORY_IDS = { null, "", "group0", "Group0", "group1", "releases", "snapshots" };
+
+    private static final String[] PATTERNS = { ".*",
+                                               ".*\\.jar",
+                                               "org/carlspring/.*",
+                                               "com/[a-z]+/.*",
+                                               ".*-SNAPSHOT/.*",
+                                               "(?i)ORG/.*",
+                                               "org/(?i)CARLSPRING/.*",
+                                               "(?:org|com)/.+\\.pom",
+                                               "([a-z])\\1.*",
+                                               "(?<prefix>org)/.*",
+                                               "\\Qorg/carlspring/\\E.*",
+                                               "(?x) org / .* # comment",
+                                               "a|b",
+                                               "" };
+
+    private static final String[] PATHS = { "org/carlspring/strongbox/strongbox-utils/1.0/strongbox-utils-1.0.jar",
+                                            "org/carlspring/strongbox/strongbox-utils/1.0/strongbox-utils-1.0.pom",
+                                            "org/carlspring/strongbox/strongbox-utils/1.0-SNAPSHOT/maven-metadata.xml",
+                                            "ORG/carlspring/foo/1.0/foo-1.0.jar",
+                                            "com/example/foo/1.0/foo-1.0.pom",
+                                            "aa/bb/1.0/bb-1.0.jar",
+                                            "a",
+                                            "b",
+                                            "" };
+
+    private static final String[][] MEMBERS = { { "storage0", "releases" },
+                                                { "storage0", "snapshots" },
+                                                { "storage1", "releases" },
+                                                { "Storage0", "Releases" } };
+
+    private static final String[][] GROUPS = { { "storage0", "group0" },
+                                               { "storage1", "group1" } };
+
+    @Test
+    public void compiledRulesShouldMatchLikeTheRulesOneByOne()
+    {
+        Random random = new Random(SEED);
+
+        for (int i = 0; i < CONFIGURATIONS; i++)
+        {
+            RoutingRules routingRules = randomRoutingRules(random);
+            RoutingRulesMatcher matcher = new RoutingRulesMatcher(routingRules);
+
+            for (int j = 0; j < CHECKS_PER_CONFIGURATION; j++)
+            {
+                Repository groupRepository = repository(GROUPS[random.nextInt(GROUPS.length)]);
+                Repository subRepository = repository(MEMBERS[random.nextInt(MEMBERS.length)]);
+                String artifactPath = PATHS[random.nextInt(PATHS.length)];
+
+                assertThat(matcher.isDenied(groupRepository, subRepository, artifactPath))
+                        .as("seed [%s], configuration [%s], group [%s], member [%s], path [%s]",
+                            SEED, i, groupRepository.getStorageIdAndRepositoryId(),
+                            subRepository.getStorageIdAndRepositoryId(), artifactPath)
+                        .isEqualTo(isDenied(routingRules, groupRepository, subRepository, artifactPath));
+            }
+        }
+    }
+
+    @Test
+    public void acceptRuleShouldOverrideDenyRule()
+    {
+        MutableRoutingRules mutableRoutingRules = new MutableRoutingRules();
+        mutableRoutingRules.getRules().add(routingRule(RoutingRuleTypeEnum.DENY, "storage0", "group0", ".*", null));
+        mutableRoutingRules.getRules().add(routingRule(RoutingRuleTypeEnum.ACCEPT, "storage0", "group0",
+                                                       "org/carlspring/.*", new String[]{ "storage0", "releases" }));
+
+        RoutingRulesMatcher matcher = new RoutingRulesMatcher(new RoutingRules(mutableRoutingRules));
+        Repository group = repository(GROUPS[0]);
+
+        assertThat(matcher.isDenied(group, repository(MEMBERS[0]), PATHS[0])).isFalse();
+        assertThat(matcher.isDenied(group, repository(MEMBERS[1]), PATHS[0])).isTrue();
+        assertThat(matcher.isDenied(group, repository(MEMBERS[0]), PATHS[4])).isTrue();
+        assertThat(matcher.isDenied(repository(GROUPS[1]), repository(MEMBERS[0]), PATHS[4])).isFalse();
+    }
+
+    private RoutingRules randomRoutingRules(Random random)
+    {
+        MutableRoutingRules mutableRoutingRules = new MutableRoutingRules();
+
+        int count = random.nextInt(8);
+        for (int i = 0; i < count; i++)
+        {
+            RoutingRuleTypeEnum type = random.nextBoolean() ? RoutingRuleTypeEnum.DENY : RoutingRuleTypeEnum.ACCEPT;
+            String[] repository = random.nextInt(3) == 0 ? null : new String[]{ pick(random, STORAGE_IDS),
+                                                                                pick(random, REPOSITORY_IDS) };
+
+            mutableRoutingRules.getRules().add(routingRule(type,
+                                                           pick(random, STORAGE_IDS),
+                                                           pick(random, REPOSITORY_IDS),
+                                                           pick(random, PATTERNS),
+                                                           repository));
+        }
+
+        return new RoutingRules(mutableRoutingRules);
+    }
+
+    private MutableRoutingRule routingRule(RoutingRuleTypeEnum type,
+                                           String storageId,
+                                           String groupRepositoryId,
+                                           String pattern,
+                                           String[] repository)
+    {
+        MutableRoutingRule routingRule = new MutableRoutingRule();
+        routingRule.setUuid(UUID.randomUUID());
+        routingRule.setType(type.getType());
+        routingRule.setStorageId(storageId);
+        routingRule.setGroupRepositoryId(groupRepositoryId);
+        routingRule.setPattern(pattern);
+
+        List<MutableRoutingRuleRepository> repositories = new ArrayList<>();
+        if (repository != null)
+        {
+            repositories.add(new MutableRoutingRuleRepository(repository[0], repository[1]));
+        }
+        routingRule.setRepositories(repositories);
+
+        return routingRule;
+    }
+
+    private Repository repository(String[] storageIdAndRepositoryId)
+    {
+        RepositoryDto repository = new RepositoryDto(storageIdAndRepositoryId[1]);
+        repository.setStorage(new StorageDto(storageIdAndRepositoryId[0]));
+
+        return new RepositoryData(repository);
+    }
+
+    private String pick(Random random,
+                        String[] values)
+    {
+        return values[random.nextInt(values.length)];
+    }
+
+    // The routing rules matched one by one, as they were before their compilation.
+
+    private boolean isDenied(RoutingRules routingRules,
+                             Repository groupRepository,
+                             Repository subRepository,
+                             String artifactPath)
+    {
+        final boolean hasDenyRules = hasCandidates(groupRepository, subRepository, artifactPath, routingRules.getDenied());
+        final boolean hasAcceptRules = hasCandidates(groupRepository, subRepository, artifactPath, routingRules.getAccepted());
+
+        return hasDenyRules && !hasAcceptRules;
+    }
+
+    private boolean hasCandidates(Repository groupRepository,
+                                  Repository subRepository,
+                                  String artifactPath,
+                                  List<RoutingRule> routingRules)
+    {
+        return routingRules.stream()
+                           .anyMatch(rule -> {
+                               boolean result = false;
+
+                               if ((isMatch(rule, groupRepository))
+                                   && rule.getRegex().matcher(artifactPath).matches())
+                               {
+                                   if (rule.getRepositories().size() == 0)
+                                   {
+                                       result = true;
+                                   }
+                                   else
+                                   {
+                                       result = rule.getRepositories()
+                                                    .stream()
+                                                    .anyMatch(r -> isMatch(r, subRepository));
+                                   }
+                               }
+
+                               return result;
+                           });
+    }
+
+    private boolean isMatch(RepositoryIdentifiable rule,
+                            Repository repository)
+    {
+        boolean result = false;
+
+        if (equalsIgnoreCase(rule.getStorageIdAndRepositoryId(), repository.getStorageIdAndRepositoryId()))
+        {
+            result = true;
+        }
+        else if (equalsIgnoreCase(rule.getStorageIdAndRepositoryId(), StringUtils.EMPTY))
+        {
+            result = true;
+        }
+        else if (equalsIgnoreCase(rule.getRepositoryId(), StringUtils.EMPTY) &&
+                 equalsIgnoreCase(rule.getStorageId(), repository.getStorage().getId()))
+        {
+            result = true;
+        }
+        else if (equalsIgnoreCase(rule.getStorageId(), StringUtils.EMPTY) &&
+                 equalsIgnoreCase(rule.getRepositoryId(), repository.getId()))
+        {
+            result = true;
+        }
+
+        return result;
+    }
+
+    private boolean equalsIgnoreCase(final String a,
+                                     final String b)
+    {
+        return StringUtils.trimToEmpty(a).equalsIgnoreCase(StringUtils.trimToEmpty(b));
+    }
+
+}
@@ -0,0 +1,133 @@
+package org.carlspring.strongbox.storage.repository.remote.heartbeat;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.util.Arrays;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.carlspring.strongbox.storage.repository.remote.RemoteRepository;
+import org.carlspring.strongbox.storage.repository.remote.heartbeat.monitor.RemoteRepositoryHeartbeatMonitorStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+
+public class RemoteRepositoryHeartbeatMonitorTest
+{
+
+    private RemoteRepositoryAlivenessService alivenessService;
+
+    private RemoteRepositoryHeartbeatMonitorStrategy monitorStrategy;
+
+    private ScheduledExecutorService executor;
+
+    private RemoteRepository central;
+
+    private RemoteRepository snapshots;
+
+    private RemoteRepositoryHeartbeatMonitor monitor;
+
+    @BeforeEach
+    public void setUp()
+    {
+        alivenessService = Mockito.mock(RemoteRepositoryAlivenessService.class);
+        monitorStrategy = Mockito.mock(RemoteRepositoryHeartbeatMonitorStrategy.class);
+        executor = Mockito.mock(ScheduledExecutorService.class);
+
+        central = Mockito.mock(RemoteRepository.class);
+        Mockito.when(central.getUrl()).thenReturn("https://repo.example.com/central/");
+        snapshots = Mockito.mock(RemoteRepository.class);
+        Mockito.when(snapshots.getUrl()).thenReturn("https://repo.example.com/snapshots/");
+
+        monitor = new RemoteRepositoryHeartbeatMonitor(alivenessService,
+                                                       monitorStrategy,
+                                                       executor,
+                                                       "https://repo.example.com",
+                                                       Arrays.asList(central, snapshots),
+                                                       60,
+                                                       480,
+                                                       5);
+    }
+
+    @Test
+    public void testUnreachableHostIsProbedOnceForAllRepositories()
+            throws IOException
+    {
+        Mockito.when(monitorStrategy.checkAlive(anyString())).thenThrow(new ConnectException());
+
+        monitor.run();
+
+        Mockito.verify(monitorStrategy, Mockito.times(1)).checkAlive("https://repo.example.com/central/");
+        Mockito.verify(alivenessService).put(central, false);
+        Mockito.verify(alivenessService).put(snapshots, false);
+        Mockito.verify(executor).schedule(any(Runnable.class), eq(5L), eq(TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testRepositoriesOfReachableHostAreProbedOneByOne()
+            throws IOException
+    {
+        Mockito.when(monitorStrategy.checkAlive("https://repo.example.com/central/")).thenReturn(false);
+        Mockito.when(monitorStrategy.checkAlive("https://repo.example.com/snapshots/")).thenReturn(true);
+
+        monitor.run();
+
+        Mockito.verify(alivenessService).put(central, false);
+        Mockito.verify(alivenessService).put(snapshots, true);
+        Mockito.verify(executor).schedule(any(Runnable.class), eq(5L), eq(TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testHostLevelStrategyProbesTheHostOnce()
+            throws IOException
+    {
+        Mockito.when(monitorStrategy.isHostLevel()).thenReturn(true);
+        Mockito.when(monitorStrategy.checkAlive(anyString())).thenReturn(true);
+
+        monitor.run();
+
+        Mockito.verify(monitorStrategy, Mockito.times(1)).checkAlive(anyString());
+        Mockito.verify(alivenessService).put(central, true);
+        Mockito.verify(alivenessService).put(snapshots, true);
+        Mockito.verify(executor).schedule(any(Runnable.class), eq(120L), eq(TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testIntervalIsNotShortenedWhileAllRepositoriesAreAlive()
+            throws IOException
+    {
+        Mockito.when(monitorStrategy.checkAlive(anyString())).thenReturn(true);
+
+        monitor.run();
+
+        Mockito.verify(alivenessService).put(central, true);
+        Mockito.verify(alivenessService).put(snapshots, true);
+        Mockito.verify(executor).schedule(any(Runnable.class), eq(120L), eq(TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testIntervalBacksOffWhileAlive()
+    {
+        assertThat(monitor.nextDelaySeconds(true)).isEqualTo(120);
+        assertThat(monitor.nextDelaySeconds(true)).isEqualTo(240);
+        assertThat(monitor.nextDelaySeconds(true)).isEqualTo(480);
+        assertThat(monitor.nextDelaySeconds(true)).isEqualTo(480);
+    }
+
+    @Test
+    public void testIntervalIsResetAfterFailure()
+    {
+        monitor.nextDelaySeconds(true);
+        monitor.nextDelaySeconds(true);
+
+        assertThat(monitor.nextDelaySeconds(false)).isEqualTo(5);
+        assertThat(monitor.nextDelaySeconds(false)).isEqualTo(5);
+        assertThat(monitor.nextDelaySeconds(true)).isEqualTo(60);
+        assertThat(monitor.nextDelaySeconds(true)).isEqualTo(120);
+    }
+
+}
@@ -12,8 +12,12 @@ import javax.inject.Inject;
 import org.carlspring.commons.io.RandomInputStream;
 import org.carlspring.strongbox.StorageApiTestConfig;
 import org.carlspring.strongbox.data.CacheManagerTestExecutionListener;
+import org.carlspring.strongbox.configuration.ConfigurationManager;
 import org.carlspring.strongbox.services.ConfigurationManagementService;
+import org.carlspring.strongbox.services.RepositoryUsageService;
 import org.carlspring.strongbox.storage.ArtifactResolutionException;
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.storage.usage.RepositoryQuotaExceededException;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -26,6 +30,7 @@ import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.TestExecutionListeners;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.fail;
 
 /**
@@ -51,6 +56,12 @@ public class ArtifactOperationsValidatorTest
     @Inject
     private ConfigurationManagementService configurationManagementService;
 
+    @Inject
+    private ConfigurationManager configurationManager;
+
+    @Inject
+    private RepositoryUsageService repositoryUsageService;
+
     private String REPOSITORY_BASEDIR = new File("target/strongbox-vault/storages/storage0/releases").getAbsolutePath();
 
     @BeforeEach
@@ -75,6 +86,7 @@ public class ArtifactOperationsValidatorTest
     public void tearDown() throws IOException
     {
         configurationManagementService.setArtifactMaxSize(STORAGE_ID, REPOSITORY_ID, 0L);
+        configurationManagementService.setRepositoryQuota(STORAGE_ID, REPOSITORY_ID, 0L, 0L);
     }
 
     @Test
@@ -140,5 +152,34 @@ public class ArtifactOperationsValidatorTest
         Files.delete(path);
     }
 
+    @Test
+    public void checkRepositoryQuotaTest()
+            throws IOException
+    {
+        repositoryUsageService.remove(STORAGE_ID, REPOSITORY_ID);
+        repositoryUsageService.update(STORAGE_ID, REPOSITORY_ID, 1000L, 2L, 0L);
+
+        configurationManagementService.setRepositoryQuota(STORAGE_ID, REPOSITORY_ID, 1500L, 3L);
+        Repository repository = configurationManager.getRepository(STORAGE_ID, REPOSITORY_ID);
+
+        artifactOperationsValidator.checkRepositoryQuota(repository, 500L);
+        assertThat(artifactOperationsValidator.getRemainingQuotaBytes(repository)).isEqualTo(500L);
+
+        assertThatThrownBy(() -> artifactOperationsValidator.checkRepositoryQuota(repository, 501L))
+                .isInstanceOf(RepositoryQuotaExceededException.class);
+
+        repositoryUsageService.update(STORAGE_ID, REPOSITORY_ID, 0L, 1L, 0L);
+
+        assertThatThrownBy(() -> artifactOperationsValidator.checkRepositoryQuota(repository, 0L))
+                .isInstanceOf(RepositoryQuotaExceededException.class);
+
+        configurationManagementService.setRepositoryQuota(STORAGE_ID, REPOSITORY_ID, 0L, 0L);
+        artifactOperationsValidator.checkRepositoryQuota(configurationManager.getRepository(STORAGE_ID, REPOSITORY_ID),
+                                                         Long.MAX_VALUE);
+        assertThat(artifactOperationsValidator.getRemainingQuotaBytes(
+                configurationManager.getRepository(STORAGE_ID, REPOSITORY_ID))).isEqualTo(Long.MAX_VALUE);
+
+        repositoryUsageService.remove(STORAGE_ID, REPOSITORY_ID);
+    }
 
 }
@@ -0,0 +1,18 @@
+package org.carlspring.strongbox.configuration;
+
+/**
+ * Notified whenever a new {@link Configuration} snapshot has been published, so that the state derived from the
+ * configuration can be invalidated.
+ */
+@FunctionalInterface
+public interface ConfigurationChangeListener
+{
+
+    /**
+     * @param configuration the new snapshot
+     * @param version       the version of the snapshot, which is increased with every change
+     */
+    void onConfigurationChanged(Configuration configuration,
+                                long version);
+
+}
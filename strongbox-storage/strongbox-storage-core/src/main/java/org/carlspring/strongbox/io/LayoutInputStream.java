@@ -10,12 +10,15 @@ import java.security.NoSuchAlgorithmException;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apache.commons.codec.digest.MessageDigestAlgorithms;
 import org.apache.commons.io.input.ProxyInputStream;
 
+import io.micrometer.core.instrument.Timer;
+
 /**
  * This class decorates storage {@link InputStream} with common layout specific logic.
  * 
@@ -41,6 +44,10 @@ public class LayoutInputStream
 
     private Map<String, String> hexDigests = new LinkedHashMap<>();
 
+    private Timer digestTimer;
+
+    private long digestNanos;
+
     public LayoutInputStream(InputStream is,
                              Set<String> checkSumDigestAlgorithmSet)
         throws NoSuchAlgorithmException
@@ -109,18 +116,28 @@ public class LayoutInputStream
         this.digests = digests;
     }
 
+    /**
+     * Sets the timer which records the time spent computing the digests, once the stream is closed.
+     */
+    public void setDigestTimer(Timer digestTimer)
+    {
+        this.digestTimer = digestTimer;
+    }
+
     @Override
     public int read()
             throws IOException
     {
         int ch = in.read();
-        if (ch != -1)
+        if (ch != -1 && !digests.isEmpty())
         {
+            long start = System.nanoTime();
             for (Map.Entry entry : digests.entrySet())
             {
                 MessageDigest digest = (MessageDigest) entry.getValue();
                 digest.update((byte) ch);
             }
+            digestNanos += System.nanoTime() - start;
         }
 
         return ch;
@@ -133,13 +150,15 @@ public class LayoutInputStream
             throws IOException
     {
         int numberOfBytesRead = in.read(bytes, off, len);
-        if (numberOfBytesRead != -1)
+        if (numberOfBytesRead != -1 && !digests.isEmpty())
         {
+            long start = System.nanoTime();
             for (Map.Entry entry : digests.entrySet())
             {
                 MessageDigest digest = (MessageDigest) entry.getValue();
                 digest.update(bytes, off, numberOfBytesRead);
             }
+            digestNanos += System.nanoTime() - start;
         }
 
         return numberOfBytesRead;
@@ -150,16 +169,40 @@ public class LayoutInputStream
             throws IOException
     {
         int len = in.read(bytes);
+        if (digests.isEmpty())
+        {
+            return len;
+        }
 
+        long start = System.nanoTime();
         for (Map.Entry entry : digests.entrySet())
         {
             MessageDigest digest = (MessageDigest) entry.getValue();
             digest.update(bytes);
         }
+        digestNanos += System.nanoTime() - start;
 
         return len;
     }
 
+    @Override
+    public void close()
+            throws IOException
+    {
+        try
+        {
+            super.close();
+        }
+        finally
+        {
+            if (digestTimer != null && digestNanos > 0)
+            {
+                digestTimer.record(digestNanos, TimeUnit.NANOSECONDS);
+                digestNanos = 0;
+            }
+        }
+    }
+
     InputStream getTarget()
     {
         return in;
@@ -2,6 +2,7 @@ package org.carlspring.strongbox.services;
 
 import org.carlspring.strongbox.client.MutableRemoteRepositoryRetryArtifactDownloadConfiguration;
 import org.carlspring.strongbox.configuration.Configuration;
+import org.carlspring.strongbox.configuration.ConfigurationChangeListener;
 import org.carlspring.strongbox.configuration.MutableConfiguration;
 import org.carlspring.strongbox.configuration.MutableProxyConfiguration;
 import org.carlspring.strongbox.configuration.MutableSmtpConfiguration;
@@ -22,8 +23,20 @@ public interface ConfigurationManagementService
 
     MutableConfiguration getMutableConfigurationClone();
 
+    /**
+     * @return the current snapshot, which is immutable and is replaced as a whole by every change
+     */
     Configuration getConfiguration();
 
+    /**
+     * @return the version of the current snapshot
+     */
+    long getConfigurationVersion();
+
+    void addConfigurationChangeListener(ConfigurationChangeListener listener);
+
+    void removeConfigurationChangeListener(ConfigurationChangeListener listener);
+
     void setConfiguration(MutableConfiguration configuration) throws IOException;
 
     void setInstanceName(String instanceName) throws IOException;
@@ -82,6 +95,11 @@ public interface ConfigurationManagementService
                             String repositoryId,
                             long value) throws IOException;
 
+    void setRepositoryQuota(String storageId,
+                            String repositoryId,
+                            long maxSize,
+                            long maxArtifacts) throws IOException;
+
     void set(MutableRemoteRepositoryRetryArtifactDownloadConfiguration remoteRepositoryRetryArtifactDownloadConfiguration) throws IOException;
 
     void addRepositoryArtifactCoordinateValidator(String storageId,
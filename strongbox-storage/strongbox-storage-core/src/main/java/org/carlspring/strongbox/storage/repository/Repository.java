@@ -27,6 +27,14 @@ public interface Repository
 
     long getArtifactMaxSize();
 
+    long getQuotaMaxSize();
+
+    long getQuotaMaxArtifacts();
+
+    int getTrashRetentionDays();
+
+    long getTrashMaxSize();
+
     boolean isTrashEnabled();
 
     boolean allowsForceDeletion();
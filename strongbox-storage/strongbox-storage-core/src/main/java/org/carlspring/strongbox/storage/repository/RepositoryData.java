@@ -59,6 +59,14 @@ public class RepositoryData
 
     private long artifactMaxSize;
 
+    private long quotaMaxSize;
+
+    private long quotaMaxArtifacts;
+
+    private int trashRetentionDays;
+
+    private long trashMaxSize;
+
     private boolean trashEnabled;
 
     private boolean allowsForceDeletion;
@@ -115,6 +123,10 @@ public class RepositoryData
         this.secured = delegate.isSecured();
         this.status = delegate.getStatus();
         this.artifactMaxSize = delegate.getArtifactMaxSize();
+        this.quotaMaxSize = delegate.getQuotaMaxSize();
+        this.quotaMaxArtifacts = delegate.getQuotaMaxArtifacts();
+        this.trashRetentionDays = delegate.getTrashRetentionDays();
+        this.trashMaxSize = delegate.getTrashMaxSize();
         this.trashEnabled = delegate.isTrashEnabled();
         this.allowsForceDeletion = delegate.allowsForceDeletion();
         this.allowsDeployment = delegate.allowsDeployment();
@@ -236,6 +248,30 @@ public class RepositoryData
         return artifactMaxSize;
     }
 
+    @Override
+    public long getQuotaMaxSize()
+    {
+        return quotaMaxSize;
+    }
+
+    @Override
+    public long getQuotaMaxArtifacts()
+    {
+        return quotaMaxArtifacts;
+    }
+
+    @Override
+    public int getTrashRetentionDays()
+    {
+        return trashRetentionDays;
+    }
+
+    @Override
+    public long getTrashMaxSize()
+    {
+        return trashMaxSize;
+    }
+
     @Override
     public boolean isTrashEnabled()
     {
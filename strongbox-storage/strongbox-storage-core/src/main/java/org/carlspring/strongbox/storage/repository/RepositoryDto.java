@@ -44,6 +44,26 @@ public class RepositoryDto
 
     private long artifactMaxSize;
 
+    /**
+     * The maximum number of artifact bytes this repository may hold (0 means unlimited).
+     */
+    private long quotaMaxSize;
+
+    /**
+     * The maximum number of artifacts this repository may hold (0 means unlimited).
+     */
+    private long quotaMaxArtifacts;
+
+    /**
+     * The number of days the deleted files are kept in the trash (0 means until the trash is emptied).
+     */
+    private int trashRetentionDays;
+
+    /**
+     * The maximum number of bytes in the trash, above which the oldest files are purged (0 means unlimited).
+     */
+    private long trashMaxSize;
+
     private boolean trashEnabled;
 
     private boolean allowsForceDeletion;
@@ -404,6 +424,46 @@ public class RepositoryDto
         this.artifactMaxSize = artifactMaxSize;
     }
 
+    public long getQuotaMaxSize()
+    {
+        return quotaMaxSize;
+    }
+
+    public void setQuotaMaxSize(long quotaMaxSize)
+    {
+        this.quotaMaxSize = quotaMaxSize;
+    }
+
+    public long getQuotaMaxArtifacts()
+    {
+        return quotaMaxArtifacts;
+    }
+
+    public void setQuotaMaxArtifacts(long quotaMaxArtifacts)
+    {
+        this.quotaMaxArtifacts = quotaMaxArtifacts;
+    }
+
+    public int getTrashRetentionDays()
+    {
+        return trashRetentionDays;
+    }
+
+    public void setTrashRetentionDays(int trashRetentionDays)
+    {
+        this.trashRetentionDays = trashRetentionDays;
+    }
+
+    public long getTrashMaxSize()
+    {
+        return trashMaxSize;
+    }
+
+    public void setTrashMaxSize(long trashMaxSize)
+    {
+        this.trashMaxSize = trashMaxSize;
+    }
+
     public Set<String> getArtifactCoordinateValidators()
     {
         return artifactCoordinateValidators;
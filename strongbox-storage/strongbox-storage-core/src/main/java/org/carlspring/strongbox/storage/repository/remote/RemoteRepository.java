@@ -31,5 +31,16 @@ public interface RemoteRepository
 
     boolean isAutoImportRemoteSSLCertificate();
 
+    /**
+     * The following connection settings override the defaults of the REST client, when they are set.
+     */
+    Integer getConnectTimeoutSeconds();
+
+    Integer getReadTimeoutSeconds();
+
+    Boolean getKeepAlive();
+
+    Integer getMaxRetries();
+
     CustomRemoteRepositoryConfiguration getCustomConfiguration();
 }
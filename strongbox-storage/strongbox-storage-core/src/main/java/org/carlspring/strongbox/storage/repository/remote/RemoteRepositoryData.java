@@ -37,6 +37,14 @@ public class RemoteRepositoryData
 
     private boolean autoImportRemoteSSLCertificate;
 
+    private Integer connectTimeoutSeconds;
+
+    private Integer readTimeoutSeconds;
+
+    private Boolean keepAlive;
+
+    private Integer maxRetries;
+
     private String url;
 
     private CustomRemoteRepositoryConfigurationData customConfiguration;
@@ -58,6 +66,10 @@ public class RemoteRepositoryData
         this.checkIntervalSeconds = other.getCheckIntervalSeconds();
         this.allowsDirectoryBrowsing = other.allowsDirectoryBrowsing();
         this.autoImportRemoteSSLCertificate = other.isAutoImportRemoteSSLCertificate();
+        this.connectTimeoutSeconds = other.getConnectTimeoutSeconds();
+        this.readTimeoutSeconds = other.getReadTimeoutSeconds();
+        this.keepAlive = other.getKeepAlive();
+        this.maxRetries = other.getMaxRetries();
         this.customConfiguration = immuteRemoteRepositoryConfiguration(other.getCustomConfiguration());
     }
 
@@ -111,6 +123,26 @@ public class RemoteRepositoryData
         return autoImportRemoteSSLCertificate;
     }
 
+    public Integer getConnectTimeoutSeconds()
+    {
+        return connectTimeoutSeconds;
+    }
+
+    public Integer getReadTimeoutSeconds()
+    {
+        return readTimeoutSeconds;
+    }
+
+    public Boolean getKeepAlive()
+    {
+        return keepAlive;
+    }
+
+    public Integer getMaxRetries()
+    {
+        return maxRetries;
+    }
+
     public CustomRemoteRepositoryConfigurationData getCustomConfiguration()
     {
         return customConfiguration;
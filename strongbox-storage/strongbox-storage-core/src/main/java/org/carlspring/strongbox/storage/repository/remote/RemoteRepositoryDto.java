@@ -34,6 +34,14 @@ public class RemoteRepositoryDto
 
     private boolean autoImportRemoteSSLCertificate;
 
+    private Integer connectTimeoutSeconds;
+
+    private Integer readTimeoutSeconds;
+
+    private Boolean keepAlive;
+
+    private Integer maxRetries;
+
     private RemoteRepositoryConfigurationDto customConfiguration;
 
     public String getUrl()
@@ -136,6 +144,46 @@ public class RemoteRepositoryDto
         return allowsDirectoryBrowsing;
     }
 
+    public Integer getConnectTimeoutSeconds()
+    {
+        return connectTimeoutSeconds;
+    }
+
+    public void setConnectTimeoutSeconds(Integer connectTimeoutSeconds)
+    {
+        this.connectTimeoutSeconds = connectTimeoutSeconds;
+    }
+
+    public Integer getReadTimeoutSeconds()
+    {
+        return readTimeoutSeconds;
+    }
+
+    public void setReadTimeoutSeconds(Integer readTimeoutSeconds)
+    {
+        this.readTimeoutSeconds = readTimeoutSeconds;
+    }
+
+    public Boolean getKeepAlive()
+    {
+        return keepAlive;
+    }
+
+    public void setKeepAlive(Boolean keepAlive)
+    {
+        this.keepAlive = keepAlive;
+    }
+
+    public Integer getMaxRetries()
+    {
+        return maxRetries;
+    }
+
+    public void setMaxRetries(Integer maxRetries)
+    {
+        this.maxRetries = maxRetries;
+    }
+
     public RemoteRepositoryConfigurationDto getCustomConfiguration()
     {
         return customConfiguration;
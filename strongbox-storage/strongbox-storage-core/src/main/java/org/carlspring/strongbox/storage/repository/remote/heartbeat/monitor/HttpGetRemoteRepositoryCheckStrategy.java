@@ -6,6 +6,7 @@ import javax.inject.Inject;
 import java.io.IOException;
 
 import org.apache.http.HttpStatus;
+import org.apache.http.client.ClientProtocolException;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.impl.client.CloseableHttpClient;
@@ -29,28 +30,38 @@ class HttpGetRemoteRepositoryCheckStrategy
     @Override
     public boolean isAlive(String remoteRepositoryUrl)
     {
-        boolean response = false;
         try
         {
-            try (final CloseableHttpClient httpClient = proxyRepositoryConnectionPoolConfigurationService.getHttpClient())
-            {
-                try (final CloseableHttpResponse httpResponse = httpClient.execute(new HttpGet(remoteRepositoryUrl)))
-                {
-
-                    int statusCode = httpResponse.getStatusLine().getStatusCode();
-
-                    response = HttpStatus.SC_OK == statusCode || HttpStatus.SC_MOVED_PERMANENTLY == statusCode ||
-                               HttpStatus.SC_MOVED_TEMPORARILY == statusCode;
-                }
-            }
+            return checkAlive(remoteRepositoryUrl);
         }
         catch (IOException e)
         {
             logger.error("Problem executing HTTP GET request to {}", remoteRepositoryUrl, e);
+
+            return false;
         }
-        finally
+    }
+
+    @Override
+    public boolean checkAlive(String remoteRepositoryUrl)
+            throws IOException
+    {
+        try (final CloseableHttpClient httpClient = proxyRepositoryConnectionPoolConfigurationService.getHttpClient())
         {
-            return response;
+            try (final CloseableHttpResponse httpResponse = httpClient.execute(new HttpGet(remoteRepositoryUrl)))
+            {
+                int statusCode = httpResponse.getStatusLine().getStatusCode();
+
+                return HttpStatus.SC_OK == statusCode || HttpStatus.SC_MOVED_PERMANENTLY == statusCode ||
+                       HttpStatus.SC_MOVED_TEMPORARILY == statusCode;
+            }
+            catch (ClientProtocolException e)
+            {
+                // The host has answered, so only the repository is affected.
+                logger.error("Problem executing HTTP GET request to {}", remoteRepositoryUrl, e);
+
+                return false;
+            }
         }
     }
 }
@@ -1,5 +1,7 @@
 package org.carlspring.strongbox.storage.repository.remote.heartbeat.monitor;
 
+import java.io.IOException;
+
 import static org.carlspring.strongbox.utils.Ping.pingHost;
 
 /**
@@ -16,4 +18,23 @@ enum PingRemoteRepositoryUrlStrategy
     {
         return pingHost(remoteRepositoryUrl, 5000);
     }
+
+    @Override
+    public boolean checkAlive(String remoteRepositoryUrl)
+            throws IOException
+    {
+        // Only the host is pinged, so a failure is one of the whole host.
+        if (!isAlive(remoteRepositoryUrl))
+        {
+            throw new IOException(String.format("Failed to ping the host of [%s].", remoteRepositoryUrl));
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean isHostLevel()
+    {
+        return true;
+    }
 }
@@ -1,5 +1,7 @@
 package org.carlspring.strongbox.storage.repository.remote.heartbeat.monitor;
 
+import java.io.IOException;
+
 /**
  * @author Przemyslaw Fusik
  */
@@ -8,4 +10,25 @@ public interface RemoteRepositoryHeartbeatMonitorStrategy
 {
 
     boolean isAlive(String remoteRepositoryUrl);
+
+    /**
+     * The same as {@link #isAlive(String)}, which tells the failures of the whole remote host from the ones of the
+     * repository.
+     *
+     * @throws IOException if the remote host can't be reached at all
+     */
+    default boolean checkAlive(String remoteRepositoryUrl)
+            throws IOException
+    {
+        return isAlive(remoteRepositoryUrl);
+    }
+
+    /**
+     * @return {@code true} if only the host of the given URL is probed, so that one probe tells the aliveness of all
+     *         the repositories of that host
+     */
+    default boolean isHostLevel()
+    {
+        return false;
+    }
 }
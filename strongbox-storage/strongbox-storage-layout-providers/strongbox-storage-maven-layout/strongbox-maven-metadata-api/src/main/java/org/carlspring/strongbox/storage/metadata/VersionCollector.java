@@ -18,6 +18,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Function;
 
 import com.google.common.collect.Lists;
 import org.apache.commons.io.FilenameUtils;
@@ -47,6 +48,22 @@ public class VersionCollector
 
     private static final M2GavCalculator M2_GAV_CALCULATOR = new M2GavCalculator();
 
+    /**
+     * Provides the POM model from already indexed data, so that the POM file doesn't need to be parsed.
+     * Returns {@code null} when the model can't be resolved this way.
+     */
+    private final Function<Path, Model> indexedModelResolver;
+
+    public VersionCollector()
+    {
+        this(p -> null);
+    }
+
+    public VersionCollector(Function<Path, Model> indexedModelResolver)
+    {
+        this.indexedModelResolver = indexedModelResolver;
+    }
+
     public VersionCollectionRequest collectVersions(Path artifactBasePath)
             throws IOException
     {
@@ -72,7 +89,11 @@ public class VersionCollector
                 // No pom, no metadata.
                 if (pomArtifactPath != null)
                 {
-                    Model pom = getPom(pomArtifactPath);
+                    Model pom = indexedModelResolver.apply(pomArtifactPath);
+                    if (pom == null)
+                    {
+                        pom = getPom(pomArtifactPath);
+                    }
 
                     BasicFileAttributes fileAttributes = Files.readAttributes(versionDirectoryPath,
                                                                               BasicFileAttributes.class);
@@ -6,16 +6,13 @@ import org.carlspring.strongbox.cron.jobs.fields.*;
 import org.carlspring.strongbox.cron.services.JobManager;
 import org.carlspring.strongbox.services.ArtifactMetadataService;
 import org.carlspring.strongbox.storage.Storage;
-import org.carlspring.strongbox.storage.repository.Repository;
 
 import javax.inject.Inject;
 import java.io.IOException;
-import java.security.NoSuchAlgorithmException;
 import java.util.Map;
 import java.util.Set;
 
 import com.google.common.collect.ImmutableSet;
-import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
 
 /**
  * @author Kate Novik
@@ -89,19 +86,13 @@ public class RebuildMavenMetadataCronJob
      * To rebuild artifact's metadata in repositories
      *
      * @param storageId path of storage
-     * @throws NoSuchAlgorithmException
-     * @throws XmlPullParserException
      * @throws IOException
      */
     private void rebuildRepositories(String storageId)
-            throws NoSuchAlgorithmException, XmlPullParserException, IOException
+            throws IOException
     {
-        Map<String, ? extends Repository> repositories = getRepositories(storageId);
-
-        for (String repository : repositories.keySet())
-        {
-            artifactMetadataService.rebuildMetadata(storageId, repository, null);
-        }
+        // The artifact directories of all the repositories in the storage are processed concurrently.
+        artifactMetadataService.rebuildMetadata(storageId, null);
     }
 
     private Map<String, Storage> getStorages()
@@ -109,9 +100,4 @@ public class RebuildMavenMetadataCronJob
         return configurationManager.getConfiguration().getStorages();
     }
 
-    private Map<String, ? extends Repository> getRepositories(String storageId)
-    {
-        return getStorages().get(storageId).getRepositories();
-    }
-
 }
@@ -9,19 +9,19 @@ import org.carlspring.strongbox.storage.repository.Repository;
 import org.carlspring.strongbox.storage.repository.RepositoryPolicyEnum;
 
 import javax.inject.Inject;
-import java.io.IOException;
-import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import com.google.common.collect.ImmutableSet;
-import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
 
 /**
  * @author Kate Novik.
  */
 public class RemoveTimestampedMavenSnapshotCronJob
-        extends JavaCronJob
+        extends PartitionedCronJob
 {
 
     private static final String PROPERTY_STORAGE_ID = "storageId";
@@ -34,6 +34,8 @@ public class RemoveTimestampedMavenSnapshotCronJob
 
     private static final String PROPERTY_KEEP_PERIOD = "keepPeriod";
 
+    private static final String PARTITION_SEPARATOR = ":";
+
     private static final Set<CronJobField> FIELDS = ImmutableSet.of(
             new CronJobStorageIdAutocompleteField(new CronJobStringTypeField(
                     new CronJobOptionalField(new CronJobNamedField(PROPERTY_STORAGE_ID)))),
@@ -53,12 +55,37 @@ public class RemoveTimestampedMavenSnapshotCronJob
     private ConfigurationManager configurationManager;
 
     @Override
-    public void executeTask(CronTaskConfigurationDto config)
-            throws Throwable
+    public List<String> partition(CronTaskConfigurationDto config)
     {
         String storageId = config.getProperty(PROPERTY_STORAGE_ID);
         String repositoryId = config.getProperty(PROPERTY_REPOSITORY_ID);
-        String basePath = config.getProperty(PROPERTY_BASE_PATH);
+
+        if (storageId == null)
+        {
+            return getStorages().keySet()
+                                .stream()
+                                .flatMap(storage -> getSnapshotRepositoryPartitions(storage).stream())
+                                .collect(Collectors.toList());
+        }
+        else if (repositoryId == null)
+        {
+            return getSnapshotRepositoryPartitions(storageId);
+        }
+
+        return Collections.singletonList(storageId + PARTITION_SEPARATOR + repositoryId);
+    }
+
+    @Override
+    public void executePartition(CronTaskConfigurationDto config,
+                                 String partition,
+                                 CronJobCancellation cancellation)
+            throws Throwable
+    {
+        String[] ids = partition.split(PARTITION_SEPARATOR, 2);
+
+        // The base path only makes sense when a single repository has been selected
+        String basePath = config.getProperty(PROPERTY_REPOSITORY_ID) != null ?
+                          config.getProperty(PROPERTY_BASE_PATH) : null;
 
         // The number of artifacts to keep
         int numberToKeep = config.getProperty(PROPERTY_NUMBER_TO_KEEP) != null ?
@@ -70,26 +97,12 @@ public class RemoveTimestampedMavenSnapshotCronJob
                          Integer.valueOf(config.getProperty(PROPERTY_KEEP_PERIOD)) :
                          30;
 
-        if (storageId == null)
-        {
-            Map<String, Storage> storages = getStorages();
-            for (String storage : storages.keySet())
-            {
-                removeTimestampedSnapshotArtifacts(storage, numberToKeep, keepPeriod);
-            }
-        }
-        else if (repositoryId == null)
-        {
-            removeTimestampedSnapshotArtifacts(storageId, numberToKeep, keepPeriod);
-        }
-        else
-        {
-            mavenRepositoryFeatures.removeTimestampedSnapshots(storageId,
-                                                               repositoryId,
-                                                               basePath,
-                                                               numberToKeep,
-                                                               keepPeriod);
-        }
+        mavenRepositoryFeatures.removeTimestampedSnapshots(ids[0],
+                                                           ids[1],
+                                                           basePath,
+                                                           numberToKeep,
+                                                           keepPeriod,
+                                                           cancellation::isCancelled);
     }
 
     @Override
@@ -103,43 +116,13 @@ public class RemoveTimestampedMavenSnapshotCronJob
                                 .build();
     }
 
-    /**
-     * To remove timestamped snapshot artifacts in repositories
-     *
-     * @param storageId    path of storage
-     * @param numberToKeep the number of artifacts to keep
-     * @param keepPeriod   the period to keep artifacts (the number of days)
-     * @throws NoSuchAlgorithmException
-     * @throws XmlPullParserException
-     * @throws IOException
-     */
-    private void removeTimestampedSnapshotArtifacts(String storageId,
-                                                    int numberToKeep,
-                                                    int keepPeriod)
-            throws NoSuchAlgorithmException,
-                   XmlPullParserException,
-                   IOException
+    private List<String> getSnapshotRepositoryPartitions(String storageId)
     {
-        Map<String, ? extends Repository> repositories = getRepositories(storageId);
-
-        repositories.forEach((repositoryId, repository) ->
-                             {
-                                 if (repository.getPolicy().equals(RepositoryPolicyEnum.SNAPSHOT.getPolicy()))
-                                 {
-                                     try
-                                     {
-                                         mavenRepositoryFeatures.removeTimestampedSnapshots(storageId,
-                                                                                            repositoryId,
-                                                                                            null,
-                                                                                            numberToKeep,
-                                                                                            keepPeriod);
-                                     }
-                                     catch (IOException e)
-                                     {
-                                         logger.error(e.getMessage(), e);
-                                     }
-                                 }
-                             });
+        return getRepositories(storageId).values()
+                                         .stream()
+                                         .filter(r -> RepositoryPolicyEnum.SNAPSHOT.getPolicy().equals(r.getPolicy()))
+                                         .map(r -> storageId + PARTITION_SEPARATOR + r.getId())
+                                         .collect(Collectors.toList());
     }
 
     private Map<String, Storage> getStorages()
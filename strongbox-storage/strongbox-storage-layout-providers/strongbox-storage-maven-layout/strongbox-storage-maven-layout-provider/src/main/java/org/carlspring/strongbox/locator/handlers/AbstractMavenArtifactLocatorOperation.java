@@ -79,9 +79,6 @@ public abstract class AbstractMavenArtifactLocatorOperation
         }
         getVisitedRootPaths().put(artifactGroupDirectoryPath, versionDirectories);
 
-        VersionCollector versionCollector = new VersionCollector();
-        VersionCollectionRequest request = versionCollector.collectVersions(artifactGroupDirectoryPath.toAbsolutePath());
-
         if (logger.isDebugEnabled())
         {
             for (RepositoryPath directory : versionDirectories)
@@ -91,9 +88,29 @@ public abstract class AbstractMavenArtifactLocatorOperation
             }
         }
 
+        processArtifactGroup(artifactGroupDirectoryPath, versionDirectories);
+    }
+
+    /**
+     * Collects the versions of the artifact group and executes the operation on it. The artifact groups are
+     * independent of each other, so subclasses may process them concurrently.
+     */
+    protected void processArtifactGroup(RepositoryPath artifactGroupDirectoryPath,
+                                        List<RepositoryPath> versionDirectories)
+            throws IOException
+    {
+        VersionCollector versionCollector = createVersionCollector(artifactGroupDirectoryPath);
+        VersionCollectionRequest request = versionCollector.collectVersions(artifactGroupDirectoryPath.toAbsolutePath());
+
         executeOperation(request, artifactGroupDirectoryPath, versionDirectories);
     }
 
+    protected VersionCollector createVersionCollector(RepositoryPath artifactGroupDirectoryPath)
+            throws IOException
+    {
+        return new VersionCollector();
+    }
+
     public abstract void executeOperation(VersionCollectionRequest request,
                                           RepositoryPath artifactGroupDirectoryPath,
                                           List<RepositoryPath> versionDirectories)
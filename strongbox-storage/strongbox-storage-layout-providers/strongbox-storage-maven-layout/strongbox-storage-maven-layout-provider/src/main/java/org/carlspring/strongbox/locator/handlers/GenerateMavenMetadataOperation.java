@@ -2,12 +2,20 @@ package org.carlspring.strongbox.locator.handlers;
 
 import org.carlspring.strongbox.event.artifact.ArtifactEventListenerRegistry;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.storage.metadata.ArtifactEntryModelResolver;
 import org.carlspring.strongbox.storage.metadata.MavenMetadataManager;
 import org.carlspring.strongbox.storage.metadata.VersionCollectionRequest;
+import org.carlspring.strongbox.storage.metadata.VersionCollector;
 
 import javax.annotation.Nonnull;
+import java.io.IOException;
 import java.util.List;
 import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,6 +33,16 @@ public class GenerateMavenMetadataOperation
 
     private final ArtifactEventListenerRegistry artifactEventListenerRegistry;
 
+    private ArtifactEntryModelResolver artifactEntryModelResolver;
+
+    /**
+     * When set, the artifact groups are processed asynchronously, see {@link #getFutures()}. A failure of a group
+     * completes its future exceptionally then, instead of only being logged.
+     */
+    private Executor executor;
+
+    private final Queue<CompletableFuture<Void>> futures = new ConcurrentLinkedQueue<>();
+
 
     public GenerateMavenMetadataOperation(@Nonnull final MavenMetadataManager mavenMetadataManager,
                                           @Nonnull final ArtifactEventListenerRegistry artifactEventListenerRegistry)
@@ -35,19 +53,79 @@ public class GenerateMavenMetadataOperation
         this.artifactEventListenerRegistry = artifactEventListenerRegistry;
     }
 
+    public GenerateMavenMetadataOperation(@Nonnull final MavenMetadataManager mavenMetadataManager,
+                                          @Nonnull final ArtifactEventListenerRegistry artifactEventListenerRegistry,
+                                          @Nonnull final ArtifactEntryModelResolver artifactEntryModelResolver,
+                                          @Nonnull final Executor executor)
+    {
+        this(mavenMetadataManager, artifactEventListenerRegistry);
+        Objects.requireNonNull(artifactEntryModelResolver);
+        Objects.requireNonNull(executor);
+        this.artifactEntryModelResolver = artifactEntryModelResolver;
+        this.executor = executor;
+    }
+
+    public Queue<CompletableFuture<Void>> getFutures()
+    {
+        return futures;
+    }
+
+    @Override
+    protected void processArtifactGroup(RepositoryPath artifactGroupDirectoryPath,
+                                        List<RepositoryPath> versionDirectories)
+            throws IOException
+    {
+        if (executor == null)
+        {
+            super.processArtifactGroup(artifactGroupDirectoryPath, versionDirectories);
+            return;
+        }
+
+        futures.add(CompletableFuture.runAsync(() -> {
+            try
+            {
+                super.processArtifactGroup(artifactGroupDirectoryPath, versionDirectories);
+            }
+            catch (IOException e)
+            {
+                throw new CompletionException(e);
+            }
+        }, executor));
+    }
+
+    @Override
+    protected VersionCollector createVersionCollector(RepositoryPath artifactGroupDirectoryPath)
+            throws IOException
+    {
+        if (artifactEntryModelResolver == null)
+        {
+            return super.createVersionCollector(artifactGroupDirectoryPath);
+        }
+
+        return new VersionCollector(artifactEntryModelResolver.forArtifactGroup(artifactGroupDirectoryPath));
+    }
+
     @Override
     public void executeOperation(VersionCollectionRequest request,
                                  RepositoryPath artifactGroupDirectoryPath,
                                  List<RepositoryPath> versionDirectories)
+            throws IOException
     {
         try
         {
-            mavenMetadataManager.generateMetadata(artifactGroupDirectoryPath, request);
-            artifactEventListenerRegistry.dispatchArtifactMetadataStoredEvent(artifactGroupDirectoryPath.resolve("maven-metadata.xml"));
+            if (mavenMetadataManager.generateMetadata(artifactGroupDirectoryPath, request))
+            {
+                artifactEventListenerRegistry.dispatchArtifactMetadataStoredEvent(artifactGroupDirectoryPath.resolve("maven-metadata.xml"));
+            }
         }
         catch (Exception e)
         {
             logger.error("Failed to generate metadata for {}", artifactGroupDirectoryPath, e);
+
+            if (executor != null)
+            {
+                throw new IOException("Failed to generate metadata for " + artifactGroupDirectoryPath, e);
+            }
         }
     }
 
@@ -1,11 +1,8 @@
 package org.carlspring.strongbox.repository;
 
-import org.carlspring.strongbox.artifact.locator.ArtifactDirectoryLocator;
 import org.carlspring.strongbox.configuration.Configuration;
 import org.carlspring.strongbox.configuration.ConfigurationManager;
-import org.carlspring.strongbox.locator.handlers.RemoveTimestampedSnapshotOperation;
-import org.carlspring.strongbox.providers.io.RepositoryPath;
-import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
+import org.carlspring.strongbox.services.MavenSnapshotRetentionService;
 import org.carlspring.strongbox.storage.ArtifactStorageException;
 import org.carlspring.strongbox.storage.Storage;
 import org.carlspring.strongbox.storage.metadata.MavenSnapshotManager;
@@ -23,6 +20,7 @@ import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.function.BooleanSupplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,7 +42,7 @@ public class MavenRepositoryFeatures
     private ConfigurationManager configurationManager;
 
     @Inject
-    private MavenSnapshotManager mavenSnapshotManager;
+    private MavenSnapshotRetentionService mavenSnapshotRetentionService;
 
     @Inject
     private RedeploymentValidator redeploymentValidator;
@@ -55,9 +53,6 @@ public class MavenRepositoryFeatures
     @Inject
     private MavenSnapshotVersionValidator mavenSnapshotVersionValidator;
 
-    @Inject
-    private RepositoryPathResolver repositoryPathResolver;
-
     private Set<String> defaultArtifactCoordinateValidators;
 
     @PostConstruct
@@ -74,6 +69,17 @@ public class MavenRepositoryFeatures
                                            int numberToKeep,
                                            int keepPeriod)
             throws IOException
+    {
+        removeTimestampedSnapshots(storageId, repositoryId, artifactPath, numberToKeep, keepPeriod, () -> false);
+    }
+
+    public void removeTimestampedSnapshots(String storageId,
+                                           String repositoryId,
+                                           String artifactPath,
+                                           int numberToKeep,
+                                           int keepPeriod,
+                                           BooleanSupplier cancellation)
+            throws IOException
     {
         try
         {
@@ -82,7 +88,7 @@ public class MavenRepositoryFeatures
             calendar.add(Calendar.DAY_OF_MONTH, -keepPeriod);
             Date keepDate = formatter.parse(formatter.format(calendar.getTime()));
 
-            removeTimestampedSnapshots(storageId, repositoryId, artifactPath, numberToKeep, keepDate);
+            removeTimestampedSnapshots(storageId, repositoryId, artifactPath, numberToKeep, keepDate, cancellation);
         }
         catch (ParseException e)
         {
@@ -96,22 +102,28 @@ public class MavenRepositoryFeatures
                                            int numberToKeep,
                                            Date keepDate)
             throws IOException
+    {
+        removeTimestampedSnapshots(storageId, repositoryId, artifactPath, numberToKeep, keepDate, () -> false);
+    }
+
+    public void removeTimestampedSnapshots(String storageId,
+                                           String repositoryId,
+                                           String artifactPath,
+                                           int numberToKeep,
+                                           Date keepDate,
+                                           BooleanSupplier cancellation)
+            throws IOException
     {
         Storage storage = getConfiguration().getStorage(storageId);
         Repository repository = storage.getRepository(repositoryId);
 
         if (repository.getPolicy().equals(RepositoryPolicyEnum.SNAPSHOT.getPolicy()))
         {
-            RepositoryPath repositoryPath = repositoryPathResolver.resolve(repository, artifactPath);
-
-            RemoveTimestampedSnapshotOperation operation = new RemoveTimestampedSnapshotOperation(mavenSnapshotManager);
-            operation.setBasePath(repositoryPath);
-            operation.setNumberToKeep(numberToKeep);
-            operation.setKeepDate(keepDate);
-
-            ArtifactDirectoryLocator locator = new ArtifactDirectoryLocator();
-            locator.setOperation(operation);
-            locator.locateArtifactDirectories();
+            mavenSnapshotRetentionService.removeTimestampedSnapshots(repository,
+                                                                     artifactPath,
+                                                                     numberToKeep,
+                                                                     keepDate,
+                                                                     cancellation);
         }
         else
         {
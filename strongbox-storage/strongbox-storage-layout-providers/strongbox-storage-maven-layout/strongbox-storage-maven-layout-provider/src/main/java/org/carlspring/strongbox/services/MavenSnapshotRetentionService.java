@@ -0,0 +1,42 @@
+package org.carlspring.strongbox.services;
+
+import org.carlspring.strongbox.storage.repository.Repository;
+
+import java.io.IOException;
+import java.util.Date;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Removes old timestamped snapshot builds from Maven snapshot repositories.
+ */
+public interface MavenSnapshotRetentionService
+{
+
+    /**
+     * Removes the timestamped snapshot builds which are no longer retained.
+     *
+     * @param repository   the snapshot repository
+     * @param basePath     the path to limit the removal to, or null for the whole repository
+     * @param numberToKeep the number of builds to keep per snapshot version; if 0, the keepDate is used instead
+     * @param keepDate     the builds older than this date are removed (only used when numberToKeep is 0)
+     * @return the number of removed files
+     * @throws IOException
+     */
+    long removeTimestampedSnapshots(Repository repository,
+                                    String basePath,
+                                    int numberToKeep,
+                                    Date keepDate)
+            throws IOException;
+
+    /**
+     * The same as {@link #removeTimestampedSnapshots(Repository, String, int, Date)}, which stops before the next
+     * build, once the cancellation returns {@code true}. The metadata of the builds removed until then is regenerated.
+     */
+    long removeTimestampedSnapshots(Repository repository,
+                                    String basePath,
+                                    int numberToKeep,
+                                    Date keepDate,
+                                    BooleanSupplier cancellation)
+            throws IOException;
+
+}
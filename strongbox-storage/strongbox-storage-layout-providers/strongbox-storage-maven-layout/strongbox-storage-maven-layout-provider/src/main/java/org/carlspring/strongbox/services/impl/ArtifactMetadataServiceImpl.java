@@ -13,6 +13,7 @@ import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
 import org.carlspring.strongbox.providers.layout.Maven2LayoutProvider;
 import org.carlspring.strongbox.services.ArtifactMetadataService;
 import org.carlspring.strongbox.storage.Storage;
+import org.carlspring.strongbox.storage.metadata.ArtifactEntryModelResolver;
 import org.carlspring.strongbox.storage.metadata.MavenMetadataManager;
 import org.carlspring.strongbox.storage.metadata.MetadataHelper;
 import org.carlspring.strongbox.storage.metadata.MetadataType;
@@ -23,8 +24,14 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.maven.artifact.ArtifactUtils;
 import org.apache.maven.artifact.repository.metadata.Metadata;
@@ -34,6 +41,10 @@ import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
 import org.javatuples.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 
 /**
@@ -42,7 +53,7 @@ import org.springframework.stereotype.Component;
  */
 @Component
 public class ArtifactMetadataServiceImpl
-        implements ArtifactMetadataService
+        implements ArtifactMetadataService, InitializingBean, DisposableBean
 {
 
     private static final Logger logger = LoggerFactory.getLogger(ArtifactMetadataServiceImpl.class);
@@ -59,10 +70,42 @@ public class ArtifactMetadataServiceImpl
     @Inject
     private RepositoryPathResolver repositoryPathResolver;
 
+    @Inject
+    private ArtifactEntryModelResolver artifactEntryModelResolver;
+
+    /**
+     * The number of artifact directories for which the metadata is rebuilt concurrently.
+     */
+    @Value("${strongbox.maven.metadata.rebuild.threads:4}")
+    private int rebuildThreads;
+
+    private ThreadPoolExecutor rebuildExecutor;
+
     public ArtifactMetadataServiceImpl()
     {
     }
 
+    @Override
+    public void afterPropertiesSet()
+    {
+        // Once the queue is full the locator thread rebuilds the metadata itself, which keeps the
+        // directory walk from running too far ahead of the workers.
+        rebuildExecutor = new ThreadPoolExecutor(rebuildThreads,
+                                                 rebuildThreads,
+                                                 60L,
+                                                 TimeUnit.SECONDS,
+                                                 new ArrayBlockingQueue<>(rebuildThreads * 4),
+                                                 new CustomizableThreadFactory("maven-metadata-rebuild-"),
+                                                 new ThreadPoolExecutor.CallerRunsPolicy());
+        rebuildExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    public void destroy()
+    {
+        rebuildExecutor.shutdownNow();
+    }
+
     @Override
     public Metadata getMetadata(String storageId,
                                 String repositoryId,
@@ -92,10 +135,14 @@ public class ArtifactMetadataServiceImpl
     {
         Storage storage = getConfiguration().getStorage(storageId);
 
+        // The repositories are walked one after another, but their artifact directories share the same workers.
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
         for (Repository repository : storage.getRepositories().values())
         {
-            rebuildMetadata(storageId, repository.getId(), basePath);
+            futures.addAll(submitRebuild(repository, basePath));
         }
+
+        await(futures);
     }
 
     @Override
@@ -107,11 +154,18 @@ public class ArtifactMetadataServiceImpl
         Storage storage = getConfiguration().getStorage(storageId);
         Repository repository = storage.getRepository(repositoryId);
 
+        await(submitRebuild(repository, basePath));
+    }
+
+    private List<CompletableFuture<Void>> submitRebuild(Repository repository,
+                                                        String basePath)
+            throws IOException
+    {
         if (!Maven2LayoutProvider.ALIAS.equals(repository.getLayout()))
         {
             logger.warn("Trying to rebuild metadata of repository {} with unsupported layout {} ", repository.getId(),
                         repository.getLayout());
-            return;
+            return new ArrayList<>();
         }
 
         RepositoryPath repositoryBasePath = repositoryPathResolver.resolve(repository);
@@ -120,12 +174,30 @@ public class ArtifactMetadataServiceImpl
             repositoryBasePath = repositoryBasePath.resolve(basePath);
         }
 
-        GenerateMavenMetadataOperation operation = new GenerateMavenMetadataOperation(mavenMetadataManager, artifactEventListenerRegistry);
+        GenerateMavenMetadataOperation operation = new GenerateMavenMetadataOperation(mavenMetadataManager,
+                                                                                      artifactEventListenerRegistry,
+                                                                                      artifactEntryModelResolver,
+                                                                                      rebuildExecutor);
         operation.setBasePath(repositoryBasePath);
 
         ArtifactDirectoryLocator locator = new ArtifactDirectoryLocator();
         locator.setOperation(operation);
         locator.locateArtifactDirectories();
+
+        return new ArrayList<>(operation.getFutures());
+    }
+
+    private void await(List<CompletableFuture<Void>> futures)
+            throws IOException
+    {
+        try
+        {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        }
+        catch (CompletionException e)
+        {
+            throw new IOException("Failed to rebuild the metadata.", e.getCause());
+        }
     }
 
     @Override
@@ -0,0 +1,364 @@
+package org.carlspring.strongbox.services.impl;
+
+import org.carlspring.strongbox.artifact.coordinates.MavenArtifactCoordinates;
+import org.carlspring.strongbox.data.service.support.search.PagingCriteria;
+import org.carlspring.strongbox.domain.ArtifactEntry;
+import org.carlspring.strongbox.domain.RepositoryArtifactIdGroupEntry;
+import org.carlspring.strongbox.providers.io.RepositoryFiles;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
+import org.carlspring.strongbox.services.MavenSnapshotRetentionService;
+import org.carlspring.strongbox.services.RepositoryArtifactIdGroupService;
+import org.carlspring.strongbox.storage.metadata.MavenMetadataManager;
+import org.carlspring.strongbox.storage.metadata.MavenSnapshotManager;
+import org.carlspring.strongbox.storage.metadata.SnapshotVersionDecomposition;
+import org.carlspring.strongbox.storage.repository.Repository;
+
+import javax.inject.Inject;
+import java.io.IOException;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import com.google.common.util.concurrent.RateLimiter;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.maven.artifact.ArtifactUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Finds the removable timestamped snapshot builds from the {@link ArtifactEntry}-s of each artifactId group,
+ * instead of walking the repository and parsing the metadata of every artifact directory.
+ * <br>
+ * The builds are removed in batches of (at most) {@code batchSize} files and the snapshot metadata of every
+ * version directory affected by a batch is regenerated once, after the batch has been removed. The deletions
+ * can be throttled with {@code deletesPerSecond}, so that the removal doesn't starve the deployments of I/O.
+ */
+@Component
+public class MavenSnapshotRetentionServiceImpl
+        implements MavenSnapshotRetentionService
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(MavenSnapshotRetentionServiceImpl.class);
+
+    private static final int ARTIFACT_GROUPS_PAGE_SIZE = 1000;
+
+    @Inject
+    private RepositoryArtifactIdGroupService repositoryArtifactIdGroupService;
+
+    @Inject
+    private RepositoryPathResolver repositoryPathResolver;
+
+    @Inject
+    private MavenMetadataManager mavenMetadataManager;
+
+    @Inject
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${strongbox.maven.snapshots.retention.batchSize:500}")
+    private int batchSize;
+
+    /**
+     * The maximum number of files deleted per second (0 means unlimited).
+     */
+    @Value("${strongbox.maven.snapshots.retention.deletesPerSecond:0}")
+    private double deletesPerSecond;
+
+    @Override
+    public long removeTimestampedSnapshots(Repository repository,
+                                           String basePath,
+                                           int numberToKeep,
+                                           Date keepDate)
+            throws IOException
+    {
+        return removeTimestampedSnapshots(repository, basePath, numberToKeep, keepDate, () -> false);
+    }
+
+    @Override
+    public long removeTimestampedSnapshots(Repository repository,
+                                           String basePath,
+                                           int numberToKeep,
+                                           Date keepDate,
+                                           BooleanSupplier cancellation)
+            throws IOException
+    {
+        String storageId = repository.getStorage().getId();
+        String repositoryId = repository.getId();
+
+        RateLimiter rateLimiter = deletesPerSecond > 0 ? RateLimiter.create(deletesPerSecond) : null;
+
+        long removed = 0;
+        List<SnapshotBuild> batch = new ArrayList<>();
+        int batchFiles = 0;
+
+        for (String artifactIdGroup : findArtifactIdGroups(storageId, repositoryId))
+        {
+            if (cancellation.getAsBoolean())
+            {
+                break;
+            }
+
+            for (SnapshotBuild build : findRemovableBuilds(storageId,
+                                                           repositoryId,
+                                                           artifactIdGroup,
+                                                           basePath,
+                                                           numberToKeep,
+                                                           keepDate))
+            {
+                batch.add(build);
+                batchFiles += build.artifactPaths.size();
+
+                if (batchFiles >= batchSize)
+                {
+                    removed += removeBatch(repository, batch, rateLimiter, cancellation);
+
+                    batch.clear();
+                    batchFiles = 0;
+                }
+            }
+        }
+
+        if (!batch.isEmpty())
+        {
+            removed += removeBatch(repository, batch, rateLimiter, cancellation);
+        }
+
+        if (cancellation.getAsBoolean())
+        {
+            logger.info("Cancelled the removal of timestamped snapshots from [{}:{}] after [{}] file(s).",
+                        storageId, repositoryId, removed);
+        }
+
+        logger.debug("Removed [{}] timestamped snapshot file(s) from [{}:{}].", removed, storageId, repositoryId);
+
+        return removed;
+    }
+
+    /**
+     * The names are collected up-front, as the groups may change while the snapshots are being removed.
+     */
+    private List<String> findArtifactIdGroups(String storageId,
+                                              String repositoryId)
+    {
+        List<String> result = new ArrayList<>();
+
+        int skip = 0;
+        List<RepositoryArtifactIdGroupEntry> page;
+        do
+        {
+            PagingCriteria pagingCriteria = new PagingCriteria(skip, ARTIFACT_GROUPS_PAGE_SIZE);
+            page = repositoryArtifactIdGroupService.findMatching(storageId, repositoryId, pagingCriteria);
+            page.stream().map(RepositoryArtifactIdGroupEntry::getName).forEach(result::add);
+
+            skip += ARTIFACT_GROUPS_PAGE_SIZE;
+        }
+        while (page.size() == ARTIFACT_GROUPS_PAGE_SIZE);
+
+        return result;
+    }
+
+    private List<SnapshotBuild> findRemovableBuilds(String storageId,
+                                                    String repositoryId,
+                                                    String artifactIdGroup,
+                                                    String basePath,
+                                                    int numberToKeep,
+                                                    Date keepDate)
+    {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        // snapshot version directory -> build number -> build
+        Map<String, TreeMap<Integer, SnapshotBuild>> builds = transactionTemplate.execute(t -> {
+            RepositoryArtifactIdGroupEntry group = repositoryArtifactIdGroupService.findOne(storageId,
+                                                                                            repositoryId,
+                                                                                            artifactIdGroup);
+            if (group == null)
+            {
+                return Collections.emptyMap();
+            }
+
+            return collectBuilds(group.getArtifactEntries(), basePath);
+        });
+
+        return builds.values()
+                     .stream()
+                     .flatMap(b -> selectRemovable(b, numberToKeep, keepDate).stream())
+                     .collect(Collectors.toList());
+    }
+
+    private Map<String, TreeMap<Integer, SnapshotBuild>> collectBuilds(Collection<ArtifactEntry> artifactEntries,
+                                                                       String basePath)
+    {
+        Map<String, TreeMap<Integer, SnapshotBuild>> result = new HashMap<>();
+        for (ArtifactEntry artifactEntry : artifactEntries)
+        {
+            if (!(artifactEntry.getArtifactCoordinates() instanceof MavenArtifactCoordinates))
+            {
+                continue;
+            }
+
+            String artifactPath = artifactEntry.getArtifactPath();
+            if (StringUtils.isNotBlank(basePath) && !artifactPath.startsWith(StringUtils.removeStart(basePath, "/")))
+            {
+                continue;
+            }
+
+            MavenArtifactCoordinates coordinates = (MavenArtifactCoordinates) artifactEntry.getArtifactCoordinates();
+            SnapshotVersionDecomposition snapshotVersion = SnapshotVersionDecomposition.of(coordinates.getVersion());
+            if (SnapshotVersionDecomposition.INVALID.equals(snapshotVersion))
+            {
+                continue;
+            }
+
+            String versionDirectory = StringUtils.substringBeforeLast(artifactPath, "/");
+            result.computeIfAbsent(versionDirectory, k -> new TreeMap<>())
+                  .computeIfAbsent(snapshotVersion.getBuildNumber(),
+                                   k -> new SnapshotBuild(coordinates.getGroupId(),
+                                                          coordinates.getArtifactId(),
+                                                          ArtifactUtils.toSnapshotVersion(coordinates.getVersion()),
+                                                          snapshotVersion.getTimestamp(),
+                                                          versionDirectory))
+                  .artifactPaths.add(artifactPath);
+        }
+
+        return result;
+    }
+
+    /**
+     * @param builds the builds of one snapshot version, ordered by the build number
+     */
+    private List<SnapshotBuild> selectRemovable(TreeMap<Integer, SnapshotBuild> builds,
+                                                int numberToKeep,
+                                                Date keepDate)
+    {
+        if (numberToKeep != 0)
+        {
+            return builds.values()
+                         .stream()
+                         .limit(Math.max(0, builds.size() - numberToKeep))
+                         .collect(Collectors.toList());
+        }
+        else if (keepDate != null)
+        {
+            SimpleDateFormat formatter = new SimpleDateFormat(MavenSnapshotManager.TIMESTAMP_FORMAT);
+
+            return builds.values()
+                         .stream()
+                         .filter(b -> {
+                             try
+                             {
+                                 return keepDate.after(formatter.parse(b.timestamp));
+                             }
+                             catch (ParseException e)
+                             {
+                                 logger.error(e.getMessage(), e);
+
+                                 return false;
+                             }
+                         })
+                         .collect(Collectors.toList());
+        }
+
+        return Collections.emptyList();
+    }
+
+    private long removeBatch(Repository repository,
+                             List<SnapshotBuild> batch,
+                             RateLimiter rateLimiter,
+                             BooleanSupplier cancellation)
+            throws IOException
+    {
+        long removed = 0;
+        Map<String, SnapshotBuild> affectedDirectories = new LinkedHashMap<>();
+
+        for (SnapshotBuild build : batch)
+        {
+            // The files of a build are removed together, so that the metadata doesn't list a half removed build.
+            if (cancellation.getAsBoolean())
+            {
+                break;
+            }
+
+            affectedDirectories.putIfAbsent(build.versionDirectory, build);
+
+            for (String artifactPath : build.artifactPaths)
+            {
+                if (rateLimiter != null)
+                {
+                    rateLimiter.acquire();
+                }
+
+                RepositoryPath repositoryPath = repositoryPathResolver.resolve(repository, artifactPath);
+                try
+                {
+                    RepositoryFiles.delete(repositoryPath, true);
+                    removed++;
+                }
+                catch (IOException e)
+                {
+                    logger.error("Failed to remove timestamped snapshot [{}].", repositoryPath, e);
+                }
+            }
+        }
+
+        for (SnapshotBuild build : affectedDirectories.values())
+        {
+            RepositoryPath versionDirectoryPath = repositoryPathResolver.resolve(repository, build.versionDirectory);
+
+            logger.debug("Generate snapshot versioning metadata for {}.", versionDirectoryPath);
+
+            mavenMetadataManager.generateSnapshotVersioningMetadata(build.groupId,
+                                                                    build.artifactId,
+                                                                    versionDirectoryPath,
+                                                                    build.snapshotVersion,
+                                                                    true);
+        }
+
+        return removed;
+    }
+
+    private static class SnapshotBuild
+    {
+
+        private final String groupId;
+
+        private final String artifactId;
+
+        private final String snapshotVersion;
+
+        private final String timestamp;
+
+        private final String versionDirectory;
+
+        private final List<String> artifactPaths = new ArrayList<>();
+
+        SnapshotBuild(String groupId,
+                      String artifactId,
+                      String snapshotVersion,
+                      String timestamp,
+                      String versionDirectory)
+        {
+            this.groupId = groupId;
+            this.artifactId = artifactId;
+            this.snapshotVersion = snapshotVersion;
+            this.timestamp = timestamp;
+            this.versionDirectory = versionDirectory;
+        }
+
+    }
+
+}
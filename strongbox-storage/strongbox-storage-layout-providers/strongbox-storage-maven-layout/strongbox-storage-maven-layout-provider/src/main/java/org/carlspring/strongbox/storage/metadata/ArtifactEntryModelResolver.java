@@ -0,0 +1,102 @@
+package org.carlspring.strongbox.storage.metadata;
+
+import org.carlspring.strongbox.artifact.MavenArtifactUtils;
+import org.carlspring.strongbox.artifact.coordinates.MavenArtifactCoordinates;
+import org.carlspring.strongbox.domain.ArtifactEntry;
+import org.carlspring.strongbox.domain.RepositoryArtifactIdGroupEntry;
+import org.carlspring.strongbox.providers.io.RepositoryFiles;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.services.RepositoryArtifactIdGroupService;
+import org.carlspring.strongbox.storage.repository.Repository;
+
+import javax.inject.Inject;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.maven.model.Model;
+import org.javatuples.Pair;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Resolves the version information needed by the {@link VersionCollector} from the {@link ArtifactEntry}-s of an
+ * artifactId group, instead of parsing every POM file.
+ * <br>
+ * Only a version which has a jar with a known archive listing (that is not a Maven plugin) is resolved this way,
+ * for all the other versions the POM still has to be parsed.
+ */
+@Component
+public class ArtifactEntryModelResolver
+{
+
+    private static final String PLUGIN_DESCRIPTOR = "META-INF/maven/plugin.xml";
+
+    @Inject
+    private RepositoryArtifactIdGroupService repositoryArtifactIdGroupService;
+
+    @Transactional(readOnly = true)
+    public Function<Path, Model> forArtifactGroup(RepositoryPath artifactGroupDirectoryPath)
+            throws IOException
+    {
+        Repository repository = artifactGroupDirectoryPath.getRepository();
+        Pair<String, String> ga = MavenArtifactUtils.getDirectoryGA(artifactGroupDirectoryPath);
+
+        RepositoryArtifactIdGroupEntry artifactIdGroup = repositoryArtifactIdGroupService.findOne(repository.getStorage().getId(),
+                                                                                                  repository.getId(),
+                                                                                                  ga.getValue0() + ":" + ga.getValue1());
+        if (artifactIdGroup == null)
+        {
+            return p -> null;
+        }
+
+        // Detach everything we need while still within the transaction.
+        Map<String, Model> models = new HashMap<>();
+        for (ArtifactEntry artifactEntry : artifactIdGroup.getArtifactEntries())
+        {
+            if (!(artifactEntry.getArtifactCoordinates() instanceof MavenArtifactCoordinates))
+            {
+                continue;
+            }
+
+            MavenArtifactCoordinates coordinates = (MavenArtifactCoordinates) artifactEntry.getArtifactCoordinates();
+            if (!"jar".equals(coordinates.getExtension()) || coordinates.getClassifier() != null)
+            {
+                continue;
+            }
+
+            Set<String> filenames = artifactEntry.getArtifactArchiveListing() != null ?
+                                    artifactEntry.getArtifactArchiveListing().getFilenames() : null;
+            if (filenames == null || filenames.isEmpty() || filenames.contains(PLUGIN_DESCRIPTOR))
+            {
+                // Unknown yet, or a plugin, which needs its name from the POM.
+                continue;
+            }
+
+            Model model = new Model();
+            model.setGroupId(coordinates.getGroupId());
+            model.setArtifactId(coordinates.getArtifactId());
+            model.setVersion(coordinates.getVersion());
+            model.setPackaging("jar");
+
+            String pomPath = StringUtils.removeEnd(artifactEntry.getArtifactPath(), ".jar") + ".pom";
+            models.put(pomPath, model);
+        }
+
+        String basePath = RepositoryFiles.relativizePath(artifactGroupDirectoryPath);
+        Path absoluteBasePath = Paths.get(artifactGroupDirectoryPath.toAbsolutePath().toString());
+
+        return pomPath -> {
+            String relativePath = FilenameUtils.separatorsToUnix(absoluteBasePath.relativize(pomPath).toString());
+
+            return models.get(StringUtils.removeEnd(basePath, "/") + "/" + relativePath);
+        };
+    }
+
+}
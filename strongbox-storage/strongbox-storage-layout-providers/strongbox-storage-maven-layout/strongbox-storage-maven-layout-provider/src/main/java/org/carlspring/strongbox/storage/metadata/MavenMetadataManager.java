@@ -23,6 +23,7 @@ import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Lock;
 import java.util.function.Consumer;
 
@@ -55,6 +56,12 @@ public class MavenMetadataManager
 
     private static final Logger logger = LoggerFactory.getLogger(MavenMetadataManager.class);
 
+    /**
+     * The timestamps which are refreshed on every generation and shouldn't be taken into account when checking
+     * whether the metadata has changed.
+     */
+    private static final String VOLATILE_ELEMENTS_REGEX = "<(lastUpdated|updated)>[^<]*</\\1>";
+
     @Inject
     private LayoutProviderRegistry layoutProviderRegistry;
 
@@ -150,11 +157,75 @@ public class MavenMetadataManager
         );
     }
 
+    /**
+     * Stores the metadata only if it differs from the already stored one (the timestamps aside), so that the
+     * metadata file and its checksums are not rewritten needlessly.
+     *
+     * @return true if the metadata has been stored
+     */
+    public boolean storeMetadataIfChanged(final RepositoryPath metadataBasePath,
+                                          final String version,
+                                          final Metadata metadata,
+                                          final MetadataType metadataType) throws IOException
+    {
+        AtomicBoolean stored = new AtomicBoolean();
+        doInLock(metadataBasePath, path ->
+                 {
+                     try
+                     {
+                         Path metadataPath = MetadataHelper.getMetadataPath(metadataBasePath, version, metadataType);
+                         if (Files.exists(metadataPath) && !isMetadataChanged(metadataPath, metadata))
+                         {
+                             logger.debug("Metadata [{}] is up to date.", metadataPath);
+                             return;
+                         }
+
+                         storeMetadata(metadataBasePath, version, metadata, metadataType);
+                         stored.set(true);
+                     }
+                     catch (IOException e)
+                     {
+                         throw new UndeclaredThrowableException(e);
+                     }
+                 }
+        );
+
+        return stored.get();
+    }
+
+    private boolean isMetadataChanged(Path metadataPath,
+                                      Metadata metadata)
+    {
+        try
+        {
+            Metadata existing = readMetadata(Files.newInputStream(metadataPath));
+
+            return !toComparableString(existing).equals(toComparableString(metadata));
+        }
+        catch (IOException | XmlPullParserException e)
+        {
+            logger.debug("Unable to read the existing metadata [{}], it will be overwritten.", metadataPath, e);
+
+            return true;
+        }
+    }
+
+    private String toComparableString(Metadata metadata)
+            throws IOException
+    {
+        StringWriter writer = new StringWriter();
+        new MetadataXpp3Writer().write(writer, metadata);
+
+        return writer.toString().replaceAll(VOLATILE_ELEMENTS_REGEX, "");
+    }
+
     /**
      * Generate a metadata file for an artifact.
+     *
+     * @return true if any of the metadata files has been changed
      */
-    public void generateMetadata(RepositoryPath artifactGroupDirectoryPath,
-                                 VersionCollectionRequest request)
+    public boolean generateMetadata(RepositoryPath artifactGroupDirectoryPath,
+                                    VersionCollectionRequest request)
             throws IOException,
                    ProviderImplementationException,
                    UnknownRepositoryTypeException
@@ -165,7 +236,7 @@ public class MavenMetadataManager
         {
             logger.error("Artifact metadata generation failed: {}).", artifactGroupDirectoryPath);
 
-            return;
+            return false;
         }
 
         logger.debug("Artifact metadata generation triggered for {} in '{}:{}' [policy: {}].",
@@ -179,6 +250,8 @@ public class MavenMetadataManager
         metadata.setGroupId(artifactGroupId);
         metadata.setArtifactId(artifactId);
 
+        boolean changed = false;
+
         List<MetadataVersion> baseVersioning = request.getMetadataVersions();
         Versioning versioning = request.getVersioning();
 
@@ -208,7 +281,8 @@ public class MavenMetadataManager
             MetadataHelper.setLastUpdated(versioning);
 
             // Write basic metadata
-            storeMetadata(artifactGroupDirectoryPath, null, metadata, MetadataType.ARTIFACT_ROOT_LEVEL);
+            changed = storeMetadataIfChanged(artifactGroupDirectoryPath, null, metadata,
+                                             MetadataType.ARTIFACT_ROOT_LEVEL);
 
             logger.debug("Generated Maven metadata for {}:{}.", artifactGroupId, artifactId);
         }
@@ -234,13 +308,17 @@ public class MavenMetadataManager
                     RepositoryPath snapshotBasePath = artifactGroupDirectoryPath.toAbsolutePath()
                                                                                 .resolve(ArtifactUtils.toSnapshotVersion(version));
 
-                    generateSnapshotVersioningMetadata(artifactGroupId, artifactId, snapshotBasePath,
-                                                       version, true);
+                    Metadata snapshotMetadata = generateSnapshotVersioningMetadata(artifactGroupId, artifactId,
+                                                                                   snapshotBasePath, version,
+                                                                                   false);
+                    changed |= storeMetadataIfChanged(snapshotBasePath.getParent(), version, snapshotMetadata,
+                                                      MetadataType.SNAPSHOT_VERSION_LEVEL);
                 }
             }
 
             // Write artifact metadata
-            storeMetadata(artifactGroupDirectoryPath, null, metadata, MetadataType.ARTIFACT_ROOT_LEVEL);
+            changed |= storeMetadataIfChanged(artifactGroupDirectoryPath, null, metadata,
+                                              MetadataType.ARTIFACT_ROOT_LEVEL);
 
             logger.debug("Generated Maven metadata for {}:{}.", artifactGroupId, artifactId);
         }
@@ -256,19 +334,24 @@ public class MavenMetadataManager
         // If this is a plugin, we need to add an additional metadata to the groupId.artifactId path.
         if (!request.getPlugins().isEmpty())
         {
-            generateMavenPluginMetadata(artifactGroupId, artifactId, artifactGroupDirectoryPath.getParent(),
-                                        request.getPlugins());
+            changed |= generateMavenPluginMetadata(artifactGroupId, artifactId, artifactGroupDirectoryPath.getParent(),
+                                                   request.getPlugins());
         }
+
+        return changed;
     }
 
-    private void generateMavenPluginMetadata(String groupId, String aritfactId, RepositoryPath pluginMetadataPath, List<Plugin> plugins) throws IOException
+    private boolean generateMavenPluginMetadata(String groupId, String aritfactId, RepositoryPath pluginMetadataPath, List<Plugin> plugins) throws IOException
     {
         Metadata pluginMetadata = new Metadata();
         pluginMetadata.setPlugins(plugins);
 
-        storeMetadata(pluginMetadataPath, null, pluginMetadata, MetadataType.PLUGIN_GROUP_LEVEL);
+        boolean changed = storeMetadataIfChanged(pluginMetadataPath, null, pluginMetadata,
+                                                 MetadataType.PLUGIN_GROUP_LEVEL);
 
         logger.debug("Generated Maven plugin metadata for {}:{}.", groupId, aritfactId);
+
+        return changed;
     }
 
     public Metadata generateSnapshotVersioningMetadata(String groupId,
@@ -18,6 +18,7 @@ import java.lang.annotation.*;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -127,6 +128,37 @@ public class ArtifactDirectoryLocatorTest
         assertThat(output.contains(normalize("org/carlspring/strongbox/locator/utils"))).isTrue();
     }
 
+    @ExtendWith({ RepositoryManagementTestExecutionListener.class,
+                  ArtifactManagementTestExecutionListener.class })
+    @Test
+    public void testLocateDirectoriesStopsWhenCancelled(@MavenRepository(repositoryId = REPOSITORY_RELEASES) Repository repository,
+                                                        @MavenArtifactsLocationUtils List<Path> artifactPaths1,
+                                                        @MavenArtifactsCarlspringMavenLocatorTesting List<Path> artifactPaths3)
+            throws IOException
+    {
+        System.setOut(new PrintStream(os));
+        tempSysOut = System.out;
+
+        RepositoryPath repositoryPath = repositoryPathResolver.resolve(repository);
+
+        AtomicInteger visits = new AtomicInteger();
+
+        ArtifactDirectoryLocator locator = new ArtifactDirectoryLocator();
+        locator.setBasedir(repositoryPath);
+        locator.setOperation(new ArtifactLocationReportOperation());
+        // Cancelled after the first directory.
+        locator.setCancellation(() -> visits.getAndIncrement() > 0);
+        locator.locateArtifactDirectories();
+
+        os.flush();
+
+        String output = new String(os.toByteArray());
+
+        assertThat(visits.get()).isEqualTo(2);
+        assertThat(output.contains(normalize("org/apache/maven/location-utils"))).isFalse();
+        assertThat(output.contains(normalize("org/carlspring/maven/locator-testing"))).isFalse();
+    }
+
     private String normalize(String path)
     {
         return Paths.get(path).normalize().toString();
@@ -0,0 +1,95 @@
+package org.carlspring.strongbox.locator.handlers;
+
+import org.carlspring.strongbox.event.artifact.ArtifactEventListenerRegistry;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.storage.metadata.ArtifactEntryModelResolver;
+import org.carlspring.strongbox.storage.metadata.MavenMetadataManager;
+import org.carlspring.strongbox.storage.metadata.VersionCollectionRequest;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+
+public class GenerateMavenMetadataOperationTest
+{
+
+    private MavenMetadataManager mavenMetadataManager;
+
+    private ArtifactEntryModelResolver artifactEntryModelResolver;
+
+    private GenerateMavenMetadataOperation operation;
+
+    @BeforeEach
+    public void setUp()
+    {
+        mavenMetadataManager = Mockito.mock(MavenMetadataManager.class);
+        artifactEntryModelResolver = Mockito.mock(ArtifactEntryModelResolver.class);
+
+        operation = new GenerateMavenMetadataOperation(mavenMetadataManager,
+                                                       Mockito.mock(ArtifactEventListenerRegistry.class),
+                                                       artifactEntryModelResolver,
+                                                       Runnable::run);
+    }
+
+    @Test
+    public void testFailedVersionCollectionCompletesTheFutureExceptionally()
+            throws IOException
+    {
+        RepositoryPath artifactGroupDirectoryPath = Mockito.mock(RepositoryPath.class);
+        Mockito.when(artifactEntryModelResolver.forArtifactGroup(artifactGroupDirectoryPath))
+               .thenThrow(new IOException("Failed to resolve the models."));
+
+        operation.processArtifactGroup(artifactGroupDirectoryPath, Collections.emptyList());
+
+        assertThat(operation.getFutures()).hasSize(1);
+        assertThatThrownBy(() -> CompletableFuture.allOf(operation.getFutures().toArray(new CompletableFuture[0]))
+                                                  .join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IOException.class)
+                .hasStackTraceContaining("Failed to resolve the models.");
+    }
+
+    @Test
+    public void testFailedMetadataGenerationIsRethrown()
+            throws Exception
+    {
+        RepositoryPath artifactGroupDirectoryPath = Mockito.mock(RepositoryPath.class);
+        Mockito.when(mavenMetadataManager.generateMetadata(any(RepositoryPath.class),
+                                                           any(VersionCollectionRequest.class)))
+               .thenThrow(new IOException("Failed to store the metadata."));
+
+        assertThatThrownBy(() -> operation.executeOperation(new VersionCollectionRequest(),
+                                                            artifactGroupDirectoryPath,
+                                                            Collections.emptyList()))
+                .isInstanceOf(IOException.class)
+                .hasCauseInstanceOf(IOException.class);
+    }
+
+    @Test
+    public void testFailedMetadataGenerationIsOnlyLoggedWhenSynchronous()
+            throws Exception
+    {
+        GenerateMavenMetadataOperation synchronousOperation = new GenerateMavenMetadataOperation(
+                mavenMetadataManager, Mockito.mock(ArtifactEventListenerRegistry.class));
+
+        RepositoryPath artifactGroupDirectoryPath = Mockito.mock(RepositoryPath.class);
+        Mockito.when(mavenMetadataManager.generateMetadata(any(RepositoryPath.class),
+                                                           any(VersionCollectionRequest.class)))
+               .thenThrow(new IOException("Failed to store the metadata."));
+
+        synchronousOperation.executeOperation(new VersionCollectionRequest(),
+                                              artifactGroupDirectoryPath,
+                                              Collections.emptyList());
+
+        assertThat(synchronousOperation.getFutures()).isEmpty();
+    }
+
+}
@@ -0,0 +1,198 @@
+package org.carlspring.strongbox.providers.repository;
+
+import org.carlspring.strongbox.config.Maven2LayoutProviderTestConfig;
+import org.carlspring.strongbox.domain.ArtifactEntry;
+import org.carlspring.strongbox.providers.io.RepositoryFiles;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
+import org.carlspring.strongbox.services.ArtifactEntryService;
+import org.carlspring.strongbox.services.ArtifactResolutionService;
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.testing.artifact.ArtifactManagementTestExecutionListener;
+import org.carlspring.strongbox.testing.artifact.MavenTestArtifact;
+import org.carlspring.strongbox.testing.repository.MavenRepository;
+import org.carlspring.strongbox.testing.storage.repository.RepositoryManagementTestExecutionListener;
+
+import javax.inject.Inject;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.util.ClassUtils;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Counts the {@link ArtifactEntry} database lookups which a single download makes.
+ */
+@SpringBootTest
+@ActiveProfiles(profiles = "test")
+@ContextConfiguration(classes = { Maven2LayoutProviderTestConfig.class,
+                                  ArtifactDownloadLookupsTest.ArtifactEntryLookupsConfig.class })
+public class ArtifactDownloadLookupsTest
+{
+
+    private static final String REPOSITORY_RELEASES = "adlt-releases";
+
+    /**
+     * The existence check of the request and, if the download count update conflicts with a concurrent one, the
+     * retry of the update.
+     */
+    private static final int MAX_LOOKUPS_PER_DOWNLOAD = 2;
+
+    @Inject
+    private ArtifactResolutionService artifactResolutionService;
+
+    @Inject
+    private ArtifactEntryService artifactEntryService;
+
+    @Inject
+    private RepositoryPathResolver repositoryPathResolver;
+
+    @Inject
+    private ArtifactEntryLookups artifactEntryLookups;
+
+    @ExtendWith({ RepositoryManagementTestExecutionListener.class,
+                  ArtifactManagementTestExecutionListener.class })
+    @Test
+    public void downloadShouldFetchArtifactEntryOnce(@MavenRepository(repositoryId = REPOSITORY_RELEASES)
+                                                     Repository repository,
+                                                     @MavenTestArtifact(repositoryId = REPOSITORY_RELEASES,
+                                                                        id = "org.carlspring.strongbox:adlt-artifact",
+                                                                        versions = { "1.0" })
+                                                     Path artifactPath)
+            throws Exception
+    {
+        String storageId = repository.getStorage().getId();
+        String repositoryId = repository.getId();
+        String path = RepositoryFiles.relativizePath((RepositoryPath) artifactPath);
+
+        // The archive listing of the deployed artifact is stored asynchronously, which makes a lookup of its own.
+        await().atMost(10, SECONDS)
+               .until(() -> {
+                   ArtifactEntry artifactEntry = artifactEntryService.findOneArtifact(storageId, repositoryId, path);
+
+                   return artifactEntry.getArtifactArchiveListing() != null;
+               });
+
+        int lookupsBefore = artifactEntryLookups.get(storageId, repositoryId, path);
+
+        RepositoryPath repositoryPath = repositoryPathResolver.resolve(repository, path);
+        try (InputStream is = artifactResolutionService.getInputStream(repositoryPath))
+        {
+            IOUtils.toByteArray(is);
+        }
+
+        // The download count is updated asynchronously; the lookups of this wait are not a part of the download.
+        AtomicInteger ownLookups = new AtomicInteger();
+        await().atMost(10, SECONDS)
+               .until(() -> {
+                   ownLookups.incrementAndGet();
+                   ArtifactEntry artifactEntry = artifactEntryService.findOneArtifact(storageId, repositoryId, path);
+
+                   return artifactEntry.getDownloadCount() == 1;
+               });
+
+        int downloadLookups = artifactEntryLookups.get(storageId, repositoryId, path) - lookupsBefore - ownLookups.get();
+
+        assertThat(downloadLookups).isBetween(1, MAX_LOOKUPS_PER_DOWNLOAD);
+    }
+
+    public static class ArtifactEntryLookups
+    {
+
+        private final Map<String, AtomicInteger> lookups = new ConcurrentHashMap<>();
+
+        public int get(String storageId,
+                       String repositoryId,
+                       String path)
+        {
+            AtomicInteger count = lookups.get(key(storageId, repositoryId, path));
+
+            return count == null ? 0 : count.get();
+        }
+
+        private void increment(String storageId,
+                               String repositoryId,
+                               String path)
+        {
+            lookups.computeIfAbsent(key(storageId, repositoryId, path), k -> new AtomicInteger()).incrementAndGet();
+        }
+
+        private static String key(String storageId,
+                                  String repositoryId,
+                                  String path)
+        {
+            return String.format("%s:%s:%s", storageId, repositoryId, path);
+        }
+
+    }
+
+    @Configuration
+    public static class ArtifactEntryLookupsConfig
+    {
+
+        @Bean
+        public ArtifactEntryLookups artifactEntryLookups()
+        {
+            return new ArtifactEntryLookups();
+        }
+
+        /**
+         * Counts the {@link ArtifactEntryService#findOneArtifact(String, String, String)} calls of the services
+         * which the {@link ArtifactEntryService} is injected into.
+         */
+        @Bean
+        public static BeanPostProcessor artifactEntryLookupsCounter(ArtifactEntryLookups artifactEntryLookups)
+        {
+            return new BeanPostProcessor()
+            {
+                @Override
+                public Object postProcessAfterInitialization(Object bean,
+                                                             String beanName)
+                {
+                    if (!(bean instanceof ArtifactEntryService))
+                    {
+                        return bean;
+                    }
+
+                    return Proxy.newProxyInstance(ArtifactEntryService.class.getClassLoader(),
+                                                  ClassUtils.getAllInterfaces(bean),
+                                                  (proxy, method, args) -> {
+                                                      if ("findOneArtifact".equals(method.getName()))
+                                                      {
+                                                          artifactEntryLookups.increment((String) args[0],
+                                                                                         (String) args[1],
+                                                                                         (String) args[2]);
+                                                      }
+
+                                                      try
+                                                      {
+                                                          return method.invoke(bean, args);
+                                                      }
+                                                      catch (InvocationTargetException e)
+                                                      {
+                                                          throw e.getTargetException();
+                                                      }
+                                                  });
+                }
+            };
+        }
+
+    }
+
+}
@@ -59,6 +59,7 @@ public class ArtifactMetadataServiceReleasesTest
     private static final String R3 = "amsr-releases3";
     private static final String R4 = "amsr-releases4";
     private static final String R5 = "amsr-releases5";
+    private static final String R6 = "amsr-releases6";
 
     @Inject
     private ArtifactMetadataService artifactMetadataService;
@@ -305,6 +306,38 @@ public class ArtifactMetadataServiceReleasesTest
                 .hasSize(3);
     }
 
+    @ExtendWith({ RepositoryManagementTestExecutionListener.class,
+                  ArtifactManagementTestExecutionListener.class })
+    @Test
+    public void testUnchangedMetadataIsNotRewritten(@MavenRepository(repositoryId = R6)
+                                                    Repository repository,
+                                                    @MavenTestArtifact(repositoryId = R6,
+                                                                       id = "org.carlspring.strongbox.metadata:strongbox-metadata-unchanged",
+                                                                       versions = { "1.0",
+                                                                                    "1.1" })
+                                                    List<Path> artifactGroupPath)
+            throws IOException
+    {
+        final String storageId = repository.getStorage().getId();
+        final String repositoryId = repository.getId();
+        final String artifactPathStr = "org/carlspring/strongbox/metadata/strongbox-metadata-unchanged";
+
+        artifactMetadataService.rebuildMetadata(storageId, repositoryId, artifactPathStr);
+
+        Path metadataPath = repositoryPathResolver.resolve(repository, artifactPathStr)
+                                                  .resolve(MetadataHelper.MAVEN_METADATA_XML);
+        assertThat(Files.exists(metadataPath)).isTrue();
+
+        FileTime past = FileTime.from(System.currentTimeMillis() - 60000L, TimeUnit.MILLISECONDS);
+        Files.setLastModifiedTime(metadataPath, past);
+        byte[] content = Files.readAllBytes(metadataPath);
+
+        artifactMetadataService.rebuildMetadata(storageId, repositoryId, artifactPathStr);
+
+        assertThat(Files.getLastModifiedTime(metadataPath)).isEqualTo(past);
+        assertThat(Files.readAllBytes(metadataPath)).isEqualTo(content);
+    }
+
     private void changeCreationDate(MavenArtifact artifact)
             throws IOException
     {
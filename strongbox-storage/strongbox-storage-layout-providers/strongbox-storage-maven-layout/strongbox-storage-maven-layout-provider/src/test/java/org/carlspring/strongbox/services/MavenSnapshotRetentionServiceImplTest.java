@@ -0,0 +1,166 @@
+package org.carlspring.strongbox.services;
+
+import org.carlspring.strongbox.config.Maven2LayoutProviderTestConfig;
+import org.carlspring.strongbox.storage.metadata.MavenSnapshotManager;
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.storage.repository.RepositoryPolicyEnum;
+import org.carlspring.strongbox.testing.artifact.ArtifactManagementTestExecutionListener;
+import org.carlspring.strongbox.testing.artifact.MavenTestArtifact;
+import org.carlspring.strongbox.testing.repository.MavenRepository;
+import org.carlspring.strongbox.testing.storage.repository.RepositoryManagementTestExecutionListener;
+
+import javax.inject.Inject;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles(profiles = "test")
+@ContextConfiguration(classes = Maven2LayoutProviderTestConfig.class)
+public class MavenSnapshotRetentionServiceImplTest
+{
+
+    private static final String MSRS_SNAPSHOTS = "msrs-snapshots";
+
+    private static final String MSRS_SNAPSHOTS_KEEP = "msrs-snapshots-keep";
+
+    private static final String MSRS_SNAPSHOTS_PERIOD = "msrs-snapshots-period";
+
+    private static final String MSRS_SNAPSHOTS_CANCELLED = "msrs-snapshots-cancelled";
+
+    @Inject
+    private MavenSnapshotRetentionService mavenSnapshotRetentionService;
+
+    @Inject
+    private ArtifactMetadataService artifactMetadataService;
+
+    @ExtendWith({ RepositoryManagementTestExecutionListener.class,
+                  ArtifactManagementTestExecutionListener.class })
+    @Test
+    public void testRemoveTimestampedSnapshotsOfWholeRepository(@MavenRepository(repositoryId = MSRS_SNAPSHOTS,
+                                                                                 policy = RepositoryPolicyEnum.SNAPSHOT)
+                                                                Repository repository,
+                                                                @MavenTestArtifact(repositoryId = MSRS_SNAPSHOTS,
+                                                                                   id = "org.carlspring.strongbox:msrs-first",
+                                                                                   versions = { "1.0-20190701.190020-1",
+                                                                                                "1.0-20190701.190145-2",
+                                                                                                "1.0-20190701.190250-3" })
+                                                                List<Path> firstArtifactPaths,
+                                                                @MavenTestArtifact(repositoryId = MSRS_SNAPSHOTS,
+                                                                                   id = "org.carlspring.strongbox:msrs-second",
+                                                                                   versions = { "2.0-20190701.190020-1",
+                                                                                                "2.0-20190701.190145-2" })
+                                                                List<Path> secondArtifactPaths)
+            throws Exception
+    {
+        artifactMetadataService.rebuildMetadata(repository.getStorage().getId(), repository.getId(), null);
+
+        long removed = mavenSnapshotRetentionService.removeTimestampedSnapshots(repository, null, 1, null);
+        assertThat(removed).isGreaterThanOrEqualTo(3);
+
+        assertThat(getJars(firstArtifactPaths.get(0).getParent())).hasSize(1)
+                                                                 .allMatch(p -> p.endsWith("msrs-first-1.0-20190701.190250-3.jar"));
+        assertThat(getJars(secondArtifactPaths.get(0).getParent())).hasSize(1)
+                                                                  .allMatch(p -> p.endsWith("msrs-second-2.0-20190701.190145-2.jar"));
+    }
+
+    @ExtendWith({ RepositoryManagementTestExecutionListener.class,
+                  ArtifactManagementTestExecutionListener.class })
+    @Test
+    public void testRemoveTimestampedSnapshotsKeepingMoreThanOne(@MavenRepository(repositoryId = MSRS_SNAPSHOTS_KEEP,
+                                                                                  policy = RepositoryPolicyEnum.SNAPSHOT)
+                                                                 Repository repository,
+                                                                 @MavenTestArtifact(repositoryId = MSRS_SNAPSHOTS_KEEP,
+                                                                                    id = "org.carlspring.strongbox:msrs-keep",
+                                                                                    versions = { "1.0-20190701.190020-1",
+                                                                                                 "1.0-20190701.190145-2",
+                                                                                                 "1.0-20190701.190250-3",
+                                                                                                 "1.0-20190701.190355-4" })
+                                                                 List<Path> artifactPaths)
+            throws Exception
+    {
+        artifactMetadataService.rebuildMetadata(repository.getStorage().getId(), repository.getId(), null);
+
+        long removed = mavenSnapshotRetentionService.removeTimestampedSnapshots(repository, null, 3, null);
+        assertThat(removed).isGreaterThanOrEqualTo(1);
+
+        assertThat(getJars(artifactPaths.get(0).getParent())).containsExactlyInAnyOrder(
+                "msrs-keep-1.0-20190701.190145-2.jar",
+                "msrs-keep-1.0-20190701.190250-3.jar",
+                "msrs-keep-1.0-20190701.190355-4.jar");
+    }
+
+    @ExtendWith({ RepositoryManagementTestExecutionListener.class,
+                  ArtifactManagementTestExecutionListener.class })
+    @Test
+    public void testRemoveTimestampedSnapshotsOlderThanKeepDate(@MavenRepository(repositoryId = MSRS_SNAPSHOTS_PERIOD,
+                                                                                 policy = RepositoryPolicyEnum.SNAPSHOT)
+                                                                Repository repository,
+                                                                @MavenTestArtifact(repositoryId = MSRS_SNAPSHOTS_PERIOD,
+                                                                                   id = "org.carlspring.strongbox:msrs-period",
+                                                                                   versions = { "1.0-20190601.100000-1",
+                                                                                                "1.0-20190615.100000-2",
+                                                                                                "1.0-20190701.100000-3",
+                                                                                                "1.0-20190715.100000-4" })
+                                                                List<Path> artifactPaths)
+            throws Exception
+    {
+        artifactMetadataService.rebuildMetadata(repository.getStorage().getId(), repository.getId(), null);
+
+        Date keepDate = new SimpleDateFormat(MavenSnapshotManager.TIMESTAMP_FORMAT).parse("20190620.000000");
+
+        // The number to keep is 0, so that only the keep date is used.
+        long removed = mavenSnapshotRetentionService.removeTimestampedSnapshots(repository, null, 0, keepDate);
+        assertThat(removed).isGreaterThanOrEqualTo(2);
+
+        assertThat(getJars(artifactPaths.get(0).getParent())).containsExactlyInAnyOrder(
+                "msrs-period-1.0-20190701.100000-3.jar",
+                "msrs-period-1.0-20190715.100000-4.jar");
+    }
+
+    @ExtendWith({ RepositoryManagementTestExecutionListener.class,
+                  ArtifactManagementTestExecutionListener.class })
+    @Test
+    public void testRemoveTimestampedSnapshotsWhenCancelled(@MavenRepository(repositoryId = MSRS_SNAPSHOTS_CANCELLED,
+                                                                             policy = RepositoryPolicyEnum.SNAPSHOT)
+                                                            Repository repository,
+                                                            @MavenTestArtifact(repositoryId = MSRS_SNAPSHOTS_CANCELLED,
+                                                                               id = "org.carlspring.strongbox:msrs-cancelled",
+                                                                               versions = { "1.0-20190701.190020-1",
+                                                                                            "1.0-20190701.190145-2",
+                                                                                            "1.0-20190701.190250-3" })
+                                                            List<Path> artifactPaths)
+            throws Exception
+    {
+        artifactMetadataService.rebuildMetadata(repository.getStorage().getId(), repository.getId(), null);
+
+        long removed = mavenSnapshotRetentionService.removeTimestampedSnapshots(repository, null, 1, null, () -> true);
+        assertThat(removed).isEqualTo(0);
+
+        assertThat(getJars(artifactPaths.get(0).getParent())).hasSize(3);
+    }
+
+    private List<String> getJars(Path directory)
+            throws IOException
+    {
+        try (Stream<Path> pathStream = Files.walk(directory.normalize()))
+        {
+            return pathStream.map(p -> p.getFileName().toString())
+                             .filter(p -> p.endsWith(".jar"))
+                             .collect(Collectors.toList());
+        }
+    }
+
+}
@@ -1,8 +1,10 @@
 package org.carlspring.strongbox.repository;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.locks.Lock;
@@ -57,16 +59,18 @@ public class NpmPackageFeedParser
     @Inject
     private RepositoryPathLock repositoryPathLock;
 
-    public void parseSearchResult(Repository repository,
-                                  SearchResults searchResults)
-        throws IOException
+    /**
+     * @return the artifact entries of the search results; the entries are not stored
+     */
+    public List<RemoteArtifactEntry> parseSearchResult(Repository repository,
+                                                       SearchResults searchResults)
     {
         ArtifactTag lastVersionTag = artifactTagService.findOneOrCreate(ArtifactTagEntry.LAST_VERSION);
 
         String repositoryId = repository.getId();
         String storageId = repository.getStorage().getId();
 
-        Set<ArtifactEntry> artifactToSaveSet = new HashSet<>();
+        List<RemoteArtifactEntry> result = new ArrayList<>();
         for (SearchResult searchResult : searchResults.getObjects())
         {
             PackageEntry packageEntry = searchResult.getPackage();
@@ -79,10 +83,10 @@ public class NpmPackageFeedParser
 
             remoteArtifactEntry.getTagSet().add(lastVersionTag);
 
-            artifactToSaveSet.add(remoteArtifactEntry);
+            result.add(remoteArtifactEntry);
         }
 
-        saveArtifactEntrySet(repository, artifactToSaveSet);
+        return result;
     }
 
     private void saveArtifactEntrySet(Repository repository,
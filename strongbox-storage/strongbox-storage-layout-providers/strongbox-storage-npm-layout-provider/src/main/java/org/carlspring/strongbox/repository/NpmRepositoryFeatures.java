@@ -1,10 +1,12 @@
 package org.carlspring.strongbox.repository;
 
+import org.carlspring.strongbox.client.RestClientPolicy;
 import org.carlspring.strongbox.config.NpmLayoutProviderConfig.NpmObjectMapper;
 import org.carlspring.strongbox.configuration.Configuration;
 import org.carlspring.strongbox.configuration.ConfigurationManager;
 import org.carlspring.strongbox.data.criteria.Expression.ExpOperator;
 import org.carlspring.strongbox.data.criteria.OQueryTemplate;
+import org.carlspring.strongbox.data.criteria.Paginator;
 import org.carlspring.strongbox.data.criteria.Predicate;
 import org.carlspring.strongbox.data.criteria.Selector;
 import org.carlspring.strongbox.domain.RemoteArtifactEntry;
@@ -14,6 +16,8 @@ import org.carlspring.strongbox.npm.metadata.Change;
 import org.carlspring.strongbox.npm.metadata.PackageFeed;
 import org.carlspring.strongbox.npm.metadata.SearchResults;
 import org.carlspring.strongbox.providers.repository.event.RemoteRepositorySearchEvent;
+import org.carlspring.strongbox.providers.repository.proxied.RemoteRepositorySearch;
+import org.carlspring.strongbox.providers.repository.proxied.RestArtifactResolverFactory;
 import org.carlspring.strongbox.service.ProxyRepositoryConnectionPoolConfigurationService;
 import org.carlspring.strongbox.services.ConfigurationManagementService;
 import org.carlspring.strongbox.storage.Storage;
@@ -39,6 +43,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.Arrays;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Executor;
@@ -81,6 +86,9 @@ public class NpmRepositoryFeatures implements RepositoryFeatures
     @Inject
     private ProxyRepositoryConnectionPoolConfigurationService proxyRepositoryConnectionPoolConfigurationService;
 
+    @Inject
+    private RestArtifactResolverFactory restArtifactResolverFactory;
+
     @Inject
     private ConfigurationManager configurationManager;
 
@@ -132,56 +140,48 @@ public class NpmRepositoryFeatures implements RepositoryFeatures
         return allowsUnpublish;
     }
 
-    private void fetchRemoteSearchResult(String storageId,
-                                         String repositoryId,
-                                         String text,
-                                         Integer size)
+    /**
+     * @return the remote search of the {@code -/v1/search} endpoint, to be used with the
+     *         {@link org.carlspring.strongbox.services.ProxyRepositorySearchService}
+     */
+    public RemoteRepositorySearch remoteSearch(NpmSearchRequest npmSearchRequest)
     {
-
-        Storage storage = getConfiguration().getStorage(storageId);
-        Repository repository = storage.getRepository(repositoryId);
-
-        RemoteRepository remoteRepository = repository.getRemoteRepository();
-        if (remoteRepository == null)
+        return new RemoteRepositorySearch()
         {
-            return;
-        }
-        String remoteRepositoryUrl = remoteRepository.getUrl();
 
-        SearchResults searchResults;
-        Client restClient = proxyRepositoryConnectionPoolConfigurationService.getRestClient();
-        try
-        {
-            logger.debug("Search NPM packages for [{}].", remoteRepositoryUrl);
+            @Override
+            public String getQuery()
+            {
+                return String.format("text=%s&size=%s", npmSearchRequest.getText(), npmSearchRequest.getSize());
+            }
 
-            WebTarget service = restClient.target(remoteRepository.getUrl());
-            service = service.path("-/v1/search").queryParam("text", text).queryParam("size", size);
+            @Override
+            public List<RemoteArtifactEntry> fetch(Repository repository,
+                                                   Paginator paginator)
+                    throws IOException
+            {
+                RemoteRepository remoteRepository = repository.getRemoteRepository();
 
-            InputStream inputStream = service.request().buildGet().invoke(InputStream.class);
-            searchResults = npmJacksonMapper.readValue(inputStream, SearchResults.class);
+                SearchResults searchResults;
+                Client restClient = restArtifactResolverFactory.getRestClient(remoteRepository);
+                logger.debug("Search NPM packages for [{}].", remoteRepository.getUrl());
 
-            logger.debug("Searched NPM packages for [{}].", remoteRepository.getUrl());
+                WebTarget service = restClient.target(remoteRepository.getUrl());
+                service = service.path("-/v1/search")
+                                 .queryParam("text", npmSearchRequest.getText())
+                                 .queryParam("size", npmSearchRequest.getSize());
 
-        }
-        catch (Exception e)
-        {
-            logger.error("Failed to search NPM packages [{}]", remoteRepositoryUrl, e);
+                try (InputStream inputStream = service.request().buildGet().invoke(InputStream.class))
+                {
+                    searchResults = npmJacksonMapper.readValue(inputStream, SearchResults.class);
+                }
 
-            return;
-        }
-        finally
-        {
-            restClient.close();
-        }
+                logger.debug("Searched NPM packages for [{}].", remoteRepository.getUrl());
 
-        try
-        {
-            npmPackageFeedParser.parseSearchResult(repository, searchResults);
-        }
-        catch (Exception e)
-        {
-            logger.error("Failed to parse NPM packages search result for [{}]", remoteRepositoryUrl, e);
-        }
+                return npmPackageFeedParser.parseSearchResult(repository, searchResults);
+            }
+
+        };
     }
 
     public void fetchRemoteChangesFeed(String storageId,
@@ -229,28 +229,20 @@ public class NpmRepositoryFeatures implements RepositoryFeatures
                                            Long since)
         throws IOException
     {
-        int result = 0;
-        Client restClient = proxyRepositoryConnectionPoolConfigurationService.getRestClient();
-        try
-        {
-            logger.debug("Fetching remote changes for [{}] since [{}].", replicateUrl, since);
+        RestClientPolicy policy = restArtifactResolverFactory.getRestClientPolicy(repository.getRemoteRepository());
+        Client restClient = proxyRepositoryConnectionPoolConfigurationService.getRestClient(replicateUrl, policy);
 
-            WebTarget service = restClient.target(replicateUrl);
-            service = service.path("_changes");
-            service = service.queryParam("since", since);
-            service = service.queryParam("include_docs", true);
-            service = service.queryParam("limit", CHANGES_BATCH_SIZE);
+        logger.debug("Fetching remote changes for [{}] since [{}].", replicateUrl, since);
 
-            Invocation request = service.request().buildGet();
+        WebTarget service = restClient.target(replicateUrl);
+        service = service.path("_changes");
+        service = service.queryParam("since", since);
+        service = service.queryParam("include_docs", true);
+        service = service.queryParam("limit", CHANGES_BATCH_SIZE);
 
-            result = fetchRemoteChangesFeed(repository, request);
-        }
-        finally
-        {
-            restClient.close();
-        }
+        Invocation request = service.request().buildGet();
 
-        return result;
+        return fetchRemoteChangesFeed(repository, request);
     }
 
     private int fetchRemoteChangesFeed(Repository repository,
@@ -347,7 +339,7 @@ public class NpmRepositoryFeatures implements RepositoryFeatures
         String remoteRepositoryUrl = remoteRepository.getUrl();
 
         PackageFeed packageFeed;
-        Client restClient = proxyRepositoryConnectionPoolConfigurationService.getRestClient();
+        Client restClient = restArtifactResolverFactory.getRestClient(remoteRepository);
         try
         {
             logger.debug("Downloading NPM changes feed for [{}].", remoteRepositoryUrl);
@@ -366,10 +358,6 @@ public class NpmRepositoryFeatures implements RepositoryFeatures
             logger.error("Failed to fetch NPM changes feed [{}]", remoteRepositoryUrl, e);
             return;
         }
-        finally
-        {
-            restClient.close();
-        }
 
         try
         {
@@ -384,64 +372,6 @@ public class NpmRepositoryFeatures implements RepositoryFeatures
         }
     }
 
-    @Component
-    @Scope(scopeName = "request", proxyMode = ScopedProxyMode.TARGET_CLASS)
-    public class SearchPackagesEventListener
-    {
-
-        private NpmSearchRequest npmSearchRequest;
-
-        public NpmSearchRequest getNpmSearchRequest()
-        {
-            return npmSearchRequest;
-        }
-
-        public void setNpmSearchRequest(NpmSearchRequest npmSearchRequest)
-        {
-            this.npmSearchRequest = npmSearchRequest;
-        }
-
-        @EventListener
-        public void handle(RemoteRepositorySearchEvent event)
-        {
-            if (npmSearchRequest == null)
-            {
-                return;
-            }
-
-            String storageId = event.getStorageId();
-            String repositoryId = event.getRepositoryId();
-
-            Storage storage = getConfiguration().getStorage(storageId);
-            Repository repository = storage.getRepository(repositoryId);
-            RemoteRepository remoteRepository = repository.getRemoteRepository();
-            if (remoteRepository == null)
-            {
-                return;
-            }
-
-            Predicate predicate = event.getPredicate();
-            Long packageCount = countPackages(storageId, repositoryId, predicate);
-
-            logger.debug("NPM remote repository [{}] cached package count is [{}]",
-                         repository.getId(), packageCount);
-
-            Runnable job = () -> fetchRemoteSearchResult(storageId, repositoryId, npmSearchRequest.getText(),
-                                                         npmSearchRequest.getSize());
-            if (packageCount.longValue() == 0)
-            {
-                // Syncronously fetch remote package feed if ve have no cached
-                // packages
-                job.run();
-            }
-            else
-            {
-                eventTaskExecutor.execute(job);
-            }
-
-        }
-    }
-
     @Component
     @Scope(scopeName = "request", proxyMode = ScopedProxyMode.TARGET_CLASS)
     public class ViewPackageEventListener
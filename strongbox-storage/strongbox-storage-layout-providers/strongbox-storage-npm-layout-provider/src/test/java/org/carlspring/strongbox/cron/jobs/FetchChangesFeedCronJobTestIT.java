@@ -1,5 +1,6 @@
 package org.carlspring.strongbox.cron.jobs;
 
+import org.carlspring.strongbox.client.RestClientPolicy;
 import org.carlspring.strongbox.config.NpmLayoutProviderTestConfig;
 import org.carlspring.strongbox.cron.domain.CronTaskConfigurationDto;
 import org.carlspring.strongbox.data.criteria.Expression.ExpOperator;
@@ -157,7 +158,9 @@ public class FetchChangesFeedCronJobTestIT
 
         when(mockedRestClient.target(anyString())).thenReturn(mockedWebTarget);
 
-        when(proxyRepositoryConnectionPoolConfigurationService.getRestClient())
+        when(proxyRepositoryConnectionPoolConfigurationService.getDefaultRestClientPolicy())
+                .thenReturn(new RestClientPolicy(30, 60, true, 0));
+        when(proxyRepositoryConnectionPoolConfigurationService.getRestClient(anyString(), any(RestClientPolicy.class)))
                 .thenReturn(mockedRestClient);
     }
 
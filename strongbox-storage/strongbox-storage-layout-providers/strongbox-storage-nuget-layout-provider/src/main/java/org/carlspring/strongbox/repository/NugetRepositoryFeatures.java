@@ -6,11 +6,7 @@ import org.carlspring.strongbox.artifact.coordinates.NugetArtifactCoordinates;
 import org.carlspring.strongbox.client.ArtifactTransportException;
 import org.carlspring.strongbox.configuration.Configuration;
 import org.carlspring.strongbox.configuration.ConfigurationManager;
-import org.carlspring.strongbox.data.criteria.Expression.ExpOperator;
-import org.carlspring.strongbox.data.criteria.OQueryTemplate;
 import org.carlspring.strongbox.data.criteria.Paginator;
-import org.carlspring.strongbox.data.criteria.Predicate;
-import org.carlspring.strongbox.data.criteria.Selector;
 import org.carlspring.strongbox.domain.ArtifactEntry;
 import org.carlspring.strongbox.domain.ArtifactTagEntry;
 import org.carlspring.strongbox.domain.RemoteArtifactEntry;
@@ -20,8 +16,8 @@ import org.carlspring.strongbox.providers.io.RepositoryFiles;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.providers.io.RepositoryPathLock;
 import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
-import org.carlspring.strongbox.providers.repository.event.RemoteRepositorySearchEvent;
-import org.carlspring.strongbox.service.ProxyRepositoryConnectionPoolConfigurationService;
+import org.carlspring.strongbox.providers.repository.proxied.RemoteRepositorySearch;
+import org.carlspring.strongbox.providers.repository.proxied.RestArtifactResolverFactory;
 import org.carlspring.strongbox.services.ArtifactEntryService;
 import org.carlspring.strongbox.services.ArtifactTagService;
 import org.carlspring.strongbox.services.RepositoryArtifactIdGroupService;
@@ -38,8 +34,6 @@ import org.carlspring.strongbox.yaml.configuration.repository.NugetRepositoryCon
 
 import javax.annotation.PostConstruct;
 import javax.inject.Inject;
-import javax.persistence.EntityManager;
-import javax.persistence.PersistenceContext;
 import javax.ws.rs.client.Client;
 import javax.ws.rs.client.WebTarget;
 import java.io.IOException;
@@ -48,9 +42,6 @@ import java.util.concurrent.locks.Lock;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.context.annotation.Scope;
-import org.springframework.context.annotation.ScopedProxyMode;
-import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
 /**
@@ -83,10 +74,7 @@ public class NugetRepositoryFeatures
     private RepositoryPathResolver repositoryPathResolver;
 
     @Inject
-    private ProxyRepositoryConnectionPoolConfigurationService proxyRepositoryConnectionPoolConfigurationService;
-
-    @PersistenceContext
-    private EntityManager entityManager;
+    private RestArtifactResolverFactory restArtifactResolverFactory;
 
     @Inject
     private RedeploymentValidator redeploymentValidator;
@@ -160,7 +148,7 @@ public class NugetRepositoryFeatures
         paginator.setSkip(skip);
 
         PackageFeed packageFeed;
-        Client restClient = proxyRepositoryConnectionPoolConfigurationService.getRestClient();
+        Client restClient = restArtifactResolverFactory.getRestClient(remoteRepository);
         try
         {
             logger.debug("Downloading remote feed for [{}].", remoteRepositoryUrl);
@@ -180,10 +168,6 @@ public class NugetRepositoryFeatures
             logger.error("Failed to fetch Nuget remote feed [{}]", remoteRepositoryUrl, e);
             return false;
         }
-        finally
-        {
-            restClient.close();
-        }
 
         if (packageFeed == null || packageFeed.getEntries() == null || packageFeed.getEntries().size() == 0)
         {
@@ -201,36 +185,14 @@ public class NugetRepositoryFeatures
         String repositoryId = repository.getId();
         String storageId = repository.getStorage().getId();
 
-        ArtifactTag lastVersionTag = artifactTagService.findOneOrCreate(ArtifactTagEntry.LAST_VERSION);
-
         Set<ArtifactEntry> artifactToSaveSet = new HashSet<>();
-        for (PackageEntry packageEntry : packageFeed.getEntries())
+        for (RemoteArtifactEntry remoteArtifactEntry : parseEntries(repository, packageFeed))
         {
-            String packageId = packageEntry.getProperties().getId();
-            packageId = packageId == null ? packageEntry.getTitle() : packageId;
-            String packageVersion = packageEntry.getProperties().getVersion().toString();
-
-            NugetArtifactCoordinates c = new NugetArtifactCoordinates(packageId, packageVersion, "nupkg");
-            if (artifactEntryService.artifactExists(storageId, repositoryId, c.toPath()))
+            if (artifactEntryService.artifactExists(storageId, repositoryId, remoteArtifactEntry.getArtifactPath()))
             {
                 continue;
             }
 
-            RemoteArtifactEntry remoteArtifactEntry = new RemoteArtifactEntry();
-            remoteArtifactEntry.setStorageId(storageId);
-            remoteArtifactEntry.setRepositoryId(repositoryId);
-            remoteArtifactEntry.setArtifactCoordinates(c);
-            remoteArtifactEntry.setLastUsed(new Date());
-            remoteArtifactEntry.setLastUpdated(new Date());
-            remoteArtifactEntry.setDownloadCount(0);
-
-            remoteArtifactEntry.setSizeInBytes(packageEntry.getProperties().getPackageSize());
-
-            if (Boolean.TRUE.equals(packageEntry.getProperties().getIsLatestVersion()))
-            {
-                remoteArtifactEntry.getTagSet().add(lastVersionTag);
-            }
-
             artifactToSaveSet.add(remoteArtifactEntry);
         }
 
@@ -256,100 +218,96 @@ public class NugetRepositoryFeatures
         }
     }
 
-    protected Configuration getConfiguration()
-    {
-        return configurationManager.getConfiguration();
-    }
-
-    @Component
-    @Scope(scopeName = "request", proxyMode = ScopedProxyMode.TARGET_CLASS)
-    public class RepositorySearchEventListener
+    private List<RemoteArtifactEntry> parseEntries(Repository repository,
+                                                   PackageFeed packageFeed)
     {
+        String repositoryId = repository.getId();
+        String storageId = repository.getStorage().getId();
 
-        private NugetSearchRequest nugetSearchRequest;
+        ArtifactTag lastVersionTag = artifactTagService.findOneOrCreate(ArtifactTagEntry.LAST_VERSION);
 
-        public NugetSearchRequest getNugetSearchRequest()
+        List<RemoteArtifactEntry> result = new ArrayList<>();
+        for (PackageEntry packageEntry : packageFeed.getEntries())
         {
-            return nugetSearchRequest;
-        }
+            String packageId = packageEntry.getProperties().getId();
+            packageId = packageId == null ? packageEntry.getTitle() : packageId;
+            String packageVersion = packageEntry.getProperties().getVersion().toString();
 
-        public void setNugetSearchRequest(NugetSearchRequest nugetSearchRequest)
-        {
-            this.nugetSearchRequest = nugetSearchRequest;
-        }
+            NugetArtifactCoordinates c = new NugetArtifactCoordinates(packageId, packageVersion, "nupkg");
 
-        @EventListener
-        public void handle(RemoteRepositorySearchEvent event) throws IOException
-        {
-            if (nugetSearchRequest == null)
+            RemoteArtifactEntry remoteArtifactEntry = new RemoteArtifactEntry();
+            remoteArtifactEntry.setStorageId(storageId);
+            remoteArtifactEntry.setRepositoryId(repositoryId);
+            remoteArtifactEntry.setArtifactCoordinates(c);
+            remoteArtifactEntry.setLastUsed(new Date());
+            remoteArtifactEntry.setLastUpdated(new Date());
+            remoteArtifactEntry.setDownloadCount(0);
+
+            remoteArtifactEntry.setSizeInBytes(packageEntry.getProperties().getPackageSize());
+
+            if (Boolean.TRUE.equals(packageEntry.getProperties().getIsLatestVersion()))
             {
-                return;
+                remoteArtifactEntry.getTagSet().add(lastVersionTag);
             }
-            
-            Storage storage = getConfiguration().getStorage(event.getStorageId());
-            Repository repository = storage.getRepository(event.getRepositoryId());
-            RemoteRepository remoteRepository = repository.getRemoteRepository();
-            if (remoteRepository == null)
+
+            result.add(remoteArtifactEntry);
+        }
+
+        return result;
+    }
+
+    /**
+     * @return the remote search of the {@code Search()} feed, to be used with the
+     *         {@link org.carlspring.strongbox.services.ProxyRepositorySearchService}
+     */
+    public RemoteRepositorySearch remoteSearch(NugetSearchRequest nugetSearchRequest)
+    {
+        return new RemoteRepositorySearch()
+        {
+
+            @Override
+            public String getQuery()
             {
-                return;
+                return String.format("filter=%s&searchTerm=%s&targetFramework=%s&includePrerelease=%s",
+                                     nugetSearchRequest.getFilter(),
+                                     nugetSearchRequest.getSearchTerm(),
+                                     nugetSearchRequest.getTargetFramework(),
+                                     nugetSearchRequest.getIncludePreRelease());
             }
 
-            Selector<RemoteArtifactEntry> selector = new Selector<>(RemoteArtifactEntry.class);
-            selector.select("count(*)");
-            selector.where(Predicate.of(ExpOperator.EQ.of("storageId", event.getStorageId())))
-                    .and(Predicate.of(ExpOperator.EQ.of("repositoryId", event.getRepositoryId())));
-            if (!event.getPredicate().isEmpty())
+            @Override
+            public List<RemoteArtifactEntry> fetch(Repository repository,
+                                                   Paginator paginator)
             {
-                selector.getPredicate().and(event.getPredicate());
-            }
-            OQueryTemplate<Long, RemoteArtifactEntry> queryTemplate = new OQueryTemplate<>(entityManager);
-            Long packageCount = queryTemplate.select(selector);
+                RemoteRepository remoteRepository = repository.getRemoteRepository();
 
-            logger.debug("Remote repository [{}] cached package count is [{}]", repository.getId(), packageCount);
+                PackageFeed feed;
+                Client restClient = restArtifactResolverFactory.getRestClient(remoteRepository);
+                logger.debug("Searching remote feed for [{}].", remoteRepository.getUrl());
 
-            Client restClient = proxyRepositoryConnectionPoolConfigurationService.getRestClient();
-            PackageFeed feed;
-            try
-            {
                 WebTarget service = restClient.target(remoteRepository.getUrl());
+                feed = queryParams(service.path("Search()"), nugetSearchRequest, paginator).request()
+                                                                                           .buildGet()
+                                                                                           .invoke(PackageFeed.class);
 
-                Long remotePackageCount = Long.valueOf(queryParams(service.path("Search()/$count"),
-                                                                   nugetSearchRequest, new Paginator()).request()
-                                                                                                       .buildGet()
-                                                                                                       .invoke(String.class));
-                logger.debug("Remote repository [{}] remote package count is [{}]", repository.getId(), remotePackageCount);
+                logger.debug("Searched remote feed for [{}], size [{}].",
+                             remoteRepository.getUrl(),
+                             Optional.ofNullable(feed).map(f -> f.getEntries().size()).orElse(0));
 
-                if (Long.valueOf(remotePackageCount).compareTo(packageCount) == 0)
+                if (feed == null || feed.getEntries() == null)
                 {
-                    logger.debug("No need to download remote feed, there was no changes in remote repository [{}] against local cache.",
-                                 remoteRepository.getUrl());
-                    return;
+                    return Collections.emptyList();
                 }
 
-                logger.debug("Downloading remote feed for [{}].", remoteRepository.getUrl());
-
-                feed = queryParams(service.path("Search()"), nugetSearchRequest, event.getPaginator()).request()
-                                                                                                      .buildGet()
-                                                                                                      .invoke(PackageFeed.class);
-
-                logger.debug("Downloaded remote feed for [{}], size [{}].",
-                             remoteRepository.getUrl(),
-                             Optional.of(feed).map(f -> f.getEntries().size()).orElse(0));
-
-            }
-            catch (Exception e)
-            {
-                logger.error("Failed to fetch Nuget remote feed [{}]", remoteRepository.getUrl(), e);
-                return;
-            } 
-            finally
-            {
-                restClient.close();
+                return parseEntries(repository, feed);
             }
 
-            parseFeed(repository, feed);
-        }
+        };
+    }
 
+    protected Configuration getConfiguration()
+    {
+        return configurationManager.getConfiguration();
     }
 
     private WebTarget queryParams(WebTarget path,
@@ -0,0 +1,36 @@
+package org.carlspring.strongbox.actuator;
+
+import org.carlspring.strongbox.app.boot.WarmUpService;
+
+import javax.inject.Inject;
+import java.util.Collections;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports whether Strongbox is ready to serve requests, which is after the warm-up has finished. The status is
+ * {@code 503}, until then, so that a load balancer doesn't send traffic to an instance, which is still warming up.
+ */
+@Component
+@Endpoint(id = "readiness")
+public class ReadinessEndpoint
+{
+
+    @Inject
+    private WarmUpService warmUpService;
+
+    @ReadOperation
+    public WebEndpointResponse<Map<String, String>> readiness()
+    {
+        boolean ready = warmUpService.isReady();
+
+        return new WebEndpointResponse<>(Collections.singletonMap("status", ready ? "READY" : "WARMING_UP"),
+                                         ready ? WebEndpointResponse.STATUS_OK :
+                                         WebEndpointResponse.STATUS_SERVICE_UNAVAILABLE);
+    }
+
+}
@@ -0,0 +1,36 @@
+package org.carlspring.strongbox.actuator;
+
+import org.carlspring.strongbox.providers.io.RepositoryFileSystemRegistry;
+
+import javax.inject.Inject;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.actuate.info.Info;
+import org.springframework.boot.actuate.info.InfoContributor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Exposes the statistics of the repository file system cache.
+ */
+@Component
+public class RepositoryFileSystemCacheInfo
+        implements InfoContributor
+{
+
+    @Inject
+    private RepositoryFileSystemRegistry repositoryFileSystemRegistry;
+
+    @Override
+    public void contribute(Info.Builder builder)
+    {
+        Map<String, Object> fileSystemCacheInfo = new LinkedHashMap<>();
+        fileSystemCacheInfo.put("hits", repositoryFileSystemRegistry.getHitCount());
+        fileSystemCacheInfo.put("misses", repositoryFileSystemRegistry.getMissCount());
+        fileSystemCacheInfo.put("rebuilds", repositoryFileSystemRegistry.getRebuildCount());
+        fileSystemCacheInfo.put("hitRate", repositoryFileSystemRegistry.getHitRate());
+
+        builder.withDetail("repositoryFileSystemCache", fileSystemCacheInfo);
+    }
+
+}
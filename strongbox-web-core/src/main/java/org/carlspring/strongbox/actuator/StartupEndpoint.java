@@ -0,0 +1,34 @@
+package org.carlspring.strongbox.actuator;
+
+import org.carlspring.strongbox.app.boot.StartupTimeline;
+
+import javax.inject.Inject;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Exposes the {@link StartupTimeline}.
+ */
+@Component
+@Endpoint(id = "startup")
+public class StartupEndpoint
+{
+
+    @Inject
+    private StartupTimeline startupTimeline;
+
+    @ReadOperation
+    public Map<String, Object> startup()
+    {
+        Map<String, Object> startup = new LinkedHashMap<>();
+        startup.put("readyMillis", startupTimeline.getReadyMillis());
+        startup.put("timeline", startupTimeline.getEntries());
+
+        return startup;
+    }
+
+}
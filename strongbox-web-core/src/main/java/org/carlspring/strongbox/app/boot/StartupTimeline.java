@@ -0,0 +1,184 @@
+package org.carlspring.strongbox.app.boot;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records where the startup time goes: the initialization of the beans, which has taken longer than the threshold,
+ * and the named phases, such as the steps of the warm-up. The offsets are measured from the start of the JVM.
+ * <br>
+ * The slowest entries are logged, once the application is ready, and the whole timeline is exposed by the
+ * {@code startup} endpoint.
+ */
+@Component
+public class StartupTimeline
+        implements BeanPostProcessor, EnvironmentAware
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupTimeline.class);
+
+    private static final int REPORTED_ENTRIES = 20;
+
+    private final long jvmStartMillis = ManagementFactory.getRuntimeMXBean().getStartTime();
+
+    private final Map<String, Long> initializingBeans = new ConcurrentHashMap<>();
+
+    private final List<Entry> entries = new CopyOnWriteArrayList<>();
+
+    private volatile boolean recordingBeans = true;
+
+    private long thresholdMillis = 100;
+
+    private volatile Long readyMillis;
+
+    @Override
+    public void setEnvironment(Environment environment)
+    {
+        thresholdMillis = environment.getProperty("strongbox.startup.timeline.thresholdMillis", Long.class, 100L);
+    }
+
+    @Override
+    @Nullable
+    public Object postProcessBeforeInitialization(Object bean,
+                                                  String beanName)
+            throws BeansException
+    {
+        if (recordingBeans)
+        {
+            initializingBeans.put(beanName, System.currentTimeMillis());
+        }
+
+        return bean;
+    }
+
+    @Override
+    @Nullable
+    public Object postProcessAfterInitialization(Object bean,
+                                                 String beanName)
+            throws BeansException
+    {
+        Long start = initializingBeans.remove(beanName);
+        if (start != null)
+        {
+            long duration = System.currentTimeMillis() - start;
+            if (duration >= thresholdMillis)
+            {
+                entries.add(new Entry("bean:" + beanName, start - jvmStartMillis, duration));
+            }
+        }
+
+        return bean;
+    }
+
+    /**
+     * Records a phase, which has started at the given {@link System#currentTimeMillis()}, and has just ended.
+     */
+    public void record(String phase,
+                       long startMillis)
+    {
+        entries.add(new Entry(phase, startMillis - jvmStartMillis, System.currentTimeMillis() - startMillis));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady()
+    {
+        recordingBeans = false;
+        initializingBeans.clear();
+
+        readyMillis = System.currentTimeMillis() - jvmStartMillis;
+
+        List<Entry> slowest = getEntries();
+        slowest.sort(Comparator.comparingLong(Entry::getDurationMillis).reversed());
+
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Strongbox has started in [%s] ms. The slowest steps were:%n", readyMillis));
+        slowest.stream()
+               .limit(REPORTED_ENTRIES)
+               .forEach(e -> report.append(String.format("  %8d ms (at %8d ms)  %s%n",
+                                                         e.getDurationMillis(),
+                                                         e.getOffsetMillis(),
+                                                         e.getName())));
+
+        logger.info(report.toString());
+    }
+
+    /**
+     * @return the milliseconds from the start of the JVM until the application was ready, or {@code null}, if it
+     *         isn't ready yet
+     */
+    public Long getReadyMillis()
+    {
+        return readyMillis;
+    }
+
+    /**
+     * @return the entries in the order of their start
+     */
+    public List<Entry> getEntries()
+    {
+        List<Entry> result = new ArrayList<>(entries);
+        result.sort(Comparator.comparingLong(Entry::getOffsetMillis));
+
+        return result;
+    }
+
+    public static class Entry
+    {
+
+        private final String name;
+
+        private final long offsetMillis;
+
+        private final long durationMillis;
+
+        private final String thread;
+
+        Entry(String name,
+              long offsetMillis,
+              long durationMillis)
+        {
+            this.name = name;
+            this.offsetMillis = offsetMillis;
+            this.durationMillis = durationMillis;
+            this.thread = Thread.currentThread().getName();
+        }
+
+        public String getName()
+        {
+            return name;
+        }
+
+        public long getOffsetMillis()
+        {
+            return offsetMillis;
+        }
+
+        public long getDurationMillis()
+        {
+            return durationMillis;
+        }
+
+        public String getThread()
+        {
+            return thread;
+        }
+
+    }
+
+}
@@ -0,0 +1,171 @@
+package org.carlspring.strongbox.app.boot;
+
+import org.carlspring.strongbox.configuration.ConfigurationManager;
+import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
+import org.carlspring.strongbox.providers.repository.group.GroupRepositorySetCollector;
+import org.carlspring.strongbox.services.DirectoryListingService;
+import org.carlspring.strongbox.services.support.ArtifactRoutingRulesChecker;
+import org.carlspring.strongbox.storage.repository.Repository;
+
+import javax.inject.Inject;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.carlspring.strongbox.util.ThrowingConsumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Prepares what the first requests would otherwise have to build, once the application has started:
+ * <ul>
+ *     <li>the file systems of the repositories,</li>
+ *     <li>the routing rules of the group members,</li>
+ *     <li>the directory listings of the repository roots.</li>
+ * </ul>
+ * The steps run concurrently, and their durations are recorded in the {@link StartupTimeline}. A step, which fails
+ * for a repository, is logged and the warm-up goes on. The application is reported as ready, once the warm-up has
+ * finished.
+ */
+@Component
+public class WarmUpService
+        implements DisposableBean
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(WarmUpService.class);
+
+    @Inject
+    private ConfigurationManager configurationManager;
+
+    @Inject
+    private RepositoryPathResolver repositoryPathResolver;
+
+    @Inject
+    private ArtifactRoutingRulesChecker artifactRoutingRulesChecker;
+
+    @Inject
+    private GroupRepositorySetCollector groupRepositorySetCollector;
+
+    @Inject
+    @Qualifier("browseRepositoryDirectoryListingService")
+    private DirectoryListingService directoryListingService;
+
+    @Inject
+    private StartupTimeline startupTimeline;
+
+    @Value("${strongbox.warmup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${strongbox.warmup.threads:3}")
+    private int threads;
+
+    private volatile ExecutorService executor;
+
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp()
+    {
+        if (!enabled)
+        {
+            ready = true;
+
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        List<Repository> repositories = configurationManager.getConfiguration().getRepositories();
+
+        logger.info("Warming up [{}] repositories...", repositories.size());
+
+        executor = Executors.newFixedThreadPool(Math.max(1, threads), new CustomizableThreadFactory("warm-up-"));
+
+        CompletableFuture<Void> fileSystems = runStep("warm-up:file-systems", repositories,
+                                                      repositoryPathResolver::resolve);
+        CompletableFuture<Void> routingRules = runStep("warm-up:routing-rules", repositories,
+                                                       this::compileRoutingRules);
+        // The listings are read through the file systems, so they wait for them.
+        CompletableFuture<Void> listings = fileSystems.thenCompose(
+                v -> runStep("warm-up:directory-listings", repositories, this::listRootDirectory));
+
+        CompletableFuture.allOf(routingRules, listings)
+                         .whenComplete((v, e) -> {
+                             startupTimeline.record("warm-up", start);
+                             ready = true;
+
+                             logger.info("Warmed up in [{}] ms.", System.currentTimeMillis() - start);
+
+                             executor.shutdown();
+                         });
+    }
+
+    private CompletableFuture<Void> runStep(String step,
+                                            List<Repository> repositories,
+                                            ThrowingConsumer<Repository, Exception> action)
+    {
+        return CompletableFuture.runAsync(() -> {
+            long start = System.currentTimeMillis();
+
+            for (Repository repository : repositories)
+            {
+                try
+                {
+                    action.accept(repository);
+                }
+                catch (Exception e)
+                {
+                    logger.warn("Failed to run [{}] for [{}:{}].",
+                                step, repository.getStorage().getId(), repository.getId(), e);
+                }
+            }
+
+            startupTimeline.record(step, start);
+        }, executor);
+    }
+
+    private void compileRoutingRules(Repository repository)
+    {
+        if (!repository.isGroupRepository())
+        {
+            return;
+        }
+
+        for (Repository subRepository : groupRepositorySetCollector.collect(repository))
+        {
+            artifactRoutingRulesChecker.compile(repository, subRepository);
+        }
+    }
+
+    private void listRootDirectory(Repository repository)
+            throws IOException
+    {
+        directoryListingService.fromRepositoryPath(repositoryPathResolver.resolve(repository));
+    }
+
+    /**
+     * @return whether the warm-up has finished, or has been disabled
+     */
+    public boolean isReady()
+    {
+        return ready;
+    }
+
+    @Override
+    public void destroy()
+    {
+        if (executor != null)
+        {
+            executor.shutdownNow();
+        }
+    }
+
+}
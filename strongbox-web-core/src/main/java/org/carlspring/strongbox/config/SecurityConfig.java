@@ -1,5 +1,6 @@
 package org.carlspring.strongbox.config;
 
+import org.carlspring.strongbox.actuator.ReadinessEndpoint;
 import org.carlspring.strongbox.authentication.AuthenticationConfig;
 import org.carlspring.strongbox.security.CustomAccessDeniedHandler;
 import org.carlspring.strongbox.security.authentication.Http401AuthenticationEntryPoint;
@@ -91,6 +92,8 @@ public class SecurityConfig
             .and()
             // this part of code is necessary to secure endpoints for not authorized users
             .authorizeRequests()
+            .requestMatchers(EndpointRequest.to(ReadinessEndpoint.class))
+            .permitAll()
             .requestMatchers(EndpointRequest.toAnyEndpoint())
             .hasAuthority("ADMIN")
             .and()
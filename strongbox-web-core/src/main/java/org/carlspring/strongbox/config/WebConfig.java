@@ -18,6 +18,7 @@ import org.carlspring.strongbox.interceptors.MavenArtifactRequestInterceptor;
 import org.carlspring.strongbox.jtwig.extensions.ByteSizeConversionExtension;
 import org.carlspring.strongbox.mapper.WebObjectMapperSubtypes;
 import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
+import org.carlspring.strongbox.services.DirectoryListingCache;
 import org.carlspring.strongbox.services.DirectoryListingService;
 import org.carlspring.strongbox.services.DirectoryListingServiceImpl;
 import org.carlspring.strongbox.utils.CustomAntPathMatcher;
@@ -206,17 +207,23 @@ public class WebConfig
     }
 
     private DirectoryListingService createDirectoryListingServiceForTemplate(String template)
+    {
+        return createDirectoryListingServiceForTemplate(template, null);
+    }
+
+    private DirectoryListingService createDirectoryListingServiceForTemplate(String template,
+                                                                             DirectoryListingCache directoryListingCache)
     {
         String baseUrl = StringUtils.chomp(configurationManager.getConfiguration().getBaseUrl(), "/");
         String finalUrl = String.format(template, baseUrl);
-        return new DirectoryListingServiceImpl(finalUrl);
+        return new DirectoryListingServiceImpl(finalUrl, directoryListingCache);
     }
 
     @Bean
     @Qualifier("browseRepositoryDirectoryListingService")
-    public DirectoryListingService getBrowseRepositoryDirectoryListingService()
+    public DirectoryListingService getBrowseRepositoryDirectoryListingService(DirectoryListingCache directoryListingCache)
     {
-        return createDirectoryListingServiceForTemplate("%s/api/browse");
+        return createDirectoryListingServiceForTemplate("%s/api/browse", directoryListingCache);
     }
 
     @Override
@@ -3,12 +3,15 @@ package org.carlspring.strongbox.controllers;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.services.ArtifactManagementService;
 import org.carlspring.strongbox.utils.ArtifactControllerHelper;
+import org.carlspring.strongbox.web.AsyncArtifactDownloads;
 
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.io.InputStream;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.RequestMethod;
@@ -20,6 +23,12 @@ public abstract class BaseArtifactController
     @Inject
     protected ArtifactManagementService artifactManagementService;
 
+    @Inject
+    private AsyncArtifactDownloads asyncArtifactDownloads;
+
+    @Value("${strongbox.download.async.enabled:true}")
+    private boolean asyncDownloadEnabled;
+
     protected boolean provideArtifactDownloadResponse(HttpServletRequest request,
                                                       HttpServletResponse response,
                                                       HttpHeaders httpHeaders,
@@ -37,8 +46,19 @@ public abstract class BaseArtifactController
             return true;
         }
 
-        
-        try (InputStream is = artifactResolutionService.getInputStream(repositoryPath))
+        InputStream is = artifactResolutionService.getInputStream(repositoryPath);
+        // The other ranged requests are rare enough to stay blocking.
+        if (asyncDownloadEnabled &&
+            asyncArtifactDownloads.isSupported(request, is) &&
+            (!ArtifactControllerHelper.isRangedRequest(httpHeaders) ||
+             ArtifactControllerHelper.isResumedDownloadRequest(httpHeaders)))
+        {
+            provideAsyncArtifactDownloadResponse(request, response, httpHeaders, is);
+
+            return true;
+        }
+
+        try
         {
             if (ArtifactControllerHelper.isRangedRequest(httpHeaders))
             {
@@ -51,8 +71,45 @@ public abstract class BaseArtifactController
                 copyToResponse(is, response);
             }
         }
+        finally
+        {
+            is.close();
+        }
 
         return true;
     }
 
+    private void provideAsyncArtifactDownloadResponse(HttpServletRequest request,
+                                                      HttpServletResponse response,
+                                                      HttpHeaders httpHeaders,
+                                                      InputStream is)
+            throws Exception
+    {
+        if (ArtifactControllerHelper.isRangedRequest(httpHeaders))
+        {
+            logger.debug("Detected resumed download.");
+
+            boolean satisfiable;
+            try
+            {
+                satisfiable = ArtifactControllerHelper.prepareResumedDownload(is, httpHeaders, response);
+            }
+            catch (IOException | RuntimeException e)
+            {
+                is.close();
+
+                throw e;
+            }
+
+            if (!satisfiable)
+            {
+                is.close();
+
+                return;
+            }
+        }
+
+        asyncArtifactDownloads.start(request, response, is);
+    }
+
 }
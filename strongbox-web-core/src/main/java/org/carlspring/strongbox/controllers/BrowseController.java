@@ -1,6 +1,8 @@
 package org.carlspring.strongbox.controllers;
 
+import org.carlspring.strongbox.data.criteria.Paginator.Order;
 import org.carlspring.strongbox.domain.DirectoryListing;
+import org.carlspring.strongbox.domain.DirectoryListingRequest;
 import org.carlspring.strongbox.providers.io.RepositoryFiles;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.services.DirectoryListingService;
@@ -33,6 +35,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.ui.ModelMap;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 /**
  * REST API for browsing storage/repository/filesystem structures.
@@ -146,6 +149,14 @@ public class BrowseController
                              MediaType.APPLICATION_JSON_VALUE })
     public Object repositoryContent(@RepositoryMapping Repository repository,
                                     @PathVariable("path") String rawPath,
+                                    @ApiParam(value = "The maximum number of entries to return")
+                                    @RequestParam(name = "limit", required = false) Integer limit,
+                                    @ApiParam(value = "The nextCursor of the previous page")
+                                    @RequestParam(name = "cursor", required = false) String cursor,
+                                    @ApiParam(value = "The order of the files", allowableValues = "NAME,LAST_MODIFIED,SIZE")
+                                    @RequestParam(name = "sort", required = false) DirectoryListingRequest.Sort sort,
+                                    @ApiParam(value = "The direction of the order", allowableValues = "ASC,DESC")
+                                    @RequestParam(name = "order", required = false) Order order,
                                     HttpServletRequest request,
                                     ModelMap model,
                                     @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String acceptHeader)
@@ -172,7 +183,21 @@ public class BrowseController
                 return getNotFoundResponseEntity("Requested repository doesn't allow browsing.", acceptHeader);
             }
 
-            DirectoryListing directoryListing = directoryListingService.fromRepositoryPath(repositoryPath);
+            DirectoryListingRequest listingRequest = new DirectoryListingRequest();
+            listingRequest.setLimit(limit);
+            listingRequest.setCursor(cursor);
+            listingRequest.setSort(sort);
+            listingRequest.setOrder(order);
+
+            DirectoryListing directoryListing;
+            try
+            {
+                directoryListing = directoryListingService.fromRepositoryPath(repositoryPath, listingRequest);
+            }
+            catch (IllegalArgumentException e)
+            {
+                return getBadRequestResponseEntity(e.getMessage(), acceptHeader);
+            }
 
             if (acceptHeader != null && acceptHeader.contains(MediaType.APPLICATION_JSON_VALUE))
             {
@@ -189,6 +214,14 @@ public class BrowseController
             model.addAttribute("downloadBaseUrl", downloadBaseUrl);
             model.addAttribute("directories", directoryListing.getDirectories());
             model.addAttribute("files", directoryListing.getFiles());
+            if (directoryListing.getNextCursor() != null)
+            {
+                model.addAttribute("nextPageUrl", ServletUriComponentsBuilder.fromRequest(request)
+                                                                             .replaceQueryParam("cursor",
+                                                                                                directoryListing.getNextCursor())
+                                                                             .build()
+                                                                             .toUriString());
+            }
 
             return new ModelAndView("directoryListing", model);
         }
@@ -1,8 +1,10 @@
 package org.carlspring.strongbox.controllers;
 
+import org.carlspring.strongbox.domain.TrashListing;
 import org.carlspring.strongbox.providers.io.RepositoryFiles;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.services.RepositoryManagementService;
+import org.carlspring.strongbox.services.TrashService;
 import org.carlspring.strongbox.storage.ArtifactStorageException;
 import org.carlspring.strongbox.storage.repository.Repository;
 import org.carlspring.strongbox.web.RepositoryMapping;
@@ -13,6 +15,7 @@ import java.nio.file.Files;
 
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiParam;
 import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
 import org.springframework.http.HttpHeaders;
@@ -37,9 +40,45 @@ public class TrashController
     @Inject
     private RepositoryManagementService repositoryManagementService;
 
+    @Inject
+    private TrashService trashService;
+
+    @ApiOperation(value = "Used to list the trash of a specified repository, a page at a time.")
+    @ApiResponses(value = { @ApiResponse(code = 200,
+                                         message = "The files in the trash, with the cursor of the next page."),
+                            @ApiResponse(code = 400,
+                                         message = "The limit must be positive."),
+                            @ApiResponse(code = 404,
+                                         message = "The specified (storageId/repositoryId) does not exist!") })
+    @PreAuthorize("hasAuthority('MANAGEMENT_UNDELETE_TRASH')")
+    @GetMapping(value = "{storageId}/{repositoryId}",
+                produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity list(@RepositoryMapping Repository repository,
+                               @ApiParam(value = "The prefix of the paths of the listed files")
+                               @RequestParam(name = "prefix", required = false) String prefix,
+                               @ApiParam(value = "The cursor of the page, as returned with the previous page")
+                               @RequestParam(name = "cursor", required = false) String cursor,
+                               @ApiParam(value = "The maximum number of the listed files")
+                               @RequestParam(name = "limit", defaultValue = "100") int limit,
+                               @RequestHeader(HttpHeaders.ACCEPT) String accept)
+            throws IOException
+    {
+        if (limit < 1)
+        {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                                 .body(getResponseEntityBody("The limit must be positive.", accept));
+        }
+
+        TrashListing listing = trashService.list(repository, prefix, cursor, limit);
+
+        return ResponseEntity.ok(listing);
+    }
+
     @ApiOperation(value = "Used to delete the trash for a specified repository.")
     @ApiResponses(value = { @ApiResponse(code = 200,
                                          message = "The trash for ${storageId}:${repositoryId}' was removed successfully."),
+                            @ApiResponse(code = 202,
+                                         message = "The trash for ${storageId}:${repositoryId}' is being removed."),
                             @ApiResponse(code = 400,
                                          message = "Could not delete the trash for a specified storageId/repositoryId."),
                             @ApiResponse(code = 404,
@@ -49,6 +88,8 @@ public class TrashController
                    produces = { MediaType.TEXT_PLAIN_VALUE,
                                 MediaType.APPLICATION_JSON_VALUE })
     public ResponseEntity delete(@RepositoryMapping Repository repository,
+                                 @ApiParam(value = "Whether the trash is removed in the background")
+                                 @RequestParam(name = "async", defaultValue = "false") boolean async,
                                  @RequestHeader(HttpHeaders.ACCEPT) String accept)
             throws IOException
     {
@@ -57,6 +98,15 @@ public class TrashController
 
         try
         {
+            if (async)
+            {
+                trashService.deleteTrashAsync(repository);
+
+                String message = "The trash for '" + storageId + ":" + repositoryId + "' is being removed.";
+                return ResponseEntity.status(HttpStatus.ACCEPTED)
+                                     .body(getResponseEntityBody(message, accept));
+            }
+
             repositoryManagementService.deleteTrash(storageId, repositoryId);
 
             logger.debug("Deleted trash for repository {}.", repositoryId);
@@ -161,6 +211,8 @@ public class TrashController
                 produces = { MediaType.TEXT_PLAIN_VALUE,
                              MediaType.APPLICATION_JSON_VALUE })
     public ResponseEntity undelete(@RepositoryMapping Repository repository,
+                                   @ApiParam(value = "The prefix of the paths of the restored files")
+                                   @RequestParam(name = "prefix", required = false) String prefix,
                                    @RequestHeader(HttpHeaders.ACCEPT) String accept)
             throws Exception
     {
@@ -169,6 +221,17 @@ public class TrashController
 
         try
         {
+            if (prefix != null)
+            {
+                int restored = trashService.restore(repository, prefix);
+
+                logger.debug("Undeleted {} files with prefix {} from the trash of repository {}.",
+                             restored, prefix, repositoryId);
+
+                return ResponseEntity.ok(getResponseEntityBody("Restored " + restored + " files from the trash in '" +
+                                                               storageId + ":" + repositoryId + "'.", accept));
+            }
+
             repositoryManagementService.undeleteTrash(storageId, repositoryId);
 
             logger.debug("Undeleted trash for repository {}.", repositoryId);
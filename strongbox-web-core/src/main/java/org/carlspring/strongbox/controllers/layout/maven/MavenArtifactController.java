@@ -2,23 +2,37 @@ package org.carlspring.strongbox.controllers.layout.maven;
 
 import org.carlspring.strongbox.artifact.coordinates.MavenArtifactCoordinates;
 import org.carlspring.strongbox.controllers.BaseArtifactController;
+import org.carlspring.strongbox.domain.BulkUploadResult;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.services.BulkUploadService;
+import org.carlspring.strongbox.services.BulkUploadService.BulkUpload;
 import org.carlspring.strongbox.storage.ArtifactStorageException;
 import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.storage.usage.RepositoryQuotaExceededException;
 import org.carlspring.strongbox.web.LayoutRequestMapping;
 import org.carlspring.strongbox.web.RepositoryMapping;
 
+import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
 
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
 import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
+import org.apache.commons.compress.archivers.ArchiveInputStream;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.apache.commons.compress.archivers.zip.ZipArchiveInputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -30,6 +44,9 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.multipart.MultipartHttpServletRequest;
+import org.springframework.web.util.WebUtils;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 
 /**
@@ -50,6 +67,19 @@ public class MavenArtifactController
         extends BaseArtifactController
 {
 
+    public static final String APPLICATION_ZIP_VALUE = "application/zip";
+
+    public static final String APPLICATION_TAR_VALUE = "application/x-tar";
+
+    public static final String APPLICATION_GZIP_VALUE = "application/gzip";
+
+    private static final MediaType APPLICATION_ZIP = MediaType.parseMediaType(APPLICATION_ZIP_VALUE);
+
+    private static final MediaType APPLICATION_GZIP = MediaType.parseMediaType(APPLICATION_GZIP_VALUE);
+
+    @Inject
+    private BulkUploadService bulkUploadService;
+
     @PreAuthorize("authenticated")
     @RequestMapping(value = "greet", method = RequestMethod.GET)
     public ResponseEntity greet()
@@ -83,7 +113,8 @@ public class MavenArtifactController
 
     @ApiOperation(value = "Used to deploy an artifact")
     @ApiResponses(value = { @ApiResponse(code = 200, message = "The artifact was deployed successfully."),
-                            @ApiResponse(code = 400, message = "An error occurred.") })
+                            @ApiResponse(code = 400, message = "An error occurred."),
+                            @ApiResponse(code = 507, message = "The repository quota has been exceeded.") })
     @PreAuthorize("hasAuthority('ARTIFACTS_DEPLOY')")
     @PutMapping(value = "{storageId}/{repositoryId}/{artifactPath:.+}")
     public ResponseEntity upload(@RepositoryMapping Repository repository,
@@ -100,6 +131,12 @@ public class MavenArtifactController
 
             return ResponseEntity.ok("The artifact was deployed successfully.");
         }
+        catch (RepositoryQuotaExceededException e)
+        {
+            logger.warn(e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.INSUFFICIENT_STORAGE).body(e.getMessage());
+        }
         catch (Exception e)
         {
             logger.error(e.getMessage(), e);
@@ -108,6 +145,96 @@ public class MavenArtifactController
         }
     }
 
+    @ApiOperation(value = "Used to deploy the files of a zip or tar archive, or of a multipart request, " +
+                          "whose part names are the paths of the files")
+    @ApiResponses(value = { @ApiResponse(code = 200, message = "All the files were deployed successfully."),
+                            @ApiResponse(code = 207, message = "Some of the files were deployed."),
+                            @ApiResponse(code = 400, message = "None of the files were deployed."),
+                            @ApiResponse(code = 500, message = "An error occurred."),
+                            @ApiResponse(code = 507, message = "The files would exceed the quota of the repository.") })
+    @PreAuthorize("hasAuthority('ARTIFACTS_DEPLOY')")
+    @PostMapping(value = "{storageId}/{repositoryId}",
+                 consumes = { APPLICATION_ZIP_VALUE,
+                              APPLICATION_TAR_VALUE,
+                              APPLICATION_GZIP_VALUE,
+                              MediaType.MULTIPART_FORM_DATA_VALUE },
+                 produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity bulkUpload(@RepositoryMapping Repository repository,
+                                     @ApiParam(value = "Whether nothing is deployed, unless all the files can be")
+                                     @RequestParam(name = "atomic", defaultValue = "true") boolean atomic,
+                                     HttpServletRequest request)
+    {
+        try (BulkUpload upload = bulkUploadService.newUpload(repository))
+        {
+            MultipartHttpServletRequest multipartRequest = WebUtils.getNativeRequest(request,
+                                                                                     MultipartHttpServletRequest.class);
+            if (multipartRequest != null)
+            {
+                for (Map.Entry<String, List<MultipartFile>> e : multipartRequest.getMultiFileMap().entrySet())
+                {
+                    for (MultipartFile file : e.getValue())
+                    {
+                        try (InputStream is = file.getInputStream())
+                        {
+                            upload.add(e.getKey(), is);
+                        }
+                    }
+                }
+            }
+            else
+            {
+                upload.addAll(openArchive(request));
+            }
+
+            BulkUploadResult result = upload.commit(atomic);
+            if (result.isComplete())
+            {
+                return ResponseEntity.ok(result);
+            }
+
+            HttpStatus status = result.count(BulkUploadResult.Status.STORED) > 0 ? HttpStatus.MULTI_STATUS :
+                                HttpStatus.BAD_REQUEST;
+
+            return ResponseEntity.status(status).body(result);
+        }
+        catch (RepositoryQuotaExceededException e)
+        {
+            logger.warn(e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.INSUFFICIENT_STORAGE).body(e.getMessage());
+        }
+        catch (ArtifactStorageException e)
+        {
+            logger.warn(e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+        catch (Exception e)
+        {
+            logger.error(e.getMessage(), e);
+
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
+        }
+    }
+
+    private ArchiveInputStream openArchive(HttpServletRequest request)
+            throws IOException
+    {
+        InputStream is = new BufferedInputStream(request.getInputStream());
+
+        MediaType contentType = MediaType.parseMediaType(request.getContentType());
+        if (APPLICATION_ZIP.includes(contentType))
+        {
+            return new ZipArchiveInputStream(is);
+        }
+        if (APPLICATION_GZIP.includes(contentType))
+        {
+            return new TarArchiveInputStream(new GzipCompressorInputStream(is));
+        }
+
+        return new TarArchiveInputStream(is);
+    }
+
     @ApiOperation(value = "Copies a path from one repository to another.")
     @ApiResponses(value = { @ApiResponse(code = 200, message = "The path was copied successfully."),
                             @ApiResponse(code = 400, message = "Bad request."),
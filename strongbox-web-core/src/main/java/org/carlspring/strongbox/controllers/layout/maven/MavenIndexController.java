@@ -2,7 +2,7 @@ package org.carlspring.strongbox.controllers.layout.maven;
 
 import org.carlspring.strongbox.controllers.BaseController;
 import org.carlspring.strongbox.providers.io.LayoutFileSystem;
-import org.carlspring.strongbox.providers.io.LayoutFileSystemFactory;
+import org.carlspring.strongbox.providers.io.RepositoryFileSystemRegistry;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.providers.layout.IndexingDisabledException;
 import org.carlspring.strongbox.providers.layout.MavenFileSystem;
@@ -12,7 +12,6 @@ import org.carlspring.strongbox.web.RepositoryMapping;
 import javax.inject.Inject;
 import java.io.IOException;
 
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -20,8 +19,6 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
-import static org.carlspring.strongbox.config.Maven2LayoutProviderConfig.FILE_SYSTEM_ALIAS;
-import static org.carlspring.strongbox.config.Maven2LayoutProviderConfig.FILE_SYSTEM_PROVIDER_ALIAS;
 
 /**
  * @author Kate Novik
@@ -35,8 +32,7 @@ public class MavenIndexController
 {
 
     @Inject
-    @Qualifier(FILE_SYSTEM_ALIAS)
-    private LayoutFileSystemFactory layoutFileSystemFactory;
+    private RepositoryFileSystemRegistry repositoryFileSystemRegistry;
 
     @PreAuthorize("hasAuthority('MANAGEMENT_REBUILD_INDEXES')")
     @PostMapping(value = "/{storageId}/{repositoryId}", produces = { MediaType.TEXT_PLAIN_VALUE,
@@ -45,7 +41,7 @@ public class MavenIndexController
     {
         try
         {
-            LayoutFileSystem layoutFileSystem = layoutFileSystemFactory.create(repository);
+            LayoutFileSystem layoutFileSystem = repositoryFileSystemRegistry.getFileSystem(repository);
             RepositoryPath indexPath = ((MavenFileSystem) layoutFileSystem).rebuildIndex(repository);
 
             return ResponseEntity.ok(String.format("Index was regenerated in [%s].", indexPath));
@@ -56,8 +56,10 @@ import org.carlspring.strongbox.providers.layout.NpmSearchResultSupplier;
 import org.carlspring.strongbox.providers.layout.NpmUnpublishService;
 import org.carlspring.strongbox.providers.repository.RepositoryProvider;
 import org.carlspring.strongbox.providers.repository.RepositoryProviderRegistry;
-import org.carlspring.strongbox.repository.NpmRepositoryFeatures.SearchPackagesEventListener;
+import org.carlspring.strongbox.repository.NpmRepositoryFeatures;
 import org.carlspring.strongbox.repository.NpmRepositoryFeatures.ViewPackageEventListener;
+import org.carlspring.strongbox.services.ProxyRepositorySearchService;
+import org.carlspring.strongbox.services.ProxyRepositorySearchService.SearchPage;
 import org.carlspring.strongbox.storage.repository.Repository;
 import org.carlspring.strongbox.storage.validation.artifact.ArtifactCoordinatesValidationException;
 import org.carlspring.strongbox.users.userdetails.SpringSecurityUser;
@@ -120,7 +122,10 @@ public class NpmArtifactController
     private ViewPackageEventListener viewPackageEventListener;
 
     @Inject
-    private SearchPackagesEventListener searcPackagesEventListener;
+    private NpmRepositoryFeatures npmRepositoryFeatures;
+
+    @Inject
+    private ProxyRepositorySearchService proxyRepositorySearchService;
 
     @Inject
     private NpmUnpublishService npmUnpublishService;
@@ -140,17 +145,10 @@ public class NpmArtifactController
                        HttpServletResponse response)
             throws IOException
     {
-        final String storageId = repository.getStorage().getId();
-        final String repositoryId = repository.getId();
-
         NpmSearchRequest npmSearchRequest = new NpmSearchRequest();
         npmSearchRequest.setText(text);
         npmSearchRequest.setSize(size);
 
-        searcPackagesEventListener.setNpmSearchRequest(npmSearchRequest);
-
-        RepositoryProvider provider = repositoryProviderRegistry.getProvider(repository.getType());
-
         Predicate predicate = Predicate.empty();
         predicate.and(Predicate.of(ExpOperator.EQ.of("artifactCoordinates.coordinates.extension", "tgz")));
         predicate.and(Predicate.of(ExpOperator.CONTAINS.of("tagSet.name", ArtifactTag.LAST_VERSION)));
@@ -166,17 +164,18 @@ public class NpmArtifactController
         Paginator paginator = new Paginator();
         paginator.setLimit(20);
 
-        List<Path> searchResult = provider.search(storageId, repositoryId, predicate, paginator);
+        SearchPage searchPage = proxyRepositorySearchService.searchPage(repository,
+                                                                        predicate,
+                                                                        paginator,
+                                                                        npmRepositoryFeatures.remoteSearch(npmSearchRequest));
 
         SearchResults searchResults = new SearchResults();
 
-        searchResult.stream().map(npmSearchResultSupplier).forEach(p -> {
+        searchPage.getPaths().stream().map(npmSearchResultSupplier).forEach(p -> {
             searchResults.getObjects().add(p);
         });
 
-        Long count = provider.count(storageId, repositoryId, predicate);
-
-        searchResults.setTotal(count.intValue());
+        searchResults.setTotal((int) searchPage.getTotal());
 
         //Wed Oct 31 2018 05:01:19 GMT+0000 (UTC)
         SimpleDateFormat format = new SimpleDateFormat(NpmSearchResultSupplier.SEARCH_DATE_FORMAT);
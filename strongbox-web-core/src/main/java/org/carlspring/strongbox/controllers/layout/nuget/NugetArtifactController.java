@@ -15,8 +15,9 @@ import org.carlspring.strongbox.nuget.filter.NugetODataFilterQueryParser;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.providers.repository.RepositoryProvider;
 import org.carlspring.strongbox.providers.repository.RepositoryProviderRegistry;
-import org.carlspring.strongbox.repository.NugetRepositoryFeatures.RepositorySearchEventListener;
+import org.carlspring.strongbox.repository.NugetRepositoryFeatures;
 import org.carlspring.strongbox.services.ArtifactTagService;
+import org.carlspring.strongbox.services.ProxyRepositorySearchService;
 import org.carlspring.strongbox.storage.metadata.nuget.NugetFormatException;
 import org.carlspring.strongbox.storage.metadata.nuget.Nupkg;
 import org.carlspring.strongbox.storage.metadata.nuget.Nuspec;
@@ -94,7 +95,10 @@ public class NugetArtifactController
     private RepositoryProviderRegistry repositoryProviderRegistry;
 
     @Inject
-    private RepositorySearchEventListener repositorySearchEventListener;
+    private NugetRepositoryFeatures nugetRepositoryFeatures;
+
+    @Inject
+    private ProxyRepositorySearchService proxyRepositorySearchService;
 
     @DeleteMapping(path = { "{storageId}/{repositoryId}/{packageId}/{version}" })
     @PreAuthorize("hasAuthority('ARTIFACTS_DEPLOY')")
@@ -139,12 +143,6 @@ public class NugetArtifactController
         final String repositoryId = repository.getId();
 
         String normalizedSearchTerm = normaliseSearchTerm(searchTerm);
-        
-        NugetSearchRequest nugetSearchRequest = new NugetSearchRequest();
-        nugetSearchRequest.setFilter(filter);
-        nugetSearchRequest.setSearchTerm(searchTerm);
-        nugetSearchRequest.setTargetFramework(targetFramework);
-        repositorySearchEventListener.setNugetSearchRequest(nugetSearchRequest);
 
         RepositoryProvider provider = repositoryProviderRegistry.getProvider(repository.getType());
         
@@ -176,18 +174,17 @@ public class NugetArtifactController
         nugetSearchRequest.setFilter(filter);
         nugetSearchRequest.setSearchTerm(searchTerm);
         nugetSearchRequest.setTargetFramework(targetFramework);
-        repositorySearchEventListener.setNugetSearchRequest(nugetSearchRequest);
-        
+
         String feedId = getFeedUri(((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest(),
                                    storageId,
                                    repositoryId);
 
         Collection<? extends Nupkg> files;
         files = getPackages(repository,
+                            nugetSearchRequest,
                             filter,
                             orderBy,
                             normalizedSearchTerm,
-                            targetFramework,
                             skip,
                             top);
 
@@ -286,16 +283,13 @@ public class NugetArtifactController
 
         NugetSearchRequest nugetSearchRequest = new NugetSearchRequest();
         nugetSearchRequest.setFilter(String.format("Id eq '%s'", packageId));
-        repositorySearchEventListener.setNugetSearchRequest(nugetSearchRequest);
-
-        RepositoryProvider provider = repositoryProviderRegistry.getProvider(repository.getType());
 
         Paginator paginator = new Paginator();
         paginator.setProperty("artifactCoordinates.coordinates.version");
 
         Predicate predicate = Predicate.of(ExpOperator.EQ.of("artifactCoordinates.coordinates.id", normalisedPackageId));
 
-        Collection<? extends Nupkg> files = searchNupkg(storageId, repositoryId, provider, paginator, predicate);
+        Collection<? extends Nupkg> files = searchNupkg(repository, nugetSearchRequest, paginator, predicate);
 
         String feedId = getFeedUri(((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest(),
                                    storageId,
@@ -310,18 +304,13 @@ public class NugetArtifactController
     }
 
     public Collection<? extends Nupkg> getPackages(Repository repository,
+                                                   NugetSearchRequest nugetSearchRequest,
                                                    String filter,
                                                    String orderBy,
                                                    String searchTerm,
-                                                   String targetFramework,
                                                    Integer skip,
                                                    Integer top)
     {
-        final String storageId = repository.getStorage().getId();
-        final String repositoryId = repository.getId();
-
-        RepositoryProvider provider = repositoryProviderRegistry.getProvider(repository.getType());
-
         Paginator paginator = new Paginator();
         paginator.setSkip(skip);
         paginator.setLimit(top);
@@ -329,29 +318,32 @@ public class NugetArtifactController
 
         Predicate rootPredicate = createSearchPredicate(filter, searchTerm);
 
-        return searchNupkg(storageId, repositoryId, provider, paginator, rootPredicate);
+        return searchNupkg(repository, nugetSearchRequest, paginator, rootPredicate);
     }
 
-    private List<PathNupkg> searchNupkg(String storageId,
-                                        String repositoryId,
-                                        RepositoryProvider provider,
+    private List<PathNupkg> searchNupkg(Repository repository,
+                                        NugetSearchRequest nugetSearchRequest,
                                         Paginator paginator,
                                         Predicate predicate)
     {
-        return provider.search(storageId, repositoryId, predicate, paginator)
-                       .stream()
-                       .map(p -> {
-                           try
-                           {
-                               return new PathNupkg((RepositoryPath) p);
-                           }
-                           catch (Exception e)
-                           {
-                               logger.error("Failed to resolve Nuget package path [{}]", p, e);
-                               return null;
-                           }
-                       })
-                       .collect(Collectors.toList());
+        List<Path> searchResult = proxyRepositorySearchService.search(repository,
+                                                                      predicate,
+                                                                      paginator,
+                                                                      nugetRepositoryFeatures.remoteSearch(nugetSearchRequest));
+
+        return searchResult.stream()
+                           .map(p -> {
+                               try
+                               {
+                                   return new PathNupkg((RepositoryPath) p);
+                               }
+                               catch (Exception e)
+                               {
+                                   logger.error("Failed to resolve Nuget package path [{}]", p, e);
+                                   return null;
+                               }
+                           })
+                           .collect(Collectors.toList());
     }
 
     private Predicate createSearchPredicate(String filter,
@@ -507,10 +499,13 @@ public class NugetArtifactController
         String path = String.format("%s/%s/%s", packageId, packageVersion, fileName);
 
         RepositoryPath repositoryPath = artifactResolutionService.resolvePath(storageId, repositoryId, path);
-        if (provideArtifactDownloadResponse(request, response, httpHeaders, repositoryPath))
+        // The headers have to be set before the download, which can be completed asynchronously.
+        if (repositoryPath != null && Files.exists(repositoryPath))
         {
             response.setHeader("Content-Disposition", String.format("attachment; filename=\"%s\"", fileName));
         }
+
+        provideArtifactDownloadResponse(request, response, httpHeaders, repositoryPath);
     }
 
 
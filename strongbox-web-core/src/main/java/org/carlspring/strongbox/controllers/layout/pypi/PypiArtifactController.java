@@ -2,13 +2,9 @@ package org.carlspring.strongbox.controllers.layout.pypi;
 
 import org.carlspring.strongbox.artifact.coordinates.PypiArtifactCoordinates;
 import org.carlspring.strongbox.controllers.BaseArtifactController;
-import org.carlspring.strongbox.data.criteria.Expression.ExpOperator;
-import org.carlspring.strongbox.data.criteria.Paginator;
-import org.carlspring.strongbox.data.criteria.Predicate;
+import org.carlspring.strongbox.controllers.layout.pypi.PypiSimpleIndexCache.SimpleIndexDocument;
 import org.carlspring.strongbox.providers.ProviderImplementationException;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
-import org.carlspring.strongbox.providers.repository.RepositoryProvider;
-import org.carlspring.strongbox.providers.repository.RepositoryProviderRegistry;
 import org.carlspring.strongbox.storage.metadata.pypi.PypiArtifactMetadata;
 import org.carlspring.strongbox.storage.repository.Repository;
 import org.carlspring.strongbox.storage.validation.artifact.ArtifactCoordinatesValidationException;
@@ -24,9 +20,7 @@ import javax.ws.rs.core.MediaType;
 import java.io.IOException;
 import java.net.HttpURLConnection;
 import java.net.URI;
-import java.nio.file.Path;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -66,10 +60,7 @@ public class PypiArtifactController extends BaseArtifactController
     private static final Set<String> VALID_FILE_TYPES = Sets.newHashSet("sdist", "bdist_wheel");
 
     @Inject
-    private RepositoryProviderRegistry repositoryProviderRegistry;
-
-    @Inject
-    private PypiBrowsePackageHtmlResponseBuilder htmlResponseBuilder;
+    private PypiSimpleIndexCache simpleIndexCache;
 
     @ApiOperation(value = "This end point will be used to upload/deploy python package.")
     @ApiResponses(value = { @ApiResponse(code = HttpURLConnection.HTTP_OK, message = "python package was deployed successfully."),
@@ -221,6 +212,7 @@ public class PypiArtifactController extends BaseArtifactController
 
     @ApiOperation(value = "This Endpoint will be used to retreive all the versions of packages present in artifactory.")
     @ApiResponses(value = { @ApiResponse(code = HttpURLConnection.HTTP_OK, message = "Success"),
+                            @ApiResponse(code = HttpURLConnection.HTTP_NOT_MODIFIED, message = "Not Modified"),
                             @ApiResponse(code = HttpURLConnection.HTTP_NOT_FOUND, message = "Request Url Not Found"),
                             @ApiResponse(code = HttpURLConnection.HTTP_INTERNAL_ERROR, message = "An error occurred while executing download request."),
                             @ApiResponse(code = HttpURLConnection.HTTP_UNAVAILABLE, message = "Service Unavailable.") })
@@ -240,20 +232,35 @@ public class PypiArtifactController extends BaseArtifactController
                     repository.getStorage().getId(),
                     repository.getId(), packageNameToDownload);
 
-        RepositoryProvider repositoryProvider = repositoryProviderRegistry.getProvider(repository.getType());
+        return toResponse(simpleIndexCache.getPackageIndex(repository, packageNameToDownload));
+    }
 
-        Predicate predicate = Predicate.empty();
-        predicate.and(Predicate.of(ExpOperator.EQ.of("artifactCoordinates.coordinates.packaging",
-                                                     PypiArtifactCoordinates.WHEEL_EXTENSION)));
-        predicate.and(Predicate.of(ExpOperator.EQ.of("artifactCoordinates.coordinates.distribution",
-                                                     packageNameToDownload)));
+    @ApiOperation(value = "This Endpoint will be used to retreive all the packages present in artifactory.")
+    @ApiResponses(value = { @ApiResponse(code = HttpURLConnection.HTTP_OK, message = "Success"),
+                            @ApiResponse(code = HttpURLConnection.HTTP_NOT_MODIFIED, message = "Not Modified"),
+                            @ApiResponse(code = HttpURLConnection.HTTP_NOT_FOUND, message = "Request Url Not Found"),
+                            @ApiResponse(code = HttpURLConnection.HTTP_INTERNAL_ERROR, message = "An error occurred while executing download request."),
+                            @ApiResponse(code = HttpURLConnection.HTTP_UNAVAILABLE, message = "Service Unavailable.") })
+    @PreAuthorize("hasAuthority('ARTIFACTS_RESOLVE')")
+    @RequestMapping(path = "/{storageId}/{repositoryId}/simple", method = RequestMethod.GET, produces = MediaType.TEXT_HTML)
+    public ResponseEntity<String> browsePackages(@RepositoryMapping Repository repository)
+    {
+        logger.info("Get packages request for storageId -> [{}] , repositoryId -> [{}]",
+                    repository.getStorage().getId(),
+                    repository.getId());
 
-        Paginator paginator = new Paginator();
-        List<Path> searchResult = repositoryProvider.search(repository.getStorage().getId(), repository.getId(),
-                                                            predicate, paginator);
+        return toResponse(simpleIndexCache.getRootIndex(repository));
+    }
 
-        String searchPackageHtmlResponse = htmlResponseBuilder.getHtmlResponse(searchResult);
-        return ResponseEntity.status(HttpStatus.OK).body(searchPackageHtmlResponse);
+    /**
+     * The ETag and the Last-Modified headers let Spring answer the conditional requests with a 304.
+     */
+    private ResponseEntity<String> toResponse(SimpleIndexDocument document)
+    {
+        return ResponseEntity.status(HttpStatus.OK)
+                             .eTag(document.getEtag())
+                             .lastModified(document.getLastModified())
+                             .body(document.getHtml());
     }
 
     private ResponseEntity<String> validateAndUploadPackage(PypiArtifactMetadata pypiArtifactMetadata,
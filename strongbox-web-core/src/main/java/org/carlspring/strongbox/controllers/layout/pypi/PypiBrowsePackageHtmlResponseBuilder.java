@@ -7,10 +7,12 @@ import org.carlspring.strongbox.storage.repository.Repository;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
 
@@ -26,56 +28,90 @@ public class PypiBrowsePackageHtmlResponseBuilder
     public String getHtmlResponse(List<Path> filePaths)
         throws IOException
     {
-
-        String htmlResponse = "";
         if (CollectionUtils.isEmpty(filePaths))
         {
-            htmlResponse = "<html>\n" +
-                           "        <head>\n" +
-                           "            <title>Not Found</title>\n" +
-                           "        </head>\n" +
-                           "        <body>\n" +
-                           "            <h1>Not Found</h1>\n" +
-                           "        </body>\n" +
-                           "</html>";
+            return getHtmlResponse(null, Collections.emptyMap());
         }
-        else
+
+        PypiArtifactCoordinates artifactCoordinates = (PypiArtifactCoordinates) RepositoryFiles.readCoordinates((RepositoryPath) filePaths.get(0));
+        final String packageName = artifactCoordinates.getId();
+
+        Map<String, String> packageLinks = new LinkedHashMap<>();
+        for (Path path : filePaths)
         {
+            RepositoryPath repositoryPath = (RepositoryPath) path;
+            PypiArtifactCoordinates coordinates = (PypiArtifactCoordinates) RepositoryFiles.readCoordinates(repositoryPath);
 
-            PypiArtifactCoordinates artifactCoordinates = (PypiArtifactCoordinates) RepositoryFiles.readCoordinates((RepositoryPath) filePaths.get(0));
-            final String packageName = artifactCoordinates.getId();
-
-            htmlResponse = "<html>\n" +
-                           "        <head>\n" +
-                           "            <title>Links for " + packageName + "</title>\n" +
-                           "        </head>\n" +
-                           "        <body>\n" +
-                           "            <h1>Links for " + packageName + "</h1>\n" +
-                           "                   " + getPackageLinks(filePaths) +
-                           "        </body>\n" +
-                           "</html>";
+            Repository repository = repositoryPath.getRepository();
+            String fileName = coordinates.buildWheelPackageFileName();
+            packageLinks.put(fileName,
+                             "/storages/" + repository.getStorage().getId() + "/" + repository.getId() +
+                             "/packages/" + fileName);
         }
-        return htmlResponse;
+
+        return getHtmlResponse(packageName, packageLinks);
     }
 
-    private String getPackageLinks(List<Path> filePaths)
-        throws IOException
+    /**
+     * @param packageLinks the links of the package files, keyed by their file names
+     */
+    public String getHtmlResponse(String packageName,
+                                  Map<String, String> packageLinks)
     {
+        if (CollectionUtils.isEmpty(packageLinks))
+        {
+            return "<html>\n" +
+                   "        <head>\n" +
+                   "            <title>Not Found</title>\n" +
+                   "        </head>\n" +
+                   "        <body>\n" +
+                   "            <h1>Not Found</h1>\n" +
+                   "        </body>\n" +
+                   "</html>";
+        }
 
-        String packageLinks = "";
+        return "<html>\n" +
+               "        <head>\n" +
+               "            <title>Links for " + packageName + "</title>\n" +
+               "        </head>\n" +
+               "        <body>\n" +
+               "            <h1>Links for " + packageName + "</h1>\n" +
+               "                   " + getLinks(packageLinks) +
+               "        </body>\n" +
+               "</html>";
+    }
 
-        for (Path path : filePaths)
+    public String getRootHtmlResponse(String storageId,
+                                      String repositoryId,
+                                      Collection<String> packageNames)
+    {
+        Map<String, String> packageLinks = new LinkedHashMap<>();
+        for (String packageName : packageNames)
         {
-            RepositoryPath repositoryPath = (RepositoryPath) path;
-            PypiArtifactCoordinates artifactCoordinates = (PypiArtifactCoordinates) RepositoryFiles.readCoordinates(repositoryPath);
-
-            Repository repository = repositoryPath.getRepository();
-            packageLinks += "<a href=\"" + "/storages/" + repository.getStorage().getId() + "/" + repository.getId() +
-                            "/packages/" + artifactCoordinates.buildWheelPackageFileName() + "\">" +
-                            artifactCoordinates.buildWheelPackageFileName() + "</a><br>\n";
+            packageLinks.put(packageName,
+                             "/storages/" + storageId + "/" + repositoryId + "/simple/" + packageName + "/");
         }
 
-        return packageLinks;
+        return "<html>\n" +
+               "        <head>\n" +
+               "            <title>Simple Index</title>\n" +
+               "        </head>\n" +
+               "        <body>\n" +
+               "                   " + getLinks(packageLinks) +
+               "        </body>\n" +
+               "</html>";
+    }
+
+    private String getLinks(Map<String, String> links)
+    {
+        StringBuilder result = new StringBuilder();
+        links.forEach((name, href) -> result.append("<a href=\"")
+                                            .append(href)
+                                            .append("\">")
+                                            .append(name)
+                                            .append("</a><br>\n"));
+
+        return result.toString();
     }
 
 }
@@ -0,0 +1,399 @@
+package org.carlspring.strongbox.controllers.layout.pypi;
+
+import org.carlspring.strongbox.artifact.coordinates.PypiArtifactCoordinates;
+import org.carlspring.strongbox.configuration.ConfigurationManager;
+import org.carlspring.strongbox.data.criteria.Expression.ExpOperator;
+import org.carlspring.strongbox.data.criteria.Paginator;
+import org.carlspring.strongbox.data.criteria.Predicate;
+import org.carlspring.strongbox.event.artifact.ArtifactEvent;
+import org.carlspring.strongbox.event.artifact.ArtifactEventTypeEnum;
+import org.carlspring.strongbox.event.repository.RepositoryEvent;
+import org.carlspring.strongbox.event.repository.RepositoryEventTypeEnum;
+import org.carlspring.strongbox.providers.io.RepositoryFiles;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.layout.PypiLayoutProvider;
+import org.carlspring.strongbox.providers.repository.RepositoryProvider;
+import org.carlspring.strongbox.providers.repository.RepositoryProviderRegistry;
+import org.carlspring.strongbox.services.ConfigurationManagementService;
+import org.carlspring.strongbox.storage.repository.Repository;
+
+import javax.annotation.PostConstruct;
+import javax.inject.Inject;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Keeps the PyPI simple index documents of the repositories, so that pip doesn't search the repository for every
+ * package it resolves.
+ * <p>
+ * A document is loaded with a search the first time it is requested, and is kept until it expires, or until a wheel
+ * of its package is stored, fetched from a remote repository or deleted. The documents of the groups containing the
+ * repository are dropped as well. The events are handled once their transaction has been committed, so that the
+ * next search finds the {@link org.carlspring.strongbox.domain.ArtifactEntry} of the wheel.
+ * <p>
+ * The documents of the packages which have no wheels aren't kept, as any package name can be requested.
+ */
+@Component
+public class PypiSimpleIndexCache
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(PypiSimpleIndexCache.class);
+
+    /**
+     * The number of invalidations so far, to tell whether a document has been loaded before one of them.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    @Inject
+    private ConfigurationManager configurationManager;
+
+    @Inject
+    private RepositoryProviderRegistry repositoryProviderRegistry;
+
+    @Inject
+    private ConfigurationManagementService configurationManagementService;
+
+    @Inject
+    private PypiBrowsePackageHtmlResponseBuilder htmlResponseBuilder;
+
+    @Value("${strongbox.pypi.simpleIndex.cache.maxEntries:10000}")
+    private long maxEntries;
+
+    @Value("${strongbox.pypi.simpleIndex.cache.expireSeconds:600}")
+    private long expireSeconds;
+
+    /**
+     * storageId:repositoryId for the root index, storageId:repositoryId/packageName for a package index -> document
+     */
+    private Cache<String, SimpleIndexDocument> documents;
+
+    @PostConstruct
+    public void init()
+    {
+        documents = CacheBuilder.newBuilder()
+                                .maximumSize(maxEntries)
+                                .expireAfterWrite(expireSeconds, TimeUnit.SECONDS)
+                                .build();
+
+        // The members of the groups may have changed.
+        configurationManagementService.addConfigurationChangeListener((configuration, version) -> invalidateAll());
+    }
+
+    public SimpleIndexDocument getPackageIndex(Repository repository,
+                                               String packageName)
+    {
+        String key = getKey(repository) + "/" + packageName;
+
+        SimpleIndexDocument document = documents.getIfPresent(key);
+        if (document != null)
+        {
+            return document;
+        }
+
+        long generation = this.generation.get();
+
+        SortedMap<String, String> links = loadPackageLinks(repository, packageName);
+        document = new SimpleIndexDocument(htmlResponseBuilder.getHtmlResponse(packageName, links));
+        if (!links.isEmpty())
+        {
+            put(key, document, generation);
+        }
+
+        return document;
+    }
+
+    public SimpleIndexDocument getRootIndex(Repository repository)
+    {
+        String key = getKey(repository);
+
+        SimpleIndexDocument document = documents.getIfPresent(key);
+        if (document != null)
+        {
+            return document;
+        }
+
+        long generation = this.generation.get();
+
+        SortedSet<String> packageNames = loadPackageNames(repository);
+        document = new SimpleIndexDocument(htmlResponseBuilder.getRootHtmlResponse(repository.getStorage().getId(),
+                                                                                   repository.getId(),
+                                                                                   packageNames));
+        put(key, document, generation);
+
+        return document;
+    }
+
+    private void put(String key,
+                     SimpleIndexDocument document,
+                     long generation)
+    {
+        documents.put(key, document);
+
+        // The document may have been loaded before an invalidation which it has missed.
+        if (this.generation.get() != generation)
+        {
+            documents.asMap().remove(key, document);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handle(ArtifactEvent<RepositoryPath> event)
+    {
+        boolean stored = event.getType() == ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_STORED.getType() ||
+                         event.getType() == ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_FETCHED_FROM_REMOTE.getType();
+        boolean deleted = event.getType() == ArtifactEventTypeEnum.EVENT_ARTIFACT_PATH_DELETED.getType();
+        if (!stored && !deleted)
+        {
+            return;
+        }
+
+        RepositoryPath repositoryPath = event.getPath();
+        Repository repository = repositoryPath.getRepository();
+        if (!PypiLayoutProvider.ALIAS.equals(repository.getLayout()) || isTrash(repositoryPath))
+        {
+            return;
+        }
+
+        String fileName = repositoryPath.getFileName() != null ? repositoryPath.getFileName().toString() : "";
+        if (!fileName.endsWith("." + PypiArtifactCoordinates.WHEEL_EXTENSION))
+        {
+            // A deleted directory may have contained the wheels of any package.
+            if (deleted)
+            {
+                invalidate(withGroupsContaining(repository), null);
+            }
+
+            return;
+        }
+
+        String packageName;
+        try
+        {
+            packageName = PypiArtifactCoordinates.parse(fileName).getId();
+        }
+        catch (IllegalArgumentException e)
+        {
+            logger.debug("Skip the simple index update for [{}].", repositoryPath, e);
+
+            return;
+        }
+
+        invalidate(withGroupsContaining(repository), packageName);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handle(RepositoryEvent event)
+    {
+        int type = event.getType();
+        if (type == RepositoryEventTypeEnum.EVENT_REPOSITORY_REMOTE_AVAILABLE.getType() ||
+            type == RepositoryEventTypeEnum.EVENT_REPOSITORY_REMOTE_UNAVAILABLE.getType())
+        {
+            return;
+        }
+
+        // The groups may contain the repository, or may have been the repository itself.
+        invalidateAll();
+    }
+
+    /**
+     * Drops the root indexes of the repositories, and either the index of the package, or all the package indexes,
+     * if the package isn't known.
+     */
+    private void invalidate(Set<String> repositoryKeys,
+                            String packageName)
+    {
+        generation.incrementAndGet();
+
+        for (String repositoryKey : repositoryKeys)
+        {
+            if (packageName != null)
+            {
+                documents.invalidate(repositoryKey);
+                documents.invalidate(repositoryKey + "/" + packageName);
+            }
+            else
+            {
+                documents.asMap()
+                         .keySet()
+                         .removeIf(k -> k.equals(repositoryKey) || k.startsWith(repositoryKey + "/"));
+            }
+        }
+    }
+
+    private void invalidateAll()
+    {
+        generation.incrementAndGet();
+        documents.invalidateAll();
+    }
+
+    private SortedMap<String, String> loadPackageLinks(Repository repository,
+                                                       String packageName)
+    {
+        logger.debug("Load the simple index of [{}] in [{}:{}].",
+                     packageName, repository.getStorage().getId(), repository.getId());
+
+        Predicate predicate = Predicate.empty();
+        predicate.and(Predicate.of(ExpOperator.EQ.of("artifactCoordinates.coordinates.packaging",
+                                                     PypiArtifactCoordinates.WHEEL_EXTENSION)));
+        predicate.and(Predicate.of(ExpOperator.EQ.of("artifactCoordinates.coordinates.distribution",
+                                                     packageName)));
+
+        SortedMap<String, String> links = new TreeMap<>();
+        for (Path path : search(repository, predicate))
+        {
+            String fileName = path.getFileName().toString();
+            // The first member of a group which provides the package wins.
+            links.putIfAbsent(fileName, getPackageLink(((RepositoryPath) path).getRepository(), fileName));
+        }
+
+        return links;
+    }
+
+    private SortedSet<String> loadPackageNames(Repository repository)
+    {
+        logger.debug("Load the simple index of [{}:{}].", repository.getStorage().getId(), repository.getId());
+
+        Predicate predicate = Predicate.empty();
+        predicate.and(Predicate.of(ExpOperator.EQ.of("artifactCoordinates.coordinates.packaging",
+                                                     PypiArtifactCoordinates.WHEEL_EXTENSION)));
+
+        SortedSet<String> packageNames = new TreeSet<>();
+        for (Path path : search(repository, predicate))
+        {
+            try
+            {
+                packageNames.add(PypiArtifactCoordinates.parse(path.getFileName().toString()).getId());
+            }
+            catch (IllegalArgumentException e)
+            {
+                logger.debug("Skip [{}] in the simple index.", path, e);
+            }
+        }
+
+        return packageNames;
+    }
+
+    private List<Path> search(Repository repository,
+                              Predicate predicate)
+    {
+        RepositoryProvider repositoryProvider = repositoryProviderRegistry.getProvider(repository.getType());
+
+        List<Path> result = new ArrayList<>();
+        List<Path> page;
+        do
+        {
+            Paginator paginator = new Paginator();
+            paginator.setSkip(result.size());
+            paginator.setLimit(Paginator.MAX_LIMIT);
+
+            page = repositoryProvider.search(repository.getStorage().getId(), repository.getId(), predicate,
+                                             paginator);
+            result.addAll(page);
+        }
+        while (page.size() >= Paginator.MAX_LIMIT);
+
+        return result;
+    }
+
+    private Set<String> withGroupsContaining(Repository repository)
+    {
+        Set<String> result = new HashSet<>();
+        collectGroupsContaining(repository, result);
+
+        return result;
+    }
+
+    private void collectGroupsContaining(Repository repository,
+                                         Set<String> result)
+    {
+        if (!result.add(getKey(repository)))
+        {
+            return;
+        }
+
+        configurationManager.getConfiguration()
+                            .getGroupRepositoriesContaining(repository.getStorage().getId(), repository.getId())
+                            .forEach(r -> collectGroupsContaining(r, result));
+    }
+
+    private String getPackageLink(Repository repository,
+                                  String fileName)
+    {
+        return "/storages/" + repository.getStorage().getId() + "/" + repository.getId() + "/packages/" + fileName;
+    }
+
+    private boolean isTrash(RepositoryPath repositoryPath)
+    {
+        try
+        {
+            return RepositoryFiles.isTrash(repositoryPath);
+        }
+        catch (IOException e)
+        {
+            return false;
+        }
+    }
+
+    private static String getKey(Repository repository)
+    {
+        return repository.getStorage().getId() + ":" + repository.getId();
+    }
+
+    /**
+     * A rendered simple index document, with the validators of the conditional requests.
+     */
+    public static class SimpleIndexDocument
+    {
+
+        private final String html;
+
+        private final String etag;
+
+        private final long lastModified;
+
+        SimpleIndexDocument(String html)
+        {
+            this.html = html;
+            this.etag = "\"" + DigestUtils.md5DigestAsHex(html.getBytes(StandardCharsets.UTF_8)) + "\"";
+            // The HTTP dates have a precision of seconds.
+            this.lastModified = System.currentTimeMillis() / 1000 * 1000;
+        }
+
+        public String getHtml()
+        {
+            return html;
+        }
+
+        public String getEtag()
+        {
+            return etag;
+        }
+
+        public long getLastModified()
+        {
+            return lastModified;
+        }
+
+    }
+
+}
@@ -0,0 +1,86 @@
+package org.carlspring.strongbox.controllers.logging;
+
+import java.util.regex.Pattern;
+
+import org.slf4j.event.Level;
+
+/**
+ * A line of the log file, with the level and the logger of the record it belongs to.
+ * <br>
+ * The lines are expected in the {@code time | level | thread | logger | message} pattern of {@code logback-spring.xml}.
+ * The lines, which don't start a record, such as the lines of a stack trace, belong to the previous record.
+ */
+class LogLine
+{
+
+    private static final Pattern SEPARATOR = Pattern.compile(" \\| ");
+
+    private final String text;
+
+    private final Level level;
+
+    private final String loggerName;
+
+    LogLine(String text,
+            Level level,
+            String loggerName)
+    {
+        this.text = text;
+        this.level = level;
+        this.loggerName = loggerName;
+    }
+
+    /**
+     * @param previous the previous line of the file, or {@code null}
+     */
+    static LogLine parse(String text,
+                         LogLine previous)
+    {
+        String[] fields = SEPARATOR.split(text, 5);
+        if (fields.length == 5)
+        {
+            Level level = parseLevel(fields[1].trim());
+            if (level != null)
+            {
+                return new LogLine(text, level, fields[3].trim());
+            }
+        }
+
+        return previous != null ? new LogLine(text, previous.level, previous.loggerName) : new LogLine(text, null, null);
+    }
+
+    private static Level parseLevel(String name)
+    {
+        for (Level level : Level.values())
+        {
+            if (level.name().equals(name))
+            {
+                return level;
+            }
+        }
+
+        return null;
+    }
+
+    String getText()
+    {
+        return text;
+    }
+
+    /**
+     * @return the level, or {@code null}, if it's unknown
+     */
+    Level getLevel()
+    {
+        return level;
+    }
+
+    /**
+     * @return the logger name, as it's abbreviated in the log file, or {@code null}, if it's unknown
+     */
+    String getLoggerName()
+    {
+        return loggerName;
+    }
+
+}
@@ -0,0 +1,63 @@
+package org.carlspring.strongbox.controllers.logging;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import org.slf4j.event.Level;
+
+/**
+ * Selects the lines, which are streamed to a subscriber. All the criteria are optional.
+ */
+public class LogStreamFilter
+{
+
+    public static final LogStreamFilter ALL = new LogStreamFilter(null, null, null);
+
+    private final Level level;
+
+    private final String loggerPrefix;
+
+    private final Pattern pattern;
+
+    /**
+     * @param level        the least severe level of the streamed lines
+     * @param loggerPrefix the prefix of the logger names, as they are abbreviated in the log file
+     * @param pattern      the pattern, which is found in the streamed lines
+     */
+    public LogStreamFilter(Level level,
+                           String loggerPrefix,
+                           Pattern pattern)
+    {
+        this.level = level;
+        this.loggerPrefix = loggerPrefix;
+        this.pattern = pattern;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the level or the regex are invalid
+     */
+    public static LogStreamFilter of(String level,
+                                     String loggerPrefix,
+                                     String regex)
+    {
+        return new LogStreamFilter(level != null ? Level.valueOf(level.toUpperCase(Locale.ENGLISH)) : null,
+                                   loggerPrefix,
+                                   regex != null ? Pattern.compile(regex) : null);
+    }
+
+    boolean accept(LogLine line)
+    {
+        // The more severe levels have the greater values.
+        if (level != null && (line.getLevel() == null || line.getLevel().toInt() < level.toInt()))
+        {
+            return false;
+        }
+        if (loggerPrefix != null && (line.getLoggerName() == null || !line.getLoggerName().startsWith(loggerPrefix)))
+        {
+            return false;
+        }
+
+        return pattern == null || pattern.matcher(line.getText()).find();
+    }
+
+}
@@ -0,0 +1,184 @@
+package org.carlspring.strongbox.controllers.logging;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.input.Tailer;
+import org.apache.commons.io.input.TailerListenerAdapter;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tails each log file once, no matter how many subscribers are streaming it. The tailer of a file is started with its
+ * first subscriber, and stopped with its last one.
+ */
+@Component
+public class LogStreamManager
+        implements InitializingBean, DisposableBean
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(LogStreamManager.class);
+
+    private final Map<File, LogFileTailer> tailers = new HashMap<>();
+
+    @Value("${strongbox.sse.logs.delayMillis:1000}")
+    private long delayMillis;
+
+    /**
+     * The number of threads, which send the lines to the subscribers.
+     */
+    @Value("${strongbox.sse.logs.senderThreads:2}")
+    private int senderThreads;
+
+    private ExecutorService tailerExecutor;
+
+    private ThreadPoolExecutor senderExecutor;
+
+    @Override
+    public void afterPropertiesSet()
+    {
+        tailerExecutor = Executors.newCachedThreadPool(new CustomizableThreadFactory("log-tailer-"));
+
+        senderExecutor = new ThreadPoolExecutor(senderThreads,
+                                                senderThreads,
+                                                60L,
+                                                TimeUnit.SECONDS,
+                                                new LinkedBlockingQueue<>(),
+                                                new CustomizableThreadFactory("log-stream-"));
+        senderExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    public synchronized void destroy()
+    {
+        tailers.values().forEach(LogFileTailer::stop);
+        tailers.clear();
+
+        tailerExecutor.shutdownNow();
+        senderExecutor.shutdownNow();
+    }
+
+    public synchronized void subscribe(File file,
+                                       LogStreamSubscriber subscriber,
+                                       LogStreamFilter filter)
+    {
+        File key = file.getAbsoluteFile();
+
+        LogFileTailer tailer = tailers.get(key);
+        if (tailer == null)
+        {
+            tailer = new LogFileTailer(key);
+            tailers.put(key, tailer);
+        }
+
+        LogFileTailer subscribedTailer = tailer;
+        subscriber.subscribe(filter, senderExecutor, () -> unsubscribe(key, subscribedTailer, subscriber));
+        tailer.subscribers.add(subscriber);
+
+        logger.debug("Subscribed to [{}], which has [{}] subscribers.", key, tailer.subscribers.size());
+    }
+
+    public synchronized int getSubscriberCount(File file)
+    {
+        LogFileTailer tailer = tailers.get(file.getAbsoluteFile());
+
+        return tailer != null ? tailer.subscribers.size() : 0;
+    }
+
+    synchronized int getTailerCount()
+    {
+        return tailers.size();
+    }
+
+    private synchronized void unsubscribe(File file,
+                                          LogFileTailer tailer,
+                                          LogStreamSubscriber subscriber)
+    {
+        tailer.subscribers.remove(subscriber);
+        if (tailer.subscribers.isEmpty() && tailers.get(file) == tailer)
+        {
+            tailers.remove(file);
+            tailer.stop();
+
+            logger.debug("Stopped tailing [{}], which has no subscribers.", file);
+        }
+    }
+
+    private class LogFileTailer
+            extends TailerListenerAdapter
+    {
+
+        private final Set<LogStreamSubscriber> subscribers = new CopyOnWriteArraySet<>();
+
+        private final Tailer tailer;
+
+        /**
+         * The last line, whose record the continuation lines belong to. It's only accessed by the tailer thread.
+         */
+        private LogLine previous;
+
+        LogFileTailer(File file)
+        {
+            tailer = new Tailer(file, this, delayMillis, true);
+            tailerExecutor.execute(tailer);
+        }
+
+        /**
+         * The line is only parsed here. The subscribers filter it on the sender threads.
+         */
+        @Override
+        public void handle(String line)
+        {
+            previous = LogLine.parse(line, previous);
+
+            subscribers.forEach(s -> s.handle(previous));
+        }
+
+        @Override
+        public void fileRotated()
+        {
+            logger.info("File rotated");
+
+            previous = null;
+            subscribers.forEach(LogStreamSubscriber::fileRotated);
+        }
+
+        @Override
+        public void fileNotFound()
+        {
+            fail("File not found");
+        }
+
+        @Override
+        public void handle(Exception ex)
+        {
+            fail(String.format("Exception occurred [%s]", ExceptionUtils.getStackTrace(ex)));
+        }
+
+        private void fail(String message)
+        {
+            subscribers.forEach(s -> s.fail(message));
+        }
+
+        void stop()
+        {
+            tailer.stop();
+        }
+
+    }
+
+}
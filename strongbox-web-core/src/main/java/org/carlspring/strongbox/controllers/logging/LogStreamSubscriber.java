@@ -0,0 +1,226 @@
+package org.carlspring.strongbox.controllers.logging;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Sends the lines of a shared log file tailer to a single {@link SseEmitter}.
+ * <br>
+ * The lines are buffered in a bounded queue, which is drained by a sender thread, so that a slow subscriber never
+ * blocks the tailer. The lines are filtered by the sender thread too, so that an expensive filter doesn't delay the
+ * other subscribers of the file. The subscriber, whose buffer fills up, is dropped.
+ */
+public class LogStreamSubscriber
+{
+
+    public static final int DEFAULT_BUFFER_SIZE = 1000;
+
+    private static final Logger logger = LoggerFactory.getLogger(LogStreamSubscriber.class);
+
+    protected final SseEmitter sseEmitter;
+
+    private final BlockingQueue<Event> buffer;
+
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private LogStreamFilter filter = LogStreamFilter.ALL;
+
+    private Executor executor;
+
+    private Runnable onClose;
+
+    public LogStreamSubscriber(SseEmitter sseEmitter)
+    {
+        this(sseEmitter, DEFAULT_BUFFER_SIZE);
+    }
+
+    public LogStreamSubscriber(SseEmitter sseEmitter,
+                               int bufferSize)
+    {
+        Objects.requireNonNull(sseEmitter, "sseEmitter cannot be null");
+        this.sseEmitter = sseEmitter;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+    }
+
+    void subscribe(LogStreamFilter filter,
+                   Executor executor,
+                   Runnable onClose)
+    {
+        this.filter = filter;
+        this.executor = executor;
+        this.onClose = onClose;
+
+        sseEmitter.onCompletion(this::close);
+        sseEmitter.onTimeout(this::close);
+    }
+
+    void handle(LogLine line)
+    {
+        enqueue(new Event("stream", line, line.getText()));
+    }
+
+    void fileRotated()
+    {
+        enqueue(new Event("rotate", null, null));
+    }
+
+    void fail(String message)
+    {
+        if (!closed.get())
+        {
+            logger.error(message);
+
+            try
+            {
+                sseEmitter.send(SseEmitter.event().name("error").data(message));
+                sseEmitter.completeWithError(new IllegalStateException(message));
+            }
+            catch (Exception e)
+            {
+                // The emitter has already been completed.
+            }
+
+            close();
+        }
+    }
+
+    /**
+     * Sends an event to the emitter. It's only called by one sender thread at a time.
+     */
+    protected void send(String eventName,
+                        String eventData)
+            throws IOException
+    {
+        sseEmitter.send(SseEmitter.event().name(eventName).data(eventData));
+    }
+
+    private void enqueue(Event event)
+    {
+        if (closed.get())
+        {
+            return;
+        }
+
+        if (!buffer.offer(event))
+        {
+            logger.warn("Dropping a log stream subscriber, which has fallen [{}] lines behind.", buffer.size());
+
+            close();
+            complete();
+
+            return;
+        }
+
+        schedule();
+    }
+
+    private void schedule()
+    {
+        if (!scheduled.compareAndSet(false, true))
+        {
+            return;
+        }
+
+        try
+        {
+            executor.execute(this::drain);
+        }
+        catch (RejectedExecutionException e)
+        {
+            close();
+        }
+    }
+
+    private void drain()
+    {
+        try
+        {
+            Event event;
+            while (!closed.get() && (event = buffer.poll()) != null)
+            {
+                if (event.line == null || filter.accept(event.line))
+                {
+                    send(event.name, event.data);
+                }
+            }
+        }
+        catch (Exception e)
+        {
+            // The client has gone away, or the emitter has been completed.
+            logger.debug("Closing the log stream subscriber: {}", e.getMessage());
+
+            close();
+            complete();
+        }
+        finally
+        {
+            scheduled.set(false);
+        }
+
+        // A line may have been enqueued after the buffer has been found empty.
+        if (!closed.get() && !buffer.isEmpty())
+        {
+            schedule();
+        }
+    }
+
+    private void close()
+    {
+        if (closed.compareAndSet(false, true))
+        {
+            buffer.clear();
+
+            if (onClose != null)
+            {
+                onClose.run();
+            }
+        }
+    }
+
+    private void complete()
+    {
+        try
+        {
+            sseEmitter.complete();
+        }
+        catch (Exception e)
+        {
+            // swallow
+        }
+    }
+
+    private static class Event
+    {
+
+        private final String name;
+
+        /**
+         * The line, which is filtered before it's sent, if the event streams one.
+         */
+        private final LogLine line;
+
+        private final String data;
+
+        Event(String name,
+              LogLine line,
+              String data)
+        {
+            this.name = name;
+            this.line = line;
+            this.data = data;
+        }
+
+    }
+
+}
@@ -2,6 +2,7 @@ package org.carlspring.strongbox.controllers.logging;
 
 import java.util.function.Function;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.boot.actuate.autoconfigure.logging.LogFileWebEndpointProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -18,17 +19,23 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 public class LoggingConfiguration
 {
 
+    /**
+     * The number of lines, which a subscriber may fall behind, before it's dropped.
+     */
+    @Value("${strongbox.sse.logs.bufferSize:1000}")
+    private int bufferSize;
+
     @Bean
-    public Function<SseEmitter, SseEmitterAwareTailerListenerAdapter> tailerListenerAdapterPrototypeFactory()
+    public Function<SseEmitter, LogStreamSubscriber> logStreamSubscriberPrototypeFactory()
     {
-        return sseEmitter -> tailerListener(sseEmitter);
+        return sseEmitter -> logStreamSubscriber(sseEmitter);
     }
 
     @Bean
     @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
-    public SseEmitterAwareTailerListenerAdapter tailerListener(SseEmitter sseEmitter)
+    public LogStreamSubscriber logStreamSubscriber(SseEmitter sseEmitter)
     {
-        return new SseEmitterAwareTailerListenerAdapter(sseEmitter);
+        return new LogStreamSubscriber(sseEmitter, bufferSize);
     }
 
 }
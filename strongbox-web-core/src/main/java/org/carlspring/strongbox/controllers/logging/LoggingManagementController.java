@@ -15,15 +15,14 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Optional;
-import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiParam;
 import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
 import org.apache.commons.io.FilenameUtils;
-import org.apache.commons.io.input.Tailer;
 import org.apache.commons.lang.StringUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.actuate.autoconfigure.logging.LogFileWebEndpointProperties;
@@ -43,6 +42,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.servlet.ModelAndView;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import static org.carlspring.strongbox.controllers.logging.LoggingManagementController.ROOT_CONTEXT;
@@ -79,7 +79,10 @@ public class LoggingManagementController
     private Optional<LogFileWebEndpointProperties> logFileWebEndpointProperties;
 
     @Inject
-    private Function<SseEmitter, SseEmitterAwareTailerListenerAdapter> tailerListenerAdapterPrototypeFactory;
+    private Function<SseEmitter, LogStreamSubscriber> logStreamSubscriberPrototypeFactory;
+
+    @Inject
+    private LogStreamManager logStreamManager;
 
     private DirectoryListingService directoryListingService;
 
@@ -191,7 +194,12 @@ public class LoggingManagementController
     @ApiOperation(value = "Used to stream logging file.")
     @GetMapping(value = "/stream", produces = { org.carlspring.strongbox.net.MediaType.TEXT_EVENT_STREAM_UTF8_VALUE,
                                                 org.carlspring.strongbox.net.MediaType.TEXT_PLAIN_UTF8_VALUE })
-    public SseEmitter logFileStream()
+    public SseEmitter logFileStream(@ApiParam(value = "The least severe level of the streamed lines")
+                                    @RequestParam(name = "level", required = false) String level,
+                                    @ApiParam(value = "The prefix of the logger names of the streamed lines")
+                                    @RequestParam(name = "logger", required = false) String loggerPrefix,
+                                    @ApiParam(value = "The regular expression, which is found in the streamed lines")
+                                    @RequestParam(name = "regex", required = false) String regex)
             throws IOException
     {
         final SseEmitter sseEmitter = new SseEmitter(sseTimeoutMillis);
@@ -203,12 +211,20 @@ public class LoggingManagementController
             return sseEmitter;
         }
 
-        ForkJoinPool forkJoinPool = ForkJoinPool.commonPool();
-        forkJoinPool.execute(
-                Tailer.create(logFileResource.getFile(),
-                              tailerListenerAdapterPrototypeFactory.apply(sseEmitter),
-                              1000,
-                              true));
+        LogStreamFilter filter;
+        try
+        {
+            filter = LogStreamFilter.of(level, loggerPrefix, regex);
+        }
+        catch (IllegalArgumentException e)
+        {
+            sseEmitter.completeWithError(new IllegalArgumentException("Invalid filter: " + e.getMessage(), e));
+            return sseEmitter;
+        }
+
+        logStreamManager.subscribe(logFileResource.getFile(),
+                                   logStreamSubscriberPrototypeFactory.apply(sseEmitter),
+                                   filter);
 
         return sseEmitter;
     }
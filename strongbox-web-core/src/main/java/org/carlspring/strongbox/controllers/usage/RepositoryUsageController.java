@@ -0,0 +1,98 @@
+package org.carlspring.strongbox.controllers.usage;
+
+import org.carlspring.strongbox.controllers.BaseController;
+import org.carlspring.strongbox.services.RepositoryUsageService;
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.storage.usage.RepositoryUsage;
+import org.carlspring.strongbox.web.RepositoryMapping;
+
+import javax.inject.Inject;
+import java.io.IOException;
+import java.util.List;
+
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiParam;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+@Controller
+@RequestMapping("/api/usage")
+@Api(value = "/api/usage")
+public class RepositoryUsageController
+        extends BaseController
+{
+
+    @Inject
+    private RepositoryUsageService repositoryUsageService;
+
+    @ApiOperation(value = "Retrieve the usage of all the repositories.")
+    @ApiResponses(value = { @ApiResponse(code = 200, message = "") })
+    @PreAuthorize("hasAuthority('CONFIGURATION_VIEW_REPOSITORY')")
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<RepositoryUsage>> getUsages()
+    {
+        return ResponseEntity.ok(repositoryUsageService.getUsages());
+    }
+
+    @ApiOperation(value = "Retrieve the aggregated usage of a storage.")
+    @ApiResponses(value = { @ApiResponse(code = 200, message = ""),
+                            @ApiResponse(code = 404, message = "The storage ${storageId} was not found.") })
+    @PreAuthorize("hasAuthority('CONFIGURATION_VIEW_REPOSITORY')")
+    @GetMapping(value = "/{storageId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity getStorageUsage(@ApiParam(value = "The storageId", required = true)
+                                          @PathVariable String storageId)
+    {
+        if (configurationManager.getConfiguration().getStorage(storageId) == null)
+        {
+            return getNotFoundResponseEntity("The storage " + storageId + " was not found.",
+                                             MediaType.APPLICATION_JSON_VALUE);
+        }
+
+        return ResponseEntity.ok(repositoryUsageService.getStorageUsage(storageId));
+    }
+
+    @ApiOperation(value = "Retrieve the usage of a repository.")
+    @ApiResponses(value = { @ApiResponse(code = 200, message = ""),
+                            @ApiResponse(code = 404, message = "The repository was not found.") })
+    @PreAuthorize("hasAuthority('CONFIGURATION_VIEW_REPOSITORY')")
+    @GetMapping(value = "/{storageId}/{repositoryId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<RepositoryUsage> getRepositoryUsage(@RepositoryMapping Repository repository)
+    {
+        return ResponseEntity.ok(repositoryUsageService.getUsage(repository.getStorage().getId(),
+                                                                 repository.getId()));
+    }
+
+    @ApiOperation(value = "Re-calculate the usage of a repository from its file system.")
+    @ApiResponses(value = { @ApiResponse(code = 200, message = ""),
+                            @ApiResponse(code = 404, message = "The repository was not found."),
+                            @ApiResponse(code = 500, message = "Failed to reconcile the repository usage.") })
+    @PreAuthorize("hasAuthority('CONFIGURATION_ADD_UPDATE_REPOSITORY')")
+    @PostMapping(value = "/{storageId}/{repositoryId}/reconcile", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity reconcile(@RepositoryMapping Repository repository)
+    {
+        try
+        {
+            return ResponseEntity.ok(repositoryUsageService.reconcile(repository.getStorage().getId(),
+                                                                      repository.getId()));
+        }
+        catch (IOException e)
+        {
+            String message = "Failed to reconcile the repository usage.";
+            logger.error(message, e);
+
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                                 .body(getResponseEntityBody(message, MediaType.APPLICATION_JSON_VALUE));
+        }
+    }
+
+}
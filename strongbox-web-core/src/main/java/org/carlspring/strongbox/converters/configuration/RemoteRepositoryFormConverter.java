@@ -28,6 +28,10 @@ public enum RemoteRepositoryFormConverter
         result.setCheckIntervalSeconds(source.getCheckIntervalSeconds());
         result.setAllowsDirectoryBrowsing(source.isAllowsDirectoryBrowsing());
         result.setAutoImportRemoteSSLCertificate(source.isAutoImportRemoteSSLCertificate());
+        result.setConnectTimeoutSeconds(source.getConnectTimeoutSeconds());
+        result.setReadTimeoutSeconds(source.getReadTimeoutSeconds());
+        result.setKeepAlive(source.getKeepAlive());
+        result.setMaxRetries(source.getMaxRetries());
         return result;
     }
 }
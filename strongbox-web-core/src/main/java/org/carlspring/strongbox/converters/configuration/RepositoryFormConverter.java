@@ -26,6 +26,10 @@ public enum RepositoryFormConverter
         result.setSecured(source.isSecured());
         result.setStatus(source.getStatus());
         result.setArtifactMaxSize(source.getArtifactMaxSize());
+        result.setQuotaMaxSize(source.getQuotaMaxSize());
+        result.setQuotaMaxArtifacts(source.getQuotaMaxArtifacts());
+        result.setTrashRetentionDays(source.getTrashRetentionDays());
+        result.setTrashMaxSize(source.getTrashMaxSize());
         result.setTrashEnabled(source.isTrashEnabled());
         result.setAllowsForceDeletion(source.isAllowsForceDeletion());
         result.setAllowsDeployment(source.isAllowsDeployment());
@@ -10,6 +10,7 @@ public class DirectoryListing
 
     private List<FileContent> files;
 
+    private String nextCursor;
 
     public List<FileContent> getDirectories()
     {
@@ -41,4 +42,17 @@ public class DirectoryListing
         this.files = files;
     }
 
+    /**
+     * @return the cursor of the next page, or {@code null} if this is the last one
+     */
+    public String getNextCursor()
+    {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor)
+    {
+        this.nextCursor = nextCursor;
+    }
+
 }
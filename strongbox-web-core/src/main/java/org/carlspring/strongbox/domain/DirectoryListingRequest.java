@@ -0,0 +1,72 @@
+package org.carlspring.strongbox.domain;
+
+import org.carlspring.strongbox.data.criteria.Paginator.Order;
+
+import com.google.common.base.Strings;
+
+/**
+ * The page of a directory listing to return. The directories are listed before the files, and are always sorted by
+ * their name. The page starts after the entry, which the cursor of the previous page points at.
+ */
+public class DirectoryListingRequest
+{
+
+    public static final int MAX_LIMIT = 1000;
+
+    private Integer limit;
+
+    private String cursor;
+
+    private Sort sort = Sort.NAME;
+
+    private Order order = Order.ASC;
+
+    /**
+     * @return the maximum number of entries in the page, or {@code null} for the whole listing
+     */
+    public Integer getLimit()
+    {
+        return limit == null ? null : Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    public void setLimit(Integer limit)
+    {
+        this.limit = limit;
+    }
+
+    public String getCursor()
+    {
+        return cursor;
+    }
+
+    public void setCursor(String cursor)
+    {
+        this.cursor = Strings.emptyToNull(cursor);
+    }
+
+    public Sort getSort()
+    {
+        return sort;
+    }
+
+    public void setSort(Sort sort)
+    {
+        this.sort = sort == null ? Sort.NAME : sort;
+    }
+
+    public Order getOrder()
+    {
+        return order;
+    }
+
+    public void setOrder(Order order)
+    {
+        this.order = order == null ? Order.ASC : order;
+    }
+
+    public enum Sort
+    {
+        NAME, LAST_MODIFIED, SIZE;
+    }
+
+}
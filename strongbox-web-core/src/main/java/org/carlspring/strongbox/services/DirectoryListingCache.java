@@ -0,0 +1,214 @@
+package org.carlspring.strongbox.services;
+
+import org.carlspring.strongbox.event.artifact.ArtifactEvent;
+import org.carlspring.strongbox.event.artifact.ArtifactEventTypeEnum;
+import org.carlspring.strongbox.event.repository.RepositoryEvent;
+import org.carlspring.strongbox.event.repository.RepositoryEventTypeEnum;
+import org.carlspring.strongbox.providers.io.RepositoryFiles;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.storage.repository.Repository;
+
+import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the entries of the recently browsed repository directories.
+ * <p>
+ * A listing is dropped when a file of its directory has been stored or deleted. Its ancestors are dropped as well,
+ * up to the first one which already contains (or still contains, after a deletion) the affected child directory.
+ * The listings also expire after a while, because the files which are changed without Strongbox don't raise events.
+ */
+@Component
+public class DirectoryListingCache
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(DirectoryListingCache.class);
+
+    @Value("${strongbox.browse.cache.maxEntries:200000}")
+    private long maxEntries;
+
+    @Value("${strongbox.browse.cache.expireSeconds:600}")
+    private long expireSeconds;
+
+    private Cache<String, List<DirectoryListingEntry>> listings;
+
+    /**
+     * Counts the invalidations, so that a listing which has been read while its directory was changing isn't cached.
+     */
+    private final AtomicLong invalidations = new AtomicLong();
+
+    @PostConstruct
+    public void init()
+    {
+        listings = CacheBuilder.newBuilder()
+                               .maximumWeight(maxEntries)
+                               .weigher((String key, List<DirectoryListingEntry> entries) -> entries.size() + 1)
+                               .expireAfterWrite(expireSeconds, TimeUnit.SECONDS)
+                               .build();
+    }
+
+    public List<DirectoryListingEntry> get(RepositoryPath directory,
+                                           DirectoryLoader loader)
+            throws IOException
+    {
+        String key = getKey(directory);
+
+        List<DirectoryListingEntry> entries = listings.getIfPresent(key);
+        if (entries != null)
+        {
+            return entries;
+        }
+
+        long stamp = invalidations.get();
+        entries = Collections.unmodifiableList(loader.load(directory));
+        if (stamp == invalidations.get())
+        {
+            listings.put(key, entries);
+        }
+
+        return entries;
+    }
+
+    public void invalidateAll()
+    {
+        invalidations.incrementAndGet();
+        listings.invalidateAll();
+    }
+
+    @EventListener
+    public void handle(ArtifactEvent<RepositoryPath> event)
+    {
+        int type = event.getType();
+        boolean deleted = type == ArtifactEventTypeEnum.EVENT_ARTIFACT_PATH_DELETED.getType();
+        boolean stored = type == ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_STORED.getType() ||
+                         type == ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_UPDATED.getType() ||
+                         type == ArtifactEventTypeEnum.EVENT_ARTIFACT_METADATA_STORED.getType() ||
+                         type == ArtifactEventTypeEnum.EVENT_ARTIFACT_FILE_FETCHED_FROM_REMOTE.getType();
+        if (!stored && !deleted)
+        {
+            return;
+        }
+
+        try
+        {
+            invalidate(event.getPath().normalize(), deleted);
+        }
+        catch (IOException e)
+        {
+            logger.warn("Failed to resolve the listings of [{}], dropping all of them.", event.getPath(), e);
+
+            invalidateAll();
+        }
+    }
+
+    @EventListener
+    public void handle(RepositoryEvent event)
+    {
+        int type = event.getType();
+        if (type == RepositoryEventTypeEnum.EVENT_REPOSITORY_REMOTE_AVAILABLE.getType() ||
+            type == RepositoryEventTypeEnum.EVENT_REPOSITORY_REMOTE_UNAVAILABLE.getType())
+        {
+            return;
+        }
+
+        if (event.getStorageId() == null || event.getRepositoryId() == null)
+        {
+            invalidateAll();
+
+            return;
+        }
+
+        invalidateTree(getKey(event.getStorageId(), event.getRepositoryId(), ""));
+    }
+
+    private void invalidate(RepositoryPath path,
+                            boolean deleted)
+            throws IOException
+    {
+        invalidations.incrementAndGet();
+
+        if (deleted)
+        {
+            // The path may have been a directory.
+            invalidateTree(getKey(path));
+        }
+
+        RepositoryPath root = path.getRoot();
+        RepositoryPath child = path;
+        RepositoryPath parent = path.getParent();
+        while (parent != null && parent.startsWith(root))
+        {
+            String parentKey = getKey(parent);
+            List<DirectoryListingEntry> listing = listings.getIfPresent(parentKey);
+
+            // The ancestors above a directory, which has been there before and is still there, are unchanged.
+            boolean unchanged = child != path &&
+                                (deleted ? Files.exists(child) : listing != null && contains(listing, child));
+            if (unchanged)
+            {
+                break;
+            }
+
+            listings.invalidate(parentKey);
+
+            child = parent;
+            parent = parent.getParent();
+        }
+    }
+
+    private void invalidateTree(String key)
+    {
+        invalidations.incrementAndGet();
+
+        String prefix = key + "/";
+        listings.asMap().keySet().removeIf(k -> k.equals(key) || k.startsWith(prefix));
+    }
+
+    private boolean contains(List<DirectoryListingEntry> listing,
+                             RepositoryPath directory)
+    {
+        String name = directory.getFileName().toString();
+
+        return listing.stream().anyMatch(e -> e.isDirectory() && e.getName().equals(name));
+    }
+
+    private String getKey(RepositoryPath path)
+            throws IOException
+    {
+        Repository repository = path.getRepository();
+
+        return getKey(repository.getStorage().getId(), repository.getId(), RepositoryFiles.relativizePath(path));
+    }
+
+    private String getKey(String storageId,
+                          String repositoryId,
+                          String path)
+    {
+        String key = storageId + "/" + repositoryId;
+
+        return path.isEmpty() ? key : key + "/" + path;
+    }
+
+    @FunctionalInterface
+    public interface DirectoryLoader
+    {
+
+        List<DirectoryListingEntry> load(RepositoryPath directory)
+                throws IOException;
+
+    }
+
+}
@@ -0,0 +1,88 @@
+package org.carlspring.strongbox.services;
+
+import javax.annotation.concurrent.Immutable;
+import java.net.URL;
+
+/**
+ * An entry of a directory, with the attributes which are shown by the directory listings.
+ */
+@Immutable
+public class DirectoryListingEntry
+{
+
+    private final String name;
+
+    private final boolean directory;
+
+    private final long size;
+
+    private final long lastModified;
+
+    private final String storageId;
+
+    private final String repositoryId;
+
+    private final String artifactPath;
+
+    private final URL resourceUrl;
+
+    DirectoryListingEntry(String name,
+                          boolean directory,
+                          long size,
+                          long lastModified,
+                          String storageId,
+                          String repositoryId,
+                          String artifactPath,
+                          URL resourceUrl)
+    {
+        this.name = name;
+        this.directory = directory;
+        this.size = size;
+        this.lastModified = lastModified;
+        this.storageId = storageId;
+        this.repositoryId = repositoryId;
+        this.artifactPath = artifactPath;
+        this.resourceUrl = resourceUrl;
+    }
+
+    public String getName()
+    {
+        return name;
+    }
+
+    public boolean isDirectory()
+    {
+        return directory;
+    }
+
+    public long getSize()
+    {
+        return size;
+    }
+
+    public long getLastModified()
+    {
+        return lastModified;
+    }
+
+    public String getStorageId()
+    {
+        return storageId;
+    }
+
+    public String getRepositoryId()
+    {
+        return repositoryId;
+    }
+
+    public String getArtifactPath()
+    {
+        return artifactPath;
+    }
+
+    public URL getResourceUrl()
+    {
+        return resourceUrl;
+    }
+
+}
@@ -4,20 +4,26 @@ import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.file.Files;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
-import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apache.commons.lang.StringUtils;
+import org.carlspring.strongbox.data.criteria.Paginator.Order;
 import org.carlspring.strongbox.domain.DirectoryListing;
+import org.carlspring.strongbox.domain.DirectoryListingRequest;
+import org.carlspring.strongbox.domain.DirectoryListingRequest.Sort;
 import org.carlspring.strongbox.domain.FileContent;
-import org.carlspring.strongbox.providers.io.RepositoryFileAttributeType;
+import org.carlspring.strongbox.providers.io.RepositoryFiles;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.storage.Storage;
 import org.carlspring.strongbox.storage.repository.Repository;
@@ -29,12 +35,24 @@ public class DirectoryListingServiceImpl implements DirectoryListingService
 
     private static final Logger logger = LoggerFactory.getLogger(DirectoryListingService.class);
 
+    private static final Comparator<DirectoryListingEntry> BY_NAME = Comparator.comparing(
+            DirectoryListingEntry::getName);
+
     private String baseUrl;
 
+    private DirectoryListingCache directoryListingCache;
+
     public DirectoryListingServiceImpl(String baseUrl)
+    {
+        this(baseUrl, null);
+    }
+
+    public DirectoryListingServiceImpl(String baseUrl,
+                                       DirectoryListingCache directoryListingCache)
     {
         super();
         this.baseUrl = StringUtils.chomp(baseUrl.toString(), "/");
+        this.directoryListingCache = directoryListingCache;
     }
 
     @Override
@@ -79,35 +97,43 @@ public class DirectoryListingServiceImpl implements DirectoryListingService
     public DirectoryListing fromRepositoryPath(RepositoryPath path)
         throws IOException
     {
-        return fromPath(path);
+        return fromRepositoryPath(path, new DirectoryListingRequest());
     }
 
-    private DirectoryListing fromPath(Path path)
+    @Override
+    public DirectoryListing fromRepositoryPath(RepositoryPath path,
+                                               DirectoryListingRequest request)
         throws IOException
     {
         path = path.normalize();
 
-        DirectoryListing directoryListing = new DirectoryListing();
+        List<DirectoryListingEntry> entries = directoryListingCache != null ?
+                                              directoryListingCache.get(path, this::readEntries) :
+                                              readEntries(path);
 
-        Map<String, List<FileContent>> content = generateDirectoryListing(path);
+        return toDirectoryListing(entries, request);
+    }
 
-        directoryListing.setDirectories(content.get("directories"));
-        directoryListing.setFiles(content.get("files"));
+    private DirectoryListing fromPath(Path path)
+        throws IOException
+    {
+        path = path.normalize();
 
-        return directoryListing;
+        return toDirectoryListing(readEntries(path), new DirectoryListingRequest());
     }
 
-    private Map<String, List<FileContent>> generateDirectoryListing(Path path)
+    /**
+     * Reads the entries of a directory in the default order. Only the basic file attributes and the attributes which
+     * are resolved from the path itself are read, since the others may need a database lookup.
+     */
+    private List<DirectoryListingEntry> readEntries(Path path)
         throws IOException
     {
-        List<FileContent> directories = new ArrayList<>();
-        List<FileContent> files = new ArrayList<>();
-
         List<Path> contentPaths;
         try (Stream<Path> pathStream = Files.list(path))
         {
             contentPaths = pathStream
-                                   .filter(p -> !p.toFile().getName().startsWith("."))
+                                   .filter(p -> !p.getFileName().toString().startsWith("."))
                                    .filter(p -> {
                                        try
                                        {
@@ -119,43 +145,186 @@ public class DirectoryListingServiceImpl implements DirectoryListingService
                                            return false;
                                        }
                                    })
-                                   .sorted()
                                    .collect(Collectors.toList());
         }
 
+        List<DirectoryListingEntry> entries = new ArrayList<>(contentPaths.size());
         for (Path contentPath : contentPaths)
         {
-            FileContent file = new FileContent(contentPath.getFileName().toString());
+            BasicFileAttributes fileAttributes = Files.readAttributes(contentPath, BasicFileAttributes.class);
+            boolean directory = fileAttributes.isDirectory();
+
+            String storageId = null;
+            String repositoryId = null;
+            String artifactPath = null;
+            URL resourceUrl = null;
+            if (contentPath instanceof RepositoryPath)
+            {
+                RepositoryPath repositoryPath = (RepositoryPath) contentPath;
+                Repository repository = repositoryPath.getRepository();
 
-            Map<String, Object> fileAttributes = Files.readAttributes(contentPath, "*");
+                storageId = repository.getStorage().getId();
+                repositoryId = repository.getId();
+                artifactPath = RepositoryFiles.relativizePath(repositoryPath);
+                resourceUrl = directory ? null : RepositoryFiles.readResourceUrl(repositoryPath);
+            }
 
-            file.setStorageId((String) fileAttributes.get(RepositoryFileAttributeType.STORAGE_ID.getName()));
-            file.setRepositoryId((String) fileAttributes.get(RepositoryFileAttributeType.REPOSITORY_ID.getName()));
+            entries.add(new DirectoryListingEntry(contentPath.getFileName().toString(),
+                                                  directory,
+                                                  fileAttributes.size(),
+                                                  fileAttributes.lastModifiedTime().toMillis(),
+                                                  storageId,
+                                                  repositoryId,
+                                                  artifactPath,
+                                                  resourceUrl));
+        }
+
+        entries.sort(getComparator(new DirectoryListingRequest()));
+
+        return entries;
+    }
+
+    private DirectoryListing toDirectoryListing(List<DirectoryListingEntry> entries,
+                                                DirectoryListingRequest request)
+        throws IOException
+    {
+        Comparator<DirectoryListingEntry> comparator = getComparator(request);
 
-            file.setArtifactPath((String) fileAttributes.get("artifactPath"));
+        // The entries are read in the default order.
+        List<DirectoryListingEntry> sorted = entries;
+        if (request.getSort() != Sort.NAME || request.getOrder() != Order.ASC)
+        {
+            sorted = new ArrayList<>(entries);
+            sorted.sort(comparator);
+        }
 
-            if (Boolean.TRUE.equals(fileAttributes.get("isDirectory")))
+        int from = 0;
+        if (request.getCursor() != null)
+        {
+            int index = Collections.binarySearch(sorted, parseCursor(request), comparator);
+            from = index >= 0 ? index + 1 : -index - 1;
+        }
+
+        Integer limit = request.getLimit();
+        int to = limit == null ? sorted.size() : (int) Math.min(sorted.size(), (long) from + limit);
+
+        DirectoryListing directoryListing = new DirectoryListing();
+        for (DirectoryListingEntry entry : sorted.subList(from, to))
+        {
+            FileContent file = new FileContent(entry.getName());
+            file.setStorageId(entry.getStorageId());
+            file.setRepositoryId(entry.getRepositoryId());
+            file.setArtifactPath(entry.getArtifactPath());
+
+            if (entry.isDirectory())
             {
                 file.setUrl(calculateDirectoryUrl(file));
 
-                directories.add(file);
+                directoryListing.getDirectories().add(file);
 
                 continue;
             }
 
-            file.setUrl((URL) fileAttributes.get(RepositoryFileAttributeType.RESOURCE_URL.getName()));
+            file.setUrl(entry.getResourceUrl());
+            file.setLastModified(new Date(entry.getLastModified()));
+            file.setSize(entry.getSize());
 
-            file.setLastModified(new Date(((FileTime) fileAttributes.get("lastModifiedTime")).toMillis()));
-            file.setSize((Long) fileAttributes.get("size"));
+            directoryListing.getFiles().add(file);
+        }
 
-            files.add(file);
+        if (to < sorted.size())
+        {
+            directoryListing.setNextCursor(formatCursor(sorted.get(to - 1), request));
         }
 
-        Map<String, List<FileContent>> listing = new HashMap<>();
-        listing.put("directories", directories);
-        listing.put("files", files);
+        return directoryListing;
+    }
+
+    /**
+     * The directories come first and are sorted by their name, while the files are sorted as requested. The name
+     * breaks the ties, so that every entry has a distinct position, which a cursor can point at.
+     */
+    private Comparator<DirectoryListingEntry> getComparator(DirectoryListingRequest request)
+    {
+        Comparator<DirectoryListingEntry> files;
+        switch (request.getSort())
+        {
+            case SIZE:
+                files = Comparator.comparingLong(DirectoryListingEntry::getSize).thenComparing(BY_NAME);
+                break;
+            case LAST_MODIFIED:
+                files = Comparator.comparingLong(DirectoryListingEntry::getLastModified).thenComparing(BY_NAME);
+                break;
+            default:
+                files = BY_NAME;
+                break;
+        }
+
+        Comparator<DirectoryListingEntry> directories = BY_NAME;
+        if (request.getOrder() == Order.DESC)
+        {
+            files = files.reversed();
+            directories = directories.reversed();
+        }
+
+        Comparator<DirectoryListingEntry> byFiles = files;
+        Comparator<DirectoryListingEntry> byDirectories = directories;
+
+        return (e1, e2) -> {
+            if (e1.isDirectory() != e2.isDirectory())
+            {
+                return e1.isDirectory() ? -1 : 1;
+            }
+
+            return e1.isDirectory() ? byDirectories.compare(e1, e2) : byFiles.compare(e1, e2);
+        };
+    }
+
+    /**
+     * The cursor holds the position of the last entry of a page, so that the next page starts at the right entry
+     * even if the listing has been changed in the meantime.
+     */
+    private String formatCursor(DirectoryListingEntry entry,
+                                DirectoryListingRequest request)
+    {
+        String position;
+        if (entry.isDirectory())
+        {
+            position = "d/" + entry.getName();
+        }
+        else
+        {
+            long value = request.getSort() == Sort.SIZE ? entry.getSize() : entry.getLastModified();
+            position = "f/" + value + "/" + entry.getName();
+        }
 
-        return listing;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private DirectoryListingEntry parseCursor(DirectoryListingRequest request)
+    {
+        try
+        {
+            String position = new String(Base64.getUrlDecoder().decode(request.getCursor()), StandardCharsets.UTF_8);
+            if (position.startsWith("d/"))
+            {
+                return new DirectoryListingEntry(position.substring(2), true, 0, 0, null, null, null, null);
+            }
+
+            String[] parts = position.split("/", 3);
+            if (parts.length != 3 || !parts[0].equals("f"))
+            {
+                throw new IllegalArgumentException(String.format("Invalid cursor [%s].", request.getCursor()));
+            }
+
+            long value = Long.parseLong(parts[1]);
+
+            return new DirectoryListingEntry(parts[2], false, value, value, null, null, null, null);
+        }
+        catch (IllegalArgumentException e)
+        {
+            throw new IllegalArgumentException(String.format("Invalid cursor [%s].", request.getCursor()), e);
+        }
     }
 
     /**
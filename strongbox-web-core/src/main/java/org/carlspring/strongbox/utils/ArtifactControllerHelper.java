@@ -46,6 +46,8 @@ public class ArtifactControllerHelper
 
     private static final String FULL_FILE_RANGE_REGEX = "^bytes=(0\\/\\*|0-|0)$";
 
+    private static final String RESUMED_DOWNLOAD_RANGE_REGEX = "^bytes=\\d+-$";
+
     private static final int DEFAULT_BUFFER_SIZE = 4096;
 
     private static final String CRLF = "\r\n";
@@ -89,10 +91,68 @@ public class ArtifactControllerHelper
         }
     }
 
+    /**
+     * Prepares the stream and the response of a resumed download, without copying anything, so that the stream can
+     * be copied to the response asynchronously.
+     *
+     * @return <code>true</code>, if the stream has to be copied to the response
+     * @see #isResumedDownloadRequest(HttpHeaders)
+     */
+    public static boolean prepareResumedDownload(InputStream is,
+                                                 HttpHeaders headers,
+                                                 HttpServletResponse response)
+            throws IOException
+    {
+        String contentRange = headers.getFirst(HttpHeaders.RANGE);
+        ByteRangeHeaderParser parser = new ByteRangeHeaderParser(contentRange);
+
+        try
+        {
+            List<ByteRange> ranges = parser.getRanges();
+            if (CollectionUtils.isEmpty(ranges))
+            {
+                return false;
+            }
+
+            ByteRange byteRange = ranges.get(0);
+            if (!prepareSingleRange(is, byteRange, response))
+            {
+                return false;
+            }
+
+            // The rest of the artifact is sent.
+            long inputLength = StreamUtils.getLength(StreamUtils.findSource(ByteRangeInputStream.class, is));
+            response.setHeader(HttpHeaders.CONTENT_LENGTH, String.valueOf(inputLength - byteRange.getOffset()));
+
+            return true;
+        }
+        catch (ByteRangeValidationException e)
+        {
+            logger.error(e.getMessage(), e);
+
+            ByteRangeInputStream bris = StreamUtils.findSource(ByteRangeInputStream.class, is);
+            long length = bris != null ? StreamUtils.getLength(bris) : 0;
+            setRangeNotSatisfiable(response, length);
+
+            return false;
+        }
+    }
+
     private static void handlePartialDownloadWithSingleRange(InputStream is,
                                                              ByteRange byteRange,
                                                              HttpServletResponse response)
             throws IOException
+    {
+        if (prepareSingleRange(is, byteRange, response))
+        {
+            copyToResponse(is, response);
+        }
+    }
+
+    private static boolean prepareSingleRange(InputStream is,
+                                              ByteRange byteRange,
+                                              HttpServletResponse response)
+            throws IOException
     {
         ByteRangeInputStream bris = StreamUtils.findSource(ByteRangeInputStream.class, is);
         long inputLength = bris != null ? StreamUtils.getLength(bris) : 0;
@@ -103,12 +163,12 @@ public class ArtifactControllerHelper
 
             prepareResponseBuilderForPartialRequestWithSingleRange(byteRange, inputLength, response);
 
-            copyToResponse(is, response);
-        }
-        else
-        {
-            setRangeNotSatisfiable(response, inputLength);
+            return true;
         }
+
+        setRangeNotSatisfiable(response, inputLength);
+
+        return false;
     }
 
     private static void handlePartialDownloadWithMultipleRanges(InputStream is,
@@ -166,6 +226,16 @@ public class ArtifactControllerHelper
         response.setStatus(PARTIAL_CONTENT.value());
     }
 
+    /**
+     * Checks whether a request resumes a download, with a single range from an offset up to the end of the artifact.
+     */
+    public static boolean isResumedDownloadRequest(HttpHeaders headers)
+    {
+        String contentRange = headers != null ? headers.getFirst(HttpHeaders.RANGE) : null;
+
+        return contentRange != null && contentRange.matches(RESUMED_DOWNLOAD_RANGE_REGEX);
+    }
+
     public static boolean isRangedRequest(HttpHeaders headers)
     {
         if (headers == null)
@@ -0,0 +1,187 @@
+package org.carlspring.strongbox.web;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.context.request.async.DeferredResult;
+
+/**
+ * Copies an artifact stream to the response with the non-blocking I/O of Servlet 3.1.
+ * <p>
+ * The request thread is released as soon as the download has been started. The container calls
+ * {@link #onWritePossible()} whenever the client is able to receive more bytes, so a slow client doesn't hold a
+ * thread while its socket is full. The artifact is read in chunks by the container threads in the meantime.
+ * <p>
+ * The download is over once the {@link DeferredResult} has been set: either when the whole stream has been written,
+ * or when the client has gone away, or when the download has timed out. The stream is closed by the given executor
+ * then, so the listeners of the download aren't run by the container threads.
+ *
+ * @see AsyncArtifactDownloads
+ */
+public class AsyncArtifactDownload
+        implements WriteListener
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncArtifactDownload.class);
+
+    static final int BUFFER_SIZE = 32 * 1024;
+
+    private final DeferredResult<Void> result;
+
+    private final ServletOutputStream outputStream;
+
+    private final InputStream inputStream;
+
+    private final byte[] buffer;
+
+    private final Executor closingExecutor;
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    /**
+     * The number of bytes in the buffer which haven't been written yet.
+     */
+    private int pending;
+
+    AsyncArtifactDownload(DeferredResult<Void> result,
+                          ServletOutputStream outputStream,
+                          InputStream inputStream,
+                          byte[] buffer,
+                          int pending,
+                          Executor closingExecutor)
+    {
+        this.result = result;
+        this.outputStream = outputStream;
+        this.inputStream = inputStream;
+        this.buffer = buffer;
+        this.pending = pending;
+        this.closingExecutor = closingExecutor;
+
+        result.onTimeout(this::onTimeout);
+        result.onError(this::onError);
+        // The container completes the download by itself when the client has gone away.
+        result.onCompletion(this::closeInputStream);
+    }
+
+    /**
+     * Has to be called once the request has gone asynchronous.
+     */
+    void start()
+            throws IOException
+    {
+        try
+        {
+            outputStream.setWriteListener(this);
+        }
+        catch (UnsupportedOperationException e)
+        {
+            // The mock containers of the tests only support the blocking I/O.
+            copy();
+        }
+    }
+
+    @Override
+    public void onWritePossible()
+            throws IOException
+    {
+        while (outputStream.isReady())
+        {
+            if (pending > 0)
+            {
+                outputStream.write(buffer, 0, pending);
+                pending = 0;
+
+                continue;
+            }
+
+            int length = inputStream.read(buffer);
+            if (length < 0)
+            {
+                complete();
+
+                return;
+            }
+
+            pending = length;
+        }
+    }
+
+    @Override
+    public void onError(Throwable t)
+    {
+        logger.debug("Failed to download the artifact.", t);
+
+        complete();
+    }
+
+    private void onTimeout()
+    {
+        logger.debug("The artifact download has timed out.");
+
+        complete();
+    }
+
+    private void copy()
+            throws IOException
+    {
+        try
+        {
+            int length = pending;
+            while (length >= 0)
+            {
+                outputStream.write(buffer, 0, length);
+                length = inputStream.read(buffer);
+            }
+        }
+        finally
+        {
+            complete();
+        }
+    }
+
+    private void complete()
+    {
+        closeInputStream();
+
+        // The response has been written already, so it is completed without a result.
+        result.setResult(null);
+    }
+
+    private void closeInputStream()
+    {
+        if (!closed.compareAndSet(false, true))
+        {
+            return;
+        }
+
+        try
+        {
+            closingExecutor.execute(this::doCloseInputStream);
+        }
+        catch (RejectedExecutionException e)
+        {
+            // The application is shutting down.
+            doCloseInputStream();
+        }
+    }
+
+    private void doCloseInputStream()
+    {
+        try
+        {
+            inputStream.close();
+        }
+        catch (IOException e)
+        {
+            logger.error("Failed to close the artifact stream.", e);
+        }
+    }
+
+}
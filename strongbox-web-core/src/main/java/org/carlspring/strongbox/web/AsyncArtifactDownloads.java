@@ -0,0 +1,162 @@
+package org.carlspring.strongbox.web;
+
+import org.carlspring.strongbox.io.StreamUtils;
+import org.carlspring.strongbox.providers.io.RepositoryStreamSupport.RepositoryInputStream;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.WebAsyncManager;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import static org.carlspring.strongbox.controllers.BaseController.copyToResponse;
+
+/**
+ * Starts the {@link AsyncArtifactDownload}-s through the {@link WebAsyncManager} of the request, so that the timeouts,
+ * the errors and the completion of the downloads are handled by Spring MVC.
+ * <p>
+ * The lock of the artifact path is held until the download is over. It is owned by the thread which has opened the
+ * stream, so it is handed over to one of a few single threads, which only take and release the locks. The thread is
+ * chosen by the path, so that the downloads of different artifacts don't wait for each other. The artifact streams
+ * are closed by a small pool, because closing a stream notifies the listeners of the download, which shouldn't run
+ * on the I/O threads of the container.
+ */
+@Component
+public class AsyncArtifactDownloads
+        implements InitializingBean, DisposableBean
+{
+
+    @Value("${strongbox.download.async.timeoutMillis:0}")
+    private long timeout;
+
+    @Value("${strongbox.download.async.threads:4}")
+    private int threads;
+
+    @Value("${strongbox.download.async.lockThreads:4}")
+    private int lockThreads;
+
+    private ExecutorService[] lockOwners;
+
+    private ThreadPoolExecutor closingExecutor;
+
+    @Override
+    public void afterPropertiesSet()
+    {
+        CustomizableThreadFactory lockThreadFactory = new CustomizableThreadFactory("artifact-download-locks-");
+        lockOwners = new ExecutorService[Math.max(1, lockThreads)];
+        for (int i = 0; i < lockOwners.length; i++)
+        {
+            lockOwners[i] = Executors.newSingleThreadExecutor(lockThreadFactory);
+        }
+        closingExecutor = new ThreadPoolExecutor(Math.max(1, threads),
+                                                 Math.max(1, threads),
+                                                 60L,
+                                                 TimeUnit.SECONDS,
+                                                 new LinkedBlockingQueue<>(),
+                                                 new CustomizableThreadFactory("artifact-download-"));
+    }
+
+    @Override
+    public void destroy()
+            throws InterruptedException
+    {
+        // The streams, which are still being closed, release their locks through the lock owners.
+        closingExecutor.shutdown();
+        closingExecutor.awaitTermination(10, TimeUnit.SECONDS);
+
+        for (ExecutorService lockOwner : lockOwners)
+        {
+            lockOwner.shutdown();
+        }
+    }
+
+    private ExecutorService getLockOwner(Path path)
+    {
+        return lockOwners[Math.floorMod(path.hashCode(), lockOwners.length)];
+    }
+
+    /**
+     * Checks whether a stream can be downloaded asynchronously by a request.
+     */
+    public boolean isSupported(HttpServletRequest request,
+                               InputStream is)
+    {
+        return request.isAsyncSupported() && StreamUtils.findSource(RepositoryInputStream.class, is) != null;
+    }
+
+    /**
+     * Starts the asynchronous download of a stream, which is closed once the download is over. This has to be called
+     * by the thread which has opened the stream.
+     */
+    public void start(HttpServletRequest request,
+                      HttpServletResponse response,
+                      InputStream is)
+            throws Exception
+    {
+        AsyncArtifactDownload download;
+        try
+        {
+            // The first chunk is read by the request thread, because the first read can still fail the request.
+            byte[] buffer = new byte[AsyncArtifactDownload.BUFFER_SIZE];
+            int length = is.read(buffer);
+            if (length < 0)
+            {
+                is.close();
+                response.flushBuffer();
+
+                return;
+            }
+
+            RepositoryInputStream repositoryInputStream = StreamUtils.findSource(RepositoryInputStream.class, is);
+            if (repositoryInputStream != null && !repositoryInputStream.handOverLock(this::getLockOwner))
+            {
+                // The path can only stay locked by this thread, so the download can't go asynchronous.
+                try
+                {
+                    copyToResponse(new SequenceInputStream(new ByteArrayInputStream(buffer, 0, length), is),
+                                   response);
+                }
+                finally
+                {
+                    is.close();
+                }
+
+                return;
+            }
+
+            DeferredResult<Void> result = new DeferredResult<>(timeout);
+            download = new AsyncArtifactDownload(result, response.getOutputStream(), is, buffer, length,
+                                                 closingExecutor);
+
+            // The response has been written by the handler, so there is nothing to render once the download is over.
+            ModelAndViewContainer mavContainer = new ModelAndViewContainer();
+            mavContainer.setRequestHandled(true);
+
+            WebAsyncUtils.getAsyncManager(request).startDeferredResultProcessing(result, mavContainer);
+        }
+        catch (Exception e)
+        {
+            is.close();
+
+            throw e;
+        }
+
+        download.start();
+    }
+
+}
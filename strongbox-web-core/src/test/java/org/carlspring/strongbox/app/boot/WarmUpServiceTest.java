@@ -0,0 +1,126 @@
+package org.carlspring.strongbox.app.boot;
+
+import org.carlspring.strongbox.actuator.ReadinessEndpoint;
+import org.carlspring.strongbox.configuration.Configuration;
+import org.carlspring.strongbox.configuration.ConfigurationManager;
+import org.carlspring.strongbox.providers.io.RepositoryPathResolver;
+import org.carlspring.strongbox.providers.repository.group.GroupRepositorySetCollector;
+import org.carlspring.strongbox.services.DirectoryListingService;
+import org.carlspring.strongbox.services.support.ArtifactRoutingRulesChecker;
+import org.carlspring.strongbox.storage.Storage;
+import org.carlspring.strongbox.storage.repository.Repository;
+
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+public class WarmUpServiceTest
+{
+
+    private RepositoryPathResolver repositoryPathResolver;
+
+    private Repository repository;
+
+    private WarmUpService warmUpService;
+
+    private ReadinessEndpoint readinessEndpoint;
+
+    @BeforeEach
+    public void setUp()
+    {
+        Storage storage = Mockito.mock(Storage.class);
+        Mockito.when(storage.getId()).thenReturn("storage0");
+
+        repository = Mockito.mock(Repository.class);
+        Mockito.when(repository.getStorage()).thenReturn(storage);
+        Mockito.when(repository.getId()).thenReturn("releases");
+
+        Configuration configuration = Mockito.mock(Configuration.class);
+        Mockito.when(configuration.getRepositories()).thenReturn(Collections.singletonList(repository));
+
+        ConfigurationManager configurationManager = Mockito.mock(ConfigurationManager.class);
+        Mockito.when(configurationManager.getConfiguration()).thenReturn(configuration);
+
+        repositoryPathResolver = Mockito.mock(RepositoryPathResolver.class);
+
+        warmUpService = new WarmUpService();
+        ReflectionTestUtils.setField(warmUpService, "configurationManager", configurationManager);
+        ReflectionTestUtils.setField(warmUpService, "repositoryPathResolver", repositoryPathResolver);
+        ReflectionTestUtils.setField(warmUpService, "artifactRoutingRulesChecker",
+                                     Mockito.mock(ArtifactRoutingRulesChecker.class));
+        ReflectionTestUtils.setField(warmUpService, "groupRepositorySetCollector",
+                                     Mockito.mock(GroupRepositorySetCollector.class));
+        ReflectionTestUtils.setField(warmUpService, "directoryListingService",
+                                     Mockito.mock(DirectoryListingService.class));
+        ReflectionTestUtils.setField(warmUpService, "startupTimeline", Mockito.mock(StartupTimeline.class));
+        ReflectionTestUtils.setField(warmUpService, "enabled", true);
+        ReflectionTestUtils.setField(warmUpService, "threads", 2);
+
+        readinessEndpoint = new ReadinessEndpoint();
+        ReflectionTestUtils.setField(readinessEndpoint, "warmUpService", warmUpService);
+    }
+
+    @AfterEach
+    public void tearDown()
+    {
+        warmUpService.destroy();
+    }
+
+    @Test
+    public void testNotReadyUntilWarmedUp()
+    {
+        CountDownLatch fileSystemsBlocked = new CountDownLatch(1);
+        Mockito.when(repositoryPathResolver.resolve(repository)).thenAnswer(invocation -> {
+            fileSystemsBlocked.await();
+
+            return null;
+        });
+
+        assertThat(readinessEndpoint.readiness().getStatus()).isEqualTo(WebEndpointResponse.STATUS_SERVICE_UNAVAILABLE);
+
+        warmUpService.warmUp();
+
+        WebEndpointResponse<?> response = readinessEndpoint.readiness();
+        assertThat(response.getStatus()).isEqualTo(WebEndpointResponse.STATUS_SERVICE_UNAVAILABLE);
+        assertThat(response.getBody()).isEqualTo(Collections.singletonMap("status", "WARMING_UP"));
+
+        fileSystemsBlocked.countDown();
+
+        await().atMost(10, TimeUnit.SECONDS).until(warmUpService::isReady);
+
+        response = readinessEndpoint.readiness();
+        assertThat(response.getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+        assertThat(response.getBody()).isEqualTo(Collections.singletonMap("status", "READY"));
+    }
+
+    @Test
+    public void testReadyWhenWarmUpIsDisabled()
+    {
+        ReflectionTestUtils.setField(warmUpService, "enabled", false);
+
+        warmUpService.warmUp();
+
+        assertThat(readinessEndpoint.readiness().getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+        Mockito.verifyZeroInteractions(repositoryPathResolver);
+    }
+
+    @Test
+    public void testFailedStepDoesNotKeepTheWarmUpFromFinishing()
+    {
+        Mockito.when(repositoryPathResolver.resolve(repository)).thenThrow(new IllegalStateException("Broken."));
+
+        warmUpService.warmUp();
+
+        await().atMost(10, TimeUnit.SECONDS).until(warmUpService::isReady);
+    }
+
+}
@@ -0,0 +1,244 @@
+package org.carlspring.strongbox.client;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.io.IOUtils;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.servlet.ServletContextHandler;
+import org.eclipse.jetty.servlet.ServletHolder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.FileSystemUtils;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Transfers artifacts with the {@link ArtifactTransferManager} to and from a Jetty, which fails the first upload of
+ * each artifact with a {@code 503}, and closes the connection in the middle of the first download of each artifact,
+ * so that the retries and the resumed downloads are exercised deterministically.
+ *
+ * @see ArtifactTransferManagerTestIT
+ */
+public class ArtifactTransferManagerTest
+{
+
+    private static final int ARTIFACTS = 8;
+
+    private static final int ARTIFACT_SIZE = 256 * 1024;
+
+    private static final int PARALLELISM = 4;
+
+    private static final String PATH = "storages/storage0/releases/org/carlspring/strongbox/transfer/1.0/transfer-1.0-%s.jar";
+
+    private final Map<String, byte[]> stored = new ConcurrentHashMap<>();
+
+    private final Set<String> failedUploads = ConcurrentHashMap.newKeySet();
+
+    private final Set<String> failedDownloads = ConcurrentHashMap.newKeySet();
+
+    private final AtomicInteger rangeRequests = new AtomicInteger();
+
+    private final AtomicInteger activeUploads = new AtomicInteger();
+
+    private final AtomicInteger maxActiveUploads = new AtomicInteger();
+
+    private Server server;
+
+    private Path directory;
+
+    private ArtifactClient client;
+
+    @BeforeEach
+    public void setUp()
+            throws Exception
+    {
+        server = new Server();
+
+        ServerConnector connector = new ServerConnector(server);
+        server.addConnector(connector);
+
+        ServletContextHandler context = new ServletContextHandler();
+        context.addServlet(new ServletHolder(new FlakyRepositoryServlet()), "/*");
+        server.setHandler(context);
+
+        server.start();
+
+        directory = Files.createTempDirectory("strongbox-transfer-");
+
+        client = new ArtifactClient();
+        client.setUsername("deployer");
+        client.setPassword("password");
+        client.setContextBaseUrl("http://localhost:" + connector.getLocalPort());
+    }
+
+    @AfterEach
+    public void tearDown()
+            throws Exception
+    {
+        client.close();
+        server.stop();
+
+        FileSystemUtils.deleteRecursively(directory.toFile());
+    }
+
+    @Test
+    public void testParallelTransfersAreRetriedAndResumed()
+            throws Exception
+    {
+        List<byte[]> artifacts = new ArrayList<>();
+        Random random = new Random(0);
+        for (int i = 0; i < ARTIFACTS; i++)
+        {
+            byte[] artifact = new byte[ARTIFACT_SIZE];
+            random.nextBytes(artifact);
+
+            artifacts.add(artifact);
+            Files.write(directory.resolve("upload-" + i + ".jar"), artifact);
+        }
+
+        TransferReport uploadReport;
+        try (ArtifactTransferManager manager = newTransferManager())
+        {
+            for (int i = 0; i < ARTIFACTS; i++)
+            {
+                manager.upload(String.format(PATH, i), directory.resolve("upload-" + i + ".jar"));
+            }
+
+            uploadReport = manager.awaitCompletion();
+        }
+
+        assertThat(uploadReport.getSucceeded()).isEqualTo(ARTIFACTS);
+        assertThat(uploadReport.getRetries()).isEqualTo(ARTIFACTS);
+        assertThat(uploadReport.getBytes()).isEqualTo((long) ARTIFACTS * ARTIFACT_SIZE);
+        assertThat(maxActiveUploads.get()).isBetween(2, PARALLELISM);
+        for (int i = 0; i < ARTIFACTS; i++)
+        {
+            assertThat(stored.get("/" + String.format(PATH, i))).isEqualTo(artifacts.get(i));
+        }
+
+        TransferReport downloadReport;
+        try (ArtifactTransferManager manager = newTransferManager())
+        {
+            for (int i = 0; i < ARTIFACTS; i++)
+            {
+                manager.download(String.format(PATH, i), directory.resolve("download-" + i + ".jar"));
+            }
+            manager.download(String.format(PATH, "missing"), directory.resolve("download-missing.jar"));
+
+            downloadReport = manager.awaitCompletion();
+        }
+
+        assertThat(downloadReport.getSucceeded()).isEqualTo(ARTIFACTS);
+        assertThat(downloadReport.getFailures()).hasSize(1)
+                                                .allSatisfy(r -> assertThat(r.getAttempts()).isEqualTo(1));
+        assertThat(downloadReport.getRetries()).isEqualTo(ARTIFACTS);
+        assertThat(rangeRequests.get()).isEqualTo(ARTIFACTS);
+        for (int i = 0; i < ARTIFACTS; i++)
+        {
+            assertThat(Files.readAllBytes(directory.resolve("download-" + i + ".jar"))).isEqualTo(artifacts.get(i));
+        }
+        assertThat(directory.resolve("download-missing.jar")).doesNotExist();
+    }
+
+    private ArtifactTransferManager newTransferManager()
+    {
+        ArtifactTransferManager manager = new ArtifactTransferManager(client, PARALLELISM);
+        manager.setInitialBackoffMillis(10);
+        manager.setMaxBackoffMillis(100);
+
+        return manager;
+    }
+
+    private class FlakyRepositoryServlet
+            extends HttpServlet
+    {
+
+        @Override
+        protected void doPut(HttpServletRequest request,
+                             HttpServletResponse response)
+                throws IOException
+        {
+            maxActiveUploads.accumulateAndGet(activeUploads.incrementAndGet(), Math::max);
+            try
+            {
+                byte[] artifact = IOUtils.toByteArray(request.getInputStream());
+
+                if (failedUploads.add(request.getPathInfo()))
+                {
+                    response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+
+                    return;
+                }
+
+                // Keeps the uploads overlapping.
+                Thread.sleep(50);
+
+                stored.put(request.getPathInfo(), artifact);
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+            }
+            finally
+            {
+                activeUploads.decrementAndGet();
+            }
+        }
+
+        @Override
+        protected void doGet(HttpServletRequest request,
+                             HttpServletResponse response)
+                throws IOException
+        {
+            byte[] artifact = stored.get(request.getPathInfo());
+            if (artifact == null)
+            {
+                response.sendError(HttpServletResponse.SC_NOT_FOUND);
+
+                return;
+            }
+
+            int offset = 0;
+            String range = request.getHeader(HttpHeaders.RANGE);
+            if (range != null)
+            {
+                rangeRequests.incrementAndGet();
+
+                offset = Integer.parseInt(range.substring("bytes=".length(), range.length() - 1));
+
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE,
+                                   String.format("bytes %s-%s/%s", offset, artifact.length - 1, artifact.length));
+            }
+
+            response.setContentLength(artifact.length - offset);
+
+            if (failedDownloads.add(request.getPathInfo()))
+            {
+                response.getOutputStream().write(artifact, offset, artifact.length / 2);
+                response.flushBuffer();
+
+                // The response has been committed, so the connection is closed.
+                throw new IOException("Closing the connection in the middle of the download.");
+            }
+
+            response.getOutputStream().write(artifact, offset, artifact.length - offset);
+        }
+
+    }
+
+}
@@ -0,0 +1,157 @@
+package org.carlspring.strongbox.client;
+
+import org.carlspring.strongbox.config.IntegrationTest;
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.testing.repository.MavenRepository;
+import org.carlspring.strongbox.testing.storage.repository.RepositoryManagementTestExecutionListener;
+
+import javax.inject.Inject;
+import javax.servlet.DispatcherType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.servlet.FilterHolder;
+import org.eclipse.jetty.servlet.ServletContextHandler;
+import org.eclipse.jetty.servlet.ServletHolder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.filter.DelegatingFilterProxy;
+import org.springframework.web.servlet.DispatcherServlet;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Transfers artifacts with the {@link ArtifactTransferManager} to and from the artifact endpoints of the application,
+ * which are served over HTTP by a Jetty in front of the test context.
+ *
+ * @see ArtifactTransferManagerTest
+ */
+@IntegrationTest
+public class ArtifactTransferManagerTestIT
+{
+
+    private static final String REPOSITORY_RELEASES = "atmt-releases";
+
+    private static final int ARTIFACTS = 8;
+
+    private static final int ARTIFACT_SIZE = 256 * 1024;
+
+    private static final int PARALLELISM = 4;
+
+    @Inject
+    private WebApplicationContext webApplicationContext;
+
+    private Server server;
+
+    private Path directory;
+
+    private ArtifactClient client;
+
+    @BeforeEach
+    public void setUp()
+            throws Exception
+    {
+        server = new Server();
+
+        ServerConnector connector = new ServerConnector(server);
+        server.addConnector(connector);
+
+        FilterHolder securityFilter = new FilterHolder(new DelegatingFilterProxy("springSecurityFilterChain",
+                                                                                 webApplicationContext));
+        securityFilter.setAsyncSupported(true);
+
+        ServletHolder dispatcherServlet = new ServletHolder(new DispatcherServlet(webApplicationContext));
+        dispatcherServlet.setAsyncSupported(true);
+
+        ServletContextHandler context = new ServletContextHandler();
+        context.addFilter(securityFilter, "/*", EnumSet.of(DispatcherType.REQUEST, DispatcherType.ASYNC));
+        context.addServlet(dispatcherServlet, "/*");
+        server.setHandler(context);
+
+        server.start();
+
+        directory = Files.createTempDirectory("strongbox-transfer-");
+
+        client = new ArtifactClient();
+        client.setUsername("deployer");
+        client.setPassword("password");
+        client.setContextBaseUrl("http://localhost:" + connector.getLocalPort());
+    }
+
+    @AfterEach
+    public void tearDown()
+            throws Exception
+    {
+        client.close();
+        server.stop();
+
+        FileSystemUtils.deleteRecursively(directory.toFile());
+    }
+
+    @ExtendWith(RepositoryManagementTestExecutionListener.class)
+    @Test
+    public void testParallelTransfers(@MavenRepository(repositoryId = REPOSITORY_RELEASES)
+                                      Repository repository)
+            throws Exception
+    {
+        String pathPattern = "storages/" + repository.getStorage().getId() + "/" + repository.getId() +
+                             "/org/carlspring/strongbox/transfer/1.0/transfer-1.0-%s.jar";
+
+        List<byte[]> artifacts = new ArrayList<>();
+        Random random = new Random(0);
+        for (int i = 0; i < ARTIFACTS; i++)
+        {
+            byte[] artifact = new byte[ARTIFACT_SIZE];
+            random.nextBytes(artifact);
+
+            artifacts.add(artifact);
+            Files.write(directory.resolve("upload-" + i + ".jar"), artifact);
+        }
+
+        TransferReport uploadReport;
+        try (ArtifactTransferManager manager = new ArtifactTransferManager(client, PARALLELISM))
+        {
+            for (int i = 0; i < ARTIFACTS; i++)
+            {
+                manager.upload(String.format(pathPattern, i), directory.resolve("upload-" + i + ".jar"));
+            }
+
+            uploadReport = manager.awaitCompletion();
+        }
+
+        assertThat(uploadReport.getSucceeded()).isEqualTo(ARTIFACTS);
+        assertThat(uploadReport.getFailures()).isEmpty();
+        assertThat(uploadReport.getBytes()).isEqualTo((long) ARTIFACTS * ARTIFACT_SIZE);
+
+        TransferReport downloadReport;
+        try (ArtifactTransferManager manager = new ArtifactTransferManager(client, PARALLELISM))
+        {
+            for (int i = 0; i < ARTIFACTS; i++)
+            {
+                manager.download(String.format(pathPattern, i), directory.resolve("download-" + i + ".jar"));
+            }
+            manager.download(String.format(pathPattern, "missing"), directory.resolve("download-missing.jar"));
+
+            downloadReport = manager.awaitCompletion();
+        }
+
+        assertThat(downloadReport.getSucceeded()).isEqualTo(ARTIFACTS);
+        assertThat(downloadReport.getFailures()).hasSize(1)
+                                                .allSatisfy(r -> assertThat(r.getAttempts()).isEqualTo(1));
+        for (int i = 0; i < ARTIFACTS; i++)
+        {
+            assertThat(Files.readAllBytes(directory.resolve("download-" + i + ".jar"))).isEqualTo(artifacts.get(i));
+        }
+        assertThat(directory.resolve("download-missing.jar")).doesNotExist();
+    }
+
+}
@@ -2,7 +2,7 @@ package org.carlspring.strongbox.config;
 
 import org.carlspring.strongbox.MockedRemoteRepositoriesHeartbeatConfig;
 import org.carlspring.strongbox.app.StrongboxSpringBootApplication;
-import org.carlspring.strongbox.controllers.logging.SseEmitterAwareTailerListenerAdapter;
+import org.carlspring.strongbox.controllers.logging.LogStreamSubscriber;
 import org.carlspring.strongbox.cron.services.CronJobSchedulerService;
 import org.carlspring.strongbox.data.CacheManagerTestExecutionListener;
 import org.carlspring.strongbox.rest.client.MockMvcRequestSpecificationProxyTarget;
@@ -11,6 +11,7 @@ import org.carlspring.strongbox.storage.indexing.remote.MockedIndexResourceFetch
 import org.carlspring.strongbox.storage.indexing.remote.ResourceFetcherFactory;
 import org.carlspring.strongbox.testing.MavenMetadataServiceHelper;
 
+import java.io.IOException;
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
@@ -129,36 +130,35 @@ public @interface IntegrationTest
 
         @Primary
         @Bean
-        public Function<SseEmitter, SseEmitterAwareTailerListenerAdapter> testTailerListenerAdapterPrototypeFactory()
+        public Function<SseEmitter, LogStreamSubscriber> testLogStreamSubscriberPrototypeFactory()
         {
-            return sseEmitter -> testTailerListener(sseEmitter);
+            return sseEmitter -> testLogStreamSubscriber(sseEmitter);
         }
 
         @Primary
         @Bean
         @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
-        public SseEmitterAwareTailerListenerAdapter testTailerListener(SseEmitter sseEmitter)
+        public LogStreamSubscriber testLogStreamSubscriber(SseEmitter sseEmitter)
         {
-            return new TestSseEmitterAwareTailerListenerAdapter(sseEmitter);
+            return new TestLogStreamSubscriber(sseEmitter);
         }
 
-        static class TestSseEmitterAwareTailerListenerAdapter
-                extends SseEmitterAwareTailerListenerAdapter
+        static class TestLogStreamSubscriber
+                extends LogStreamSubscriber
         {
 
-            public TestSseEmitterAwareTailerListenerAdapter(final SseEmitter sseEmitter)
+            public TestLogStreamSubscriber(final SseEmitter sseEmitter)
             {
                 super(sseEmitter);
             }
 
             @Override
-            public void handle(final String line)
+            protected void send(final String eventName,
+                                final String eventData)
+                    throws IOException
             {
-                super.handle(line);
-                if (sseEmitter != null)
-                {
-                    sseEmitter.complete();
-                }
+                super.send(eventName, eventData);
+                sseEmitter.complete();
             }
         }
 
@@ -1,10 +1,12 @@
 package org.carlspring.strongbox.controllers;
 
+import org.carlspring.strongbox.app.boot.WarmUpService;
 import org.carlspring.strongbox.booters.PropertiesBooter;
 import org.carlspring.strongbox.config.IntegrationTest;
 import org.carlspring.strongbox.rest.common.RestAssuredBaseTest;
 
 import javax.inject.Inject;
+import java.util.concurrent.TimeUnit;
 
 import io.restassured.module.mockmvc.specification.MockMvcRequestSpecification;
 import org.hamcrest.CoreMatchers;
@@ -17,6 +19,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithAnonymousUser;
 import org.springframework.security.test.context.support.WithUserDetails;
+import static org.awaitility.Awaitility.await;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.notNullValue;
 
@@ -40,6 +43,9 @@ public class ActuatorEndpointControllerTest
     @Inject
     private MockMvcRequestSpecification mockMvc;
 
+    @Inject
+    private WarmUpService warmUpService;
+
     @Override
     @BeforeEach
     public void init()
@@ -116,7 +122,8 @@ public class ActuatorEndpointControllerTest
                              "/metrics",
                              "/metrics/" + METRIC_NAME,
                              "/loggers",
-                             "/loggers/" + LOGGER_PACKAGE })
+                             "/loggers/" + LOGGER_PACKAGE,
+                             "/startup" })
     public void testEndpointsWithAuthorizedUser(final String endpoint)
     {
         String url = getContextBaseUrl() + endpoint;
@@ -131,6 +138,24 @@ public class ActuatorEndpointControllerTest
                .body(CoreMatchers.notNullValue());
     }
 
+    @Test
+    @WithAnonymousUser
+    public void testReadinessWithUnauthorizedUser()
+    {
+        String url = getContextBaseUrl() + "/readiness";
+
+        // The warm-up has been started along with the application. The states before it finishes are covered by
+        // WarmUpServiceTest.
+        await().atMost(60, TimeUnit.SECONDS).until(warmUpService::isReady);
+
+        mockMvc.accept(MediaType.APPLICATION_JSON_VALUE)
+               .when()
+               .get(url)
+               .then()
+               .statusCode(HttpStatus.OK.value())
+               .body("status", equalTo("READY"));
+    }
+
     @ParameterizedTest
     @ValueSource(strings = { "/metrics/" + NOT_EXISTING_METRIC_NAME,
                              "/health/not_existing_component" })
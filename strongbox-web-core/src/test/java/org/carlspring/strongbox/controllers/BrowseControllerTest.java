@@ -14,6 +14,7 @@ import org.carlspring.strongbox.testing.storage.repository.RepositoryManagementT
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -40,6 +41,7 @@ public class BrowseControllerTest
 
     private static final String REPOSITORY_1 = "browsing-test-repository-1";
     private static final String REPOSITORY_2 = "browsing-test-repository-2";
+    private static final String REPOSITORY_3 = "browsing-test-repository-3";
 
     @Override
     @BeforeEach
@@ -196,6 +198,88 @@ public class BrowseControllerTest
         assertThat(htmlResponse.contains(link)).as("Expected to have found [ " + link + " ] in the response html").isTrue();
     }
 
+    @ExtendWith({ RepositoryManagementTestExecutionListener.class,
+                  ArtifactManagementTestExecutionListener.class })
+    @Test
+    public void testRepositoryContentsPagination(@MavenRepository(repositoryId = REPOSITORY_3)
+                                                 Repository repository,
+                                                 @MavenTestArtifact(repositoryId = REPOSITORY_3,
+                                                                    id = "org.carlspring.strongbox.browsing:test-paging",
+                                                                    versions = { "1.1",
+                                                                                 "2.2",
+                                                                                 "3.2" })
+                                                 List<Path> artifactsPaths)
+            throws IOException
+    {
+        final String storageId = repository.getStorage().getId();
+        final String repositoryId = repository.getId();
+
+        String url = getContextBaseUrl() + "/{storageId}/{repositoryId}/{artifactPath}";
+
+        RepositoryPath versionPath = ((RepositoryPath) artifactsPaths.get(1).normalize()).getParent();
+        String artifactPathStr = RepositoryFiles.relativizePath(versionPath.getParent());
+
+        DirectoryListing listing = mockMvc.accept(MediaType.APPLICATION_JSON_VALUE)
+                                          .when()
+                                          .get(url, storageId, repositoryId, artifactPathStr)
+                                          .as(DirectoryListing.class);
+
+        List<String> expected = new ArrayList<>();
+        listing.getDirectories().forEach(d -> expected.add(d.getName()));
+        listing.getFiles().forEach(f -> expected.add(f.getName()));
+
+        assertThat(listing.getNextCursor()).isNull();
+        assertThat(listing.getDirectories()).extracting(FileContent::getName).containsExactly("1.1", "2.2", "3.2");
+
+        // Every page holds a single entry.
+        List<String> paged = new ArrayList<>();
+        String cursor = null;
+        do
+        {
+            DirectoryListing page = mockMvc.accept(MediaType.APPLICATION_JSON_VALUE)
+                                           .queryParam("limit", 1)
+                                           .queryParam("cursor", cursor != null ? cursor : "")
+                                           .when()
+                                           .get(url, storageId, repositoryId, artifactPathStr)
+                                           .as(DirectoryListing.class);
+
+            assertThat(page.getDirectories().size() + page.getFiles().size()).isEqualTo(1);
+            page.getDirectories().forEach(d -> paged.add(d.getName()));
+            page.getFiles().forEach(f -> paged.add(f.getName()));
+
+            cursor = page.getNextCursor();
+        }
+        while (cursor != null);
+
+        assertThat(paged).isEqualTo(expected);
+
+        DirectoryListing descending = mockMvc.accept(MediaType.APPLICATION_JSON_VALUE)
+                                             .queryParam("order", "DESC")
+                                             .when()
+                                             .get(url, storageId, repositoryId, artifactPathStr)
+                                             .as(DirectoryListing.class);
+
+        assertThat(descending.getDirectories()).extracting(FileContent::getName)
+                                               .containsExactly("3.2", "2.2", "1.1");
+
+        // The cached listing is dropped when a version has been deleted.
+        client.delete(storageId, repositoryId, RepositoryFiles.relativizePath(versionPath), true);
+
+        listing = mockMvc.accept(MediaType.APPLICATION_JSON_VALUE)
+                         .when()
+                         .get(url, storageId, repositoryId, artifactPathStr)
+                         .as(DirectoryListing.class);
+
+        assertThat(listing.getDirectories()).extracting(FileContent::getName).containsExactly("1.1", "3.2");
+
+        mockMvc.accept(MediaType.APPLICATION_JSON_VALUE)
+               .queryParam("cursor", "not a cursor")
+               .when()
+               .get(url, storageId, repositoryId, artifactPathStr)
+               .then()
+               .statusCode(HttpStatus.BAD_REQUEST.value());
+    }
+
     @Test
     public void testRepositoryContentsWithRepositoryNotFound()
     {
@@ -4,18 +4,25 @@ import org.carlspring.strongbox.config.IntegrationTest;
 import org.carlspring.strongbox.providers.io.RepositoryFiles;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
 import org.carlspring.strongbox.providers.io.RootRepositoryPath;
+import org.carlspring.strongbox.providers.io.StorageFileSystemProvider;
 import org.carlspring.strongbox.repository.MavenRepositoryFeatures;
 import org.carlspring.strongbox.rest.common.MavenRestAssuredBaseTest;
+import org.carlspring.strongbox.services.TrashService;
 import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.testing.TrashMaxSizeRepositorySetup;
+import org.carlspring.strongbox.testing.TrashRetentionRepositorySetup;
 import org.carlspring.strongbox.testing.artifact.ArtifactManagementTestExecutionListener;
 import org.carlspring.strongbox.testing.artifact.MavenTestArtifact;
 import org.carlspring.strongbox.testing.repository.MavenRepository;
 import org.carlspring.strongbox.testing.storage.repository.RepositoryAttributes;
 import org.carlspring.strongbox.testing.storage.repository.RepositoryManagementTestExecutionListener;
 
+import javax.inject.Inject;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.TimeUnit;
 
 import io.restassured.module.mockmvc.response.ValidatableMockMvcResponse;
 import org.junit.jupiter.api.BeforeEach;
@@ -28,6 +35,12 @@ import org.springframework.http.MediaType;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.hasItem;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hamcrest.Matchers.hasSize;
 
 /**
  * @author Martin Todorov
@@ -44,10 +57,19 @@ public class TrashControllerTest
 
     private static final String REPOSITORY_WITH_TRASH_3 = "tct-releases-with-trash-3";
 
+    private static final String REPOSITORY_WITH_TRASH_4 = "tct-releases-with-trash-4";
+
+    private static final String REPOSITORY_WITH_TRASH_RETENTION = "tct-releases-with-trash-retention";
+
+    private static final String REPOSITORY_WITH_TRASH_MAX_SIZE = "tct-releases-with-trash-max-size";
+
     private static final String REPOSITORY_WITH_FORCE_DELETE_1 = "tct-releases-with-force-delete-1";
 
     private static final String REPOSITORY_WITH_FORCE_DELETE_2 = "tct-releases-with-force-delete-2";
 
+    @Inject
+    private TrashService trashService;
+
     @Override
     @BeforeEach
     public void init()
@@ -204,6 +226,160 @@ public class TrashControllerTest
                 .isFalse();
     }
 
+    @ExtendWith({ RepositoryManagementTestExecutionListener.class,
+                  ArtifactManagementTestExecutionListener.class })
+    @Test
+    public void testListAndRestoreTrashByPrefix(@MavenRepository(repositoryId = REPOSITORY_WITH_TRASH_4)
+                                                @RepositoryAttributes(trashEnabled = true)
+                                                Repository repository,
+                                                @MavenTestArtifact(repositoryId = REPOSITORY_WITH_TRASH_4,
+                                                                   id = "org.carlspring.strongbox:test-artifact-to-trash",
+                                                                   versions = "1.0")
+                                                Path artifactPath1,
+                                                @MavenTestArtifact(repositoryId = REPOSITORY_WITH_TRASH_4,
+                                                                   id = "org.carlspring.strongbox:test-artifact-to-trash",
+                                                                   versions = "1.1")
+                                                Path artifactPath2)
+            throws IOException
+    {
+        final String storageId = repository.getStorage().getId();
+        final String repositoryId = repository.getId();
+
+        final RepositoryPath artifactRepositoryPath1 = (RepositoryPath) artifactPath1.normalize();
+        final RepositoryPath artifactRepositoryPath2 = (RepositoryPath) artifactPath2.normalize();
+        final String artifactRepositoryPathStr1 = RepositoryFiles.relativizePath(artifactRepositoryPath1);
+        final String artifactRepositoryPathStr2 = RepositoryFiles.relativizePath(artifactRepositoryPath2);
+
+        client.delete(storageId, repositoryId, artifactRepositoryPathStr1, false);
+        client.delete(storageId, repositoryId, artifactRepositoryPathStr2, false);
+
+        String url = getContextBaseUrl() + "/{storageId}/{repositoryId}";
+
+        // The checksums are moved to the trash along with the artifacts.
+        String artifactDirectory = artifactRepositoryPathStr1.substring(0, artifactRepositoryPathStr1.indexOf("/1.0/") + 1);
+        String cursor = mockMvc.accept(MediaType.APPLICATION_JSON_VALUE)
+                               .queryParam("prefix", artifactDirectory)
+                               .queryParam("limit", 1)
+                               .when()
+                               .get(url, storageId, repositoryId)
+                               .peek()
+                               .then()
+                               .statusCode(HttpStatus.OK.value())
+                               .body("entries", hasSize(1))
+                               .body("entries[0].path", equalTo(artifactRepositoryPathStr1))
+                               .body("entries[0].trashed", notNullValue())
+                               .body("nextCursor", equalTo(artifactRepositoryPathStr1))
+                               .extract()
+                               .path("nextCursor");
+
+        mockMvc.accept(MediaType.APPLICATION_JSON_VALUE)
+               .queryParam("prefix", artifactDirectory)
+               .queryParam("cursor", cursor)
+               .when()
+               .get(url, storageId, repositoryId)
+               .peek()
+               .then()
+               .statusCode(HttpStatus.OK.value())
+               .body("entries.path", hasItem(artifactRepositoryPathStr2))
+               .body("entries.path", not(hasItem(artifactRepositoryPathStr1)))
+               .body("nextCursor", nullValue());
+
+        String prefix = artifactRepositoryPathStr1.substring(0, artifactRepositoryPathStr1.lastIndexOf('/') + 1);
+
+        mockMvc.accept(MediaType.APPLICATION_JSON_VALUE)
+               .queryParam("prefix", prefix)
+               .when()
+               .put(url, storageId, repositoryId)
+               .peek()
+               .then()
+               .statusCode(HttpStatus.OK.value())
+               .body("message", startsWith("Restored "));
+
+        assertThat(Files.exists(artifactRepositoryPath1)).isTrue();
+        assertThat(Files.exists(RepositoryFiles.trash(artifactRepositoryPath1))).isFalse();
+        assertThat(Files.exists(RepositoryFiles.trash(artifactRepositoryPath2))).isTrue();
+    }
+
+    @ExtendWith({ RepositoryManagementTestExecutionListener.class,
+                  ArtifactManagementTestExecutionListener.class })
+    @Test
+    public void testPurgeTrashByAge(@MavenRepository(repositoryId = REPOSITORY_WITH_TRASH_RETENTION,
+                                                     setup = TrashRetentionRepositorySetup.class)
+                                    Repository repository,
+                                    @MavenTestArtifact(repositoryId = REPOSITORY_WITH_TRASH_RETENTION,
+                                                       id = "org.carlspring.strongbox:test-artifact-to-purge",
+                                                       versions = "1.0")
+                                    Path artifactPath)
+            throws IOException
+    {
+        final RepositoryPath artifactRepositoryPath = (RepositoryPath) artifactPath.normalize();
+        final String artifactRepositoryPathStr = RepositoryFiles.relativizePath(artifactRepositoryPath);
+
+        // An old artifact is trashed now: it's kept, because the time it has been trashed is recorded.
+        FileTime expiredTime = daysAgo(TrashRetentionRepositorySetup.TRASH_RETENTION_DAYS + 1);
+        Files.setLastModifiedTime(artifactRepositoryPath, expiredTime);
+        client.delete(repository.getStorage().getId(), repository.getId(), artifactRepositoryPathStr, false);
+
+        Path trashedArtifact = RepositoryFiles.trash(artifactRepositoryPath).toFile().toPath();
+        Path expired = trash(repository, "org/carlspring/strongbox/expired.bin", 1, expiredTime);
+        Path retained = trash(repository, "org/carlspring/strongbox/retained.bin", 1,
+                              daysAgo(TrashRetentionRepositorySetup.TRASH_RETENTION_DAYS - 1));
+
+        trashService.purge(repository);
+
+        assertThat(Files.exists(expired)).isFalse();
+        assertThat(Files.exists(StorageFileSystemProvider.getTrashedTimeFile(expired))).isFalse();
+        assertThat(Files.exists(retained)).isTrue();
+        assertThat(Files.exists(trashedArtifact)).isTrue();
+    }
+
+    @ExtendWith(RepositoryManagementTestExecutionListener.class)
+    @Test
+    public void testPurgeTrashBySize(@MavenRepository(repositoryId = REPOSITORY_WITH_TRASH_MAX_SIZE,
+                                                      setup = TrashMaxSizeRepositorySetup.class)
+                                     Repository repository)
+            throws IOException
+    {
+        int size = (int) TrashMaxSizeRepositorySetup.TRASH_MAX_SIZE / 2;
+
+        // The oldest files are purged, until the rest fits into the maximum size.
+        Path oldest = trash(repository, "org/carlspring/strongbox/oldest.bin", size, daysAgo(3));
+        Path older = trash(repository, "org/carlspring/strongbox/older.bin", size, daysAgo(2));
+        Path newer = trash(repository, "org/carlspring/strongbox/newer.bin", size, daysAgo(1));
+        Path newest = trash(repository, "org/carlspring/strongbox/newest.bin", size, daysAgo(0));
+
+        trashService.purge(repository);
+
+        assertThat(Files.exists(oldest)).isFalse();
+        assertThat(Files.exists(older)).isFalse();
+        assertThat(Files.exists(newer)).isTrue();
+        assertThat(Files.exists(newest)).isTrue();
+    }
+
+    private Path trash(Repository repository,
+                       String path,
+                       int size,
+                       FileTime trashed)
+            throws IOException
+    {
+        Path trashPath = repositoryPathResolver.resolve(repository).getFileSystem().getTrashPath().toFile().toPath();
+
+        Path file = trashPath.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.write(file, new byte[size]);
+
+        Path trashedTimeFile = StorageFileSystemProvider.getTrashedTimeFile(file);
+        Files.write(trashedTimeFile, new byte[0]);
+        Files.setLastModifiedTime(trashedTimeFile, trashed);
+
+        return file;
+    }
+
+    private static FileTime daysAgo(int days)
+    {
+        return FileTime.fromMillis(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(days));
+    }
+
     private void validateResponseBody(ValidatableMockMvcResponse response,
                                       String acceptHeader,
                                       String message)
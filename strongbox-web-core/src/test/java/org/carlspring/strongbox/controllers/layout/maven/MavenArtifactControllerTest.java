@@ -8,6 +8,7 @@ import org.carlspring.strongbox.client.ArtifactOperationException;
 import org.carlspring.strongbox.client.ArtifactTransportException;
 import org.carlspring.strongbox.config.IntegrationTest;
 import org.carlspring.strongbox.domain.ArtifactEntry;
+import org.carlspring.strongbox.domain.BulkUploadResult;
 import org.carlspring.strongbox.domain.RemoteArtifactEntry;
 import org.carlspring.strongbox.providers.io.RepositoryFiles;
 import org.carlspring.strongbox.providers.io.RepositoryPath;
@@ -19,6 +20,7 @@ import org.carlspring.strongbox.storage.repository.Repository;
 import org.carlspring.strongbox.storage.repository.RepositoryPolicyEnum;
 import org.carlspring.strongbox.storage.repository.RepositoryStatusEnum;
 import org.carlspring.strongbox.testing.MavenIndexedRepositorySetup;
+import org.carlspring.strongbox.testing.QuotaRepositorySetup;
 import org.carlspring.strongbox.testing.artifact.ArtifactManagementTestExecutionListener;
 import org.carlspring.strongbox.testing.artifact.MavenArtifactTestUtils;
 import org.carlspring.strongbox.testing.artifact.MavenTestArtifact;
@@ -46,6 +48,7 @@ import java.nio.file.Paths;
 import java.security.NoSuchAlgorithmException;
 import java.util.Comparator;
 import java.util.List;
+import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -117,6 +120,8 @@ public class MavenArtifactControllerTest
 
     private static final String REPOSITORY_RELEASES_OUT_OF_SERVICE = "mact-releases-out-of-service";
 
+    private static final String REPOSITORY_RELEASES_QUOTA = "mact-releases-quota";
+
     private static final String TEST_RESOURCES_TEMP_META_INF_MAVEN = "target/test-resources/temp/%s/META-INF/maven";
 
     private static Path pluginXmlFilePath;
@@ -549,6 +554,121 @@ public class MavenArtifactControllerTest
                 .isTrue();
     }
 
+    @ExtendWith({ RepositoryManagementTestExecutionListener.class,
+                  ArtifactManagementTestExecutionListener.class })
+    @Test
+    public void testBulkUpload(@MavenRepository(repositoryId = REPOSITORY_RELEASES_1)
+                               Repository repository1,
+                               @MavenRepository(repositoryId = REPOSITORY_RELEASES_2)
+                               Repository repository2,
+                               @MavenTestArtifact(repositoryId = REPOSITORY_RELEASES_1,
+                                                  id = "org.carlspring.strongbox.bulk:bulk-foo",
+                                                  versions = "1.0")
+                               Path artifactPath)
+            throws Exception
+    {
+        RepositoryPath artifactDirectoryPath = (RepositoryPath) artifactPath.getParent().normalize();
+        String artifactDirectoryPathStr = RepositoryFiles.relativizePath(artifactDirectoryPath);
+
+        ByteArrayOutputStream bundle = new ByteArrayOutputStream();
+        int entries = 0;
+        try (ZipOutputStream zos = new ZipOutputStream(bundle);
+             Stream<Path> files = Files.list(artifactDirectoryPath))
+        {
+            for (Path file : (Iterable<Path>) files::iterator)
+            {
+                zos.putNextEntry(new ZipEntry(artifactDirectoryPathStr + "/" + file.getFileName()));
+                Files.copy(file, zos);
+                zos.closeEntry();
+
+                entries++;
+            }
+        }
+
+        String url = String.format("/storages/%s/%s", repository2.getStorage().getId(), repository2.getId());
+
+        BulkUploadResult result = mockMvc.contentType(MavenArtifactController.APPLICATION_ZIP_VALUE)
+                                         .body(bundle.toByteArray())
+                                         .when()
+                                         .post(url)
+                                         .then()
+                                         .statusCode(HttpStatus.OK.value())
+                                         .extract()
+                                         .as(BulkUploadResult.class);
+
+        assertThat(result.getEntries()).hasSize(entries);
+        assertThat(result.count(BulkUploadResult.Status.STORED)).isEqualTo(entries);
+
+        RepositoryPath uploadedArtifactPath = repositoryPathResolver.resolve(repository2,
+                                                                             RepositoryFiles.relativizePath(
+                                                                                     (RepositoryPath) artifactPath.normalize()));
+        assertThat(Files.exists(uploadedArtifactPath)).isTrue();
+
+        // A single invalid entry rejects the whole bundle.
+        bundle = new ByteArrayOutputStream();
+        try (ZipOutputStream zos = new ZipOutputStream(bundle))
+        {
+            zos.putNextEntry(new ZipEntry("org/carlspring/strongbox/bulk/bulk-bar/1.0/bulk-bar-1.0.pom"));
+            zos.write("<project/>".getBytes());
+            zos.closeEntry();
+
+            zos.putNextEntry(new ZipEntry("../bulk-bar-1.0.jar"));
+            zos.write(new byte[]{ 0 });
+            zos.closeEntry();
+        }
+
+        result = mockMvc.contentType(MavenArtifactController.APPLICATION_ZIP_VALUE)
+                        .body(bundle.toByteArray())
+                        .when()
+                        .post(url)
+                        .then()
+                        .statusCode(HttpStatus.BAD_REQUEST.value())
+                        .extract()
+                        .as(BulkUploadResult.class);
+
+        assertThat(result.count(BulkUploadResult.Status.REJECTED)).isEqualTo(1);
+        assertThat(result.count(BulkUploadResult.Status.SKIPPED)).isEqualTo(1);
+        assertThat(Files.exists(repositoryPathResolver.resolve(repository2,
+                                                               "org/carlspring/strongbox/bulk/bulk-bar"))).isFalse();
+    }
+
+    @ExtendWith(RepositoryManagementTestExecutionListener.class)
+    @Test
+    public void testBulkUploadOverQuota(@MavenRepository(repositoryId = REPOSITORY_RELEASES_QUOTA,
+                                                         setup = QuotaRepositorySetup.class)
+                                        Repository repository)
+            throws Exception
+    {
+        String path = "org/carlspring/strongbox/bulk/bulk-quota/1.0/bulk-quota-1.0.jar";
+
+        ByteArrayOutputStream bundle = new ByteArrayOutputStream();
+        try (ZipOutputStream zos = new ZipOutputStream(bundle))
+        {
+            zos.putNextEntry(new ZipEntry(path));
+            zos.write(new byte[(int) QuotaRepositorySetup.QUOTA_MAX_SIZE + 1]);
+            zos.closeEntry();
+        }
+
+        String url = String.format("/storages/%s/%s", repository.getStorage().getId(), repository.getId());
+
+        mockMvc.contentType(MavenArtifactController.APPLICATION_ZIP_VALUE)
+               .body(bundle.toByteArray())
+               .when()
+               .post(url)
+               .then()
+               .statusCode(HttpStatus.INSUFFICIENT_STORAGE.value());
+
+        assertThat(Files.exists(repositoryPathResolver.resolve(repository, path))).isFalse();
+
+        // The staged files have been removed along with the upload.
+        RootRepositoryPath root = repositoryPathResolver.resolve(repository);
+        Path tempDirectory = root.getFileSystem().provider().getTempDirectory(root);
+        try (Stream<Path> files = Files.list(tempDirectory))
+        {
+            assertThat(files.filter(p -> p.getFileName().toString().startsWith("bulk-upload-"))).isEmpty();
+        }
+    }
+
     @ExtendWith({ RepositoryManagementTestExecutionListener.class,
                   ArtifactManagementTestExecutionListener.class })
     @Test
@@ -16,6 +16,7 @@ import org.carlspring.strongbox.testing.storage.repository.TestRepository.Remote
 
 import javax.inject.Inject;
 import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
 
 import io.restassured.module.mockmvc.response.MockMvcResponse;
 import org.junit.jupiter.api.BeforeEach;
@@ -25,6 +26,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.carlspring.strongbox.utils.ArtifactControllerHelper.MULTIPART_BOUNDARY;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
@@ -150,6 +152,12 @@ public class NpmArtifactControllerTestIT
                .and()
                .body("objects.package.name", hasItem("Reston"));
         
+        // The remote search results are stored in the background.
+        await().atMost(10, TimeUnit.SECONDS)
+               .until(() -> artifactEntryService.findOneArtifact(storageId,
+                                                                 repositoryId,
+                                                                 "Reston/Reston/0.2.0/Reston-0.2.0.tgz") != null);
+
         ArtifactEntry artifactEntry = artifactEntryService.findOneArtifact(storageId,
                                                                            repositoryId,
                                                                            "Reston/Reston/0.2.0/Reston-0.2.0.tgz");
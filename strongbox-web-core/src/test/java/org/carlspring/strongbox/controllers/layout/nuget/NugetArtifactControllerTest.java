@@ -23,6 +23,7 @@ import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import io.restassured.http.ContentType;
 import io.restassured.http.Header;
@@ -38,6 +39,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.carlspring.strongbox.utils.ArtifactControllerHelper.MULTIPART_BOUNDARY;
 import static org.hamcrest.CoreMatchers.equalTo;
 
@@ -510,6 +512,14 @@ public class NugetArtifactControllerTest extends NugetRestAssuredBaseTest
         coordinatesMap.put("id", packageId);
         coordinatesMap.put("version", packageVersion);
 
+        // The remote search results are stored in the background.
+        await().atMost(10, TimeUnit.SECONDS)
+               .until(() -> !artifactEntryService.findArtifactList("storage-common-proxies",
+                                                                   "nuget.org",
+                                                                   coordinatesMap,
+                                                                   true)
+                                                 .isEmpty());
+
         List<ArtifactEntry> artifactEntryList = artifactEntryService.findArtifactList("storage-common-proxies",
                                                                                       "nuget.org",
                                                                                       coordinatesMap,
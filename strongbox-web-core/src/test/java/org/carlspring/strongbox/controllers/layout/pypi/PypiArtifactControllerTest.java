@@ -206,6 +206,78 @@ public class PypiArtifactControllerTest extends PypiRestAssuredBaseTest
 
     }
 
+    @Test
+    @ExtendWith({ RepositoryManagementTestExecutionListener.class,
+                  ArtifactManagementTestExecutionListener.class })
+    public void testBrowsePackageWithConditionalRequests(@PypiTestRepository(repositoryId = REPOSITORY_RELEASES, storageId = REPOSITORY_STORAGE) Repository repository,
+                                                         @PypiTestArtifact(storageId = REPOSITORY_STORAGE, id = "hello_world_pypi", versions = { "1.0",
+                                                                                                                                                 "2.0" }) List<Path> packagePaths)
+    {
+        final String storageId = repository.getStorage().getId();
+        final String repositoryId = repository.getId();
+
+        final String url = getContextBaseUrl() + "/storages/{storageId}/{repositoryId}/simple/{packageName}/";
+        final String rootUrl = getContextBaseUrl() + "/storages/{storageId}/{repositoryId}/simple/";
+        final String uploadUrl = getContextBaseUrl() + "/storages/{storageId}/{repositoryId}";
+
+        mockMvc.contentType(MediaType.MULTIPART_FORM_DATA_VALUE)
+               .multiPart("filetype", "sdist")
+               .multiPart(":action", "file_upload")
+               .multiPart("name", "hello_world_pypi")
+               .multiPart("metadata_version", "1.0")
+               .multiPart("content", packagePaths.get(0).toFile())
+               .when()
+               .post(uploadUrl, storageId, repositoryId)
+               .then()
+               .statusCode(HttpStatus.OK.value());
+
+        // The root index lists the uploaded package.
+        mockMvc.when()
+               .get(rootUrl, storageId, repositoryId)
+               .then()
+               .statusCode(HttpStatus.OK.value())
+               .contentType(ContentType.HTML)
+               .body(Matchers.containsString("/simple/hello_world_pypi/\">hello_world_pypi</a>"));
+
+        String etag = mockMvc.when()
+                             .get(url, storageId, repositoryId, "hello_world_pypi")
+                             .then()
+                             .statusCode(HttpStatus.OK.value())
+                             .header(HttpHeaders.LAST_MODIFIED, Matchers.notNullValue())
+                             .extract()
+                             .header(HttpHeaders.ETAG);
+
+        assertThat(etag).isNotBlank();
+
+        // The package index hasn't changed.
+        mockMvc.header(HttpHeaders.IF_NONE_MATCH, etag)
+               .when()
+               .get(url, storageId, repositoryId, "hello_world_pypi")
+               .then()
+               .statusCode(HttpStatus.NOT_MODIFIED.value());
+
+        mockMvc.contentType(MediaType.MULTIPART_FORM_DATA_VALUE)
+               .multiPart("filetype", "sdist")
+               .multiPart(":action", "file_upload")
+               .multiPart("name", "hello_world_pypi")
+               .multiPart("metadata_version", "1.0")
+               .multiPart("content", packagePaths.get(1).toFile())
+               .when()
+               .post(uploadUrl, storageId, repositoryId)
+               .then()
+               .statusCode(HttpStatus.OK.value());
+
+        // The package index has been updated by the upload.
+        mockMvc.header(HttpHeaders.IF_NONE_MATCH, etag)
+               .when()
+               .get(url, storageId, repositoryId, "hello_world_pypi")
+               .then()
+               .statusCode(HttpStatus.OK.value())
+               .header(HttpHeaders.ETAG, Matchers.not(etag))
+               .body(Matchers.containsString(packagePaths.get(0).getFileName().toString()),
+                     Matchers.containsString(packagePaths.get(1).getFileName().toString()));
+    }
+
     @Test
     @ExtendWith({ RepositoryManagementTestExecutionListener.class,
                   ArtifactManagementTestExecutionListener.class })
@@ -7,6 +7,7 @@ import org.carlspring.strongbox.providers.layout.RawLayoutProvider;
 import org.carlspring.strongbox.rest.common.RawRestAssuredBaseTest;
 import org.carlspring.strongbox.storage.repository.Repository;
 import org.carlspring.strongbox.testing.artifact.ArtifactManagementTestExecutionListener;
+import org.carlspring.strongbox.testing.QuotaRepositorySetup;
 import org.carlspring.strongbox.testing.artifact.TestArtifact;
 import org.carlspring.strongbox.testing.storage.repository.RepositoryManagementTestExecutionListener;
 import org.carlspring.strongbox.testing.storage.repository.TestRepository;
@@ -42,6 +43,8 @@ public class RawArtifactControllerTest
 
     private static final String REPOSITORY_RELEASES_3 = "ract-raw-releases-3";
 
+    private static final String REPOSITORY_RELEASES_QUOTA = "ract-raw-releases-quota";
+
     @Override
     @BeforeEach
     public void init()
@@ -160,6 +163,34 @@ public class RawArtifactControllerTest
         assertThat(response.getContentType()).isEqualTo("multipart/byteranges; boundary=" + MULTIPART_BOUNDARY);
     }
 
+    @ExtendWith(RepositoryManagementTestExecutionListener.class)
+    @Test
+    public void testDeployOverQuota(@TestRepository(layout = RawLayoutProvider.ALIAS,
+                                                    repositoryId = REPOSITORY_RELEASES_QUOTA,
+                                                    setup = QuotaRepositorySetup.class)
+                                    Repository repository)
+    {
+        final String storageId = repository.getStorage().getId();
+        final String repositoryId = repository.getId();
+
+        String path = "org/foo/bar/too-large.bin";
+        byte[] content = new byte[(int) QuotaRepositorySetup.QUOTA_MAX_SIZE + 1];
+
+        String url = getContextBaseUrl() + "/storages/" + storageId + "/" + repositoryId + "/" + path;
+
+        mockMvc.header(HttpHeaders.USER_AGENT, "Raw/*")
+               .contentType(MediaType.MULTIPART_FORM_DATA_VALUE)
+               .body(content)
+               .when()
+               .put(url)
+               .peek()
+               .then()
+               .statusCode(HttpStatus.INSUFFICIENT_STORAGE.value());
+
+        RepositoryPath repositoryPath = repositoryPathResolver.resolve(repository, path);
+        assertThat(Files.exists(repositoryPath)).as("The rejected upload has been stored!").isFalse();
+    }
+
     private MockMvcResponse getMockMvcResponseForPartialDownload(String byteRanges,
                                                                  Repository repository,
                                                                  String pathStr)
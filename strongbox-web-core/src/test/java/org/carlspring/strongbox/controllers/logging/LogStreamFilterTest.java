@@ -0,0 +1,61 @@
+package org.carlspring.strongbox.controllers.logging;
+
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class LogStreamFilterTest
+{
+
+    private static final String WARN_LINE = "10:15:30.123 19-10-2026 | WARN  | main                 | " +
+                                            "o.c.s.services.impl.TrashServiceImpl               | Purged [2] files.";
+
+    private static final String DEBUG_LINE = "10:15:30.456 19-10-2026 | DEBUG | main                 | " +
+                                             "o.c.s.cron.jobs.PurgeRepositoryTrashCronJob       | Executing.";
+
+    private static final String STACK_TRACE_LINE = "\tat org.carlspring.strongbox.Foo.bar(Foo.java:42)";
+
+    @Test
+    public void testLevelAndLoggerPrefixAreFiltered()
+    {
+        LogLine warn = LogLine.parse(WARN_LINE, null);
+        LogLine debug = LogLine.parse(DEBUG_LINE, warn);
+
+        LogStreamFilter filter = LogStreamFilter.of("info", "o.c.s.services", null);
+
+        assertThat(filter.accept(warn)).isTrue();
+        assertThat(filter.accept(debug)).isFalse();
+        assertThat(LogStreamFilter.of(null, "o.c.s.cron", null).accept(debug)).isTrue();
+        assertThat(LogStreamFilter.ALL.accept(debug)).isTrue();
+    }
+
+    @Test
+    public void testContinuationLinesBelongToThePreviousRecord()
+    {
+        LogLine warn = LogLine.parse(WARN_LINE, null);
+        LogLine stackTrace = LogLine.parse(STACK_TRACE_LINE, warn);
+
+        assertThat(LogStreamFilter.of("WARN", "o.c.s.services", null).accept(stackTrace)).isTrue();
+        assertThat(LogStreamFilter.of("ERROR", null, null).accept(stackTrace)).isFalse();
+
+        // The level of a line, which precedes all the records, is unknown.
+        assertThat(LogStreamFilter.of("TRACE", null, null).accept(LogLine.parse(STACK_TRACE_LINE, null))).isFalse();
+    }
+
+    @Test
+    public void testRegexIsFoundInTheLine()
+    {
+        LogLine warn = LogLine.parse(WARN_LINE, null);
+
+        assertThat(LogStreamFilter.of(null, null, "Purged \\[\\d+\\]").accept(warn)).isTrue();
+        assertThat(LogStreamFilter.of(null, null, "^Purged").accept(warn)).isFalse();
+    }
+
+    @Test
+    public void testInvalidCriteriaAreRejected()
+    {
+        assertThatThrownBy(() -> LogStreamFilter.of("VERBOSE", null, null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LogStreamFilter.of(null, null, "[")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
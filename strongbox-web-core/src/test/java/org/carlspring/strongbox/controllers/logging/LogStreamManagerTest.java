@@ -0,0 +1,121 @@
+package org.carlspring.strongbox.controllers.logging;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+public class LogStreamManagerTest
+{
+
+    private static final String INFO_LINE = "10:15:30.123 19-10-2026 | INFO  | main                 | " +
+                                            "o.c.s.services.impl.TrashServiceImpl               | Purged [2] files.";
+
+    private LogStreamManager logStreamManager;
+
+    private File file;
+
+    @BeforeEach
+    public void setUp()
+            throws IOException
+    {
+        logStreamManager = new LogStreamManager();
+        ReflectionTestUtils.setField(logStreamManager, "delayMillis", 50L);
+        ReflectionTestUtils.setField(logStreamManager, "senderThreads", 2);
+        logStreamManager.afterPropertiesSet();
+
+        file = Files.createTempFile("strongbox-log-stream-", ".log").toFile();
+    }
+
+    @AfterEach
+    public void tearDown()
+            throws IOException
+    {
+        logStreamManager.destroy();
+
+        Files.deleteIfExists(file.toPath());
+    }
+
+    @Test
+    public void testSubscribersShareTheTailerOfAFile()
+    {
+        RecordingSubscriber subscriber = new RecordingSubscriber(false);
+        RecordingSubscriber leavingSubscriber = new RecordingSubscriber(true);
+
+        logStreamManager.subscribe(file, subscriber, LogStreamFilter.ALL);
+        logStreamManager.subscribe(file, leavingSubscriber, LogStreamFilter.ALL);
+
+        assertThat(logStreamManager.getTailerCount()).isEqualTo(1);
+        assertThat(logStreamManager.getSubscriberCount(file)).isEqualTo(2);
+
+        // The tailer starts at the end of the file, so the lines are appended until one has been streamed.
+        await().atMost(10, TimeUnit.SECONDS)
+               .until(() -> {
+                   append(INFO_LINE);
+
+                   return !subscriber.lines.isEmpty();
+               });
+
+        assertThat(subscriber.lines).contains(INFO_LINE);
+
+        // The subscriber, whose client has gone away, is removed, and the file is still tailed for the other one.
+        await().atMost(10, TimeUnit.SECONDS).until(() -> logStreamManager.getSubscriberCount(file) == 1);
+
+        assertThat(logStreamManager.getTailerCount()).isEqualTo(1);
+
+        subscriber.fail("Stopped.");
+
+        assertThat(logStreamManager.getSubscriberCount(file)).isZero();
+        assertThat(logStreamManager.getTailerCount()).isZero();
+    }
+
+    private void append(String line)
+            throws IOException
+    {
+        Files.write(file.toPath(),
+                    (line + System.lineSeparator()).getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.APPEND);
+    }
+
+    private static class RecordingSubscriber
+            extends LogStreamSubscriber
+    {
+
+        private final List<String> lines = new CopyOnWriteArrayList<>();
+
+        private final boolean failing;
+
+        RecordingSubscriber(boolean failing)
+        {
+            super(new SseEmitter());
+            this.failing = failing;
+        }
+
+        @Override
+        protected void send(String eventName,
+                            String eventData)
+                throws IOException
+        {
+            if (failing)
+            {
+                throw new IOException("The client has gone away.");
+            }
+
+            lines.add(eventData);
+        }
+
+    }
+
+}
@@ -0,0 +1,102 @@
+package org.carlspring.strongbox.controllers.logging;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.event.Level;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class LogStreamSubscriberTest
+{
+
+    private static final String WARN_LINE = "10:15:30.123 19-10-2026 | WARN  | main                 | " +
+                                            "o.c.s.services.impl.TrashServiceImpl               | Purged [2] files.";
+
+    private static final String DEBUG_LINE = "10:15:30.456 19-10-2026 | DEBUG | main                 | " +
+                                             "o.c.s.cron.jobs.PurgeRepositoryTrashCronJob       | Executing.";
+
+    @Test
+    public void testSlowSubscriberIsDropped()
+            throws Exception
+    {
+        SseEmitter sseEmitter = mock(SseEmitter.class);
+        Queue<Runnable> senderTasks = new ArrayDeque<>();
+        AtomicBoolean unsubscribed = new AtomicBoolean();
+
+        LogStreamSubscriber subscriber = new LogStreamSubscriber(sseEmitter, 2);
+        subscriber.subscribe(LogStreamFilter.ALL, senderTasks::add, () -> unsubscribed.set(true));
+
+        LogLine line = LogLine.parse(WARN_LINE, null);
+        subscriber.handle(line);
+        subscriber.handle(line);
+
+        assertThat(unsubscribed).isFalse();
+
+        // The sender hasn't run yet, so the buffer is full.
+        subscriber.handle(line);
+
+        assertThat(unsubscribed).isTrue();
+        verify(sseEmitter).complete();
+
+        // Nothing is sent once the subscriber has been dropped.
+        senderTasks.forEach(Runnable::run);
+
+        verify(sseEmitter, never()).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @Test
+    public void testLinesAreFilteredBySenderThread()
+            throws Exception
+    {
+        Set<Thread> filteringThreads = ConcurrentHashMap.newKeySet();
+        LogStreamFilter filter = new LogStreamFilter(Level.WARN, null, null)
+        {
+            @Override
+            boolean accept(LogLine line)
+            {
+                filteringThreads.add(Thread.currentThread());
+
+                return super.accept(line);
+            }
+        };
+
+        List<String> sentLines = new CopyOnWriteArrayList<>();
+        LogStreamSubscriber subscriber = new LogStreamSubscriber(mock(SseEmitter.class))
+        {
+            @Override
+            protected void send(String eventName,
+                                String eventData)
+            {
+                sentLines.add(eventData);
+            }
+        };
+
+        Queue<Runnable> senderTasks = new ArrayDeque<>();
+        subscriber.subscribe(filter, senderTasks::add, () -> {});
+
+        LogLine warn = LogLine.parse(WARN_LINE, null);
+        subscriber.handle(warn);
+        subscriber.handle(LogLine.parse(DEBUG_LINE, warn));
+
+        assertThat(filteringThreads).isEmpty();
+
+        Thread sender = new Thread(() -> senderTasks.forEach(Runnable::run));
+        sender.start();
+        sender.join();
+
+        assertThat(filteringThreads).containsExactly(sender);
+        assertThat(sentLines).containsExactly(WARN_LINE);
+    }
+
+}
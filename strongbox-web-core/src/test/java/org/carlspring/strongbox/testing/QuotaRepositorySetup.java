@@ -0,0 +1,18 @@
+package org.carlspring.strongbox.testing;
+
+import org.carlspring.strongbox.storage.repository.RepositoryDto;
+import org.carlspring.strongbox.testing.storage.repository.RepositorySetup;
+
+public class QuotaRepositorySetup
+        implements RepositorySetup
+{
+
+    public static final long QUOTA_MAX_SIZE = 1024;
+
+    @Override
+    public void setup(RepositoryDto repository)
+    {
+        repository.setQuotaMaxSize(QUOTA_MAX_SIZE);
+    }
+
+}
@@ -0,0 +1,19 @@
+package org.carlspring.strongbox.testing;
+
+import org.carlspring.strongbox.storage.repository.RepositoryDto;
+import org.carlspring.strongbox.testing.storage.repository.RepositorySetup;
+
+public class TrashMaxSizeRepositorySetup
+        implements RepositorySetup
+{
+
+    public static final long TRASH_MAX_SIZE = 1024;
+
+    @Override
+    public void setup(RepositoryDto repository)
+    {
+        repository.setTrashEnabled(true);
+        repository.setTrashMaxSize(TRASH_MAX_SIZE);
+    }
+
+}
@@ -0,0 +1,19 @@
+package org.carlspring.strongbox.testing;
+
+import org.carlspring.strongbox.storage.repository.RepositoryDto;
+import org.carlspring.strongbox.testing.storage.repository.RepositorySetup;
+
+public class TrashRetentionRepositorySetup
+        implements RepositorySetup
+{
+
+    public static final int TRASH_RETENTION_DAYS = 7;
+
+    @Override
+    public void setup(RepositoryDto repository)
+    {
+        repository.setTrashEnabled(true);
+        repository.setTrashRetentionDays(TRASH_RETENTION_DAYS);
+    }
+
+}
@@ -0,0 +1,292 @@
+package org.carlspring.strongbox.web;
+
+import javax.servlet.DispatcherType;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.servlet.ServletContextHandler;
+import org.eclipse.jetty.servlet.ServletHolder;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.async.WebAsyncManager;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A load test of {@link AsyncArtifactDownloads} with thousands of slow clients, which are downloading an artifact at
+ * the same time from a Jetty with a small thread pool. The other requests must still be served quickly.
+ */
+public class AsyncArtifactDownloadTestIT
+{
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncArtifactDownloadTestIT.class);
+
+    private static final int SLOW_READERS = Integer.getInteger("strongbox.test.slowReaders", 2000);
+
+    private static final int MAX_THREADS = 32;
+
+    private static final int ARTIFACT_SIZE = 256 * 1024;
+
+    /**
+     * The socket buffers are kept small, so that the artifact can't be buffered by the kernel.
+     */
+    private static final int SOCKET_BUFFER_SIZE = 8 * 1024;
+
+    private static final int READ_SIZE = 4 * 1024;
+
+    private static final long READ_INTERVAL_MILLIS = 50;
+
+    private final byte[] artifact = new byte[ARTIFACT_SIZE];
+
+    private final AsyncArtifactDownloads asyncArtifactDownloads = new AsyncArtifactDownloads();
+
+    private Server server;
+
+    private int port;
+
+    @BeforeEach
+    public void setUp()
+            throws Exception
+    {
+        new Random(0).nextBytes(artifact);
+
+        asyncArtifactDownloads.afterPropertiesSet();
+
+        server = new Server(new QueuedThreadPool(MAX_THREADS, 8));
+
+        ServerConnector connector = new ServerConnector(server);
+        connector.setAcceptedSendBufferSize(SOCKET_BUFFER_SIZE);
+        connector.setAcceptQueueSize(SLOW_READERS);
+        server.addConnector(connector);
+
+        ServletContextHandler context = new ServletContextHandler();
+        context.addServlet(new ServletHolder(new ArtifactServlet()), "/artifact");
+        context.addServlet(new ServletHolder(new PingServlet()), "/ping");
+        server.setHandler(context);
+
+        server.start();
+
+        port = connector.getLocalPort();
+    }
+
+    @AfterEach
+    public void tearDown()
+            throws Exception
+    {
+        server.stop();
+
+        asyncArtifactDownloads.destroy();
+    }
+
+    @Test
+    public void testSlowReadersDoNotExhaustTheThreadPool()
+            throws Exception
+    {
+        List<SlowReader> readers = new ArrayList<>(SLOW_READERS);
+        for (int i = 0; i < SLOW_READERS; i++)
+        {
+            readers.add(new SlowReader(port));
+        }
+
+        long start = System.nanoTime();
+
+        // Every slow reader has received a part of the artifact and is waiting now.
+        readAll(readers);
+
+        long pingStart = System.nanoTime();
+        assertThat(ping()).isEqualTo(HttpURLConnection.HTTP_OK);
+        long pingMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - pingStart);
+
+        long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(5);
+        List<SlowReader> pending = new ArrayList<>(readers);
+        while (!pending.isEmpty() && System.nanoTime() < deadline)
+        {
+            Thread.sleep(READ_INTERVAL_MILLIS);
+
+            readAll(pending);
+            pending.removeIf(SlowReader::isDone);
+        }
+
+        long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        long totalBytes = readers.stream().mapToLong(SlowReader::getBodyLength).sum();
+
+        logger.info("Downloaded [{}] bytes by [{}] slow readers with [{}] threads in [{}] ms ([{}] KiB/s).",
+                    totalBytes, SLOW_READERS, MAX_THREADS, elapsedMillis, totalBytes * 1000 / elapsedMillis / 1024);
+        logger.info("Served a ping in [{}] ms during the downloads.", pingMillis);
+
+        assertThat(pingMillis).isLessThan(TimeUnit.SECONDS.toMillis(5));
+        assertThat(pending).isEmpty();
+        assertThat(readers).allSatisfy(r -> assertThat(r.getBodyLength()).isEqualTo(ARTIFACT_SIZE));
+    }
+
+    private void readAll(List<SlowReader> readers)
+            throws IOException
+    {
+        for (Iterator<SlowReader> i = readers.iterator(); i.hasNext(); )
+        {
+            i.next().read();
+        }
+    }
+
+    private int ping()
+            throws IOException
+    {
+        HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + port + "/ping").openConnection();
+        try
+        {
+            return connection.getResponseCode();
+        }
+        finally
+        {
+            connection.disconnect();
+        }
+    }
+
+    private class ArtifactServlet
+            extends HttpServlet
+    {
+
+        @Override
+        protected void doGet(HttpServletRequest request,
+                             HttpServletResponse response)
+                throws ServletException
+        {
+            // The download is over, when the request is dispatched back.
+            if (request.getDispatcherType() == DispatcherType.ASYNC)
+            {
+                return;
+            }
+
+            // Done by the handler adapter of Spring MVC otherwise.
+            WebAsyncManager asyncManager = WebAsyncUtils.getAsyncManager(request);
+            asyncManager.setAsyncWebRequest(WebAsyncUtils.createAsyncWebRequest(request, response));
+
+            response.setHeader(HttpHeaders.CONTENT_LENGTH, String.valueOf(artifact.length));
+
+            try
+            {
+                asyncArtifactDownloads.start(request, response, new ByteArrayInputStream(artifact));
+            }
+            catch (Exception e)
+            {
+                throw new ServletException(e);
+            }
+        }
+
+    }
+
+    private static class PingServlet
+            extends HttpServlet
+    {
+
+        @Override
+        protected void doGet(HttpServletRequest request,
+                             HttpServletResponse response)
+        {
+            response.setStatus(HttpServletResponse.SC_OK);
+        }
+
+    }
+
+    /**
+     * A client which reads a few kilobytes of the response at a time, without blocking.
+     */
+    private static class SlowReader
+    {
+
+        private static final String HEADERS_END = "\r\n\r\n";
+
+        private final SocketChannel channel;
+
+        private final ByteBuffer buffer = ByteBuffer.allocate(READ_SIZE);
+
+        private final StringBuilder headers = new StringBuilder();
+
+        private boolean headersRead;
+
+        private long bodyLength;
+
+        private boolean done;
+
+        SlowReader(int port)
+                throws IOException
+        {
+            channel = SocketChannel.open();
+            channel.setOption(StandardSocketOptions.SO_RCVBUF, SOCKET_BUFFER_SIZE);
+            channel.connect(new InetSocketAddress("localhost", port));
+            channel.write(ByteBuffer.wrap(("GET /artifact HTTP/1.1\r\n" +
+                                           "Host: localhost\r\n" +
+                                           "Connection: close\r\n\r\n").getBytes(StandardCharsets.US_ASCII)));
+            channel.configureBlocking(false);
+        }
+
+        void read()
+                throws IOException
+        {
+            if (done)
+            {
+                return;
+            }
+
+            buffer.clear();
+            int length = channel.read(buffer);
+            if (length < 0)
+            {
+                done = true;
+                channel.close();
+
+                return;
+            }
+
+            buffer.flip();
+            while (buffer.hasRemaining())
+            {
+                if (headersRead)
+                {
+                    bodyLength += buffer.remaining();
+                    buffer.position(buffer.limit());
+                }
+                else
+                {
+                    headers.append((char) buffer.get());
+                    headersRead = headers.indexOf(HEADERS_END) >= 0;
+                }
+            }
+        }
+
+        boolean isDone()
+        {
+            return done;
+        }
+
+        long getBodyLength()
+        {
+            return bodyLength;
+        }
+
+    }
+
+}
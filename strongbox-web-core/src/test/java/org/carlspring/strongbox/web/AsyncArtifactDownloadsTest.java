@@ -0,0 +1,79 @@
+package org.carlspring.strongbox.web;
+
+import org.carlspring.strongbox.config.IntegrationTest;
+import org.carlspring.strongbox.providers.io.RepositoryPath;
+import org.carlspring.strongbox.providers.io.RepositoryPathLock;
+import org.carlspring.strongbox.services.ArtifactResolutionService;
+import org.carlspring.strongbox.storage.repository.Repository;
+import org.carlspring.strongbox.testing.artifact.ArtifactManagementTestExecutionListener;
+import org.carlspring.strongbox.testing.artifact.MavenTestArtifact;
+import org.carlspring.strongbox.testing.repository.MavenRepository;
+import org.carlspring.strongbox.testing.storage.repository.RepositoryManagementTestExecutionListener;
+
+import javax.inject.Inject;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Downloads the artifacts of a repository, so that the lock of the path is handed over by the real
+ * {@link org.carlspring.strongbox.providers.io.RepositoryStreamSupport.RepositoryInputStream}.
+ */
+@IntegrationTest
+public class AsyncArtifactDownloadsTest
+{
+
+    private static final String REPOSITORY_RELEASES = "aadt-releases";
+
+    @Inject
+    private AsyncArtifactDownloads asyncArtifactDownloads;
+
+    @Inject
+    private ArtifactResolutionService artifactResolutionService;
+
+    @Inject
+    private RepositoryPathLock repositoryPathLock;
+
+    @ExtendWith({ RepositoryManagementTestExecutionListener.class,
+                  ArtifactManagementTestExecutionListener.class })
+    @Test
+    public void testRepositoryPathIsDownloadedAndUnlocked(@MavenRepository(repositoryId = REPOSITORY_RELEASES)
+                                                          Repository repository,
+                                                          @MavenTestArtifact(repositoryId = REPOSITORY_RELEASES,
+                                                                             id = "org.carlspring.strongbox:async-download",
+                                                                             versions = "1.0")
+                                                          Path artifactPath)
+            throws Exception
+    {
+        RepositoryPath artifactRepositoryPath = (RepositoryPath) artifactPath.normalize();
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        WebAsyncUtils.getAsyncManager(request)
+                     .setAsyncWebRequest(WebAsyncUtils.createAsyncWebRequest(request, response));
+
+        InputStream is = artifactResolutionService.getInputStream(artifactRepositoryPath);
+        assertThat(asyncArtifactDownloads.isSupported(request, is)).isTrue();
+
+        asyncArtifactDownloads.start(request, response, is);
+
+        assertThat(response.getContentAsByteArray()).isEqualTo(Files.readAllBytes(artifactRepositoryPath));
+
+        // The read lock is released by the thread it has been handed over to, once the stream has been closed.
+        Lock writeLock = repositoryPathLock.lock(artifactRepositoryPath).writeLock();
+        await().atMost(10, TimeUnit.SECONDS).until(writeLock::tryLock);
+        writeLock.unlock();
+    }
+
+}
@@ -33,6 +33,17 @@ public class RemoteRepositoryForm
 
     private boolean autoImportRemoteSSLCertificate;
 
+    @PositiveOrZero(message = "A connectTimeoutSeconds must be positive or zero.")
+    private Integer connectTimeoutSeconds;
+
+    @PositiveOrZero(message = "A readTimeoutSeconds must be positive or zero.")
+    private Integer readTimeoutSeconds;
+
+    private Boolean keepAlive;
+
+    @PositiveOrZero(message = "A maxRetries must be positive or zero.")
+    private Integer maxRetries;
+
     public String getUrl()
     {
         return url;
@@ -92,4 +103,24 @@ public class RemoteRepositoryForm
     {
         return autoImportRemoteSSLCertificate;
     }
+
+    public Integer getConnectTimeoutSeconds()
+    {
+        return connectTimeoutSeconds;
+    }
+
+    public Integer getReadTimeoutSeconds()
+    {
+        return readTimeoutSeconds;
+    }
+
+    public Boolean getKeepAlive()
+    {
+        return keepAlive;
+    }
+
+    public Integer getMaxRetries()
+    {
+        return maxRetries;
+    }
 }
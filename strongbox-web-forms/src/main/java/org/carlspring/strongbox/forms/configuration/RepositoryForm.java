@@ -52,6 +52,18 @@ public class RepositoryForm
 
     private long artifactMaxSize;
 
+    @PositiveOrZero(message = "A quota max size must be positive or zero.")
+    private long quotaMaxSize;
+
+    @PositiveOrZero(message = "A quota max artifacts must be positive or zero.")
+    private long quotaMaxArtifacts;
+
+    @PositiveOrZero(message = "A trash retention days must be positive or zero.")
+    private int trashRetentionDays;
+
+    @PositiveOrZero(message = "A trash max size must be positive or zero.")
+    private long trashMaxSize;
+
     private boolean trashEnabled = true;
 
     private boolean allowsForceDeletion;
@@ -172,6 +184,46 @@ public class RepositoryForm
         this.artifactMaxSize = artifactMaxSize;
     }
 
+    public long getQuotaMaxSize()
+    {
+        return quotaMaxSize;
+    }
+
+    public void setQuotaMaxSize(final long quotaMaxSize)
+    {
+        this.quotaMaxSize = quotaMaxSize;
+    }
+
+    public long getQuotaMaxArtifacts()
+    {
+        return quotaMaxArtifacts;
+    }
+
+    public void setQuotaMaxArtifacts(final long quotaMaxArtifacts)
+    {
+        this.quotaMaxArtifacts = quotaMaxArtifacts;
+    }
+
+    public int getTrashRetentionDays()
+    {
+        return trashRetentionDays;
+    }
+
+    public void setTrashRetentionDays(final int trashRetentionDays)
+    {
+        this.trashRetentionDays = trashRetentionDays;
+    }
+
+    public long getTrashMaxSize()
+    {
+        return trashMaxSize;
+    }
+
+    public void setTrashMaxSize(final long trashMaxSize)
+    {
+        this.trashMaxSize = trashMaxSize;
+    }
+
     public boolean isTrashEnabled()
     {
         return trashEnabled;